@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+
+/**
+ * Класс абстрактного накопителя суммы величин.
+ * <p>
+ * Накопитель потокобезопасен и не использует блокировок при добавлении: величины суммируются
+ * отдельно для каждой меры измерения в счётчиках, разделённых на полосы. При переполнении
+ * {@code long} сумма переносится в {@link java.math.BigInteger}, поэтому итог всегда точный.
+ * </p>
+ *
+ * @param <Q> тип величины.
+ * @param <M> тип меры измерения величины.
+ * @author Алексей Каленчуков
+ */
+public abstract class AbstractAccumulator<Q extends Quantitative<M>, M extends Enum<M> & Measurable>
+{
+	/**
+	 * Меры измерения в порядке объявления.
+	 */
+	@NotNull
+	private final M @NotNull [] measures;
+
+	/**
+	 * Мера измерения, количество минимальных единиц которой равно 1.
+	 */
+	@NotNull
+	private final M minUnitMeasure;
+
+	/**
+	 * Фабрика величин.
+	 */
+	@NotNull
+	private final BiFunction<@NotNull BigDecimal, @NotNull M, @NotNull Q> factory;
+
+	/**
+	 * Счётчики по порядковым номерам мер измерения.
+	 * <p>Создаются при первом добавлении величины в соответствующей мере.</p>
+	 */
+	@NotNull
+	private final AtomicReferenceArray<StripedAdder> adders;
+
+	/**
+	 * Конструктор для {@code AbstractAccumulator}.
+	 *
+	 * @param type класс перечисления мер измерения.
+	 * @param factory фабрика величин.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code factory} передан {@code null}.
+	 */
+	protected AbstractAccumulator(@NotNull final Class<M> type,
+								  @NotNull final BiFunction<@NotNull BigDecimal, @NotNull M, @NotNull Q> factory)
+	{
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(factory);
+
+		this.measures = type.getEnumConstants();
+		this.minUnitMeasure = AbstractAccumulator.findMinUnitMeasure(this.measures);
+		this.factory = factory;
+		this.adders = new AtomicReferenceArray<>(this.measures.length);
+	}
+
+	/**
+	 * Добавляет величину.
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	public void add(final long quantity, @NotNull final M measure)
+	{
+		Objects.requireNonNull(measure);
+
+		if (quantity < 0) {
+			throw new IllegalArgumentException("Величина не может быть меньше 0.");
+		}
+
+		StripedAdder adder = this.adders.get(measure.ordinal());
+
+		if (adder == null) {
+			this.adders.compareAndSet(measure.ordinal(), null, new StripedAdder());
+
+			adder = this.adders.get(measure.ordinal());
+		}
+
+		adder.add(quantity);
+	}
+
+	/**
+	 * Возвращает сумму величин в минимальных единицах.
+	 * <p>Величины, добавляемые одновременно с вызовом, могут быть не учтены.</p>
+	 *
+	 * @return сумму величин.
+	 */
+	@NotNull
+	public Q snapshot()
+	{
+		return this.snapshot(this.minUnitMeasure);
+	}
+
+	/**
+	 * Возвращает сумму величин в указанной мере измерения.
+	 * <p>
+	 * Сумма вычисляется без округления.
+	 * Величины, добавляемые одновременно с вызовом, могут быть не учтены.
+	 * </p>
+	 *
+	 * @param measure мера измерения величины.
+	 * @return сумму величин.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	public Q snapshot(@NotNull final M measure)
+	{
+		Objects.requireNonNull(measure);
+
+		final ConversionMatrix<M> matrix = ConversionMatrix.of(measure);
+		BigDecimal sum = BigDecimal.ZERO;
+
+		for (M from : this.measures) {
+			final StripedAdder adder = this.adders.get(from.ordinal());
+
+			if (adder != null) {
+				sum = sum.add(new BigDecimal(adder.sum()).multiply(matrix.getFactor(from, measure)));
+			}
+		}
+
+		return this.factory.apply(sum, measure);
+	}
+
+	/**
+	 * Ищет меру измерения, количество минимальных единиц которой равно 1.
+	 *
+	 * @param measures меры измерения.
+	 * @param <M> тип меры измерения величины.
+	 * @return меру измерения.
+	 * @throws IllegalArgumentException если такой меры нет.
+	 */
+	@NotNull
+	static <M extends Enum<M> & Measurable> M findMinUnitMeasure(@NotNull final M @NotNull [] measures)
+	{
+		for (M measure : measures) {
+			if (measure.getCountMinUnit().compareTo(BigDecimal.ONE) == 0) {
+				return measure;
+			}
+		}
+
+		throw new IllegalArgumentException("Не найдена мера измерения с одной минимальной единицей.");
+	}
+}
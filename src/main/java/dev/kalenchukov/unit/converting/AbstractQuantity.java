@@ -25,24 +25,48 @@
 package dev.kalenchukov.unit.converting;
 
 import dev.kalenchukov.unit.converting.resources.Measurable;
+import dev.kalenchukov.unit.converting.resources.Precision;
+import dev.kalenchukov.unit.converting.resources.Standard;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
 import java.util.Objects;
+import java.util.OptionalLong;
 
 /**
  * Класс абстрактной величины.
+ * <p>
+ * Величины сериализуются через прокси, который записывает вид величины, меру измерения
+ * и значение в компактном двоичном виде и при чтении возвращает кешированные величины.
+ * </p>
  *
  * @param <Q> тип величины.
  * @param <M> тип меры измерения величины.
  * @author Алексей Каленчуков
  */
 public abstract class AbstractQuantity<Q extends Quantitative<M>, M extends Enum<M> & Measurable>
-	implements Comparable<Q>, Quantitative<M>
+	implements Comparable<Q>, Quantitative<M>, Serializable
 {
+	/**
+	 * Версия класса для сериализации.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Точность конвертирования величины по умолчанию.
+	 */
+	@NotNull
+	private static volatile MathContext defaultMathContext = Precision.DEFAULT.getMathContext();
+
 	/**
 	 * Величина.
 	 */
@@ -55,6 +79,13 @@ public abstract class AbstractQuantity<Q extends Quantitative<M>, M extends Enum
 	@NotNull
 	protected final M measure;
 
+	/**
+	 * Величина в минимальных единицах.
+	 * <p>Вычисляется при первом обращении.</p>
+	 */
+	@Nullable
+	private transient BigDecimal quantityInMinUnit;
+
 	/**
 	 * Конструктор для {@code AbstractQuantity}.
 	 *
@@ -161,6 +192,48 @@ public abstract class AbstractQuantity<Q extends Quantitative<M>, M extends Enum
 		this.measure = measure;
 	}
 
+	/**
+	 * Возвращает точность конвертирования по умолчанию.
+	 *
+	 * @return точность вычисления, используемую методом {@link #convert(Measurable)}.
+	 */
+	@NotNull
+	public static MathContext getDefaultMathContext()
+	{
+		return AbstractQuantity.defaultMathContext;
+	}
+
+	/**
+	 * Устанавливает точность конвертирования по умолчанию для всех величин.
+	 * <p>Например, {@link Precision#DECIMAL64} ускоряет конвертирование ценой точности.</p>
+	 *
+	 * @param mathContext точность вычисления.
+	 * @throws NullPointerException если в качестве {@code mathContext} передан {@code null}.
+	 */
+	public static void setDefaultMathContext(@NotNull final MathContext mathContext)
+	{
+		Objects.requireNonNull(mathContext);
+
+		AbstractQuantity.defaultMathContext = mathContext;
+	}
+
+	/**
+	 * Возвращает точность деления по умолчанию.
+	 * <p>
+	 * Совпадает с точностью конвертирования по умолчанию, если она ограничена.
+	 * Иначе используется {@link Precision#DEFAULT}, так как частное может быть бесконечной дробью.
+	 * </p>
+	 *
+	 * @return ограниченную точность вычисления.
+	 */
+	@NotNull
+	static MathContext getDivisionMathContext()
+	{
+		final MathContext mathContext = AbstractQuantity.defaultMathContext;
+
+		return mathContext.getPrecision() == 0 ? Precision.DEFAULT.getMathContext() : mathContext;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -185,6 +258,27 @@ public abstract class AbstractQuantity<Q extends Quantitative<M>, M extends Enum
 		return this.measure;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>Значение вычисляется один раз и переиспользуется при сравнении величин.</p>
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public BigDecimal getQuantityInMinUnit()
+	{
+		BigDecimal quantityInMinUnit = this.quantityInMinUnit;
+
+		if (quantityInMinUnit == null) {
+			quantityInMinUnit = this.getQuantity().multiply(this.getMeasure().getCountMinUnit());
+
+			this.quantityInMinUnit = quantityInMinUnit;
+		}
+
+		return quantityInMinUnit;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -198,9 +292,425 @@ public abstract class AbstractQuantity<Q extends Quantitative<M>, M extends Enum
 	{
 		Objects.requireNonNull(measure);
 
-		return this.getQuantity()
-				   .multiply(this.getMeasure().getCountMinUnit())
-				   .divide(measure.getCountMinUnit(), new MathContext(32));
+		return this.convert(measure, AbstractQuantity.defaultMathContext);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param measure {@inheritDoc}
+	 * @param mathContext {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code mathContext} передан {@code null}.
+	 */
+	@NotNull
+	@Override
+	public BigDecimal convert(@NotNull final M measure, @NotNull final MathContext mathContext)
+	{
+		Objects.requireNonNull(measure);
+		Objects.requireNonNull(mathContext);
+
+		return ConversionMatrix.of(measure).convert(this.getQuantity(), this.getMeasure(), measure, mathContext);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param measure {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@Override
+	public double convertToDouble(@NotNull final M measure)
+	{
+		Objects.requireNonNull(measure);
+
+		return this.getQuantity().doubleValue() *
+			ConversionMatrix.of(measure).getDoubleFactor(this.getMeasure(), measure);
+	}
+
+	/**
+	 * Конвертирует величину из одной меры измерения в другую с точностью {@code double}.
+	 * <p>Не создаёт объектов и подходит для метрик, которым не нужна точность {@link BigDecimal}.</p>
+	 *
+	 * @param quantity величина.
+	 * @param from исходная мера измерения.
+	 * @param to целевая мера измерения.
+	 * @param <M> тип меры измерения величины.
+	 * @return величина в мере {@code to}.
+	 * @throws NullPointerException если в качестве {@code from} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code to} передан {@code null}.
+	 */
+	public static <M extends Enum<M> & Measurable> double convert(final double quantity,
+																	@NotNull final M from,
+																	@NotNull final M to)
+	{
+		Objects.requireNonNull(from);
+		Objects.requireNonNull(to);
+
+		return quantity * ConversionMatrix.of(from).getDoubleFactor(from, to);
+	}
+
+	/**
+	 * Конвертирует целую величину из одной меры измерения в другую без потери точности.
+	 * <p>
+	 * Вычисления выполняются над числами типа {@code long}: для мер, отличающихся в 2<sup>n</sup> раз,
+	 * например {@link dev.kalenchukov.unit.converting.resources.InformationMeasure#KIBIBYTE} и
+	 * {@link dev.kalenchukov.unit.converting.resources.InformationMeasure#BYTE}, - сдвигами.
+	 * </p>
+	 *
+	 * @param quantity величина.
+	 * @param from исходная мера измерения.
+	 * @param to целевая мера измерения.
+	 * @param <M> тип меры измерения величины.
+	 * @return величину в мере {@code to} или пустое значение, если результат дробный
+	 * или не помещается в {@code long}; в этом случае следует использовать {@link #convert(Measurable)}.
+	 * @throws NullPointerException если в качестве {@code from} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code to} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	@NotNull
+	public static <M extends Enum<M> & Measurable> OptionalLong convertExact(final long quantity,
+																			 @NotNull final M from,
+																			 @NotNull final M to)
+	{
+		Objects.requireNonNull(from);
+		Objects.requireNonNull(to);
+
+		if (quantity < 0) {
+			throw new IllegalArgumentException("Величина не может быть меньше 0.");
+		}
+
+		final long result = ConversionMatrix.of(from).convertExact(quantity, from, to);
+
+		if (result == ConversionMatrix.NOT_EXACT) {
+			return OptionalLong.empty();
+		}
+
+		return OptionalLong.of(result);
+	}
+
+	/**
+	 * Складывает величины.
+	 *
+	 * @param anotherQuantity прибавляемая величина.
+	 * @return сумму величин в мере измерения данной величины.
+	 * @throws NullPointerException если в качестве {@code anotherQuantity} передан {@code null}.
+	 */
+	@NotNull
+	public Q plus(@NotNull final Q anotherQuantity)
+	{
+		Objects.requireNonNull(anotherQuantity);
+
+		return this.plus(anotherQuantity, this.getMeasure());
+	}
+
+	/**
+	 * Складывает величины.
+	 * <p>Если меры измерения обеих величин совпадают с {@code measure}, величины складываются без конвертирования.</p>
+	 *
+	 * @param anotherQuantity прибавляемая величина.
+	 * @param measure мера измерения результата.
+	 * @return сумму величин.
+	 * @throws NullPointerException если в качестве {@code anotherQuantity} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	public Q plus(@NotNull final Q anotherQuantity, @NotNull final M measure)
+	{
+		Objects.requireNonNull(anotherQuantity);
+		Objects.requireNonNull(measure);
+
+		return this.create(
+			this.toMeasure(measure).add(AbstractQuantity.toMeasure(anotherQuantity, measure))
+				.round(AbstractQuantity.defaultMathContext),
+			measure
+		);
+	}
+
+	/**
+	 * Вычитает величины.
+	 *
+	 * @param anotherQuantity вычитаемая величина.
+	 * @return разность величин в мере измерения данной величины.
+	 * @throws NullPointerException если в качестве {@code anotherQuantity} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code anotherQuantity} больше данной величины.
+	 */
+	@NotNull
+	public Q minus(@NotNull final Q anotherQuantity)
+	{
+		Objects.requireNonNull(anotherQuantity);
+
+		return this.minus(anotherQuantity, this.getMeasure());
+	}
+
+	/**
+	 * Вычитает величины.
+	 * <p>Если меры измерения обеих величин совпадают с {@code measure}, величины вычитаются без конвертирования.</p>
+	 *
+	 * @param anotherQuantity вычитаемая величина.
+	 * @param measure мера измерения результата.
+	 * @return разность величин.
+	 * @throws NullPointerException если в качестве {@code anotherQuantity} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code anotherQuantity} больше данной величины.
+	 */
+	@NotNull
+	public Q minus(@NotNull final Q anotherQuantity, @NotNull final M measure)
+	{
+		Objects.requireNonNull(anotherQuantity);
+		Objects.requireNonNull(measure);
+
+		return this.create(
+			this.toMeasure(measure).subtract(AbstractQuantity.toMeasure(anotherQuantity, measure))
+				.round(AbstractQuantity.defaultMathContext),
+			measure
+		);
+	}
+
+	/**
+	 * Умножает величину на число.
+	 *
+	 * @param multiplier множитель.
+	 * @return произведение в мере измерения данной величины.
+	 * @throws NullPointerException если в качестве {@code multiplier} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code multiplier} меньше 0.
+	 */
+	@NotNull
+	public Q multiply(@NotNull final BigDecimal multiplier)
+	{
+		Objects.requireNonNull(multiplier);
+
+		return this.create(
+			this.getQuantity().multiply(multiplier, AbstractQuantity.defaultMathContext),
+			this.getMeasure()
+		);
+	}
+
+	/**
+	 * Делит величину на число.
+	 * <p>Частное округляется до точности {@link #getDivisionMathContext()}.</p>
+	 *
+	 * @param divisor делитель.
+	 * @return частное в мере измерения данной величины.
+	 * @throws NullPointerException если в качестве {@code divisor} передан {@code null}.
+	 * @throws ArithmeticException если {@code divisor} равен 0.
+	 * @throws IllegalArgumentException если {@code divisor} меньше 0.
+	 */
+	@NotNull
+	public Q divide(@NotNull final BigDecimal divisor)
+	{
+		Objects.requireNonNull(divisor);
+
+		return this.create(
+			this.getQuantity().divide(divisor, AbstractQuantity.getDivisionMathContext()),
+			this.getMeasure()
+		);
+	}
+
+	/**
+	 * Делит величину на другую величину.
+	 * <p>Отношение округляется до точности {@link #getDivisionMathContext()}.</p>
+	 *
+	 * @param anotherQuantity делитель.
+	 * @return отношение величин.
+	 * @throws NullPointerException если в качестве {@code anotherQuantity} передан {@code null}.
+	 * @throws ArithmeticException если {@code anotherQuantity} равна 0.
+	 */
+	@NotNull
+	public BigDecimal divide(@NotNull final Q anotherQuantity)
+	{
+		Objects.requireNonNull(anotherQuantity);
+
+		return this.getQuantity().divide(
+			AbstractQuantity.toMeasure(anotherQuantity, this.getMeasure()), AbstractQuantity.getDivisionMathContext()
+		);
+	}
+
+	/**
+	 * Конвертирует величину в наибольшую меру измерения, в которой величина не меньше единицы.
+	 * <p>Если величина меньше единицы в любой мере, она конвертируется в наименьшую меру.</p>
+	 *
+	 * @return величину в подобранной мере измерения или данную величину, если она равна 0
+	 * или уже выражена в подобранной мере.
+	 */
+	@NotNull
+	public Q toBestMeasure()
+	{
+		if (this.getQuantity().signum() == 0) {
+			return this.self();
+		}
+
+		return this.toMeasureQuantity(MeasureTable.of(this.getMeasure()).findBest(this.getQuantityInMinUnit()));
+	}
+
+	/**
+	 * Конвертирует величину в наибольшую меру измерения стандарта, в которой величина не меньше единицы.
+	 * <p>Если величина меньше единицы в любой мере стандарта, она конвертируется в наименьшую меру стандарта.</p>
+	 *
+	 * @param standard стандарт.
+	 * @return величину в подобранной мере измерения или данную величину, если она равна 0,
+	 * уже выражена в подобранной мере или у стандарта нет мер измерения данной величины.
+	 * @throws NullPointerException если в качестве {@code standard} передан {@code null}.
+	 */
+	@NotNull
+	public Q toBestMeasure(@NotNull final Standard standard)
+	{
+		Objects.requireNonNull(standard);
+
+		if (this.getQuantity().signum() == 0) {
+			return this.self();
+		}
+
+		final M measure = MeasureTable.of(this.getMeasure()).findBest(this.getQuantityInMinUnit(), standard);
+
+		if (measure == null) {
+			return this.self();
+		}
+
+		return this.toMeasureQuantity(measure);
+	}
+
+	/**
+	 * Записывает величину с обозначением меры, например {@code 1.5 KiB}.
+	 * <p>Величина записывается без экспоненты, цифры выводятся напрямую без промежуточных строк.</p>
+	 *
+	 * @param out приёмник.
+	 * @return приёмник {@code out}.
+	 * @throws NullPointerException если в качестве {@code out} передан {@code null}.
+	 */
+	@NotNull
+	public StringBuilder formatTo(@NotNull final StringBuilder out)
+	{
+		Objects.requireNonNull(out);
+
+		try {
+			QuantityFormat.format(out, this.getQuantity(), this.getMeasure());
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+
+		return out;
+	}
+
+	/**
+	 * Записывает величину с обозначением меры, например {@code 1.5 KiB}.
+	 * <p>Величина записывается без экспоненты, цифры выводятся напрямую без промежуточных строк.</p>
+	 *
+	 * @param out приёмник.
+	 * @return приёмник {@code out}.
+	 * @throws NullPointerException если в качестве {@code out} передан {@code null}.
+	 * @throws IOException если приёмник не смог записать символы.
+	 */
+	@NotNull
+	public Appendable formatTo(@NotNull final Appendable out)
+		throws IOException
+	{
+		Objects.requireNonNull(out);
+
+		QuantityFormat.format(out, this.getQuantity(), this.getMeasure());
+
+		return out;
+	}
+
+	/**
+	 * Создаёт величину того же типа, что и данная.
+	 * <p>Используется арифметическими методами и {@code toBestMeasure}.</p>
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины.
+	 * @return величину.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	@NotNull
+	protected abstract Q create(@NotNull BigDecimal quantity, @NotNull M measure);
+
+	/**
+	 * Возвращает прокси сериализации вместо величины.
+	 *
+	 * @return прокси сериализации.
+	 * @throws ObjectStreamException не выбрасывается.
+	 */
+	@NotNull
+	protected final Object writeReplace()
+		throws ObjectStreamException
+	{
+		return new QuantityProxy(this);
+	}
+
+	/**
+	 * Запрещает десериализацию величины без прокси.
+	 *
+	 * @param in поток.
+	 * @throws InvalidObjectException всегда.
+	 */
+	private void readObject(@NotNull final ObjectInputStream in)
+		throws InvalidObjectException
+	{
+		throw new InvalidObjectException("Требуется прокси сериализации.");
+	}
+
+	/**
+	 * Возвращает данную величину.
+	 *
+	 * @return данную величину.
+	 */
+	@NotNull
+	@SuppressWarnings("unchecked")
+	private Q self()
+	{
+		return (Q) this;
+	}
+
+	/**
+	 * Возвращает величину в указанной мере измерения.
+	 *
+	 * @param measure мера измерения.
+	 * @return данную величину, если она уже выражена в мере {@code measure}, иначе новую величину.
+	 */
+	@NotNull
+	private Q toMeasureQuantity(@NotNull final M measure)
+	{
+		if (measure == this.getMeasure()) {
+			return this.self();
+		}
+
+		return this.create(this.convert(measure), measure);
+	}
+
+	/**
+	 * Возвращает значение данной величины в указанной мере измерения без округления.
+	 *
+	 * @param measure мера измерения.
+	 * @return величину.
+	 */
+	@NotNull
+	private BigDecimal toMeasure(@NotNull final M measure)
+	{
+		return AbstractQuantity.toMeasure(this, measure);
+	}
+
+	/**
+	 * Возвращает значение величины в указанной мере измерения без округления.
+	 * <p>Если мера измерения величины совпадает с {@code measure}, конвертирование не выполняется.</p>
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения.
+	 * @param <M> тип меры измерения величины.
+	 * @return величину.
+	 */
+	@NotNull
+	private static <M extends Enum<M> & Measurable> BigDecimal toMeasure(@NotNull final Quantitative<M> quantity,
+																		 @NotNull final M measure)
+	{
+		if (quantity.getMeasure() == measure) {
+			return quantity.getQuantity();
+		}
+
+		return ConversionMatrix.of(measure).convert(
+			quantity.getQuantity(), quantity.getMeasure(), measure, MathContext.UNLIMITED
+		);
 	}
 
 	/**
@@ -220,13 +730,7 @@ public abstract class AbstractQuantity<Q extends Quantitative<M>, M extends Enum
 	{
 		Objects.requireNonNull(anotherQuantity);
 
-		BigDecimal quantityX = this.getQuantity()
-								   .multiply(this.getMeasure().getCountMinUnit());
-
-		BigDecimal quantityY = anotherQuantity.getQuantity()
-											  .multiply(anotherQuantity.getMeasure().getCountMinUnit());
-
-		return quantityX.compareTo(quantityY);
+		return this.getQuantityInMinUnit().compareTo(anotherQuantity.getQuantityInMinUnit());
 	}
 
 	/**
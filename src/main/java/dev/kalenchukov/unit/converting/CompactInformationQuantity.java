@@ -0,0 +1,412 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Objects;
+
+/**
+ * Класс компактной величины информации.
+ * <p>
+ * Хранит количество бит или байт в виде числа типа {@code long} вместо {@link BigDecimal}
+ * и ссылки на меру измерения, что заметно уменьшает размер объекта.
+ * Величины, которые не выражаются целым количеством бит или байт в {@code long},
+ * представляются классом {@link InformationQuantity}.
+ * </p>
+ * <p>Равенство и хеш-код совместимы с {@link InformationQuantity} в мерах
+ * {@link InformationMeasure#BIT} и {@link InformationMeasure#BYTE}.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class CompactInformationQuantity
+	implements Comparable<CompactInformationQuantity>, Quantitative<InformationMeasure>
+{
+	/**
+	 * Количество бит или байт.
+	 */
+	private final long quantity;
+
+	/**
+	 * Признак того, что величина хранится в байтах.
+	 */
+	private final boolean bytes;
+
+	/**
+	 * Конструктор для {@code CompactInformationQuantity}.
+	 *
+	 * @param quantity количество бит или байт.
+	 * @param bytes признак того, что величина хранится в байтах.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	private CompactInformationQuantity(final long quantity, final boolean bytes)
+	{
+		if (quantity < 0) {
+			throw new IllegalArgumentException("Величина не может быть меньше 0.");
+		}
+
+		this.quantity = quantity;
+		this.bytes = bytes;
+	}
+
+	/**
+	 * Возвращает величину информации в битах.
+	 *
+	 * @param quantity количество бит.
+	 * @return величину информации.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	@NotNull
+	public static CompactInformationQuantity ofBits(final long quantity)
+	{
+		return new CompactInformationQuantity(quantity, false);
+	}
+
+	/**
+	 * Возвращает величину информации в байтах.
+	 *
+	 * @param quantity количество байт.
+	 * @return величину информации.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	@NotNull
+	public static CompactInformationQuantity ofBytes(final long quantity)
+	{
+		return new CompactInformationQuantity(quantity, true);
+	}
+
+	/**
+	 * Возвращает величину информации в наиболее компактном представлении.
+	 * <p>
+	 * Мера измерения сохраняется: величины в мерах {@link InformationMeasure#BIT} и {@link InformationMeasure#BYTE}
+	 * представляются {@code CompactInformationQuantity}, величины в остальных мерах - {@link InformationQuantity}.
+	 * Поэтому результат всегда равен {@code new InformationQuantity(quantity, measure)}.
+	 * </p>
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины информации.
+	 * @return величину информации.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	@NotNull
+	public static Quantitative<InformationMeasure> of(final long quantity, @NotNull final InformationMeasure measure)
+	{
+		Objects.requireNonNull(measure);
+
+		if (measure == InformationMeasure.BYTE) {
+			return CompactInformationQuantity.ofBytes(quantity);
+		}
+
+		if (measure == InformationMeasure.BIT) {
+			return CompactInformationQuantity.ofBits(quantity);
+		}
+
+		return InformationQuantity.valueOf(quantity, measure);
+	}
+
+	/**
+	 * Возвращает количество бит или байт в зависимости от меры измерения.
+	 *
+	 * @return количество бит или байт.
+	 */
+	public long getLongQuantity()
+	{
+		return this.quantity;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public BigDecimal getQuantity()
+	{
+		return BigDecimal.valueOf(this.quantity);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public InformationMeasure getMeasure()
+	{
+		return this.bytes ? InformationMeasure.BYTE : InformationMeasure.BIT;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public BigDecimal getQuantityInMinUnit()
+	{
+		if (!this.bytes) {
+			return BigDecimal.valueOf(this.quantity);
+		}
+
+		if (this.quantity <= Long.MAX_VALUE / Byte.SIZE) {
+			return BigDecimal.valueOf(this.quantity * Byte.SIZE);
+		}
+
+		return BigDecimal.valueOf(this.quantity).multiply(InformationMeasure.BYTE.getCountMinUnit());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param measure {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	@Override
+	public BigDecimal convert(@NotNull final InformationMeasure measure)
+	{
+		Objects.requireNonNull(measure);
+
+		return this.convert(measure, AbstractQuantity.getDefaultMathContext());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param measure {@inheritDoc}
+	 * @param mathContext {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code mathContext} передан {@code null}.
+	 */
+	@NotNull
+	@Override
+	public BigDecimal convert(@NotNull final InformationMeasure measure, @NotNull final MathContext mathContext)
+	{
+		Objects.requireNonNull(measure);
+		Objects.requireNonNull(mathContext);
+
+		return ConversionMatrix.of(measure).convert(this.getQuantity(), this.getMeasure(), measure, mathContext);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param measure {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@Override
+	public double convertToDouble(@NotNull final InformationMeasure measure)
+	{
+		Objects.requireNonNull(measure);
+
+		return this.quantity * ConversionMatrix.of(measure).getDoubleFactor(this.getMeasure(), measure);
+	}
+
+	/**
+	 * Возвращает величину информации в виде {@link InformationQuantity}.
+	 *
+	 * @return величину информации.
+	 */
+	@NotNull
+	public InformationQuantity toInformationQuantity()
+	{
+		return new InformationQuantity(this.quantity, this.getMeasure());
+	}
+
+	/**
+	 * Сравнивает объекты.
+	 *
+	 * @param anotherQuantity другой объект для сравнения.
+	 * @return
+	 * <ul>
+	 *     <li><b>-1</b> - если данный объект меньше {@code anotherQuantity}.</li>
+	 *     <li><b>0</b> - если данный объект равен {@code anotherQuantity}.</li>
+	 *     <li><b>1</b> - если данный объект больше {@code anotherQuantity}.</li>
+	 * </ul>
+	 * @throws NullPointerException если в качестве {@code anotherQuantity} передан {@code null}.
+	 */
+	@Override
+	public int compareTo(@NotNull final CompactInformationQuantity anotherQuantity)
+	{
+		Objects.requireNonNull(anotherQuantity);
+
+		if (this.bytes == anotherQuantity.bytes) {
+			return Integer.signum(Long.compare(this.quantity, anotherQuantity.quantity));
+		}
+
+		if (this.bytes) {
+			return CompactInformationQuantity.compareBytesToBits(this.quantity, anotherQuantity.quantity);
+		}
+
+		return -CompactInformationQuantity.compareBytesToBits(anotherQuantity.quantity, this.quantity);
+	}
+
+	/**
+	 * Сравнивает количество байт с количеством бит.
+	 *
+	 * @param countBytes количество байт.
+	 * @param countBits количество бит.
+	 * @return результат сравнения.
+	 */
+	private static int compareBytesToBits(final long countBytes, final long countBits)
+	{
+		if (countBytes > Long.MAX_VALUE / Byte.SIZE) {
+			return 1;
+		}
+
+		return Integer.signum(Long.compare(countBytes * Byte.SIZE, countBits));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		int result = 0;
+
+		result = 31 * result + CompactInformationQuantity.hashCode(this.quantity);
+		result = 31 * result + this.getMeasure().hashCode();
+
+		return result;
+	}
+
+	/**
+	 * Возвращает хеш-код целого неотрицательного числа так же, как {@link BigDecimal#hashCode()}
+	 * для {@code BigDecimal.valueOf(value)}, но без создания объекта.
+	 *
+	 * @param value число, не меньше 0.
+	 * @return хеш-код.
+	 */
+	private static int hashCode(final long value)
+	{
+		return 31 * (int) ((int) (value >>> 32) * 31 + (value & 0xFFFFFFFFL));
+	}
+
+	/**
+	 * Записывает величину с обозначением меры, например {@code 1.5 KiB}.
+	 * <p>Величина записывается без экспоненты, цифры выводятся напрямую без промежуточных строк.</p>
+	 *
+	 * @param out приёмник.
+	 * @return приёмник {@code out}.
+	 * @throws NullPointerException если в качестве {@code out} передан {@code null}.
+	 */
+	@NotNull
+	public StringBuilder formatTo(@NotNull final StringBuilder out)
+	{
+		Objects.requireNonNull(out);
+
+		try {
+			QuantityFormat.format(out, this.quantity, this.getMeasure());
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+
+		return out;
+	}
+
+	/**
+	 * Записывает величину с обозначением меры, например {@code 1.5 KiB}.
+	 * <p>Величина записывается без экспоненты, цифры выводятся напрямую без промежуточных строк.</p>
+	 *
+	 * @param out приёмник.
+	 * @return приёмник {@code out}.
+	 * @throws NullPointerException если в качестве {@code out} передан {@code null}.
+	 * @throws IOException если приёмник не смог записать символы.
+	 */
+	@NotNull
+	public Appendable formatTo(@NotNull final Appendable out)
+		throws IOException
+	{
+		Objects.requireNonNull(out);
+
+		QuantityFormat.format(out, this.quantity, this.getMeasure());
+
+		return out;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param obj {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(@Nullable final Object obj)
+	{
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj instanceof CompactInformationQuantity) {
+			final CompactInformationQuantity quantity = (CompactInformationQuantity) obj;
+
+			return this.quantity == quantity.quantity && this.bytes == quantity.bytes;
+		}
+
+		if (!(obj instanceof Quantitative)) {
+			return false;
+		}
+
+		final Quantitative<?> quantity = (Quantitative<?>) obj;
+
+		if (!Objects.equals(this.getMeasure(), quantity.getMeasure())) {
+			return false;
+		}
+
+		if (!Objects.equals(this.getQuantity(), quantity.getQuantity())) {
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public String toString()
+	{
+		return this.quantity + " " + this.getMeasure();
+	}
+}
@@ -0,0 +1,456 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Objects;
+
+/**
+ * Класс матрицы коэффициентов конвертирования мер измерения.
+ * <p>
+ * Матрица строится один раз для каждого перечисления мер измерения.
+ * Коэффициенты хранятся по порядковым номерам констант перечисления,
+ * поэтому конвертирование сводится к поиску коэффициента и одному умножению.
+ * </p>
+ * <p>
+ * Матрица также строится по произвольному набору мер, например по мерам реестра {@link MeasureRegistry}.
+ * В этом случае меры адресуются индексами в наборе.
+ * </p>
+ *
+ * @param <M> тип меры измерения величины.
+ * @author Алексей Каленчуков
+ */
+final class ConversionMatrix<M extends Enum<M> & Measurable>
+{
+	/**
+	 * Точность вычисления коэффициентов, которые не выражаются конечной десятичной дробью.
+	 */
+	@NotNull
+	private static final MathContext FACTOR_MATH_CONTEXT = new MathContext(64);
+
+	/**
+	 * Признак того, что величина не конвертируется точно в целое число типа {@code long}.
+	 */
+	static final long NOT_EXACT = -1;
+
+	/**
+	 * Наибольшее количество цифр, при котором целое число гарантированно помещается в {@code long}.
+	 */
+	private static final int LONG_DIGITS = 18;
+
+	/**
+	 * Матрицы коэффициентов по классам перечислений мер измерения.
+	 */
+	@NotNull
+	private static final ClassValue<ConversionMatrix<?>> MATRICES = new ClassValue<>()
+	{
+		@NotNull
+		@Override
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		protected ConversionMatrix<?> computeValue(@NotNull final Class<?> type)
+		{
+			return new ConversionMatrix((Measurable[]) type.getEnumConstants());
+		}
+	};
+
+	/**
+	 * Коэффициенты конвертирования.
+	 * <p>Первый индекс - порядковый номер исходной меры, второй - порядковый номер целевой меры.</p>
+	 */
+	@NotNull
+	private final BigDecimal @NotNull [] @NotNull [] factors;
+
+	/**
+	 * Коэффициенты конвертирования в виде чисел с плавающей точкой.
+	 * <p>Индексы совпадают с индексами {@link #factors}.</p>
+	 */
+	private final double @NotNull [] @NotNull [] doubleFactors;
+
+	/**
+	 * Числители коэффициентов конвертирования в виде несократимой дроби.
+	 * <p>Значение {@code 0} означает, что коэффициент не выражается дробью из чисел типа {@code long}.</p>
+	 */
+	private final long @NotNull [] @NotNull [] numerators;
+
+	/**
+	 * Знаменатели коэффициентов конвертирования в виде несократимой дроби.
+	 */
+	private final long @NotNull [] @NotNull [] denominators;
+
+	/**
+	 * Разница масштабов количества минимальных единиц исходной и целевой мер.
+	 * <p>Используется для вычисления предпочтительного масштаба результата.</p>
+	 */
+	private final int @NotNull [] @NotNull [] scales;
+
+	/**
+	 * Конструктор для {@code ConversionMatrix}.
+	 *
+	 * @param measures меры измерения в порядке индексов.
+	 */
+	private ConversionMatrix(@NotNull final Measurable @NotNull [] measures)
+	{
+		this.factors = new BigDecimal[measures.length][measures.length];
+		this.doubleFactors = new double[measures.length][measures.length];
+		this.numerators = new long[measures.length][measures.length];
+		this.denominators = new long[measures.length][measures.length];
+		this.scales = new int[measures.length][measures.length];
+
+		for (int from = 0; from < measures.length; from++) {
+			for (int to = 0; to < measures.length; to++) {
+				this.factors[from][to] = ConversionMatrix.calculateFactor(measures[from], measures[to]);
+				this.doubleFactors[from][to] = this.factors[from][to].doubleValue();
+				ConversionMatrix.calculateFraction(
+					this.factors[from][to],
+					this.numerators[from],
+					this.denominators[from],
+					to
+				);
+				this.scales[from][to] =
+					measures[from].getCountMinUnit().scale() - measures[to].getCountMinUnit().scale();
+			}
+		}
+	}
+
+	/**
+	 * Возвращает матрицу коэффициентов для перечисления, которому принадлежит мера измерения.
+	 *
+	 * @param measure мера измерения величины.
+	 * @param <M> тип меры измерения величины.
+	 * @return матрицу коэффициентов.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	@SuppressWarnings("unchecked")
+	static <M extends Enum<M> & Measurable> ConversionMatrix<M> of(@NotNull final M measure)
+	{
+		Objects.requireNonNull(measure);
+
+		return (ConversionMatrix<M>) MATRICES.get(measure.getDeclaringClass());
+	}
+
+	/**
+	 * Строит матрицу коэффициентов для набора мер измерения.
+	 * <p>Меры адресуются индексами в наборе {@code measures}.</p>
+	 *
+	 * @param measures меры измерения.
+	 * @param <M> тип меры измерения величины.
+	 * @return матрицу коэффициентов.
+	 */
+	@NotNull
+	static <M extends Enum<M> & Measurable> ConversionMatrix<M> build(@NotNull final Measurable @NotNull [] measures)
+	{
+		return new ConversionMatrix<>(measures);
+	}
+
+	/**
+	 * Возвращает коэффициент конвертирования.
+	 *
+	 * @param from исходная мера измерения.
+	 * @param to целевая мера измерения.
+	 * @return коэффициент, на который умножается величина в мере {@code from}.
+	 */
+	@NotNull
+	BigDecimal getFactor(@NotNull final M from, @NotNull final M to)
+	{
+		return this.factors[from.ordinal()][to.ordinal()];
+	}
+
+	/**
+	 * Возвращает коэффициент конвертирования в виде числа с плавающей точкой.
+	 *
+	 * @param from исходная мера измерения.
+	 * @param to целевая мера измерения.
+	 * @return коэффициент, на который умножается величина в мере {@code from}.
+	 */
+	double getDoubleFactor(@NotNull final M from, @NotNull final M to)
+	{
+		return this.getDoubleFactor(from.ordinal(), to.ordinal());
+	}
+
+	/**
+	 * Возвращает коэффициент конвертирования в виде числа с плавающей точкой.
+	 *
+	 * @param from индекс исходной меры измерения.
+	 * @param to индекс целевой меры измерения.
+	 * @return коэффициент, на который умножается величина в мере с индексом {@code from}.
+	 */
+	double getDoubleFactor(final int from, final int to)
+	{
+		return this.doubleFactors[from][to];
+	}
+
+	/**
+	 * Возвращает числитель коэффициента конвертирования в виде несократимой дроби.
+	 *
+	 * @param from исходная мера измерения.
+	 * @param to целевая мера измерения.
+	 * @return числитель или {@code 0}, если коэффициент не выражается дробью из чисел типа {@code long}.
+	 */
+	long getNumerator(@NotNull final M from, @NotNull final M to)
+	{
+		return this.numerators[from.ordinal()][to.ordinal()];
+	}
+
+	/**
+	 * Возвращает знаменатель коэффициента конвертирования в виде несократимой дроби.
+	 *
+	 * @param from исходная мера измерения.
+	 * @param to целевая мера измерения.
+	 * @return знаменатель.
+	 */
+	long getDenominator(@NotNull final M from, @NotNull final M to)
+	{
+		return this.denominators[from.ordinal()][to.ordinal()];
+	}
+
+	/**
+	 * Конвертирует величину из одной меры измерения в другую.
+	 * <p>
+	 * Результат совпадает с делением {@code quantity × from / to} с указанной точностью,
+	 * включая масштаб возвращаемого значения.
+	 * </p>
+	 *
+	 * @param quantity величина.
+	 * @param from исходная мера измерения.
+	 * @param to целевая мера измерения.
+	 * @param mathContext точность вычисления.
+	 * @return величину в мере {@code to}.
+	 */
+	@NotNull
+	BigDecimal convert(@NotNull final BigDecimal quantity,
+					   @NotNull final M from,
+					   @NotNull final M to,
+					   @NotNull final MathContext mathContext)
+	{
+		return this.convert(quantity, from.ordinal(), to.ordinal(), mathContext);
+	}
+
+	/**
+	 * Конвертирует величину из одной меры измерения в другую.
+	 *
+	 * @param quantity величина.
+	 * @param from индекс исходной меры измерения.
+	 * @param to индекс целевой меры измерения.
+	 * @param mathContext точность вычисления.
+	 * @return величину в мере с индексом {@code to}.
+	 * @see #convert(BigDecimal, Enum, Enum, MathContext)
+	 */
+	@NotNull
+	BigDecimal convert(@NotNull final BigDecimal quantity,
+					   final int from,
+					   final int to,
+					   @NotNull final MathContext mathContext)
+	{
+		final int preferredScale = quantity.scale() + this.scales[from][to];
+
+		if (quantity.signum() == 0) {
+			return BigDecimal.valueOf(0, preferredScale);
+		}
+
+		final int precision = mathContext.getPrecision();
+
+		if (preferredScale == 0 && quantity.scale() == 0 && quantity.precision() <= LONG_DIGITS &&
+			(precision == 0 || precision > LONG_DIGITS)) {
+			final long result = this.convertExact(quantity.longValue(), from, to);
+
+			if (result != NOT_EXACT) {
+				return BigDecimal.valueOf(result);
+			}
+		}
+
+		final BigDecimal result = quantity.multiply(this.factors[from][to]);
+
+		if (result.scale() == preferredScale && (precision == 0 || result.precision() <= precision)) {
+			return result;
+		}
+
+		return ConversionMatrix.normalize(result, preferredScale, mathContext);
+	}
+
+	/**
+	 * Конвертирует целую величину из одной меры измерения в другую без потери точности.
+	 * <p>
+	 * Для коэффициентов, являющихся степенями двойки (например, все меры {@code IEC}),
+	 * используются сдвиги, для остальных - умножение и деление чисел типа {@code long}.
+	 * </p>
+	 *
+	 * @param quantity величина, не меньше 0.
+	 * @param from исходная мера измерения.
+	 * @param to целевая мера измерения.
+	 * @return величину в мере {@code to} или {@link #NOT_EXACT}, если результат дробный
+	 * или не помещается в {@code long}.
+	 */
+	long convertExact(final long quantity, @NotNull final M from, @NotNull final M to)
+	{
+		return this.convertExact(quantity, from.ordinal(), to.ordinal());
+	}
+
+	/**
+	 * Конвертирует целую величину из одной меры измерения в другую без потери точности.
+	 *
+	 * @param quantity величина, не меньше 0.
+	 * @param from индекс исходной меры измерения.
+	 * @param to индекс целевой меры измерения.
+	 * @return величину в мере с индексом {@code to} или {@link #NOT_EXACT}, если результат дробный
+	 * или не помещается в {@code long}.
+	 * @see #convertExact(long, Enum, Enum)
+	 */
+	long convertExact(final long quantity, final int from, final int to)
+	{
+		final long numerator = this.numerators[from][to];
+		final long denominator = this.denominators[from][to];
+
+		if (numerator == 0) {
+			return quantity == 0 ? 0 : NOT_EXACT;
+		}
+
+		long result = quantity;
+
+		if (denominator != 1) {
+			if ((denominator & (denominator - 1)) == 0) {
+				if ((result & (denominator - 1)) != 0) {
+					return NOT_EXACT;
+				}
+
+				result >>>= Long.numberOfTrailingZeros(denominator);
+			} else {
+				if (result % denominator != 0) {
+					return NOT_EXACT;
+				}
+
+				result /= denominator;
+			}
+		}
+
+		if (numerator != 1) {
+			if ((numerator & (numerator - 1)) == 0) {
+				final int shift = Long.numberOfTrailingZeros(numerator);
+
+				if (result > (Long.MAX_VALUE >>> shift)) {
+					return NOT_EXACT;
+				}
+
+				result <<= shift;
+			} else {
+				if (result > Long.MAX_VALUE / numerator) {
+					return NOT_EXACT;
+				}
+
+				result *= numerator;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Приводит точное произведение к точности и масштабу, которые даёт деление с указанной точностью.
+	 *
+	 * @param result точное произведение.
+	 * @param preferredScale предпочтительный масштаб.
+	 * @param mathContext точность вычисления.
+	 * @return величину.
+	 */
+	@NotNull
+	private static BigDecimal normalize(@NotNull final BigDecimal result,
+										final int preferredScale,
+										@NotNull final MathContext mathContext)
+	{
+		final int precision = mathContext.getPrecision();
+		final BigDecimal stripped = result.stripTrailingZeros();
+
+		if (precision > 0 && stripped.precision() > precision) {
+			return result.round(mathContext);
+		}
+
+		if (stripped.scale() >= preferredScale) {
+			return stripped;
+		}
+
+		int scale = preferredScale;
+
+		if (precision > 0) {
+			scale = Math.min(preferredScale, stripped.scale() + precision - stripped.precision());
+		}
+
+		return stripped.setScale(scale);
+	}
+
+	/**
+	 * Раскладывает коэффициент конвертирования в несократимую дробь из чисел типа {@code long}.
+	 *
+	 * @param factor коэффициент конвертирования.
+	 * @param numerators строка матрицы числителей.
+	 * @param denominators строка матрицы знаменателей.
+	 * @param index индекс целевой меры.
+	 */
+	private static void calculateFraction(@NotNull final BigDecimal factor,
+										  final long @NotNull [] numerators,
+										  final long @NotNull [] denominators,
+										  final int index)
+	{
+		BigInteger numerator = factor.unscaledValue();
+		BigInteger denominator = BigInteger.ONE;
+
+		if (factor.scale() > 0) {
+			denominator = BigInteger.TEN.pow(factor.scale());
+		} else {
+			numerator = numerator.multiply(BigInteger.TEN.pow(-factor.scale()));
+		}
+
+		final BigInteger gcd = numerator.gcd(denominator);
+
+		numerator = numerator.divide(gcd);
+		denominator = denominator.divide(gcd);
+
+		if (numerator.bitLength() < Long.SIZE && denominator.bitLength() < Long.SIZE) {
+			numerators[index] = numerator.longValue();
+			denominators[index] = denominator.longValue();
+		}
+	}
+
+	/**
+	 * Вычисляет коэффициент конвертирования.
+	 *
+	 * @param from исходная мера измерения.
+	 * @param to целевая мера измерения.
+	 * @return коэффициент конвертирования.
+	 */
+	@NotNull
+	private static BigDecimal calculateFactor(@NotNull final Measurable from, @NotNull final Measurable to)
+	{
+		try {
+			return from.getCountMinUnit().divide(to.getCountMinUnit());
+		} catch (ArithmeticException exception) {
+			return from.getCountMinUnit().divide(to.getCountMinUnit(), FACTOR_MATH_CONTEXT);
+		}
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import dev.kalenchukov.unit.converting.resources.Standard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * Класс пользовательской меры измерения.
+ * <p>
+ * Меры создаются реестром {@link MeasureRegistry} и относятся к тому же виду величин,
+ * что и перечисление мер измерения реестра. Мера равна только самой себе.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class CustomMeasure implements Measurable
+{
+	/**
+	 * Реестр, которому принадлежит мера.
+	 */
+	@NotNull
+	private final MeasureRegistry<?> registry;
+
+	/**
+	 * Индекс меры в матрице коэффициентов реестра.
+	 */
+	private final int index;
+
+	/**
+	 * Название меры.
+	 */
+	@NotNull
+	private final String name;
+
+	/**
+	 * Обозначение меры.
+	 */
+	@NotNull
+	private final String symbol;
+
+	/**
+	 * Количество минимальных единиц меры.
+	 */
+	@NotNull
+	private final BigDecimal countMinUnit;
+
+	/**
+	 * Конструктор для {@code CustomMeasure}.
+	 *
+	 * @param registry реестр, которому принадлежит мера.
+	 * @param index индекс меры в матрице коэффициентов реестра.
+	 * @param name название меры.
+	 * @param symbol обозначение меры.
+	 * @param countMinUnit количество минимальных единиц меры.
+	 */
+	CustomMeasure(@NotNull final MeasureRegistry<?> registry,
+				  final int index,
+				  @NotNull final String name,
+				  @NotNull final String symbol,
+				  @NotNull final BigDecimal countMinUnit)
+	{
+		this.registry = registry;
+		this.index = index;
+		this.name = name;
+		this.symbol = symbol;
+		this.countMinUnit = countMinUnit;
+	}
+
+	/**
+	 * Возвращает реестр, которому принадлежит мера.
+	 *
+	 * @return реестр мер измерения.
+	 */
+	@NotNull
+	MeasureRegistry<?> getRegistry()
+	{
+		return this.registry;
+	}
+
+	/**
+	 * Возвращает индекс меры в матрице коэффициентов реестра.
+	 *
+	 * @return индекс меры.
+	 */
+	int getIndex()
+	{
+		return this.index;
+	}
+
+	/**
+	 * Возвращает название меры.
+	 *
+	 * @return название меры, например {@code SECTOR}.
+	 */
+	@NotNull
+	public String getName()
+	{
+		return this.name;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>Пользовательские меры не относятся ни к одному стандарту.</p>
+	 *
+	 * @return пустую коллекцию стандартов.
+	 */
+	@Unmodifiable
+	@NotNull
+	@Override
+	public Set<@NotNull Standard> getStandard()
+	{
+		return Set.of();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public BigDecimal getCountMinUnit()
+	{
+		return this.countMinUnit;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public String getSymbol()
+	{
+		return this.symbol;
+	}
+
+	/**
+	 * Возвращает название меры.
+	 *
+	 * @return название меры.
+	 */
+	@NotNull
+	@Override
+	public String toString()
+	{
+		return this.name;
+	}
+}
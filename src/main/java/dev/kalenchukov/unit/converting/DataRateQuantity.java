@@ -0,0 +1,254 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.DataRateMeasure;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * Класс величины скорости передачи данных.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class DataRateQuantity extends AbstractQuantity<DataRateQuantity, DataRateMeasure>
+{
+	/**
+	 * Версия класса для сериализации.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Количество наносекунд в секунде.
+	 */
+	private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+	/**
+	 * Кеш часто используемых величин.
+	 */
+	@NotNull
+	private static final QuantityCache<DataRateQuantity, DataRateMeasure> CACHE = new QuantityCache<>(
+		DataRateMeasure.class, DataRateQuantity::new
+	);
+
+	/**
+	 * Конструктор для {@code DataRateQuantity}.
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины скорости передачи данных.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	public DataRateQuantity(final byte quantity, @NotNull final DataRateMeasure measure)
+	{
+		super(quantity, Objects.requireNonNull(measure));
+	}
+
+	/**
+	 * Конструктор для {@code DataRateQuantity}.
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины скорости передачи данных.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	public DataRateQuantity(final short quantity, @NotNull final DataRateMeasure measure)
+	{
+		super(quantity, Objects.requireNonNull(measure));
+	}
+
+	/**
+	 * Конструктор для {@code DataRateQuantity}.
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины скорости передачи данных.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	public DataRateQuantity(final int quantity, @NotNull final DataRateMeasure measure)
+	{
+		super(quantity, Objects.requireNonNull(measure));
+	}
+
+	/**
+	 * Конструктор для {@code DataRateQuantity}.
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины скорости передачи данных.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	public DataRateQuantity(final long quantity, @NotNull final DataRateMeasure measure)
+	{
+		super(quantity, Objects.requireNonNull(measure));
+	}
+
+	/**
+	 * Конструктор для {@code DataRateQuantity}.
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины скорости передачи данных.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	public DataRateQuantity(final float quantity, @NotNull final DataRateMeasure measure)
+	{
+		super(quantity, Objects.requireNonNull(measure));
+	}
+
+	/**
+	 * Конструктор для {@code DataRateQuantity}.
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины скорости передачи данных.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	public DataRateQuantity(final double quantity, @NotNull final DataRateMeasure measure)
+	{
+		super(quantity, Objects.requireNonNull(measure));
+	}
+
+	/**
+	 * Конструктор для {@code DataRateQuantity}.
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины скорости передачи данных.
+	 * @throws NullPointerException если в качестве {@code quantity} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	public DataRateQuantity(@NotNull final BigInteger quantity, @NotNull final DataRateMeasure measure)
+	{
+		super(Objects.requireNonNull(quantity), Objects.requireNonNull(measure));
+	}
+
+	/**
+	 * Конструктор для {@code DataRateQuantity}.
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины скорости передачи данных.
+	 * @throws NullPointerException если в качестве {@code quantity} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	public DataRateQuantity(@NotNull final BigDecimal quantity, @NotNull final DataRateMeasure measure)
+	{
+		super(Objects.requireNonNull(quantity), Objects.requireNonNull(measure));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param quantity {@inheritDoc}
+	 * @param measure {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalArgumentException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	protected DataRateQuantity create(@NotNull final BigDecimal quantity, @NotNull final DataRateMeasure measure)
+	{
+		return new DataRateQuantity(quantity, measure);
+	}
+
+	/**
+	 * Возвращает величину скорости передачи данных.
+	 * <p>
+	 * Величины от 0 до 1024 каждой меры измерения кешируются, поэтому повторные вызовы
+	 * с одинаковыми аргументами возвращают один и тот же объект.
+	 * </p>
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины скорости передачи данных.
+	 * @return величину скорости передачи данных.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	@NotNull
+	public static DataRateQuantity valueOf(final long quantity, @NotNull final DataRateMeasure measure)
+	{
+		Objects.requireNonNull(measure);
+
+		return CACHE.get(quantity, measure);
+	}
+
+	/**
+	 * Вычисляет скорость передачи данных по количеству байт и времени в наносекундах.
+	 * <p>
+	 * Вычисление выполняется с плавающей точкой и не создаёт объектов,
+	 * поэтому подходит для измерения пропускной способности в горячих участках кода,
+	 * например по результату {@link System#nanoTime()}.
+	 * </p>
+	 *
+	 * @param bytes количество байт.
+	 * @param nanos время в наносекундах.
+	 * @param measure мера измерения результата.
+	 * @return скорость передачи данных в мере {@code measure}.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code bytes} меньше 0 или {@code nanos} не больше 0.
+	 */
+	public static double rate(final long bytes, final long nanos, @NotNull final DataRateMeasure measure)
+	{
+		Objects.requireNonNull(measure);
+
+		if (bytes < 0) {
+			throw new IllegalArgumentException("Величина не может быть меньше 0.");
+		}
+
+		if (nanos <= 0) {
+			throw new IllegalArgumentException("Время должно быть больше 0.");
+		}
+
+		return bytes * NANOS_PER_SECOND / nanos *
+			ConversionMatrix.of(measure).getDoubleFactor(DataRateMeasure.BYTE_PER_SECOND, measure);
+	}
+
+	/**
+	 * Сравнивает объекты.
+	 *
+	 * @param quantityX первый объект для сравнения.
+	 * @param quantityY второй объект для сравнения.
+	 * @return
+	 * <ul>
+	 *     <li><b>-1</b> - если {@code quantityX} меньше {@code quantityY}.</li>
+	 *     <li><b>0</b> - если {@code quantityX} равен {@code quantityY}.</li>
+	 *     <li><b>1</b> - если {@code quantityX} больше {@code quantityY}.</li>
+	 * </ul>
+	 * @throws NullPointerException если в качестве {@code quantityX} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code quantityY} передан {@code null}.
+	 */
+	public static int compare(@NotNull final DataRateQuantity quantityX,
+							  @NotNull final DataRateQuantity quantityY)
+	{
+		Objects.requireNonNull(quantityX);
+		Objects.requireNonNull(quantityY);
+
+		return quantityX.compareTo(quantityY);
+	}
+}
@@ -24,11 +24,15 @@
 
 package dev.kalenchukov.unit.converting;
 
+import dev.kalenchukov.unit.converting.resources.DataRateMeasure;
 import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.Precision;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
 import org.jetbrains.annotations.NotNull;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
 import java.util.Objects;
 
 /**
@@ -38,6 +42,19 @@ import java.util.Objects;
  */
 public final class InformationQuantity extends AbstractQuantity<InformationQuantity, InformationMeasure>
 {
+	/**
+	 * Версия класса для сериализации.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Кеш часто используемых величин.
+	 */
+	@NotNull
+	private static final QuantityCache<InformationQuantity, InformationMeasure> CACHE = new QuantityCache<>(
+		InformationMeasure.class, InformationQuantity::new
+	);
+
 	/**
 	 * Конструктор для {@code InformationQuantity}.
 	 *
@@ -144,6 +161,90 @@ public final class InformationQuantity extends AbstractQuantity<InformationQuant
 		super(Objects.requireNonNull(quantity), Objects.requireNonNull(measure));
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param quantity {@inheritDoc}
+	 * @param measure {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalArgumentException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	protected InformationQuantity create(@NotNull final BigDecimal quantity, @NotNull final InformationMeasure measure)
+	{
+		return new InformationQuantity(quantity, measure);
+	}
+
+	/**
+	 * Возвращает величину информации.
+	 * <p>
+	 * Величины от 0 до 1024 каждой меры измерения кешируются, поэтому повторные вызовы
+	 * с одинаковыми аргументами возвращают один и тот же объект.
+	 * </p>
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины информации.
+	 * @return величину информации.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	@NotNull
+	public static InformationQuantity valueOf(final long quantity, @NotNull final InformationMeasure measure)
+	{
+		Objects.requireNonNull(measure);
+
+		return CACHE.get(quantity, measure);
+	}
+
+	/**
+	 * Делит величину информации на время.
+	 * <p>
+	 * Мера измерения результата соответствует мере измерения информации:
+	 * например, {@code 3 GIBIBYTE / 2 SECOND = 1.5 GIBIBYTE_PER_SECOND}.
+	 * </p>
+	 *
+	 * @param time время.
+	 * @return скорость передачи данных.
+	 * @throws NullPointerException если в качестве {@code time} передан {@code null}.
+	 * @throws ArithmeticException если {@code time} равно 0.
+	 * @see DataRateQuantity#rate(long, long, DataRateMeasure)
+	 */
+	@NotNull
+	public DataRateQuantity divide(@NotNull final TimeQuantity time)
+	{
+		return this.divide(time, DataRateMeasure.of(this.getMeasure()));
+	}
+
+	/**
+	 * Делит величину информации на время.
+	 * <p>
+	 * Результат вычисляется с одним округлением до точности по умолчанию.
+	 * Если точность по умолчанию не ограничена, используется {@link Precision#DEFAULT},
+	 * так как частное может быть бесконечной дробью.
+	 * </p>
+	 *
+	 * @param time время.
+	 * @param measure мера измерения результата.
+	 * @return скорость передачи данных в мере {@code measure}.
+	 * @throws NullPointerException если в качестве {@code time} или {@code measure} передан {@code null}.
+	 * @throws ArithmeticException если {@code time} равно 0.
+	 */
+	@NotNull
+	public DataRateQuantity divide(@NotNull final TimeQuantity time, @NotNull final DataRateMeasure measure)
+	{
+		Objects.requireNonNull(time);
+		Objects.requireNonNull(measure);
+
+		final BigDecimal seconds = time.convert(TimeMeasure.SECOND, MathContext.UNLIMITED);
+		return new DataRateQuantity(
+			this.getQuantityInMinUnit().divide(
+				seconds.multiply(measure.getCountMinUnit()), AbstractQuantity.getDivisionMathContext()
+			),
+			measure
+		);
+	}
+
 	/**
 	 * Сравнивает объекты.
 	 *
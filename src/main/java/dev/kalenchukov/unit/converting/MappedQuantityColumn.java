@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+
+/**
+ * Класс столбца величин, отображённого в память из файла.
+ * <p>
+ * Значения и порядковые номера мер измерения читаются непосредственно из отображённых
+ * в память участков файла без копирования в массивы.
+ * Столбец доступен только для чтения и создаётся методом {@link QuantityFiles#map(java.nio.file.Path, Class)},
+ * который проверяет содержимое файла при отображении.
+ * </p>
+ *
+ * @param <M> тип меры измерения величины.
+ * @author Алексей Каленчуков
+ */
+public final class MappedQuantityColumn<M extends Enum<M> & Measurable>
+{
+	/**
+	 * Класс перечисления мер измерения.
+	 */
+	@NotNull
+	private final Class<M> type;
+
+	/**
+	 * Меры измерения в порядке объявления.
+	 */
+	@NotNull
+	private final M @NotNull [] measures;
+
+	/**
+	 * Участки значений величин по {@link QuantityFiles#SEGMENT_VALUES} значений.
+	 */
+	@NotNull
+	private final DoubleBuffer @NotNull [] values;
+
+	/**
+	 * Порядковые номера мер измерения величин.
+	 */
+	@NotNull
+	private final ByteBuffer ordinals;
+
+	/**
+	 * Количество величин.
+	 */
+	private final int size;
+
+	/**
+	 * Конструктор для {@code MappedQuantityColumn}.
+	 *
+	 * @param type класс перечисления мер измерения.
+	 * @param values участки значений величин.
+	 * @param ordinals порядковые номера мер измерения величин.
+	 * @param size количество величин.
+	 */
+	MappedQuantityColumn(@NotNull final Class<M> type,
+						 @NotNull final DoubleBuffer @NotNull [] values,
+						 @NotNull final ByteBuffer ordinals,
+						 final int size)
+	{
+		this.type = type;
+		this.measures = type.getEnumConstants();
+		this.values = values;
+		this.ordinals = ordinals;
+		this.size = size;
+	}
+
+	/**
+	 * Возвращает класс перечисления мер измерения.
+	 *
+	 * @return класс перечисления мер измерения.
+	 */
+	@NotNull
+	public Class<M> getMeasureType()
+	{
+		return this.type;
+	}
+
+	/**
+	 * Возвращает количество величин.
+	 *
+	 * @return количество величин.
+	 */
+	public int size()
+	{
+		return this.size;
+	}
+
+	/**
+	 * Возвращает значение величины.
+	 *
+	 * @param index индекс величины.
+	 * @return значение величины в её мере измерения.
+	 * @throws IndexOutOfBoundsException если {@code index} выходит за пределы столбца.
+	 */
+	public double getQuantity(final int index)
+	{
+		Objects.checkIndex(index, this.size);
+
+		return this.values[index / QuantityFiles.SEGMENT_VALUES].get(index % QuantityFiles.SEGMENT_VALUES);
+	}
+
+	/**
+	 * Возвращает меру измерения величины.
+	 *
+	 * @param index индекс величины.
+	 * @return меру измерения величины.
+	 * @throws IndexOutOfBoundsException если {@code index} выходит за пределы столбца.
+	 */
+	@NotNull
+	public M getMeasure(final int index)
+	{
+		Objects.checkIndex(index, this.size);
+
+		return this.measures[this.ordinals.get(index)];
+	}
+
+	/**
+	 * Возвращает сумму величин.
+	 *
+	 * @param measure мера измерения результата.
+	 * @return сумму величин в мере {@code measure}.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	public double sum(@NotNull final M measure)
+	{
+		Objects.requireNonNull(measure);
+
+		final double[] factors = QuantityColumn.getFactors(this.measures, measure);
+		double sum = 0;
+
+		for (int segment = 0; segment < this.values.length; segment++) {
+			final DoubleBuffer values = this.values[segment];
+			final int offset = segment * QuantityFiles.SEGMENT_VALUES;
+
+			for (int index = 0; index < values.limit(); index++) {
+				sum += values.get(index) * factors[this.ordinals.get(offset + index)];
+			}
+		}
+
+		return sum;
+	}
+
+	/**
+	 * Копирует величины в столбец величин.
+	 *
+	 * @return столбец величин.
+	 */
+	@NotNull
+	public QuantityColumn<M> toColumn()
+	{
+		final double[] values = new double[this.size];
+		final byte[] ordinals = new byte[this.size];
+
+		for (int segment = 0; segment < this.values.length; segment++) {
+			this.getValues(segment * QuantityFiles.SEGMENT_VALUES)
+				.get(values, segment * QuantityFiles.SEGMENT_VALUES, this.values[segment].limit());
+		}
+
+		this.getOrdinals().get(ordinals);
+
+		return new QuantityColumn<>(this.type, values, ordinals);
+	}
+
+	/**
+	 * Возвращает участок значений величин.
+	 *
+	 * @param offset индекс первой величины участка.
+	 * @return независимый буфер значений участка.
+	 */
+	@NotNull
+	DoubleBuffer getValues(final int offset)
+	{
+		return this.values[offset / QuantityFiles.SEGMENT_VALUES].duplicate();
+	}
+
+	/**
+	 * Возвращает порядковые номера мер измерения величин.
+	 *
+	 * @return независимый буфер порядковых номеров.
+	 */
+	@NotNull
+	ByteBuffer getOrdinals()
+	{
+		return this.ordinals.duplicate();
+	}
+}
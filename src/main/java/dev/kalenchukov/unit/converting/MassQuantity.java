@@ -38,6 +38,19 @@ import java.util.*;
  */
 public final class MassQuantity extends AbstractQuantity<MassQuantity, MassMeasure>
 {
+	/**
+	 * Версия класса для сериализации.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Кеш часто используемых величин.
+	 */
+	@NotNull
+	private static final QuantityCache<MassQuantity, MassMeasure> CACHE = new QuantityCache<>(
+		MassMeasure.class, MassQuantity::new
+	);
+
 	/**
 	 * Конструктор для {@code MassQuantity}.
 	 *
@@ -144,6 +157,42 @@ public final class MassQuantity extends AbstractQuantity<MassQuantity, MassMeasu
 		super(Objects.requireNonNull(quantity), Objects.requireNonNull(measure));
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param quantity {@inheritDoc}
+	 * @param measure {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalArgumentException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	protected MassQuantity create(@NotNull final BigDecimal quantity, @NotNull final MassMeasure measure)
+	{
+		return new MassQuantity(quantity, measure);
+	}
+
+	/**
+	 * Возвращает величину массы.
+	 * <p>
+	 * Величины от 0 до 1024 каждой меры измерения кешируются, поэтому повторные вызовы
+	 * с одинаковыми аргументами возвращают один и тот же объект.
+	 * </p>
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины массы.
+	 * @return величину массы.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	@NotNull
+	public static MassQuantity valueOf(final long quantity, @NotNull final MassMeasure measure)
+	{
+		Objects.requireNonNull(measure);
+
+		return CACHE.get(quantity, measure);
+	}
+
 	/**
 	 * Сравнивает объекты.
 	 *
@@ -0,0 +1,447 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Класс реестра пользовательских мер измерения.
+ * <p>
+ * Реестр дополняет перечисление мер измерения одного вида величин мерами {@link CustomMeasure},
+ * например секторами и страницами для информации или сменами для времени.
+ * Встроенные и пользовательские меры конвертируются друг в друга.
+ * </p>
+ * <p>
+ * Меры и матрица коэффициентов конвертирования хранятся в неизменяемой таблице.
+ * Регистрация меры строит новую таблицу и публикует её через {@code volatile} поле,
+ * поэтому поиск и конвертирование выполняются без блокировок и обходятся так же,
+ * как конвертирование встроенных мер.
+ * </p>
+ *
+ * @param <M> тип меры измерения величины.
+ * @author Алексей Каленчуков
+ */
+public final class MeasureRegistry<M extends Enum<M> & Measurable>
+{
+	/**
+	 * Реестры по классам перечислений мер измерения.
+	 */
+	@NotNull
+	private static final ClassValue<MeasureRegistry<?>> REGISTRIES = new ClassValue<>()
+	{
+		@NotNull
+		@Override
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		protected MeasureRegistry<?> computeValue(@NotNull final Class<?> type)
+		{
+			return new MeasureRegistry(type);
+		}
+	};
+
+	/**
+	 * Тип меры измерения величины.
+	 */
+	@NotNull
+	private final Class<M> measureType;
+
+	/**
+	 * Вид величин реестра.
+	 */
+	@NotNull
+	private final QuantityKind kind;
+
+	/**
+	 * Текущая таблица мер измерения.
+	 */
+	@NotNull
+	private volatile Table<M> table;
+
+	/**
+	 * Конструктор для {@code MeasureRegistry}.
+	 *
+	 * @param measureType тип меры измерения величины.
+	 * @throws IllegalArgumentException если мера измерения не относится ни к одному виду величин.
+	 */
+	MeasureRegistry(@NotNull final Class<M> measureType)
+	{
+		final M[] measures = measureType.getEnumConstants();
+
+		this.measureType = measureType;
+		this.kind = QuantityKind.of(measures[0]);
+		this.table = new Table<>(measures, Map.of(), Map.of());
+	}
+
+	/**
+	 * Возвращает реестр мер измерения.
+	 *
+	 * @param measureType тип меры измерения величины.
+	 * @param <M> тип меры измерения величины.
+	 * @return реестр мер измерения данного вида.
+	 * @throws NullPointerException если в качестве {@code measureType} передан {@code null}.
+	 * @throws IllegalArgumentException если мера измерения не относится ни к одному виду величин.
+	 */
+	@NotNull
+	@SuppressWarnings("unchecked")
+	public static <M extends Enum<M> & Measurable> MeasureRegistry<M> of(@NotNull final Class<M> measureType)
+	{
+		Objects.requireNonNull(measureType);
+
+		return (MeasureRegistry<M>) REGISTRIES.get(measureType);
+	}
+
+	/**
+	 * Возвращает тип меры измерения величины.
+	 *
+	 * @return тип меры измерения величины.
+	 */
+	@NotNull
+	public Class<M> getMeasureType()
+	{
+		return this.measureType;
+	}
+
+	/**
+	 * Регистрирует меру измерения.
+	 * <p>
+	 * Мера задаётся через другую меру реестра: например, сектор - это {@code 512 BYTE},
+	 * а смена - {@code 28800 SECOND}.
+	 * </p>
+	 *
+	 * @param name название меры, например {@code SECTOR}.
+	 * @param symbol обозначение меры, например {@code sec}.
+	 * @param quantity количество мер {@code measure} в одной регистрируемой мере.
+	 * @param measure встроенная или пользовательская мера данного реестра.
+	 * @return зарегистрированную меру.
+	 * @throws NullPointerException если в качестве одного из параметров передан {@code null}.
+	 * @throws IllegalArgumentException если {@code name} или {@code symbol} пусты,
+	 * {@code quantity} не больше 0, {@code measure} не относится к реестру
+	 * или мера с таким названием или обозначением уже существует.
+	 */
+	@NotNull
+	public synchronized CustomMeasure register(@NotNull final String name,
+											   @NotNull final String symbol,
+											   @NotNull final BigDecimal quantity,
+											   @NotNull final Measurable measure)
+	{
+		Objects.requireNonNull(name);
+		Objects.requireNonNull(symbol);
+		Objects.requireNonNull(quantity);
+		Objects.requireNonNull(measure);
+
+		if (name.isBlank()) {
+			throw new IllegalArgumentException("Название меры не может быть пустым.");
+		}
+
+		if (symbol.isBlank()) {
+			throw new IllegalArgumentException("Обозначение меры не может быть пустым.");
+		}
+
+		if (quantity.signum() <= 0) {
+			throw new IllegalArgumentException("Величина должна быть больше 0.");
+		}
+
+		final Table<M> current = this.table;
+		final String foldedName = name.toLowerCase(Locale.ROOT);
+
+		current.indexOf(this, measure);
+
+		if (this.lookup(symbol) != null || this.lookup(foldedName) != null || this.lookup(foldedName + "s") != null) {
+			throw new IllegalArgumentException("Мера измерения с таким названием или обозначением уже существует.");
+		}
+
+		final CustomMeasure customMeasure = new CustomMeasure(
+			this, current.measures.length, name, symbol, quantity.multiply(measure.getCountMinUnit())
+		);
+
+		final Measurable[] measures = Arrays.copyOf(current.measures, current.measures.length + 1, Measurable[].class);
+		measures[customMeasure.getIndex()] = customMeasure;
+
+		final Map<String, CustomMeasure> symbols = new HashMap<>(current.symbols);
+		symbols.put(symbol, customMeasure);
+
+		final Map<String, CustomMeasure> names = new HashMap<>(current.names);
+		names.put(foldedName, customMeasure);
+		names.put(foldedName + "s", customMeasure);
+
+		this.table = new Table<>(measures, Map.copyOf(symbols), Map.copyOf(names));
+
+		return customMeasure;
+	}
+
+	/**
+	 * Возвращает меры измерения реестра.
+	 *
+	 * @return встроенные меры в порядке объявления и пользовательские меры в порядке регистрации.
+	 */
+	@Unmodifiable
+	@NotNull
+	public List<@NotNull Measurable> getMeasures()
+	{
+		return List.of(this.table.measures);
+	}
+
+	/**
+	 * Возвращает меру измерения по обозначению или названию.
+	 * <p>
+	 * Сначала ищется встроенная мера, затем пользовательская.
+	 * Обозначения сравниваются с учётом регистра, названия - без учёта регистра,
+	 * в единственном или множественном числе.
+	 * </p>
+	 *
+	 * @param text обозначение или название меры.
+	 * @return меру измерения или {@code null}, если мера не найдена.
+	 * @throws NullPointerException если в качестве {@code text} передан {@code null}.
+	 */
+	@Nullable
+	public Measurable lookup(@NotNull final CharSequence text)
+	{
+		Objects.requireNonNull(text);
+
+		final Measurable measure = this.kind.lookup(text, 0, text.length());
+
+		if (measure != null) {
+			return measure;
+		}
+
+		final Table<M> current = this.table;
+
+		if (current.symbols.isEmpty()) {
+			return null;
+		}
+
+		final String key = text.toString();
+		final CustomMeasure customMeasure = current.symbols.get(key);
+
+		if (customMeasure != null) {
+			return customMeasure;
+		}
+
+		return current.names.get(key.toLowerCase(Locale.ROOT));
+	}
+
+	/**
+	 * Конвертирует величину из одной меры измерения в другую.
+	 * <p>Используется точность вычисления по умолчанию {@link AbstractQuantity#getDefaultMathContext()}.</p>
+	 *
+	 * @param quantity величина.
+	 * @param from исходная мера измерения.
+	 * @param to целевая мера измерения.
+	 * @return величину в мере {@code to}.
+	 * @throws NullPointerException если в качестве одного из параметров передан {@code null}.
+	 * @throws IllegalArgumentException если мера не относится к реестру.
+	 */
+	@NotNull
+	public BigDecimal convert(@NotNull final BigDecimal quantity,
+							  @NotNull final Measurable from,
+							  @NotNull final Measurable to)
+	{
+		return this.convert(quantity, from, to, AbstractQuantity.getDefaultMathContext());
+	}
+
+	/**
+	 * Конвертирует величину из одной меры измерения в другую.
+	 *
+	 * @param quantity величина.
+	 * @param from исходная мера измерения.
+	 * @param to целевая мера измерения.
+	 * @param mathContext точность вычисления.
+	 * @return величину в мере {@code to}.
+	 * @throws NullPointerException если в качестве одного из параметров передан {@code null}.
+	 * @throws IllegalArgumentException если мера не относится к реестру.
+	 */
+	@NotNull
+	public BigDecimal convert(@NotNull final BigDecimal quantity,
+							  @NotNull final Measurable from,
+							  @NotNull final Measurable to,
+							  @NotNull final MathContext mathContext)
+	{
+		Objects.requireNonNull(quantity);
+		Objects.requireNonNull(mathContext);
+
+		final Table<M> current = this.getTable(from, to);
+
+		return current.matrix.convert(quantity, current.indexOf(this, from), current.indexOf(this, to), mathContext);
+	}
+
+	/**
+	 * Конвертирует величину в другую меру измерения.
+	 * <p>Используется точность вычисления по умолчанию {@link AbstractQuantity#getDefaultMathContext()}.</p>
+	 *
+	 * @param quantity величина встроенной меры измерения.
+	 * @param measure целевая мера измерения.
+	 * @return величину в мере {@code measure}.
+	 * @throws NullPointerException если в качестве одного из параметров передан {@code null}.
+	 * @throws IllegalArgumentException если мера не относится к реестру.
+	 */
+	@NotNull
+	public BigDecimal convert(@NotNull final Quantitative<M> quantity, @NotNull final Measurable measure)
+	{
+		Objects.requireNonNull(quantity);
+
+		return this.convert(quantity.getQuantity(), quantity.getMeasure(), measure);
+	}
+
+	/**
+	 * Конвертирует величину из одной меры измерения в другую с плавающей точкой.
+	 *
+	 * @param quantity величина.
+	 * @param from исходная мера измерения.
+	 * @param to целевая мера измерения.
+	 * @return величину в мере {@code to}.
+	 * @throws NullPointerException если в качестве {@code from} или {@code to} передан {@code null}.
+	 * @throws IllegalArgumentException если мера не относится к реестру.
+	 */
+	public double convert(final double quantity, @NotNull final Measurable from, @NotNull final Measurable to)
+	{
+		final Table<M> current = this.getTable(from, to);
+
+		return quantity * current.matrix.getDoubleFactor(current.indexOf(this, from), current.indexOf(this, to));
+	}
+
+	/**
+	 * Возвращает таблицу, содержащую меры измерения.
+	 * <p>
+	 * Мера, полученная другим потоком без синхронизации, может быть новее прочитанной таблицы.
+	 * В этом случае таблица перечитывается под блокировкой.
+	 * </p>
+	 *
+	 * @param from исходная мера измерения.
+	 * @param to целевая мера измерения.
+	 * @return таблицу мер измерения.
+	 */
+	@NotNull
+	private Table<M> getTable(@NotNull final Measurable from, @NotNull final Measurable to)
+	{
+		Objects.requireNonNull(from);
+		Objects.requireNonNull(to);
+
+		final Table<M> current = this.table;
+
+		if (current.contains(from) && current.contains(to)) {
+			return current;
+		}
+
+		synchronized (this) {
+			return this.table;
+		}
+	}
+
+	/**
+	 * Класс неизменяемой таблицы мер измерения.
+	 *
+	 * @param <M> тип меры измерения величины.
+	 * @author Алексей Каленчуков
+	 */
+	private static final class Table<M extends Enum<M> & Measurable>
+	{
+		/**
+		 * Встроенные меры в порядке объявления и пользовательские меры в порядке регистрации.
+		 */
+		@NotNull
+		private final Measurable @NotNull [] measures;
+
+		/**
+		 * Пользовательские меры по обозначениям.
+		 */
+		@NotNull
+		private final Map<@NotNull String, @NotNull CustomMeasure> symbols;
+
+		/**
+		 * Пользовательские меры по названиям в нижнем регистре.
+		 */
+		@NotNull
+		private final Map<@NotNull String, @NotNull CustomMeasure> names;
+
+		/**
+		 * Матрица коэффициентов конвертирования по индексам мер в {@link #measures}.
+		 */
+		@NotNull
+		private final ConversionMatrix<M> matrix;
+
+		/**
+		 * Конструктор для {@code Table}.
+		 *
+		 * @param measures меры измерения.
+		 * @param symbols пользовательские меры по обозначениям.
+		 * @param names пользовательские меры по названиям в нижнем регистре.
+		 */
+		private Table(@NotNull final Measurable @NotNull [] measures,
+					  @NotNull final Map<@NotNull String, @NotNull CustomMeasure> symbols,
+					  @NotNull final Map<@NotNull String, @NotNull CustomMeasure> names)
+		{
+			this.measures = measures;
+			this.symbols = symbols;
+			this.names = names;
+			this.matrix = ConversionMatrix.build(measures);
+		}
+
+		/**
+		 * Проверяет, содержит ли таблица пользовательскую меру.
+		 * <p>Встроенные меры содержатся в любой таблице.</p>
+		 *
+		 * @param measure мера измерения.
+		 * @return {@code false}, если пользовательская мера зарегистрирована позже построения таблицы.
+		 */
+		private boolean contains(@NotNull final Measurable measure)
+		{
+			return !(measure instanceof CustomMeasure customMeasure) ||
+				customMeasure.getIndex() < this.measures.length;
+		}
+
+		/**
+		 * Возвращает индекс меры измерения в таблице.
+		 *
+		 * @param registry реестр, которому принадлежит таблица.
+		 * @param measure мера измерения.
+		 * @return индекс меры измерения.
+		 * @throws IllegalArgumentException если мера не относится к реестру.
+		 */
+		private int indexOf(@NotNull final MeasureRegistry<M> registry, @NotNull final Measurable measure)
+		{
+			if (registry.measureType.isInstance(measure)) {
+				return ((Enum<?>) measure).ordinal();
+			}
+
+			if (measure instanceof CustomMeasure customMeasure && customMeasure.getRegistry() == registry &&
+				customMeasure.getIndex() < this.measures.length) {
+				return customMeasure.getIndex();
+			}
+
+			throw new IllegalArgumentException("Мера измерения не относится к реестру.");
+		}
+	}
+}
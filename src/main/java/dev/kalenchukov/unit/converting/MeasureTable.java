@@ -0,0 +1,226 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import dev.kalenchukov.unit.converting.resources.Standard;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Класс таблицы мер измерения, упорядоченных по количеству минимальных единиц.
+ * <p>
+ * Таблица строится один раз для каждого перечисления мер измерения и для каждого стандарта.
+ * Поиск наибольшей меры, в которой величина не меньше единицы, выполняется двоичным поиском.
+ * </p>
+ *
+ * @param <M> тип меры измерения величины.
+ * @author Алексей Каленчуков
+ */
+final class MeasureTable<M extends Enum<M> & Measurable>
+{
+	/**
+	 * Таблицы мер по классам перечислений мер измерения.
+	 */
+	@NotNull
+	private static final ClassValue<MeasureTable<?>> TABLES = new ClassValue<>()
+	{
+		@NotNull
+		@Override
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		protected MeasureTable<?> computeValue(@NotNull final Class<?> type)
+		{
+			return new MeasureTable((Enum[]) type.getEnumConstants());
+		}
+	};
+
+	/**
+	 * Ряд всех мер измерения.
+	 */
+	@NotNull
+	private final Row<M> all;
+
+	/**
+	 * Ряды мер измерения по порядковым номерам стандартов.
+	 */
+	@NotNull
+	private final Row<M> @NotNull [] standards;
+
+	/**
+	 * Конструктор для {@code MeasureTable}.
+	 *
+	 * @param measures меры измерения в порядке объявления.
+	 */
+	private MeasureTable(@NotNull final M @NotNull [] measures)
+	{
+		@SuppressWarnings("unchecked")
+		final Row<M>[] rows = (Row<M>[]) new Row<?>[Standard.values().length];
+
+		this.all = new Row<>(measures);
+		this.standards = rows;
+
+		for (Standard standard : Standard.values()) {
+			this.standards[standard.ordinal()] = new Row<>(
+				Arrays.stream(measures)
+					.filter(measure -> measure.getStandard().contains(standard))
+					.toArray(length -> Arrays.copyOf(measures, length))
+			);
+		}
+	}
+
+	/**
+	 * Возвращает таблицу для перечисления, которому принадлежит мера измерения.
+	 *
+	 * @param measure мера измерения величины.
+	 * @param <M> тип меры измерения величины.
+	 * @return таблицу мер.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	@SuppressWarnings("unchecked")
+	static <M extends Enum<M> & Measurable> MeasureTable<M> of(@NotNull final M measure)
+	{
+		Objects.requireNonNull(measure);
+
+		return (MeasureTable<M>) TABLES.get(measure.getDeclaringClass());
+	}
+
+	/**
+	 * Возвращает наибольшую меру, в которой величина не меньше единицы.
+	 *
+	 * @param quantityInMinUnit величина в минимальных единицах.
+	 * @return меру измерения или наименьшую меру, если величина меньше единицы в любой мере.
+	 */
+	@NotNull
+	M findBest(@NotNull final BigDecimal quantityInMinUnit)
+	{
+		return Objects.requireNonNull(this.all.find(quantityInMinUnit));
+	}
+
+	/**
+	 * Возвращает наибольшую меру стандарта, в которой величина не меньше единицы.
+	 *
+	 * @param quantityInMinUnit величина в минимальных единицах.
+	 * @param standard стандарт.
+	 * @return меру измерения, наименьшую меру стандарта, если величина меньше единицы в любой мере,
+	 * или {@code null}, если у стандарта нет мер в перечислении.
+	 */
+	@Nullable
+	M findBest(@NotNull final BigDecimal quantityInMinUnit, @NotNull final Standard standard)
+	{
+		return this.standards[standard.ordinal()].find(quantityInMinUnit);
+	}
+
+	/**
+	 * Класс ряда мер измерения, упорядоченных по возрастанию количества минимальных единиц.
+	 *
+	 * @param <M> тип меры измерения величины.
+	 */
+	private static final class Row<M extends Enum<M> & Measurable>
+	{
+		/**
+		 * Меры измерения.
+		 */
+		@NotNull
+		private final M @NotNull [] measures;
+
+		/**
+		 * Количество минимальных единиц мер.
+		 */
+		@NotNull
+		private final BigDecimal @NotNull [] bounds;
+
+		/**
+		 * Количество минимальных единиц мер в виде чисел с плавающей точкой.
+		 * <p>Используется для двоичного поиска, результат которого уточняется по {@link #bounds}.</p>
+		 */
+		private final double @NotNull [] keys;
+
+		/**
+		 * Конструктор для {@code Row}.
+		 *
+		 * @param measures меры измерения.
+		 */
+		private Row(@NotNull final M @NotNull [] measures)
+		{
+			this.measures = measures.clone();
+			Arrays.sort(this.measures, Comparator.comparing(Measurable::getCountMinUnit));
+
+			this.bounds = new BigDecimal[this.measures.length];
+			this.keys = new double[this.measures.length];
+
+			for (int index = 0; index < this.measures.length; index++) {
+				this.bounds[index] = this.measures[index].getCountMinUnit();
+				this.keys[index] = this.bounds[index].doubleValue();
+			}
+		}
+
+		/**
+		 * Возвращает наибольшую меру, количество минимальных единиц которой не больше величины.
+		 *
+		 * @param quantityInMinUnit величина в минимальных единицах.
+		 * @return меру измерения, наименьшую меру, если величина меньше любой из них,
+		 * или {@code null}, если ряд пуст.
+		 */
+		@Nullable
+		private M find(@NotNull final BigDecimal quantityInMinUnit)
+		{
+			if (this.measures.length == 0) {
+				return null;
+			}
+
+			final double key = quantityInMinUnit.doubleValue();
+			int low = 0;
+			int high = this.keys.length - 1;
+
+			while (low <= high) {
+				final int middle = (low + high) >>> 1;
+
+				if (this.keys[middle] <= key) {
+					low = middle + 1;
+				} else {
+					high = middle - 1;
+				}
+			}
+
+			int index = high;
+
+			while (index + 1 < this.bounds.length && this.bounds[index + 1].compareTo(quantityInMinUnit) <= 0) {
+				index++;
+			}
+
+			while (index >= 0 && this.bounds[index].compareTo(quantityInMinUnit) > 0) {
+				index--;
+			}
+
+			return this.measures[Math.max(index, 0)];
+		}
+	}
+}
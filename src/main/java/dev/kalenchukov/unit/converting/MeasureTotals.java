@@ -0,0 +1,305 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Objects;
+
+/**
+ * Класс сумм и количества величин по порядковым номерам мер измерения.
+ * <p>
+ * Величины каждой меры суммируются точно в типе {@code long} с общим для меры масштабом.
+ * Слагаемые, которые не помещаются в {@code long}, переносятся в {@link BigDecimal}.
+ * Класс не потокобезопасен: параллельные вычисления накапливают суммы в отдельных
+ * экземплярах и объединяют их методом {@link #merge(MeasureTotals)}.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class MeasureTotals
+{
+	/**
+	 * Наибольшее количество цифр, при котором целое число гарантированно помещается в {@code long}.
+	 */
+	private static final int LONG_DIGITS = 18;
+
+	/**
+	 * Степени десяти, которые помещаются в {@code long}.
+	 */
+	private static final long @NotNull [] POWERS_OF_TEN = new long[LONG_DIGITS + 1];
+
+	static {
+		POWERS_OF_TEN[0] = 1;
+
+		for (int index = 1; index < POWERS_OF_TEN.length; index++) {
+			POWERS_OF_TEN[index] = POWERS_OF_TEN[index - 1] * 10;
+		}
+	}
+
+	/**
+	 * Количество величин.
+	 */
+	private final long @NotNull [] counts;
+
+	/**
+	 * Немасштабированные суммы величин.
+	 */
+	private final long @NotNull [] sums;
+
+	/**
+	 * Масштабы сумм величин.
+	 */
+	private final int @NotNull [] scales;
+
+	/**
+	 * Части сумм, не поместившиеся в {@code long}.
+	 */
+	@Nullable
+	private final BigDecimal @NotNull [] overflows;
+
+	/**
+	 * Конструктор для {@code MeasureTotals}.
+	 *
+	 * @param size количество мер измерения.
+	 */
+	MeasureTotals(final int size)
+	{
+		this.counts = new long[size];
+		this.sums = new long[size];
+		this.scales = new int[size];
+		this.overflows = new BigDecimal[size];
+	}
+
+	/**
+	 * Возвращает количество мер измерения.
+	 *
+	 * @return количество мер измерения.
+	 */
+	int size()
+	{
+		return this.counts.length;
+	}
+
+	/**
+	 * Добавляет величину.
+	 *
+	 * @param ordinal порядковый номер меры измерения.
+	 * @param unscaled немасштабированное значение величины.
+	 * @param scale масштаб величины.
+	 */
+	void add(final int ordinal, final long unscaled, final int scale)
+	{
+		this.counts[ordinal]++;
+		this.accumulate(ordinal, unscaled, scale);
+	}
+
+	/**
+	 * Добавляет величину.
+	 *
+	 * @param ordinal порядковый номер меры измерения.
+	 * @param quantity величина.
+	 */
+	void add(final int ordinal, @NotNull final BigDecimal quantity)
+	{
+		if (quantity.precision() > LONG_DIGITS) {
+			this.counts[ordinal]++;
+			this.spill(ordinal, quantity);
+			return;
+		}
+
+		final long unscaled = quantity.scale() == 0
+			? quantity.longValue()
+			: quantity.unscaledValue().longValue();
+
+		this.add(ordinal, unscaled, quantity.scale());
+	}
+
+	/**
+	 * Добавляет суммы и количество величин другого экземпляра.
+	 *
+	 * @param other суммы и количество величин.
+	 * @throws NullPointerException если в качестве {@code other} передан {@code null}.
+	 * @throws IllegalArgumentException если количество мер измерения различается.
+	 */
+	void merge(@NotNull final MeasureTotals other)
+	{
+		Objects.requireNonNull(other);
+
+		if (other.size() != this.size()) {
+			throw new IllegalArgumentException("Количество мер измерения различается.");
+		}
+
+		for (int ordinal = 0; ordinal < this.counts.length; ordinal++) {
+			this.counts[ordinal] += other.counts[ordinal];
+			this.accumulate(ordinal, other.sums[ordinal], other.scales[ordinal]);
+
+			final BigDecimal overflow = other.overflows[ordinal];
+
+			if (overflow != null) {
+				this.spill(ordinal, overflow);
+			}
+		}
+	}
+
+	/**
+	 * Возвращает количество величин в мере измерения.
+	 *
+	 * @param ordinal порядковый номер меры измерения.
+	 * @return количество величин.
+	 */
+	long getCount(final int ordinal)
+	{
+		return this.counts[ordinal];
+	}
+
+	/**
+	 * Возвращает количество величин во всех мерах измерения.
+	 *
+	 * @return количество величин.
+	 */
+	long getCount()
+	{
+		long count = 0;
+
+		for (long value : this.counts) {
+			count += value;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Возвращает сумму величин в мере измерения.
+	 *
+	 * @param ordinal порядковый номер меры измерения.
+	 * @return сумму величин в этой мере измерения.
+	 */
+	@NotNull
+	BigDecimal getSum(final int ordinal)
+	{
+		final BigDecimal sum = BigDecimal.valueOf(this.sums[ordinal], this.scales[ordinal]);
+		final BigDecimal overflow = this.overflows[ordinal];
+
+		return overflow == null ? sum : sum.add(overflow);
+	}
+
+	/**
+	 * Возвращает сумму величин всех мер измерения в указанной мере измерения.
+	 * <p>Суммы каждой меры конвертируются без округления.</p>
+	 *
+	 * @param measures меры измерения в порядке объявления.
+	 * @param measure мера измерения результата.
+	 * @param <M> тип меры измерения величины.
+	 * @return сумму величин в мере {@code measure}.
+	 */
+	@NotNull
+	<M extends Enum<M> & Measurable> BigDecimal getTotal(@NotNull final M @NotNull [] measures,
+														 @NotNull final M measure)
+	{
+		final ConversionMatrix<M> matrix = ConversionMatrix.of(measure);
+		BigDecimal total = BigDecimal.ZERO;
+
+		for (M from : measures) {
+			if (this.counts[from.ordinal()] > 0) {
+				total = total.add(matrix.convert(this.getSum(from.ordinal()), from, measure, MathContext.UNLIMITED));
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * Прибавляет значение к сумме без изменения количества величин.
+	 *
+	 * @param ordinal порядковый номер меры измерения.
+	 * @param unscaled немасштабированное значение.
+	 * @param scale масштаб значения.
+	 */
+	private void accumulate(final int ordinal, final long unscaled, final int scale)
+	{
+		int current = this.scales[ordinal];
+
+		if (scale > current) {
+			final long rescaled = MeasureTotals.scaleUp(this.sums[ordinal], scale - current);
+
+			if (rescaled < 0) {
+				this.spill(ordinal, BigDecimal.valueOf(this.sums[ordinal], current));
+				this.sums[ordinal] = 0;
+			} else {
+				this.sums[ordinal] = rescaled;
+			}
+
+			this.scales[ordinal] = scale;
+			current = scale;
+		}
+
+		final long value = scale < current ? MeasureTotals.scaleUp(unscaled, current - scale) : unscaled;
+
+		if (value < 0 || this.sums[ordinal] > Long.MAX_VALUE - value) {
+			this.spill(ordinal, BigDecimal.valueOf(unscaled, scale));
+			return;
+		}
+
+		this.sums[ordinal] += value;
+	}
+
+	/**
+	 * Переносит значение в часть суммы, не поместившуюся в {@code long}.
+	 *
+	 * @param ordinal порядковый номер меры измерения.
+	 * @param value значение.
+	 */
+	private void spill(final int ordinal, @NotNull final BigDecimal value)
+	{
+		final BigDecimal overflow = this.overflows[ordinal];
+
+		this.overflows[ordinal] = overflow == null ? value : overflow.add(value);
+	}
+
+	/**
+	 * Умножает неотрицательное число на степень десяти.
+	 *
+	 * @param value число.
+	 * @param digits показатель степени десяти.
+	 * @return произведение или {@code -1}, если оно не помещается в {@code long}.
+	 */
+	private static long scaleUp(final long value, final int digits)
+	{
+		if (value == 0) {
+			return 0;
+		}
+
+		if (digits > LONG_DIGITS || value > Long.MAX_VALUE / POWERS_OF_TEN[digits]) {
+			return -1;
+		}
+
+		return value * POWERS_OF_TEN[digits];
+	}
+}
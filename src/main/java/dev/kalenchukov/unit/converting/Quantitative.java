@@ -29,6 +29,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Objects;
 
 /**
  * Интерфейс для реализации класса величин.
@@ -54,6 +56,21 @@ public interface Quantitative<M extends Enum<M> & Measurable>
 	@NotNull
 	M getMeasure();
 
+	/**
+	 * Возвращает величину в минимальных единицах меры измерения.
+	 * <p>Минимальной единицей является мера, количество минимальных единиц которой равно 1.</p>
+	 *
+	 * <p>Реализация по умолчанию вычисляет произведение при каждом вызове.</p>
+	 *
+	 * @return величину в минимальных единицах.
+	 * @see Measurable#getCountMinUnit()
+	 */
+	@NotNull
+	default BigDecimal getQuantityInMinUnit()
+	{
+		return this.getQuantity().multiply(this.getMeasure().getCountMinUnit());
+	}
+
 	/**
 	 * Конвертирует величину в указанную меру измерения.
 	 *
@@ -63,6 +80,40 @@ public interface Quantitative<M extends Enum<M> & Measurable>
 	@NotNull
 	BigDecimal convert(@NotNull M measure);
 
+	/**
+	 * Конвертирует величину в указанную меру измерения с указанной точностью.
+	 * <p>Реализация по умолчанию конвертирует величину через матрицу коэффициентов.</p>
+	 *
+	 * @param measure мера измерения величины.
+	 * @param mathContext точность вычисления.
+	 * @return величина.
+	 * @throws NullPointerException если в качестве {@code measure} или {@code mathContext} передан {@code null}.
+	 */
+	@NotNull
+	default BigDecimal convert(@NotNull final M measure, @NotNull final MathContext mathContext)
+	{
+		Objects.requireNonNull(measure);
+		Objects.requireNonNull(mathContext);
+
+		return ConversionMatrix.of(measure).convert(this.getQuantity(), this.getMeasure(), measure, mathContext);
+	}
+
+	/**
+	 * Конвертирует величину в указанную меру измерения с точностью {@code double}.
+	 * <p>Реализация по умолчанию умножает величину на коэффициент конвертирования из матрицы коэффициентов.</p>
+	 *
+	 * @param measure мера измерения величины.
+	 * @return величина.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	default double convertToDouble(@NotNull final M measure)
+	{
+		Objects.requireNonNull(measure);
+
+		return this.getQuantity().doubleValue() *
+			ConversionMatrix.of(measure).getDoubleFactor(this.getMeasure(), measure);
+	}
+
 	/**
 	 * Проверяет равенство объектов.
 	 *
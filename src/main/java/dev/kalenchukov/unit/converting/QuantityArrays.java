@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Класс конвертирования массивов величин.
+ * <p>
+ * Конвертирует целые столбцы значений без создания объектов величин.
+ * Циклы намеренно оставлены простыми (умножение или сдвиг на постоянный коэффициент
+ * без ветвлений), чтобы JIT-компилятор векторизовал их инструкциями SIMD.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class QuantityArrays
+{
+	/**
+	 * Конструктор для {@code QuantityArrays}.
+	 */
+	private QuantityArrays()
+	{
+	}
+
+	/**
+	 * Конвертирует массив величин из одной меры измерения в другую с точностью {@code double}.
+	 * <p>Массивы {@code source} и {@code target} могут совпадать.</p>
+	 *
+	 * @param source величины в мере {@code from}.
+	 * @param from исходная мера измерения.
+	 * @param to целевая мера измерения.
+	 * @param target массив для величин в мере {@code to}.
+	 * @param <M> тип меры измерения величины.
+	 * @throws NullPointerException если в качестве {@code source} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code from} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code to} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code target} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code target} короче {@code source}.
+	 */
+	public static <M extends Enum<M> & Measurable> void convert(final double @NotNull [] source,
+																@NotNull final M from,
+																@NotNull final M to,
+																final double @NotNull [] target)
+	{
+		Objects.requireNonNull(source);
+		Objects.requireNonNull(from);
+		Objects.requireNonNull(to);
+		Objects.requireNonNull(target);
+		QuantityArrays.checkLength(source.length, target.length);
+
+		final double factor = ConversionMatrix.of(from).getDoubleFactor(from, to);
+
+		for (int index = 0; index < source.length; index++) {
+			target[index] = source[index] * factor;
+		}
+	}
+
+	/**
+	 * Конвертирует массив целых величин из одной меры измерения в другую без потери точности.
+	 * <p>
+	 * Массивы {@code source} и {@code target} могут совпадать.
+	 * Если хотя бы одна величина не конвертируется в целое число типа {@code long},
+	 * выбрасывается исключение, а содержимое {@code target} не определено.
+	 * </p>
+	 *
+	 * @param source величины в мере {@code from}.
+	 * @param from исходная мера измерения.
+	 * @param to целевая мера измерения.
+	 * @param target массив для величин в мере {@code to}.
+	 * @param <M> тип меры измерения величины.
+	 * @throws NullPointerException если в качестве {@code source} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code from} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code to} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code target} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code target} короче {@code source}.
+	 * @throws IllegalArgumentException если в {@code source} есть величина меньше 0.
+	 * @throws ArithmeticException если величина не конвертируется в целое число типа {@code long}.
+	 */
+	public static <M extends Enum<M> & Measurable> void convert(final long @NotNull [] source,
+																@NotNull final M from,
+																@NotNull final M to,
+																final long @NotNull [] target)
+	{
+		Objects.requireNonNull(source);
+		Objects.requireNonNull(from);
+		Objects.requireNonNull(to);
+		Objects.requireNonNull(target);
+		QuantityArrays.checkLength(source.length, target.length);
+
+		final ConversionMatrix<M> matrix = ConversionMatrix.of(from);
+		final long numerator = matrix.getNumerator(from, to);
+		final long denominator = matrix.getDenominator(from, to);
+
+		long bits = 0;
+
+		for (long quantity : source) {
+			bits |= quantity;
+		}
+
+		if (bits < 0) {
+			throw new IllegalArgumentException("Величина не может быть меньше 0.");
+		}
+
+		if (numerator != 0 && Long.bitCount(numerator) == 1 && Long.bitCount(denominator) == 1 &&
+			(bits & (denominator - 1)) == 0 &&
+			Long.numberOfLeadingZeros(bits) > Long.numberOfTrailingZeros(numerator)) {
+			QuantityArrays.shift(
+				source, target,
+				Long.numberOfTrailingZeros(numerator) - Long.numberOfTrailingZeros(denominator)
+			);
+
+			return;
+		}
+
+		for (int index = 0; index < source.length; index++) {
+			final long quantity = matrix.convertExact(source[index], from, to);
+
+			if (quantity == ConversionMatrix.NOT_EXACT) {
+				throw new ArithmeticException(
+					"Величина " + source[index] + " " + from + " не конвертируется в целое число " + to + "."
+				);
+			}
+
+			target[index] = quantity;
+		}
+	}
+
+	/**
+	 * Сдвигает величины на указанное количество бит.
+	 *
+	 * @param source величины.
+	 * @param target массив для результата.
+	 * @param shift количество бит: положительное - сдвиг влево, отрицательное - вправо.
+	 */
+	private static void shift(final long @NotNull [] source, final long @NotNull [] target, final int shift)
+	{
+		if (shift >= 0) {
+			for (int index = 0; index < source.length; index++) {
+				target[index] = source[index] << shift;
+			}
+		} else {
+			final int rightShift = -shift;
+
+			for (int index = 0; index < source.length; index++) {
+				target[index] = source[index] >>> rightShift;
+			}
+		}
+	}
+
+	/**
+	 * Проверяет, что массив для результата вмещает все величины.
+	 *
+	 * @param sourceLength длина массива величин.
+	 * @param targetLength длина массива для результата.
+	 * @throws IllegalArgumentException если {@code targetLength} меньше {@code sourceLength}.
+	 */
+	private static void checkLength(final int sourceLength, final int targetLength)
+	{
+		if (targetLength < sourceLength) {
+			throw new IllegalArgumentException("Массив для результата короче массива величин.");
+		}
+	}
+}
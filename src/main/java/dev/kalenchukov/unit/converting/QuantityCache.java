@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Класс кеша часто используемых величин.
+ * <p>
+ * Хранит величины от 0 до {@link #MAX_QUANTITY} для каждой меры измерения, как {@link Integer#valueOf(int)}.
+ * Строки кеша создаются при первом обращении к мере, а величины - при первом обращении к значению.
+ * Величины неизменяемы, поэтому гонка при заполнении кеша приводит лишь к созданию лишнего объекта.
+ * </p>
+ *
+ * @param <Q> тип величины.
+ * @param <M> тип меры измерения величины.
+ * @author Алексей Каленчуков
+ */
+final class QuantityCache<Q extends Quantitative<M>, M extends Enum<M> & Measurable>
+{
+	/**
+	 * Наибольшая кешируемая величина.
+	 */
+	static final int MAX_QUANTITY = 1024;
+
+	/**
+	 * Фабрика величин.
+	 */
+	@NotNull
+	private final Factory<Q, M> factory;
+
+	/**
+	 * Величины по порядковым номерам мер измерения.
+	 */
+	private final Object @NotNull [] @NotNull [] quantities;
+
+	/**
+	 * Конструктор для {@code QuantityCache}.
+	 *
+	 * @param type класс перечисления мер измерения.
+	 * @param factory фабрика величин.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code factory} передан {@code null}.
+	 */
+	QuantityCache(@NotNull final Class<M> type, @NotNull final Factory<Q, M> factory)
+	{
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(factory);
+
+		this.factory = factory;
+		this.quantities = new Object[type.getEnumConstants().length][];
+	}
+
+	/**
+	 * Возвращает величину из кеша или создаёт новую, если величина не кешируется.
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины.
+	 * @return величину.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	@NotNull
+	@SuppressWarnings("unchecked")
+	Q get(final long quantity, @NotNull final M measure)
+	{
+		Objects.requireNonNull(measure);
+
+		if (quantity < 0 || quantity > MAX_QUANTITY) {
+			return this.factory.create(quantity, measure);
+		}
+
+		Object[] row = this.quantities[measure.ordinal()];
+
+		if (row == null) {
+			row = new Object[MAX_QUANTITY + 1];
+
+			this.quantities[measure.ordinal()] = row;
+		}
+
+		Object value = row[(int) quantity];
+
+		if (value == null) {
+			value = this.factory.create(quantity, measure);
+
+			row[(int) quantity] = value;
+		}
+
+		return (Q) value;
+	}
+
+	/**
+	 * Интерфейс фабрики величин.
+	 *
+	 * @param <Q> тип величины.
+	 * @param <M> тип меры измерения величины.
+	 * @author Алексей Каленчуков
+	 */
+	@FunctionalInterface
+	interface Factory<Q, M>
+	{
+		/**
+		 * Создаёт величину.
+		 *
+		 * @param quantity величина.
+		 * @param measure мера измерения величины.
+		 * @return величину.
+		 */
+		@NotNull
+		Q create(long quantity, @NotNull M measure);
+	}
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Класс двоичной записи величин.
+ * <p>Величина записывается последовательностью полей:</p>
+ * <ol>
+ *     <li>байт вида величины, старший бит которого означает запись значения в виде {@link BigInteger};</li>
+ *     <li>порядковый номер меры измерения (varint);</li>
+ *     <li>масштаб значения (zig-zag varint);</li>
+ *     <li>немасштабированное значение: varint, если значение помещается в {@code long},
+ *     иначе длина (varint) и байты {@link BigInteger#toByteArray()}.</li>
+ * </ol>
+ * <p>
+ * Целая величина до 127 в мере с порядковым номером до 127 занимает 4 байта.
+ * Запись целых величин, помещающихся в {@code long}, не создаёт объектов.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class QuantityCodec
+{
+	/**
+	 * Наибольшее количество цифр, при котором целое число гарантированно помещается в {@code long}.
+	 */
+	private static final int LONG_DIGITS = 18;
+
+	/**
+	 * Признак записи значения в виде {@link BigInteger}.
+	 */
+	private static final int BIG_FLAG = 0x80;
+
+	/**
+	 * Маска вида величины.
+	 */
+	private static final int KIND_MASK = 0x7F;
+
+	/**
+	 * Наибольшее количество байт в записи числа типа {@code long}.
+	 */
+	private static final int MAX_VARINT_LENGTH = 10;
+
+	/**
+	 * Конструктор для {@code QuantityCodec}.
+	 */
+	private QuantityCodec()
+	{
+	}
+
+	/**
+	 * Записывает величину в буфер.
+	 *
+	 * @param buffer буфер.
+	 * @param quantity величина.
+	 * @throws NullPointerException если в качестве {@code buffer} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code quantity} передан {@code null}.
+	 * @throws IllegalArgumentException если мера измерения не относится ни к одному виду величин.
+	 * @throws java.nio.BufferOverflowException если в буфере недостаточно места.
+	 */
+	public static void write(@NotNull final ByteBuffer buffer, @NotNull final Quantitative<?> quantity)
+	{
+		Objects.requireNonNull(buffer);
+		Objects.requireNonNull(quantity);
+
+		final Measurable measure = quantity.getMeasure();
+		final BigDecimal value = quantity.getQuantity();
+
+		if (value.precision() > LONG_DIGITS) {
+			final byte[] bytes = value.unscaledValue().toByteArray();
+
+			buffer.put((byte) (QuantityKind.of(measure).ordinal() | BIG_FLAG));
+			QuantityCodec.putVarLong(buffer, ((Enum<?>) measure).ordinal());
+			QuantityCodec.putVarLong(buffer, QuantityCodec.encodeZigZag(value.scale()));
+			QuantityCodec.putVarLong(buffer, bytes.length);
+			buffer.put(bytes);
+			return;
+		}
+
+		final long unscaled = value.scale() == 0 ? value.longValue() : value.unscaledValue().longValue();
+
+		QuantityCodec.write(buffer, unscaled, value.scale(), measure);
+	}
+
+	/**
+	 * Записывает целую величину в буфер.
+	 *
+	 * @param buffer буфер.
+	 * @param quantity величина.
+	 * @param measure мера измерения величины.
+	 * @throws NullPointerException если в качестве {@code buffer} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 * @throws IllegalArgumentException если мера измерения не относится ни к одному виду величин.
+	 * @throws java.nio.BufferOverflowException если в буфере недостаточно места.
+	 */
+	public static void write(@NotNull final ByteBuffer buffer,
+							 final long quantity,
+							 @NotNull final Measurable measure)
+	{
+		Objects.requireNonNull(buffer);
+		Objects.requireNonNull(measure);
+
+		if (quantity < 0) {
+			throw new IllegalArgumentException("Величина не может быть меньше 0.");
+		}
+
+		QuantityCodec.write(buffer, quantity, 0, measure);
+	}
+
+	/**
+	 * Читает величину из буфера.
+	 * <p>Целые величины, помещающиеся в {@code long}, создаются через кеш часто используемых величин.</p>
+	 *
+	 * @param buffer буфер.
+	 * @return величину.
+	 * @throws NullPointerException если в качестве {@code buffer} передан {@code null}.
+	 * @throws IllegalArgumentException если запись величины некорректна.
+	 * @throws java.nio.BufferUnderflowException если запись величины обрывается.
+	 */
+	@NotNull
+	public static Quantitative<?> read(@NotNull final ByteBuffer buffer)
+	{
+		Objects.requireNonNull(buffer);
+
+		final int tag = buffer.get() & 0xFF;
+		final int kindOrdinal = tag & KIND_MASK;
+		if (kindOrdinal >= QuantityKind.KINDS.length) {
+			throw new IllegalArgumentException("Некорректная запись величины.");
+		}
+
+		final QuantityKind kind = QuantityKind.KINDS[kindOrdinal];
+		final long measureOrdinal = QuantityCodec.getVarLong(buffer);
+
+		if (measureOrdinal < 0 || measureOrdinal >= kind.getMeasureCount()) {
+			throw new IllegalArgumentException("Некорректная запись величины.");
+		}
+
+		final Measurable measure = kind.getMeasure((int) measureOrdinal);
+		final int scale = QuantityCodec.decodeZigZag(QuantityCodec.getVarLong(buffer));
+
+		if ((tag & BIG_FLAG) != 0) {
+			final long length = QuantityCodec.getVarLong(buffer);
+
+			if (length < 1 || length > buffer.remaining()) {
+				throw new IllegalArgumentException("Некорректная запись величины.");
+			}
+
+			final byte[] bytes = new byte[(int) length];
+			buffer.get(bytes);
+
+			return kind.create(new BigDecimal(new BigInteger(bytes), scale), measure);
+		}
+
+		final long unscaled = QuantityCodec.getVarLong(buffer);
+
+		if (unscaled < 0) {
+			throw new IllegalArgumentException("Некорректная запись величины.");
+		}
+
+		if (scale == 0) {
+			return kind.valueOf(unscaled, measure);
+		}
+
+		return kind.create(BigDecimal.valueOf(unscaled, scale), measure);
+	}
+
+	/**
+	 * Возвращает количество байт в записи величины.
+	 *
+	 * @param quantity величина.
+	 * @return количество байт.
+	 * @throws NullPointerException если в качестве {@code quantity} передан {@code null}.
+	 */
+	public static int size(@NotNull final Quantitative<?> quantity)
+	{
+		Objects.requireNonNull(quantity);
+
+		final BigDecimal value = quantity.getQuantity();
+		final int header = 1 +
+			QuantityCodec.sizeOfVarLong(quantity.getMeasure().ordinal()) +
+			QuantityCodec.sizeOfVarLong(QuantityCodec.encodeZigZag(value.scale()));
+
+		if (value.precision() > LONG_DIGITS) {
+			final int length = value.unscaledValue().bitLength() / 8 + 1;
+
+			return header + QuantityCodec.sizeOfVarLong(length) + length;
+		}
+
+		final long unscaled = value.scale() == 0 ? value.longValue() : value.unscaledValue().longValue();
+
+		return header + QuantityCodec.sizeOfVarLong(unscaled);
+	}
+
+	/**
+	 * Записывает величину, немасштабированное значение которой помещается в {@code long}.
+	 *
+	 * @param buffer буфер.
+	 * @param unscaled немасштабированное значение, не меньше 0.
+	 * @param scale масштаб значения.
+	 * @param measure мера измерения величины.
+	 */
+	private static void write(@NotNull final ByteBuffer buffer,
+							  final long unscaled,
+							  final int scale,
+							  @NotNull final Measurable measure)
+	{
+		buffer.put((byte) QuantityKind.of(measure).ordinal());
+		QuantityCodec.putVarLong(buffer, ((Enum<?>) measure).ordinal());
+		QuantityCodec.putVarLong(buffer, QuantityCodec.encodeZigZag(scale));
+		QuantityCodec.putVarLong(buffer, unscaled);
+	}
+
+	/**
+	 * Записывает неотрицательное число в формате varint.
+	 *
+	 * @param buffer буфер.
+	 * @param value число.
+	 */
+	private static void putVarLong(@NotNull final ByteBuffer buffer, final long value)
+	{
+		long rest = value;
+
+		while ((rest & ~0x7FL) != 0) {
+			buffer.put((byte) ((rest & 0x7F) | 0x80));
+			rest >>>= 7;
+		}
+
+		buffer.put((byte) rest);
+	}
+
+	/**
+	 * Читает число в формате varint.
+	 *
+	 * @param buffer буфер.
+	 * @return число.
+	 * @throws IllegalArgumentException если запись числа длиннее 10 байт.
+	 */
+	private static long getVarLong(@NotNull final ByteBuffer buffer)
+	{
+		long value = 0;
+
+		for (int index = 0; index < MAX_VARINT_LENGTH; index++) {
+			final byte next = buffer.get();
+
+			value |= (long) (next & 0x7F) << (7 * index);
+
+			if (next >= 0) {
+				return value;
+			}
+		}
+
+		throw new IllegalArgumentException("Некорректная запись величины.");
+	}
+
+	/**
+	 * Возвращает количество байт в записи неотрицательного числа в формате varint.
+	 *
+	 * @param value число.
+	 * @return количество байт.
+	 */
+	private static int sizeOfVarLong(final long value)
+	{
+		return Math.max(1, (64 - Long.numberOfLeadingZeros(value) + 6) / 7);
+	}
+
+	/**
+	 * Кодирует число со знаком для записи в формате varint.
+	 *
+	 * @param value число.
+	 * @return неотрицательное число.
+	 */
+	private static long encodeZigZag(final int value)
+	{
+		return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+	}
+
+	/**
+	 * Декодирует число со знаком.
+	 *
+	 * @param value неотрицательное число.
+	 * @return число.
+	 * @throws IllegalArgumentException если число выходит за пределы записи числа типа {@code int}.
+	 */
+	private static int decodeZigZag(final long value)
+	{
+		if (value < 0 || value > 0xFFFFFFFFL) {
+			throw new IllegalArgumentException("Некорректная запись величины.");
+		}
+
+		return (int) (value >>> 1) ^ -(int) (value & 1);
+	}
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.DataRateMeasure;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.MassMeasure;
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import dev.kalenchukov.unit.converting.resources.Precision;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Класс коллекторов величин для потоков.
+ * <p>
+ * Коллекторы суммирования и среднего значения накапливают величины каждой меры измерения
+ * точно в типе {@code long}, переносят в {@link BigDecimal} только переполнения
+ * и конвертируют суммы в целевую меру один раз в конце.
+ * Промежуточные результаты параллельного потока объединяются сложением сумм по мерам.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class QuantityCollectors
+{
+	/**
+	 * Конструктор для {@code QuantityCollectors}.
+	 */
+	private QuantityCollectors()
+	{
+	}
+
+	/**
+	 * Возвращает коллектор суммы величин информации.
+	 *
+	 * @param measure мера измерения результата.
+	 * @return коллектор суммы величин.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	public static Collector<InformationQuantity, ?, InformationQuantity> summing(
+		@NotNull final InformationMeasure measure)
+	{
+		return QuantityCollectors.summing(measure, InformationQuantity::new);
+	}
+
+	/**
+	 * Возвращает коллектор суммы величин массы.
+	 *
+	 * @param measure мера измерения результата.
+	 * @return коллектор суммы величин.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	public static Collector<MassQuantity, ?, MassQuantity> summing(@NotNull final MassMeasure measure)
+	{
+		return QuantityCollectors.summing(measure, MassQuantity::new);
+	}
+
+	/**
+	 * Возвращает коллектор суммы величин времени.
+	 *
+	 * @param measure мера измерения результата.
+	 * @return коллектор суммы величин.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	public static Collector<TimeQuantity, ?, TimeQuantity> summing(@NotNull final TimeMeasure measure)
+	{
+		return QuantityCollectors.summing(measure, TimeQuantity::new);
+	}
+
+	/**
+	 * Возвращает коллектор суммы величин скорости передачи данных.
+	 *
+	 * @param measure мера измерения результата.
+	 * @return коллектор суммы величин.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	public static Collector<DataRateQuantity, ?, DataRateQuantity> summing(@NotNull final DataRateMeasure measure)
+	{
+		return QuantityCollectors.summing(measure, DataRateQuantity::new);
+	}
+
+	/**
+	 * Возвращает коллектор среднего значения величин информации.
+	 * <p>
+	 * Для пустого потока результатом является 0.
+	 * Среднее округляется до точности по умолчанию, а если она не ограничена, то до {@link Precision#DEFAULT}.
+	 * </p>
+	 *
+	 * @param measure мера измерения результата.
+	 * @return коллектор среднего значения величин.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	public static Collector<InformationQuantity, ?, InformationQuantity> averaging(
+		@NotNull final InformationMeasure measure)
+	{
+		return QuantityCollectors.averaging(measure, InformationQuantity::new);
+	}
+
+	/**
+	 * Возвращает коллектор среднего значения величин массы.
+	 * <p>
+	 * Для пустого потока результатом является 0.
+	 * Среднее округляется до точности по умолчанию, а если она не ограничена, то до {@link Precision#DEFAULT}.
+	 * </p>
+	 *
+	 * @param measure мера измерения результата.
+	 * @return коллектор среднего значения величин.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	public static Collector<MassQuantity, ?, MassQuantity> averaging(@NotNull final MassMeasure measure)
+	{
+		return QuantityCollectors.averaging(measure, MassQuantity::new);
+	}
+
+	/**
+	 * Возвращает коллектор среднего значения величин времени.
+	 * <p>
+	 * Для пустого потока результатом является 0.
+	 * Среднее округляется до точности по умолчанию, а если она не ограничена, то до {@link Precision#DEFAULT}.
+	 * </p>
+	 *
+	 * @param measure мера измерения результата.
+	 * @return коллектор среднего значения величин.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	public static Collector<TimeQuantity, ?, TimeQuantity> averaging(@NotNull final TimeMeasure measure)
+	{
+		return QuantityCollectors.averaging(measure, TimeQuantity::new);
+	}
+
+	/**
+	 * Возвращает коллектор среднего значения величин скорости передачи данных.
+	 * <p>
+	 * Для пустого потока результатом является 0.
+	 * Среднее округляется до точности по умолчанию, а если она не ограничена, то до {@link Precision#DEFAULT}.
+	 * </p>
+	 *
+	 * @param measure мера измерения результата.
+	 * @return коллектор среднего значения величин.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	public static Collector<DataRateQuantity, ?, DataRateQuantity> averaging(@NotNull final DataRateMeasure measure)
+	{
+		return QuantityCollectors.averaging(measure, DataRateQuantity::new);
+	}
+
+	/**
+	 * Возвращает коллектор наименьшей величины.
+	 *
+	 * @param <Q> тип величины.
+	 * @param <M> тип меры измерения величины.
+	 * @return коллектор наименьшей величины.
+	 */
+	@NotNull
+	public static <Q extends AbstractQuantity<Q, M>, M extends Enum<M> & Measurable>
+		Collector<Q, ?, Optional<Q>> min()
+	{
+		return Collectors.minBy(Comparator.naturalOrder());
+	}
+
+	/**
+	 * Возвращает коллектор наибольшей величины.
+	 *
+	 * @param <Q> тип величины.
+	 * @param <M> тип меры измерения величины.
+	 * @return коллектор наибольшей величины.
+	 */
+	@NotNull
+	public static <Q extends AbstractQuantity<Q, M>, M extends Enum<M> & Measurable>
+		Collector<Q, ?, Optional<Q>> max()
+	{
+		return Collectors.maxBy(Comparator.naturalOrder());
+	}
+
+	/**
+	 * Возвращает коллектор суммы величин.
+	 *
+	 * @param measure мера измерения результата.
+	 * @param factory конструктор величины.
+	 * @param <Q> тип величины.
+	 * @param <M> тип меры измерения величины.
+	 * @return коллектор суммы величин.
+	 */
+	@NotNull
+	private static <Q extends Quantitative<M>, M extends Enum<M> & Measurable> Collector<Q, ?, Q> summing(
+		@NotNull final M measure,
+		@NotNull final BiFunction<@NotNull BigDecimal, @NotNull M, @NotNull Q> factory)
+	{
+		Objects.requireNonNull(measure);
+
+		final M[] measures = measure.getDeclaringClass().getEnumConstants();
+
+		return QuantityCollectors.totals(measures, totals -> factory.apply(
+			totals.getTotal(measures, measure).round(AbstractQuantity.getDefaultMathContext()),
+			measure
+		));
+	}
+
+	/**
+	 * Возвращает коллектор среднего значения величин.
+	 *
+	 * @param measure мера измерения результата.
+	 * @param factory конструктор величины.
+	 * @param <Q> тип величины.
+	 * @param <M> тип меры измерения величины.
+	 * @return коллектор среднего значения величин.
+	 */
+	@NotNull
+	private static <Q extends Quantitative<M>, M extends Enum<M> & Measurable> Collector<Q, ?, Q> averaging(
+		@NotNull final M measure,
+		@NotNull final BiFunction<@NotNull BigDecimal, @NotNull M, @NotNull Q> factory)
+	{
+		Objects.requireNonNull(measure);
+
+		final M[] measures = measure.getDeclaringClass().getEnumConstants();
+
+		return QuantityCollectors.totals(measures, totals -> {
+			final long count = totals.getCount();
+
+			if (count == 0) {
+				return factory.apply(BigDecimal.ZERO, measure);
+			}
+
+			return factory.apply(
+				totals.getTotal(measures, measure).divide(
+					BigDecimal.valueOf(count), AbstractQuantity.getDivisionMathContext()
+				),
+				measure
+			);
+		});
+	}
+
+	/**
+	 * Возвращает коллектор, накапливающий суммы величин по мерам измерения.
+	 *
+	 * @param measures меры измерения в порядке объявления.
+	 * @param finisher функция получения результата из сумм величин.
+	 * @param <Q> тип величины.
+	 * @param <M> тип меры измерения величины.
+	 * @param <R> тип результата.
+	 * @return коллектор.
+	 */
+	@NotNull
+	private static <Q extends Quantitative<M>, M extends Enum<M> & Measurable, R> Collector<Q, ?, R> totals(
+		@NotNull final M @NotNull [] measures,
+		@NotNull final Function<@NotNull MeasureTotals, R> finisher)
+	{
+		return Collector.of(
+			() -> new MeasureTotals(measures.length),
+			(totals, quantity) -> totals.add(quantity.getMeasure().ordinal(), quantity.getQuantity()),
+			(totals, other) -> {
+				totals.merge(other);
+				return totals;
+			},
+			finisher,
+			Collector.Characteristics.UNORDERED
+		);
+	}
+}
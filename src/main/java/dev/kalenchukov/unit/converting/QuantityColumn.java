@@ -0,0 +1,430 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoublePredicate;
+
+/**
+ * Класс столбца величин.
+ * <p>
+ * Величины хранятся в двух параллельных массивах: значения в {@code double[]}
+ * и порядковые номера мер измерения в {@code byte[]}. Такое размещение занимает
+ * 9 байтов на величину вместо объекта величины с {@link java.math.BigDecimal}
+ * и позволяет обрабатывать столбец простыми циклами по массивам.
+ * </p>
+ * <p>
+ * Значения хранятся только в {@code double[]}, отдельного хранилища {@code long[]} для целых величин нет.
+ * Целые значения больше 2<sup>53</sup> (около 9&nbsp;·&nbsp;10<sup>15</sup>) не представимы точно
+ * и округляются до ближайшего {@code double}; дробные значения также хранятся приближённо.
+ * Для точных вычислений с такими величинами используйте {@link AbstractQuantity} и {@link QuantityCollectors}.
+ * </p>
+ * <p>Класс не потокобезопасен.</p>
+ *
+ * @param <M> тип меры измерения величины.
+ * @author Алексей Каленчуков
+ */
+public final class QuantityColumn<M extends Enum<M> & Measurable>
+{
+	/**
+	 * Начальная ёмкость столбца по умолчанию.
+	 */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * Класс перечисления мер измерения.
+	 */
+	@NotNull
+	private final Class<M> type;
+
+	/**
+	 * Меры измерения в порядке объявления.
+	 */
+	@NotNull
+	private final M @NotNull [] measures;
+
+	/**
+	 * Значения величин.
+	 */
+	private double @NotNull [] values;
+
+	/**
+	 * Порядковые номера мер измерения величин.
+	 */
+	private byte @NotNull [] ordinals;
+
+	/**
+	 * Количество величин.
+	 */
+	private int size;
+
+	/**
+	 * Конструктор для {@code QuantityColumn}.
+	 *
+	 * @param type класс перечисления мер измерения.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 */
+	public QuantityColumn(@NotNull final Class<M> type)
+	{
+		this(type, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Конструктор для {@code QuantityColumn}.
+	 *
+	 * @param type класс перечисления мер измерения.
+	 * @param capacity начальная ёмкость столбца.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code capacity} меньше 0.
+	 * @throws IllegalArgumentException если мер измерения больше, чем помещается в {@code byte}.
+	 */
+	public QuantityColumn(@NotNull final Class<M> type, final int capacity)
+	{
+		Objects.requireNonNull(type);
+
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Ёмкость не может быть меньше 0.");
+		}
+
+		this.type = type;
+		this.measures = type.getEnumConstants();
+
+		if (this.measures.length > Byte.MAX_VALUE + 1) {
+			throw new IllegalArgumentException("Слишком много мер измерения.");
+		}
+
+		this.values = new double[capacity];
+		this.ordinals = new byte[capacity];
+	}
+
+	/**
+	 * Конструктор для {@code QuantityColumn}.
+	 * <p>Массивы не копируются и становятся хранилищем столбца.</p>
+	 *
+	 * @param type класс перечисления мер измерения.
+	 * @param values значения величин.
+	 * @param ordinals порядковые номера мер измерения величин.
+	 * @throws IllegalArgumentException если длины массивов различаются.
+	 * @throws IllegalArgumentException если значение меньше 0, не является конечным числом
+	 * или порядковый номер меры не существует.
+	 */
+	QuantityColumn(@NotNull final Class<M> type, final double @NotNull [] values, final byte @NotNull [] ordinals)
+	{
+		this(type, 0);
+
+		if (values.length != ordinals.length) {
+			throw new IllegalArgumentException("Длины массивов различаются.");
+		}
+
+		for (int index = 0; index < values.length; index++) {
+			if (!Double.isFinite(values[index]) || values[index] < 0
+				|| ordinals[index] < 0 || ordinals[index] >= this.measures.length) {
+				throw new IllegalArgumentException("Некорректная величина в позиции " + index + ".");
+			}
+		}
+
+		this.values = values;
+		this.ordinals = ordinals;
+		this.size = values.length;
+	}
+
+	/**
+	 * Добавляет величину.
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 * @throws IllegalArgumentException если {@code quantity} не является конечным числом.
+	 */
+	public void add(final double quantity, @NotNull final M measure)
+	{
+		Objects.requireNonNull(measure);
+
+		if (!Double.isFinite(quantity)) {
+			throw new IllegalArgumentException("Величина должна быть конечным числом.");
+		}
+
+		if (quantity < 0) {
+			throw new IllegalArgumentException("Величина не может быть меньше 0.");
+		}
+
+		if (this.size == this.values.length) {
+			this.grow();
+		}
+
+		this.values[this.size] = quantity;
+		this.ordinals[this.size] = (byte) measure.ordinal();
+		this.size++;
+	}
+
+	/**
+	 * Добавляет величину.
+	 * <p>Величина округляется до ближайшего значения {@code double}.</p>
+	 *
+	 * @param quantity величина.
+	 * @throws NullPointerException если в качестве {@code quantity} передан {@code null}.
+	 * @throws IllegalArgumentException если величина не помещается в {@code double}.
+	 */
+	public void add(@NotNull final Quantitative<M> quantity)
+	{
+		Objects.requireNonNull(quantity);
+
+		this.add(quantity.getQuantity().doubleValue(), quantity.getMeasure());
+	}
+
+	/**
+	 * Возвращает количество величин.
+	 *
+	 * @return количество величин.
+	 */
+	public int size()
+	{
+		return this.size;
+	}
+
+	/**
+	 * Возвращает класс перечисления мер измерения.
+	 *
+	 * @return класс перечисления мер измерения.
+	 */
+	@NotNull
+	public Class<M> getMeasureType()
+	{
+		return this.type;
+	}
+
+	/**
+	 * Возвращает хранилище значений величин.
+	 * <p>Длина массива может превышать количество величин.</p>
+	 *
+	 * @return значения величин.
+	 */
+	double @NotNull [] getValues()
+	{
+		return this.values;
+	}
+
+	/**
+	 * Возвращает хранилище порядковых номеров мер измерения величин.
+	 * <p>Длина массива может превышать количество величин.</p>
+	 *
+	 * @return порядковые номера мер измерения величин.
+	 */
+	byte @NotNull [] getOrdinals()
+	{
+		return this.ordinals;
+	}
+
+	/**
+	 * Возвращает значение величины.
+	 *
+	 * @param index индекс величины.
+	 * @return значение величины в её мере измерения.
+	 * @throws IndexOutOfBoundsException если {@code index} выходит за пределы столбца.
+	 */
+	public double getQuantity(final int index)
+	{
+		Objects.checkIndex(index, this.size);
+
+		return this.values[index];
+	}
+
+	/**
+	 * Возвращает меру измерения величины.
+	 *
+	 * @param index индекс величины.
+	 * @return меру измерения величины.
+	 * @throws IndexOutOfBoundsException если {@code index} выходит за пределы столбца.
+	 */
+	@NotNull
+	public M getMeasure(final int index)
+	{
+		Objects.checkIndex(index, this.size);
+
+		return this.measures[this.ordinals[index]];
+	}
+
+	/**
+	 * Конвертирует все величины в указанную меру измерения.
+	 *
+	 * @param measure мера измерения результата.
+	 * @return значения величин в мере {@code measure} в порядке добавления.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	public double @NotNull [] convertTo(@NotNull final M measure)
+	{
+		Objects.requireNonNull(measure);
+
+		final double[] factors = QuantityColumn.getFactors(this.measures, measure);
+		final double[] result = new double[this.size];
+
+		for (int index = 0; index < this.size; index++) {
+			result[index] = this.values[index] * factors[this.ordinals[index]];
+		}
+
+		return result;
+	}
+
+	/**
+	 * Возвращает сумму величин.
+	 *
+	 * @param measure мера измерения результата.
+	 * @return сумму величин в мере {@code measure}.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	public double sum(@NotNull final M measure)
+	{
+		Objects.requireNonNull(measure);
+
+		final double[] factors = QuantityColumn.getFactors(this.measures, measure);
+		double sum = 0;
+
+		for (int index = 0; index < this.size; index++) {
+			sum += this.values[index] * factors[this.ordinals[index]];
+		}
+
+		return sum;
+	}
+
+	/**
+	 * Возвращает наименьшую величину.
+	 *
+	 * @param measure мера измерения результата.
+	 * @return наименьшую величину в мере {@code measure} или пустое значение, если столбец пуст.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	public OptionalDouble min(@NotNull final M measure)
+	{
+		Objects.requireNonNull(measure);
+
+		if (this.size == 0) {
+			return OptionalDouble.empty();
+		}
+
+		final double[] factors = QuantityColumn.getFactors(this.measures, measure);
+		double min = Double.POSITIVE_INFINITY;
+
+		for (int index = 0; index < this.size; index++) {
+			min = Math.min(min, this.values[index] * factors[this.ordinals[index]]);
+		}
+
+		return OptionalDouble.of(min);
+	}
+
+	/**
+	 * Возвращает наибольшую величину.
+	 *
+	 * @param measure мера измерения результата.
+	 * @return наибольшую величину в мере {@code measure} или пустое значение, если столбец пуст.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	public OptionalDouble max(@NotNull final M measure)
+	{
+		Objects.requireNonNull(measure);
+
+		if (this.size == 0) {
+			return OptionalDouble.empty();
+		}
+
+		final double[] factors = QuantityColumn.getFactors(this.measures, measure);
+		double max = 0;
+
+		for (int index = 0; index < this.size; index++) {
+			max = Math.max(max, this.values[index] * factors[this.ordinals[index]]);
+		}
+
+		return OptionalDouble.of(max);
+	}
+
+	/**
+	 * Отбирает величины по условию.
+	 * <p>Отобранные величины сохраняют исходные значения и меры измерения.</p>
+	 *
+	 * @param measure мера измерения, в которой значения передаются условию.
+	 * @param predicate условие отбора.
+	 * @return новый столбец с величинами, удовлетворяющими условию, в порядке добавления.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code predicate} передан {@code null}.
+	 */
+	@NotNull
+	public QuantityColumn<M> filter(@NotNull final M measure, @NotNull final DoublePredicate predicate)
+	{
+		Objects.requireNonNull(measure);
+		Objects.requireNonNull(predicate);
+
+		final double[] factors = QuantityColumn.getFactors(this.measures, measure);
+		final QuantityColumn<M> result = new QuantityColumn<>(this.type, this.size);
+
+		for (int index = 0; index < this.size; index++) {
+			if (predicate.test(this.values[index] * factors[this.ordinals[index]])) {
+				result.values[result.size] = this.values[index];
+				result.ordinals[result.size] = this.ordinals[index];
+				result.size++;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Возвращает коэффициенты конвертирования из каждой меры измерения в указанную.
+	 *
+	 * @param measures меры измерения в порядке объявления.
+	 * @param measure мера измерения результата.
+	 * @param <M> тип меры измерения величины.
+	 * @return коэффициенты по порядковым номерам исходных мер измерения.
+	 */
+	static <M extends Enum<M> & Measurable> double @NotNull [] getFactors(@NotNull final M @NotNull [] measures,
+																		  @NotNull final M measure)
+	{
+		final ConversionMatrix<M> matrix = ConversionMatrix.of(measure);
+		final double[] factors = new double[measures.length];
+
+		for (M from : measures) {
+			factors[from.ordinal()] = matrix.getDoubleFactor(from, measure);
+		}
+
+		return factors;
+	}
+
+	/**
+	 * Увеличивает ёмкость столбца.
+	 */
+	private void grow()
+	{
+		final int capacity = Math.max(DEFAULT_CAPACITY, this.values.length + (this.values.length >> 1));
+
+		this.values = Arrays.copyOf(this.values, capacity);
+		this.ordinals = Arrays.copyOf(this.ordinals, capacity);
+	}
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Класс записи и чтения столбцов величин в файлы.
+ * <p>Файл имеет формат с фиксированной длиной записи и порядком байтов little-endian:</p>
+ * <ol>
+ *     <li>заголовок из {@value #HEADER_SIZE} байт: сигнатура {@code QCOL}, версия формата,
+ *     вид величины, количество мер измерения, резервный байт и количество величин ({@code long});</li>
+ *     <li>значения величин: по 8 байт ({@code double}) на величину;</li>
+ *     <li>порядковые номера мер измерения: по 1 байту на величину.</li>
+ * </ol>
+ * <p>
+ * Запись выполняется через {@link FileChannel} блоками с помощью прямого буфера.
+ * Чтение отображает файл в память методом {@link FileChannel#map(FileChannel.MapMode, long, long)}
+ * и один раз проверяет каждое значение и порядковый номер меры, поэтому открытие файла
+ * просматривает его целиком за время O(n). После проверки {@link #read(Path, Class)} копирует
+ * блоки целиком без разбора отдельных величин.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class QuantityFiles
+{
+	/**
+	 * Размер заголовка файла.
+	 */
+	static final int HEADER_SIZE = 16;
+
+	/**
+	 * Сигнатура файла.
+	 */
+	private static final int MAGIC = 0x4C4F4351;
+
+	/**
+	 * Версия формата файла.
+	 */
+	private static final byte VERSION = 1;
+
+	/**
+	 * Размер прямого буфера записи.
+	 */
+	private static final int BUFFER_SIZE = 1 << 20;
+
+	/**
+	 * Наибольшее количество значений в одном отображённом в память участке файла.
+	 */
+	static final int SEGMENT_VALUES = 1 << 27;
+
+	/**
+	 * Конструктор для {@code QuantityFiles}.
+	 */
+	private QuantityFiles()
+	{
+	}
+
+	/**
+	 * Записывает столбец величин в файл.
+	 * <p>Существующий файл перезаписывается.</p>
+	 *
+	 * @param file файл.
+	 * @param column столбец величин.
+	 * @param <M> тип меры измерения величины.
+	 * @throws NullPointerException если в качестве {@code file} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code column} передан {@code null}.
+	 * @throws IllegalArgumentException если мера измерения не относится ни к одному виду величин.
+	 * @throws IOException если файл не удалось записать.
+	 */
+	public static <M extends Enum<M> & Measurable> void write(@NotNull final Path file,
+															  @NotNull final QuantityColumn<M> column)
+		throws IOException
+	{
+		Objects.requireNonNull(file);
+		Objects.requireNonNull(column);
+
+		final M[] measures = column.getMeasureType().getEnumConstants();
+		final double[] values = column.getValues();
+		final byte[] ordinals = column.getOrdinals();
+		final int size = column.size();
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+		buffer.putInt(MAGIC);
+		buffer.put(VERSION);
+		buffer.put((byte) QuantityKind.of(measures[0]).ordinal());
+		buffer.put((byte) measures.length);
+		buffer.put((byte) 0);
+		buffer.putLong(size);
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+			StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			for (int offset = 0; offset < size; ) {
+				final int count = Math.min(size - offset, buffer.remaining() / Double.BYTES);
+
+				if (count == 0) {
+					QuantityFiles.flush(channel, buffer);
+					continue;
+				}
+
+				buffer.asDoubleBuffer().put(values, offset, count);
+				buffer.position(buffer.position() + count * Double.BYTES);
+				offset += count;
+			}
+
+			for (int offset = 0; offset < size; ) {
+				final int count = Math.min(size - offset, buffer.remaining());
+
+				if (count == 0) {
+					QuantityFiles.flush(channel, buffer);
+					continue;
+				}
+
+				buffer.put(ordinals, offset, count);
+				offset += count;
+			}
+
+			QuantityFiles.flush(channel, buffer);
+		}
+	}
+
+	/**
+	 * Читает столбец величин из файла.
+	 *
+	 * @param file файл.
+	 * @param type класс перечисления мер измерения.
+	 * @param <M> тип меры измерения величины.
+	 * @return столбец величин.
+	 * @throws NullPointerException если в качестве {@code file} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 * @throws IllegalArgumentException если файл имеет некорректный формат или содержит величины другого вида.
+	 * @throws IOException если файл не удалось прочитать.
+	 */
+	@NotNull
+	public static <M extends Enum<M> & Measurable> QuantityColumn<M> read(@NotNull final Path file,
+																		  @NotNull final Class<M> type)
+		throws IOException
+	{
+		return QuantityFiles.map(file, type).toColumn();
+	}
+
+	/**
+	 * Отображает столбец величин из файла в память без копирования в массивы.
+	 * <p>
+	 * Перед возвратом каждое значение и порядковый номер меры проверяются за один проход,
+	 * поэтому все страницы файла читаются при открытии.
+	 * </p>
+	 *
+	 * @param file файл.
+	 * @param type класс перечисления мер измерения.
+	 * @param <M> тип меры измерения величины.
+	 * @return столбец величин, отображённый в память.
+	 * @throws NullPointerException если в качестве {@code file} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 * @throws IllegalArgumentException если файл имеет некорректный формат или содержит величины другого вида.
+	 * @throws IllegalArgumentException если файл содержит отрицательное или не конечное значение
+	 * либо несуществующий порядковый номер меры.
+	 * @throws IOException если файл не удалось прочитать.
+	 */
+	@NotNull
+	public static <M extends Enum<M> & Measurable> MappedQuantityColumn<M> map(@NotNull final Path file,
+																			   @NotNull final Class<M> type)
+		throws IOException
+	{
+		Objects.requireNonNull(file);
+		Objects.requireNonNull(type);
+
+		final M[] measures = type.getEnumConstants();
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			final long fileSize = channel.size();
+
+			if (fileSize < HEADER_SIZE) {
+				throw new IllegalArgumentException("Некорректный формат файла.");
+			}
+
+			final ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE)
+				.order(ByteOrder.LITTLE_ENDIAN);
+
+			if (header.getInt() != MAGIC || header.get() != VERSION) {
+				throw new IllegalArgumentException("Некорректный формат файла.");
+			}
+
+			if (header.get() != QuantityKind.of(measures[0]).ordinal() || header.get() != (byte) measures.length) {
+				throw new IllegalArgumentException("Файл содержит величины другого вида.");
+			}
+
+			header.get();
+
+			final long size = header.getLong();
+
+			if (size < 0 || size > Integer.MAX_VALUE ||
+				fileSize != HEADER_SIZE + size * (Double.BYTES + 1)) {
+				throw new IllegalArgumentException("Некорректный формат файла.");
+			}
+
+			final DoubleBuffer[] values = new DoubleBuffer[(int) ((size + SEGMENT_VALUES - 1) / SEGMENT_VALUES)];
+
+			for (int segment = 0; segment < values.length; segment++) {
+				final long offset = (long) segment * SEGMENT_VALUES;
+				final long count = Math.min(SEGMENT_VALUES, size - offset);
+
+				values[segment] = channel.map(
+					FileChannel.MapMode.READ_ONLY, HEADER_SIZE + offset * Double.BYTES, count * Double.BYTES
+				).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+			}
+
+			final ByteBuffer ordinals = channel.map(
+				FileChannel.MapMode.READ_ONLY, HEADER_SIZE + size * Double.BYTES, size
+			);
+
+			QuantityFiles.validate(values, ordinals, measures.length);
+
+			return new MappedQuantityColumn<>(type, values, ordinals, (int) size);
+		}
+	}
+
+	/**
+	 * Проверяет значения и порядковые номера мер измерения, отображённые из файла.
+	 *
+	 * @param values участки значений величин.
+	 * @param ordinals порядковые номера мер измерения величин.
+	 * @param measureCount количество мер измерения.
+	 * @throws IllegalArgumentException если значение не является конечным числом, меньше 0
+	 * или порядковый номер меры не существует.
+	 */
+	private static void validate(@NotNull final DoubleBuffer @NotNull [] values,
+								 @NotNull final ByteBuffer ordinals,
+								 final int measureCount)
+	{
+		for (DoubleBuffer segment : values) {
+			for (int index = 0; index < segment.limit(); index++) {
+				final double value = segment.get(index);
+
+				if (!Double.isFinite(value) || value < 0) {
+					throw new IllegalArgumentException("Некорректный формат файла.");
+				}
+			}
+		}
+
+		for (int index = 0; index < ordinals.limit(); index++) {
+			final byte ordinal = ordinals.get(index);
+
+			if (ordinal < 0 || ordinal >= measureCount) {
+				throw new IllegalArgumentException("Некорректный формат файла.");
+			}
+		}
+	}
+
+	/**
+	 * Записывает содержимое буфера в канал и очищает буфер.
+	 *
+	 * @param channel канал.
+	 * @param buffer буфер.
+	 * @throws IOException если данные не удалось записать.
+	 */
+	private static void flush(@NotNull final FileChannel channel, @NotNull final ByteBuffer buffer)
+		throws IOException
+	{
+		buffer.flip();
+
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+
+		buffer.clear();
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Класс записи величин в виде текста с обозначением меры.
+ * <p>
+ * Величина записывается без экспоненты, цифры выводятся напрямую в приёмник без промежуточных строк.
+ * Если немасштабированное значение величины не помещается в {@code long},
+ * используется {@link BigDecimal#toPlainString()}.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class QuantityFormat
+{
+	/**
+	 * Наибольшее количество цифр, при котором целое число гарантированно помещается в {@code long}.
+	 */
+	private static final int LONG_DIGITS = 18;
+
+	/**
+	 * Степени десяти, которые помещаются в {@code long}.
+	 */
+	private static final long @NotNull [] POWERS_OF_TEN = new long[LONG_DIGITS + 1];
+
+	static {
+		POWERS_OF_TEN[0] = 1;
+
+		for (int index = 1; index < POWERS_OF_TEN.length; index++) {
+			POWERS_OF_TEN[index] = POWERS_OF_TEN[index - 1] * 10;
+		}
+	}
+
+	/**
+	 * Конструктор для {@code QuantityFormat}.
+	 */
+	private QuantityFormat()
+	{
+	}
+
+	/**
+	 * Записывает величину и обозначение меры.
+	 *
+	 * @param out приёмник.
+	 * @param quantity величина.
+	 * @param measure мера измерения величины.
+	 * @throws IOException если приёмник не смог записать символы.
+	 */
+	static void format(@NotNull final Appendable out,
+					   @NotNull final BigDecimal quantity,
+					   @NotNull final Measurable measure)
+		throws IOException
+	{
+		QuantityFormat.appendQuantity(out, quantity);
+		out.append(' ');
+		out.append(measure.getSymbol());
+	}
+
+	/**
+	 * Записывает величину и обозначение меры.
+	 *
+	 * @param out приёмник.
+	 * @param quantity величина.
+	 * @param measure мера измерения величины.
+	 * @throws IOException если приёмник не смог записать символы.
+	 */
+	static void format(@NotNull final Appendable out, final long quantity, @NotNull final Measurable measure)
+		throws IOException
+	{
+		QuantityFormat.appendLong(out, quantity);
+		out.append(' ');
+		out.append(measure.getSymbol());
+	}
+
+	/**
+	 * Записывает величину без экспоненты.
+	 *
+	 * @param out приёмник.
+	 * @param quantity величина.
+	 * @throws IOException если приёмник не смог записать символы.
+	 */
+	static void appendQuantity(@NotNull final Appendable out, @NotNull final BigDecimal quantity)
+		throws IOException
+	{
+		if (quantity.precision() > LONG_DIGITS) {
+			out.append(quantity.toPlainString());
+			return;
+		}
+
+		final int scale = quantity.scale();
+
+		if (scale == 0) {
+			QuantityFormat.appendLong(out, quantity.longValue());
+			return;
+		}
+
+		final long unscaled = quantity.unscaledValue().longValue();
+
+		if (scale < 0) {
+			QuantityFormat.appendLong(out, unscaled);
+
+			if (unscaled != 0) {
+				QuantityFormat.appendZeros(out, -scale);
+			}
+
+			return;
+		}
+
+		long integer = 0;
+		long fraction = unscaled;
+
+		if (scale <= LONG_DIGITS) {
+			integer = unscaled / POWERS_OF_TEN[scale];
+			fraction = unscaled % POWERS_OF_TEN[scale];
+		}
+
+		QuantityFormat.appendLong(out, integer);
+		out.append('.');
+
+		if (fraction == 0) {
+			QuantityFormat.appendZeros(out, scale);
+			return;
+		}
+
+		QuantityFormat.appendZeros(out, scale - QuantityFormat.countDigits(fraction));
+		QuantityFormat.appendLong(out, fraction);
+	}
+
+	/**
+	 * Записывает неотрицательное целое число.
+	 *
+	 * @param out приёмник.
+	 * @param value число.
+	 * @throws IOException если приёмник не смог записать символы.
+	 */
+	private static void appendLong(@NotNull final Appendable out, final long value)
+		throws IOException
+	{
+		if (out instanceof StringBuilder builder) {
+			builder.append(value);
+			return;
+		}
+
+		for (int digit = QuantityFormat.countDigits(value) - 1; digit >= 0; digit--) {
+			out.append((char) ('0' + value / POWERS_OF_TEN[digit] % 10));
+		}
+	}
+
+	/**
+	 * Записывает нули.
+	 *
+	 * @param out приёмник.
+	 * @param count количество нулей.
+	 * @throws IOException если приёмник не смог записать символы.
+	 */
+	private static void appendZeros(@NotNull final Appendable out, final int count)
+		throws IOException
+	{
+		for (int index = 0; index < count; index++) {
+			out.append('0');
+		}
+	}
+
+	/**
+	 * Возвращает количество цифр неотрицательного целого числа.
+	 *
+	 * @param value число.
+	 * @return количество цифр, для {@code 0} равное 1.
+	 */
+	private static int countDigits(final long value)
+	{
+		int digits = 1;
+
+		while (digits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[digits]) {
+			digits++;
+		}
+
+		return digits;
+	}
+}
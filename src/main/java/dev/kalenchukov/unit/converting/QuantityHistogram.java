@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Класс распределения величин по мерам измерения.
+ * <p>Хранит количество и точную сумму величин, записанных в каждой мере измерения.</p>
+ *
+ * @param <M> тип меры измерения величины.
+ * @author Алексей Каленчуков
+ */
+public final class QuantityHistogram<M extends Enum<M> & Measurable>
+{
+	/**
+	 * Меры измерения в порядке объявления.
+	 */
+	@NotNull
+	private final M @NotNull [] measures;
+
+	/**
+	 * Суммы и количество величин по порядковым номерам мер измерения.
+	 */
+	@NotNull
+	private final MeasureTotals totals;
+
+	/**
+	 * Конструктор для {@code QuantityHistogram}.
+	 *
+	 * @param type класс перечисления мер измерения.
+	 * @param totals суммы и количество величин по порядковым номерам мер измерения.
+	 */
+	QuantityHistogram(@NotNull final Class<M> type, @NotNull final MeasureTotals totals)
+	{
+		this.measures = type.getEnumConstants();
+		this.totals = totals;
+	}
+
+	/**
+	 * Возвращает количество величин.
+	 *
+	 * @return количество величин во всех мерах измерения.
+	 */
+	public long getCount()
+	{
+		return this.totals.getCount();
+	}
+
+	/**
+	 * Возвращает количество величин, записанных в мере измерения.
+	 *
+	 * @param measure мера измерения.
+	 * @return количество величин.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	public long getCount(@NotNull final M measure)
+	{
+		Objects.requireNonNull(measure);
+
+		return this.totals.getCount(measure.ordinal());
+	}
+
+	/**
+	 * Возвращает сумму величин, записанных в мере измерения.
+	 *
+	 * @param measure мера измерения.
+	 * @return сумму величин в мере {@code measure}.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	public BigDecimal getSum(@NotNull final M measure)
+	{
+		Objects.requireNonNull(measure);
+
+		return this.totals.getSum(measure.ordinal());
+	}
+
+	/**
+	 * Возвращает сумму всех величин в указанной мере измерения.
+	 * <p>Суммы каждой меры конвертируются без округления.</p>
+	 *
+	 * @param measure мера измерения результата.
+	 * @return сумму величин.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	public BigDecimal getTotal(@NotNull final M measure)
+	{
+		Objects.requireNonNull(measure);
+
+		return this.totals.getTotal(this.measures, measure);
+	}
+
+	/**
+	 * Возвращает сумму всех величин в минимальных единицах.
+	 *
+	 * @return сумму величин.
+	 */
+	@NotNull
+	public BigDecimal getTotal()
+	{
+		return this.getTotal(AbstractAccumulator.findMinUnitMeasure(this.measures));
+	}
+}
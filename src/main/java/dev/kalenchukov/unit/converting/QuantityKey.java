@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Класс ключа величины.
+ * <p>
+ * Величины {@link AbstractQuantity} равны, только если совпадают их значения и меры измерения,
+ * поэтому {@code 1 BYTE} не равна {@code 8 BIT}, а {@code 1.0 BYTE} не равна {@code 1 BYTE}.
+ * Ключи величин равны, если величины равны при сравнении методом {@code compareTo}:
+ * ключ хранит величину в минимальных единицах без незначащих нулей и тип меры измерения.
+ * Хеш-код ключа вычисляется один раз при создании.
+ * </p>
+ *
+ * @param <M> тип меры измерения величины.
+ * @author Алексей Каленчуков
+ */
+public final class QuantityKey<M extends Enum<M> & Measurable>
+{
+	/**
+	 * Тип меры измерения величины.
+	 */
+	@NotNull
+	private final Class<M> measureType;
+
+	/**
+	 * Величина в минимальных единицах без незначащих нулей.
+	 */
+	@NotNull
+	private final BigDecimal quantityInMinUnit;
+
+	/**
+	 * Хеш-код.
+	 */
+	private final int hash;
+
+	/**
+	 * Конструктор для {@code QuantityKey}.
+	 *
+	 * @param measureType тип меры измерения величины.
+	 * @param quantityInMinUnit величина в минимальных единицах без незначащих нулей.
+	 */
+	private QuantityKey(@NotNull final Class<M> measureType, @NotNull final BigDecimal quantityInMinUnit)
+	{
+		this.measureType = measureType;
+		this.quantityInMinUnit = quantityInMinUnit;
+		this.hash = 31 * measureType.hashCode() + quantityInMinUnit.hashCode();
+	}
+
+	/**
+	 * Возвращает ключ величины.
+	 *
+	 * @param quantity величина.
+	 * @param <M> тип меры измерения величины.
+	 * @return ключ величины.
+	 * @throws NullPointerException если в качестве {@code quantity} передан {@code null}.
+	 */
+	@NotNull
+	public static <M extends Enum<M> & Measurable> QuantityKey<M> of(@NotNull final Quantitative<M> quantity)
+	{
+		Objects.requireNonNull(quantity);
+
+		return new QuantityKey<>(
+			quantity.getMeasure().getDeclaringClass(),
+			quantity.getQuantityInMinUnit().stripTrailingZeros()
+		);
+	}
+
+	/**
+	 * Возвращает тип меры измерения величины.
+	 *
+	 * @return тип меры измерения величины.
+	 */
+	@NotNull
+	public Class<M> getMeasureType()
+	{
+		return this.measureType;
+	}
+
+	/**
+	 * Возвращает величину в минимальных единицах.
+	 *
+	 * @return величину в минимальных единицах без незначащих нулей.
+	 */
+	@NotNull
+	public BigDecimal getQuantityInMinUnit()
+	{
+		return this.quantityInMinUnit;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		return this.hash;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param obj {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(@Nullable final Object obj)
+	{
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof QuantityKey)) {
+			return false;
+		}
+
+		final QuantityKey<?> key = (QuantityKey<?>) obj;
+
+		if (this.hash != key.hash) {
+			return false;
+		}
+
+		if (this.measureType != key.measureType) {
+			return false;
+		}
+
+		return this.quantityInMinUnit.equals(key.quantityInMinUnit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public String toString()
+	{
+		return this.quantityInMinUnit.toPlainString() + " " + this.measureType.getSimpleName();
+	}
+}
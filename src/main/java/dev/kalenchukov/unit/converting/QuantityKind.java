@@ -0,0 +1,275 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.DataRateMeasure;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.MassMeasure;
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Перечисление видов величин.
+ * <p>Связывает перечисление мер измерения с классом величины и создаёт величины по мере измерения.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+enum QuantityKind
+{
+	/**
+	 * Информация.
+	 */
+	INFORMATION(InformationMeasure.class)
+	{
+		@NotNull
+		@Override
+		Quantitative<?> create(@NotNull final BigDecimal quantity, @NotNull final Measurable measure)
+		{
+			return new InformationQuantity(quantity, (InformationMeasure) measure);
+		}
+
+		@NotNull
+		@Override
+		Quantitative<?> valueOf(final long quantity, @NotNull final Measurable measure)
+		{
+			return InformationQuantity.valueOf(quantity, (InformationMeasure) measure);
+		}
+
+		@Nullable
+		@Override
+		Measurable lookup(@NotNull final CharSequence text, final int start, final int end)
+		{
+			return InformationMeasure.lookup(text, start, end);
+		}
+	},
+
+	/**
+	 * Масса.
+	 */
+	MASS(MassMeasure.class)
+	{
+		@NotNull
+		@Override
+		Quantitative<?> create(@NotNull final BigDecimal quantity, @NotNull final Measurable measure)
+		{
+			return new MassQuantity(quantity, (MassMeasure) measure);
+		}
+
+		@NotNull
+		@Override
+		Quantitative<?> valueOf(final long quantity, @NotNull final Measurable measure)
+		{
+			return MassQuantity.valueOf(quantity, (MassMeasure) measure);
+		}
+
+		@Nullable
+		@Override
+		Measurable lookup(@NotNull final CharSequence text, final int start, final int end)
+		{
+			return MassMeasure.lookup(text, start, end);
+		}
+	},
+
+	/**
+	 * Время.
+	 */
+	TIME(TimeMeasure.class)
+	{
+		@NotNull
+		@Override
+		Quantitative<?> create(@NotNull final BigDecimal quantity, @NotNull final Measurable measure)
+		{
+			return new TimeQuantity(quantity, (TimeMeasure) measure);
+		}
+
+		@NotNull
+		@Override
+		Quantitative<?> valueOf(final long quantity, @NotNull final Measurable measure)
+		{
+			return TimeQuantity.valueOf(quantity, (TimeMeasure) measure);
+		}
+
+		@Nullable
+		@Override
+		Measurable lookup(@NotNull final CharSequence text, final int start, final int end)
+		{
+			return TimeMeasure.lookup(text, start, end);
+		}
+	},
+
+	/**
+	 * Скорость передачи данных.
+	 */
+	DATA_RATE(DataRateMeasure.class)
+	{
+		@NotNull
+		@Override
+		Quantitative<?> create(@NotNull final BigDecimal quantity, @NotNull final Measurable measure)
+		{
+			return new DataRateQuantity(quantity, (DataRateMeasure) measure);
+		}
+
+		@NotNull
+		@Override
+		Quantitative<?> valueOf(final long quantity, @NotNull final Measurable measure)
+		{
+			return DataRateQuantity.valueOf(quantity, (DataRateMeasure) measure);
+		}
+
+		@Nullable
+		@Override
+		Measurable lookup(@NotNull final CharSequence text, final int start, final int end)
+		{
+			return DataRateMeasure.lookup(text, start, end);
+		}
+	};
+
+	/**
+	 * Виды величин в порядке объявления.
+	 * <p>Массив не изменяется и не копируется при каждом обращении, в отличие от {@link #values()}.</p>
+	 */
+	@NotNull
+	static final QuantityKind @NotNull [] KINDS = QuantityKind.values();
+
+	/**
+	 * Класс перечисления мер измерения.
+	 */
+	@NotNull
+	private final Class<? extends Measurable> measureType;
+
+	/**
+	 * Меры измерения в порядке объявления.
+	 */
+	@NotNull
+	private final Measurable @NotNull [] measures;
+
+	/**
+	 * Конструктор для {@code QuantityKind}.
+	 *
+	 * @param measureType класс перечисления мер измерения.
+	 */
+	QuantityKind(@NotNull final Class<? extends Measurable> measureType)
+	{
+		this.measureType = measureType;
+		this.measures = measureType.getEnumConstants();
+	}
+
+	/**
+	 * Возвращает класс перечисления мер измерения.
+	 *
+	 * @return класс перечисления мер измерения.
+	 */
+	@NotNull
+	Class<? extends Measurable> getMeasureType()
+	{
+		return this.measureType;
+	}
+
+	/**
+	 * Возвращает меру измерения по порядковому номеру.
+	 *
+	 * @param ordinal порядковый номер меры измерения.
+	 * @return меру измерения.
+	 * @throws ArrayIndexOutOfBoundsException если мера с порядковым номером {@code ordinal} не существует.
+	 */
+	@NotNull
+	Measurable getMeasure(final int ordinal)
+	{
+		return this.measures[ordinal];
+	}
+
+	/**
+	 * Возвращает количество мер измерения.
+	 *
+	 * @return количество мер измерения.
+	 */
+	int getMeasureCount()
+	{
+		return this.measures.length;
+	}
+
+	/**
+	 * Создаёт величину.
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины данного вида.
+	 * @return величину.
+	 * @throws ClassCastException если {@code measure} не относится к данному виду величин.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	@NotNull
+	abstract Quantitative<?> create(@NotNull BigDecimal quantity, @NotNull Measurable measure);
+
+	/**
+	 * Возвращает величину, используя кеш часто используемых величин.
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины данного вида.
+	 * @return величину.
+	 * @throws ClassCastException если {@code measure} не относится к данному виду величин.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	@NotNull
+	abstract Quantitative<?> valueOf(long quantity, @NotNull Measurable measure);
+
+	/**
+	 * Возвращает меру измерения данного вида по обозначению или названию.
+	 *
+	 * @param text последовательность символов.
+	 * @param start индекс первого символа участка.
+	 * @param end индекс символа, следующего за последним символом участка.
+	 * @return меру измерения или {@code null}, если мера не найдена.
+	 * @see InformationMeasure#lookup(CharSequence)
+	 */
+	@Nullable
+	abstract Measurable lookup(@NotNull CharSequence text, int start, int end);
+
+	/**
+	 * Возвращает вид величины по мере измерения.
+	 *
+	 * @param measure мера измерения.
+	 * @return вид величины.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если мера измерения не относится ни к одному виду величин.
+	 */
+	@NotNull
+	static QuantityKind of(@NotNull final Measurable measure)
+	{
+		Objects.requireNonNull(measure);
+
+		for (QuantityKind kind : KINDS) {
+			if (kind.measureType.isInstance(measure)) {
+				return kind;
+			}
+		}
+
+		throw new IllegalArgumentException("Неизвестная мера измерения.");
+	}
+}
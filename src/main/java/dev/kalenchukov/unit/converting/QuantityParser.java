@@ -0,0 +1,501 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Класс разбора величин из текста.
+ * <p>
+ * Разбирает записи вида {@code 1.5 GiB}, {@code 250ms}, {@code 3 kilogram} или {@code 10 Gbit/s}:
+ * число без знака с необязательной дробной частью и экспонентой,
+ * необязательные пробелы и обозначение или название меры измерения.
+ * Обозначения мер чувствительны к регистру, названия записываются в верхнем или нижнем регистре.
+ * Вместо символа {@code µ} допускается {@code u}.
+ * </p>
+ * <p>
+ * Число читается без создания подстрок, мера измерения ищется по хеш-индексам перечислений мер.
+ * Целые величины создаются через {@code valueOf}, поэтому частые значения не создают новых объектов.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class QuantityParser
+{
+	/**
+	 * Наибольшее количество цифр, при котором целое число гарантированно помещается в {@code long}.
+	 */
+	private static final int LONG_DIGITS = 18;
+
+	/**
+	 * Наибольшее количество цифр экспоненты.
+	 */
+	private static final int EXPONENT_DIGITS = 9;
+
+	/**
+	 * Конструктор для {@code QuantityParser}.
+	 */
+	private QuantityParser()
+	{
+	}
+
+	/**
+	 * Разбирает величину.
+	 *
+	 * @param text запись величины.
+	 * @return величину информации, массы, времени или скорости передачи данных.
+	 * @throws NullPointerException если в качестве {@code text} передан {@code null}.
+	 * @throws IllegalArgumentException если запись величины некорректна.
+	 */
+	@NotNull
+	public static Quantitative<?> parse(@NotNull final CharSequence text)
+	{
+		Objects.requireNonNull(text);
+
+		return QuantityParser.parse(text, 0, text.length());
+	}
+
+	/**
+	 * Разбирает величину информации.
+	 *
+	 * @param text запись величины.
+	 * @return величину информации.
+	 * @throws NullPointerException если в качестве {@code text} передан {@code null}.
+	 * @throws IllegalArgumentException если запись величины некорректна или не является величиной информации.
+	 */
+	@NotNull
+	public static InformationQuantity parseInformation(@NotNull final CharSequence text)
+	{
+		return QuantityParser.parse(text, InformationQuantity.class);
+	}
+
+	/**
+	 * Разбирает величину массы.
+	 *
+	 * @param text запись величины.
+	 * @return величину массы.
+	 * @throws NullPointerException если в качестве {@code text} передан {@code null}.
+	 * @throws IllegalArgumentException если запись величины некорректна или не является величиной массы.
+	 */
+	@NotNull
+	public static MassQuantity parseMass(@NotNull final CharSequence text)
+	{
+		return QuantityParser.parse(text, MassQuantity.class);
+	}
+
+	/**
+	 * Разбирает величину времени.
+	 *
+	 * @param text запись величины.
+	 * @return величину времени.
+	 * @throws NullPointerException если в качестве {@code text} передан {@code null}.
+	 * @throws IllegalArgumentException если запись величины некорректна или не является величиной времени.
+	 */
+	@NotNull
+	public static TimeQuantity parseTime(@NotNull final CharSequence text)
+	{
+		return QuantityParser.parse(text, TimeQuantity.class);
+	}
+
+	/**
+	 * Разбирает величину скорости передачи данных.
+	 *
+	 * @param text запись величины.
+	 * @return величину скорости передачи данных.
+	 * @throws NullPointerException если в качестве {@code text} передан {@code null}.
+	 * @throws IllegalArgumentException если запись величины некорректна
+	 * или не является величиной скорости передачи данных.
+	 */
+	@NotNull
+	public static DataRateQuantity parseDataRate(@NotNull final CharSequence text)
+	{
+		return QuantityParser.parse(text, DataRateQuantity.class);
+	}
+
+	/**
+	 * Разбирает все величины из буфера символов.
+	 * <p>
+	 * Записи величин разделяются переводом строки или запятой, пустые записи пропускаются.
+	 * Буфер читается от текущей позиции до предела, после разбора позиция равна пределу.
+	 * </p>
+	 *
+	 * @param input буфер символов.
+	 * @param action действие, которое выполняется для каждой величины.
+	 * @return количество разобранных величин.
+	 * @throws NullPointerException если в качестве {@code input} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code action} передан {@code null}.
+	 * @throws IllegalArgumentException если запись величины некорректна.
+	 */
+	public static int parseAll(@NotNull final CharBuffer input,
+							   @NotNull final Consumer<? super Quantitative<?>> action)
+	{
+		Objects.requireNonNull(input);
+		Objects.requireNonNull(action);
+
+		final int length = input.remaining();
+		int count = 0;
+		int start = 0;
+
+		for (int index = 0; index <= length; index++) {
+			if (index == length || QuantityParser.isSeparator(input.charAt(index))) {
+				if (!QuantityParser.isBlank(input, start, index)) {
+					action.accept(QuantityParser.parse(input, start, index));
+					count++;
+				}
+
+				start = index + 1;
+			}
+		}
+
+		input.position(input.limit());
+
+		return count;
+	}
+
+	/**
+	 * Разбирает все величины из буфера байтов.
+	 * <p>
+	 * Байты читаются как текст в кодировке UTF-8, в обозначениях мер допускается только
+	 * символ {@code µ} за пределами ASCII. Записи величин разделяются переводом строки или запятой,
+	 * пустые записи пропускаются. Буфер читается от текущей позиции до предела,
+	 * после разбора позиция равна пределу.
+	 * </p>
+	 *
+	 * @param input буфер байтов.
+	 * @param action действие, которое выполняется для каждой величины.
+	 * @return количество разобранных величин.
+	 * @throws NullPointerException если в качестве {@code input} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code action} передан {@code null}.
+	 * @throws IllegalArgumentException если запись величины некорректна.
+	 */
+	public static int parseAll(@NotNull final ByteBuffer input,
+							   @NotNull final Consumer<? super Quantitative<?>> action)
+	{
+		Objects.requireNonNull(input);
+		Objects.requireNonNull(action);
+
+		char[] chars = new char[64];
+		CharBuffer token = CharBuffer.wrap(chars);
+		final int limit = input.limit();
+		int count = 0;
+		int length = 0;
+
+		for (int index = input.position(); index <= limit; index++) {
+			final int value = index == limit ? '\n' : input.get(index) & 0xFF;
+
+			if (value == 0xC2 && index + 1 < limit && (input.get(index + 1) & 0xFF) == 0xB5) {
+				continue;
+			}
+
+			if (!QuantityParser.isSeparator((char) value)) {
+				if (length == chars.length) {
+					chars = Arrays.copyOf(chars, chars.length * 2);
+					token = CharBuffer.wrap(chars);
+				}
+
+				chars[length++] = (char) value;
+				continue;
+			}
+
+			if (!QuantityParser.isBlank(token, 0, length)) {
+				action.accept(QuantityParser.parse(token, 0, length));
+				count++;
+			}
+
+			length = 0;
+		}
+
+		input.position(limit);
+
+		return count;
+	}
+
+	/**
+	 * Разбирает величину указанного класса.
+	 *
+	 * @param text запись величины.
+	 * @param type класс величины.
+	 * @param <Q> тип величины.
+	 * @return величину.
+	 * @throws NullPointerException если в качестве {@code text} передан {@code null}.
+	 * @throws IllegalArgumentException если запись величины некорректна или величина другого класса.
+	 */
+	@NotNull
+	private static <Q extends Quantitative<?>> Q parse(@NotNull final CharSequence text,
+													   @NotNull final Class<Q> type)
+	{
+		final Quantitative<?> quantity = QuantityParser.parse(text);
+
+		if (!type.isInstance(quantity)) {
+			throw new IllegalArgumentException(
+				"Запись «" + text + "» не является величиной " + type.getSimpleName() + "."
+			);
+		}
+
+		return type.cast(quantity);
+	}
+
+	/**
+	 * Разбирает величину из участка последовательности символов.
+	 *
+	 * @param text последовательность символов.
+	 * @param start индекс первого символа записи.
+	 * @param end индекс символа, следующего за последним символом записи.
+	 * @return величину.
+	 * @throws IllegalArgumentException если запись величины некорректна.
+	 */
+	@NotNull
+	private static Quantitative<?> parse(@NotNull final CharSequence text, final int start, final int end)
+	{
+		int index = QuantityParser.skipSpaces(text, start, end);
+		final int numberStart = index;
+
+		long unscaled = 0;
+		int digits = 0;
+		int scale = 0;
+		boolean point = false;
+
+		for (; index < end; index++) {
+			final char symbol = text.charAt(index);
+
+			if (symbol >= '0' && symbol <= '9') {
+				if (unscaled != 0 || symbol != '0') {
+					digits++;
+				}
+
+				unscaled = unscaled * 10 + (symbol - '0');
+
+				if (point) {
+					scale++;
+				}
+			} else if (symbol == '.' && !point) {
+				point = true;
+			} else {
+				break;
+			}
+		}
+
+		if (index == numberStart || (point && index == numberStart + 1)) {
+			throw QuantityParser.invalid(text, start, end);
+		}
+
+		int exponentEnd = QuantityParser.findExponentEnd(text, index, end);
+
+		if (exponentEnd > index) {
+			scale -= QuantityParser.parseExponent(text, index + 1, exponentEnd, start, end);
+			index = exponentEnd;
+		}
+
+		final int numberEnd = index;
+		final int unitStart = QuantityParser.skipSpaces(text, index, end);
+		int unitEnd = end;
+
+		while (unitEnd > unitStart && QuantityParser.isSpace(text.charAt(unitEnd - 1))) {
+			unitEnd--;
+		}
+
+		final Measurable measure = QuantityParser.lookup(text, unitStart, unitEnd);
+
+		if (measure == null || unitStart == unitEnd) {
+			throw QuantityParser.invalid(text, start, end);
+		}
+
+		final QuantityKind kind = QuantityKind.of(measure);
+
+		if (digits > LONG_DIGITS) {
+			return kind.create(
+				new BigDecimal(text.subSequence(numberStart, numberEnd).toString()),
+				measure
+			);
+		}
+
+		if (scale == 0) {
+			return kind.valueOf(unscaled, measure);
+		}
+
+		return kind.create(BigDecimal.valueOf(unscaled, scale), measure);
+	}
+
+	/**
+	 * Возвращает меру измерения любого вида по обозначению или названию.
+	 *
+	 * @param text последовательность символов.
+	 * @param start индекс первого символа участка.
+	 * @param end индекс символа, следующего за последним символом участка.
+	 * @return меру измерения или {@code null}, если мера не найдена.
+	 */
+	@Nullable
+	private static Measurable lookup(@NotNull final CharSequence text, final int start, final int end)
+	{
+		for (QuantityKind kind : QuantityKind.KINDS) {
+			final Measurable measure = kind.lookup(text, start, end);
+
+			if (measure != null) {
+				return measure;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Возвращает индекс символа, следующего за экспонентой.
+	 *
+	 * @param text последовательность символов.
+	 * @param index индекс символа, с которого может начинаться экспонента.
+	 * @param end индекс символа, следующего за последним символом записи.
+	 * @return индекс символа, следующего за экспонентой, или {@code index}, если экспоненты нет.
+	 */
+	private static int findExponentEnd(@NotNull final CharSequence text, final int index, final int end)
+	{
+		if (index >= end || (text.charAt(index) != 'E' && text.charAt(index) != 'e')) {
+			return index;
+		}
+
+		int position = index + 1;
+
+		if (position < end && (text.charAt(position) == '+' || text.charAt(position) == '-')) {
+			position++;
+		}
+
+		final int digitsStart = position;
+
+		while (position < end && text.charAt(position) >= '0' && text.charAt(position) <= '9') {
+			position++;
+		}
+
+		return position == digitsStart ? index : position;
+	}
+
+	/**
+	 * Разбирает экспоненту.
+	 *
+	 * @param text последовательность символов.
+	 * @param from индекс знака или первой цифры экспоненты.
+	 * @param to индекс символа, следующего за экспонентой.
+	 * @param start индекс первого символа записи.
+	 * @param end индекс символа, следующего за последним символом записи.
+	 * @return экспоненту.
+	 * @throws IllegalArgumentException если экспонента слишком большая.
+	 */
+	private static int parseExponent(@NotNull final CharSequence text,
+									 final int from,
+									 final int to,
+									 final int start,
+									 final int end)
+	{
+		final boolean negative = text.charAt(from) == '-';
+		int index = text.charAt(from) == '+' || negative ? from + 1 : from;
+
+		if (to - index > EXPONENT_DIGITS) {
+			throw QuantityParser.invalid(text, start, end);
+		}
+
+		int exponent = 0;
+
+		for (; index < to; index++) {
+			exponent = exponent * 10 + (text.charAt(index) - '0');
+		}
+
+		return negative ? -exponent : exponent;
+	}
+
+	/**
+	 * Возвращает индекс первого символа, не являющегося пробелом.
+	 *
+	 * @param text последовательность символов.
+	 * @param index индекс, с которого начинается поиск.
+	 * @param end индекс символа, на котором поиск заканчивается.
+	 * @return индекс первого символа, не являющегося пробелом, или {@code end}.
+	 */
+	private static int skipSpaces(@NotNull final CharSequence text, final int index, final int end)
+	{
+		int position = index;
+
+		while (position < end && QuantityParser.isSpace(text.charAt(position))) {
+			position++;
+		}
+
+		return position;
+	}
+
+	/**
+	 * Проверяет, состоит ли участок последовательности символов только из пробелов.
+	 *
+	 * @param text последовательность символов.
+	 * @param start индекс первого символа участка.
+	 * @param end индекс символа, следующего за последним символом участка.
+	 * @return {@code true}, если участок пуст или состоит из пробелов, иначе {@code false}.
+	 */
+	private static boolean isBlank(@NotNull final CharSequence text, final int start, final int end)
+	{
+		return QuantityParser.skipSpaces(text, start, end) == end;
+	}
+
+	/**
+	 * Проверяет, является ли символ пробелом.
+	 *
+	 * @param symbol символ.
+	 * @return {@code true}, если символ является пробелом или табуляцией, иначе {@code false}.
+	 */
+	private static boolean isSpace(final char symbol)
+	{
+		return symbol == ' ' || symbol == '\t';
+	}
+
+	/**
+	 * Проверяет, является ли символ разделителем записей величин.
+	 *
+	 * @param symbol символ.
+	 * @return {@code true}, если символ является переводом строки или запятой, иначе {@code false}.
+	 */
+	private static boolean isSeparator(final char symbol)
+	{
+		return symbol == '\n' || symbol == '\r' || symbol == ',';
+	}
+
+	/**
+	 * Создаёт исключение о некорректной записи величины.
+	 *
+	 * @param text последовательность символов.
+	 * @param start индекс первого символа записи.
+	 * @param end индекс символа, следующего за последним символом записи.
+	 * @return исключение.
+	 */
+	@NotNull
+	private static IllegalArgumentException invalid(@NotNull final CharSequence text, final int start, final int end)
+	{
+		return new IllegalArgumentException("Некорректная запись величины «" + text.subSequence(start, end) + "».");
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Класс прокси сериализации величин.
+ * <p>
+ * Вместо полей величины записывает её двоичное представление {@link QuantityCodec}:
+ * вид величины, порядковый номер меры измерения, масштаб и немасштабированное значение.
+ * При чтении целые величины, помещающиеся в {@code long}, берутся из кеша часто используемых величин.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class QuantityProxy implements Externalizable
+{
+	/**
+	 * Версия класса для сериализации.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Величина.
+	 */
+	@Nullable
+	private Quantitative<?> quantity;
+
+	/**
+	 * Конструктор для {@code QuantityProxy}.
+	 * <p>Используется при десериализации.</p>
+	 */
+	public QuantityProxy()
+	{
+	}
+
+	/**
+	 * Конструктор для {@code QuantityProxy}.
+	 *
+	 * @param quantity величина.
+	 */
+	QuantityProxy(@NotNull final Quantitative<?> quantity)
+	{
+		this.quantity = quantity;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param out {@inheritDoc}
+	 * @throws IOException {@inheritDoc}
+	 */
+	@Override
+	public void writeExternal(@NotNull final ObjectOutput out)
+		throws IOException
+	{
+		if (this.quantity == null) {
+			throw new IllegalStateException("Величина не задана.");
+		}
+
+		final ByteBuffer buffer = ByteBuffer.allocate(QuantityCodec.size(this.quantity));
+		QuantityCodec.write(buffer, this.quantity);
+
+		out.writeInt(buffer.capacity());
+		out.write(buffer.array());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param in {@inheritDoc}
+	 * @throws IOException {@inheritDoc}
+	 */
+	@Override
+	public void readExternal(@NotNull final ObjectInput in)
+		throws IOException
+	{
+		final int length = in.readInt();
+
+		if (length < 1) {
+			throw new InvalidObjectException("Некорректная запись величины.");
+		}
+
+		final byte[] bytes = new byte[length];
+		in.readFully(bytes);
+
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+		try {
+			this.quantity = QuantityCodec.read(buffer);
+		} catch (IllegalArgumentException | BufferUnderflowException exception) {
+			final InvalidObjectException invalidObjectException = new InvalidObjectException(
+				"Некорректная запись величины."
+			);
+			invalidObjectException.initCause(exception);
+
+			throw invalidObjectException;
+		}
+
+		if (buffer.hasRemaining()) {
+			throw new InvalidObjectException("Некорректная запись величины.");
+		}
+	}
+
+	/**
+	 * Возвращает величину вместо прокси.
+	 *
+	 * @return величину.
+	 * @throws ObjectStreamException если величина не прочитана.
+	 */
+	@NotNull
+	private Object readResolve()
+		throws ObjectStreamException
+	{
+		if (this.quantity == null) {
+			throw new InvalidObjectException("Величина не прочитана.");
+		}
+
+		return this.quantity;
+	}
+}
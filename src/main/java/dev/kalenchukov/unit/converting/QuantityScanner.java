@@ -0,0 +1,456 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Класс поиска величин в больших текстовых файлах.
+ * <p>
+ * Файл отображается в память через {@link FileChannel#map(FileChannel.MapMode, long, long)}
+ * и делится на части по границам строк, которые просматриваются параллельно.
+ * В тексте ищутся записи вида {@code 1532 B} или {@code 12.5ms}: число без знака, которое не является
+ * продолжением слова, необязательные пробелы и обозначение или название меры измерения заданного вида,
+ * за которым слово заканчивается.
+ * Найденные величины сразу суммируются по мерам измерения без создания строк и объектов величин.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class QuantityScanner
+{
+	/**
+	 * Размер части файла по умолчанию.
+	 */
+	static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * Размер буфера для поиска границ строк.
+	 */
+	private static final int BOUNDARY_BUFFER_SIZE = 8192;
+
+	/**
+	 * Наибольшая длина обозначения или названия меры измерения.
+	 */
+	private static final int MAX_UNIT_LENGTH = 32;
+
+	/**
+	 * Наибольшее количество цифр, при котором целое число гарантированно помещается в {@code long}.
+	 */
+	private static final int LONG_DIGITS = 18;
+
+	/**
+	 * Конструктор для {@code QuantityScanner}.
+	 */
+	private QuantityScanner()
+	{
+	}
+
+	/**
+	 * Суммирует величины заданного вида, найденные в файле.
+	 *
+	 * @param file путь к файлу.
+	 * @param type класс перечисления мер измерения.
+	 * @param <M> тип меры измерения величины.
+	 * @return распределение найденных величин по мерам измерения.
+	 * @throws NullPointerException если в качестве {@code file} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 * @throws IllegalArgumentException если меры измерения не относятся ни к одному виду величин.
+	 * @throws IOException если файл не удалось прочитать.
+	 */
+	@NotNull
+	public static <M extends Enum<M> & Measurable> QuantityHistogram<M> scan(@NotNull final Path file,
+																			 @NotNull final Class<M> type)
+		throws IOException
+	{
+		return QuantityScanner.scan(file, type, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Суммирует величины заданного вида, найденные в файле.
+	 *
+	 * @param file путь к файлу.
+	 * @param type класс перечисления мер измерения.
+	 * @param chunkSize примерный размер части файла, просматриваемой одним потоком.
+	 * @param <M> тип меры измерения величины.
+	 * @return распределение найденных величин по мерам измерения.
+	 * @throws NullPointerException если в качестве {@code file} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code type} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code chunkSize} меньше 1.
+	 * @throws IllegalArgumentException если меры измерения не относятся ни к одному виду величин.
+	 * @throws IOException если файл не удалось прочитать.
+	 */
+	@NotNull
+	public static <M extends Enum<M> & Measurable> QuantityHistogram<M> scan(@NotNull final Path file,
+																			 @NotNull final Class<M> type,
+																			 final int chunkSize)
+		throws IOException
+	{
+		Objects.requireNonNull(file);
+		Objects.requireNonNull(type);
+
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("Размер части файла не может быть меньше 1.");
+		}
+
+		final M[] measures = type.getEnumConstants();
+		final QuantityKind kind = QuantityKind.of(measures[0]);
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			final long[] boundaries = QuantityScanner.findBoundaries(channel, chunkSize);
+
+			final MeasureTotals totals = IntStream.range(0, boundaries.length - 1)
+				.parallel()
+				.mapToObj(chunk -> QuantityScanner.scan(
+					channel, boundaries[chunk], boundaries[chunk + 1], kind, measures.length
+				))
+				.reduce((totals1, totals2) -> {
+					totals1.merge(totals2);
+					return totals1;
+				})
+				.orElseGet(() -> new MeasureTotals(measures.length));
+
+			return new QuantityHistogram<>(type, totals);
+		} catch (UncheckedIOException exception) {
+			throw exception.getCause();
+		}
+	}
+
+	/**
+	 * Суммирует величины, найденные в буфере.
+	 * <p>Буфер просматривается от текущей позиции до предела, позиция буфера не изменяется.</p>
+	 *
+	 * @param buffer буфер байтов.
+	 * @param kind вид величин.
+	 * @param totals суммы и количество величин по порядковым номерам мер измерения.
+	 */
+	static void scan(@NotNull final ByteBuffer buffer,
+					 @NotNull final QuantityKind kind,
+					 @NotNull final MeasureTotals totals)
+	{
+		final char[] unit = new char[MAX_UNIT_LENGTH];
+		final CharBuffer unitView = CharBuffer.wrap(unit);
+		final int limit = buffer.limit();
+		int index = buffer.position();
+		boolean boundary = true;
+
+		while (index < limit) {
+			final int value = buffer.get(index) & 0xFF;
+
+			if (!boundary || !QuantityScanner.isDigit(value)) {
+				boundary = !QuantityScanner.isWord(value);
+				index++;
+				continue;
+			}
+
+			int position = index;
+			long unscaled = 0;
+			int digits = 0;
+			int scale = 0;
+
+			for (boolean fraction = false; position < limit; position++) {
+				final int symbol = buffer.get(position) & 0xFF;
+
+				if (QuantityScanner.isDigit(symbol)) {
+					if (unscaled != 0 || symbol != '0') {
+						digits++;
+					}
+
+					unscaled = unscaled * 10 + (symbol - '0');
+					scale += fraction ? 1 : 0;
+				} else if (symbol == '.' && !fraction && position + 1 < limit
+					&& QuantityScanner.isDigit(buffer.get(position + 1) & 0xFF)) {
+					fraction = true;
+				} else {
+					break;
+				}
+			}
+
+			final int numberEnd = position;
+
+			while (position < limit && QuantityScanner.isSpace(buffer.get(position) & 0xFF)) {
+				position++;
+			}
+
+			int length = 0;
+
+			while (position < limit) {
+				final int symbol = buffer.get(position) & 0xFF;
+
+				if (QuantityScanner.isLetter(symbol)) {
+					if (length < unit.length) {
+						unit[length] = (char) symbol;
+					}
+
+					position++;
+				} else if (symbol == 0xC2 && position + 1 < limit && (buffer.get(position + 1) & 0xFF) == 0xB5) {
+					if (length < unit.length) {
+						unit[length] = 'µ';
+					}
+
+					position += 2;
+				} else {
+					break;
+				}
+
+				length++;
+			}
+
+			final Measurable measure = length > 0 && length <= unit.length
+				&& QuantityScanner.isUnitEnd(buffer, position, limit)
+				? kind.lookup(unitView, 0, length)
+				: null;
+
+			if (measure == null) {
+				index = numberEnd;
+				boundary = false;
+				continue;
+			}
+
+			final int ordinal = ((Enum<?>) measure).ordinal();
+
+			if (digits > LONG_DIGITS) {
+				totals.add(ordinal, QuantityScanner.parseNumber(buffer, index, numberEnd));
+			} else {
+				totals.add(ordinal, unscaled, scale);
+			}
+
+			index = position;
+			boundary = false;
+		}
+	}
+
+	/**
+	 * Просматривает часть файла.
+	 *
+	 * @param channel канал файла.
+	 * @param start позиция начала части.
+	 * @param end позиция конца части.
+	 * @param kind вид величин.
+	 * @param size количество мер измерения.
+	 * @return суммы и количество величин по порядковым номерам мер измерения.
+	 * @throws UncheckedIOException если часть файла не удалось отобразить в память.
+	 */
+	@NotNull
+	private static MeasureTotals scan(@NotNull final FileChannel channel,
+									  final long start,
+									  final long end,
+									  @NotNull final QuantityKind kind,
+									  final int size)
+	{
+		final MeasureTotals totals = new MeasureTotals(size);
+
+		try {
+			QuantityScanner.scan(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start), kind, totals);
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+
+		return totals;
+	}
+
+	/**
+	 * Делит файл на части по границам строк.
+	 * <p>Часть, строка в которой длиннее {@link Integer#MAX_VALUE} байтов, делится внутри строки.</p>
+	 *
+	 * @param channel канал файла.
+	 * @param chunkSize примерный размер части.
+	 * @return позиции начала частей и позицию конца файла.
+	 * @throws IOException если файл не удалось прочитать.
+	 */
+	private static long @NotNull [] findBoundaries(@NotNull final FileChannel channel, final int chunkSize)
+		throws IOException
+	{
+		final long size = channel.size();
+		final ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_BUFFER_SIZE);
+		long[] boundaries = new long[16];
+		int count = 0;
+		long start = 0;
+
+		boundaries[count++] = 0;
+
+		while (start < size) {
+			final long limit = Math.min(size, start + Integer.MAX_VALUE);
+			long end = Math.min(limit, start + chunkSize);
+
+			if (end < limit) {
+				end = QuantityScanner.findLineEnd(channel, buffer, end - 1, limit);
+			}
+
+			if (count == boundaries.length) {
+				boundaries = Arrays.copyOf(boundaries, count * 2);
+			}
+
+			boundaries[count++] = end;
+			start = end;
+		}
+
+		return Arrays.copyOf(boundaries, count);
+	}
+
+	/**
+	 * Возвращает позицию, следующую за ближайшим переводом строки.
+	 *
+	 * @param channel канал файла.
+	 * @param buffer буфер для чтения.
+	 * @param from позиция, с которой начинается поиск.
+	 * @param limit позиция, на которой поиск заканчивается.
+	 * @return позицию, следующую за переводом строки, или {@code limit}, если перевод строки не найден.
+	 * @throws IOException если файл не удалось прочитать.
+	 */
+	private static long findLineEnd(@NotNull final FileChannel channel,
+									@NotNull final ByteBuffer buffer,
+									final long from,
+									final long limit)
+		throws IOException
+	{
+		long position = from;
+
+		while (position < limit) {
+			buffer.clear();
+			buffer.limit((int) Math.min(buffer.capacity(), limit - position));
+
+			final int read = channel.read(buffer, position);
+
+			if (read <= 0) {
+				return limit;
+			}
+
+			for (int index = 0; index < read; index++) {
+				if (buffer.get(index) == '\n') {
+					return position + index + 1;
+				}
+			}
+
+			position += read;
+		}
+
+		return limit;
+	}
+
+	/**
+	 * Разбирает число, которое не помещается в {@code long}.
+	 *
+	 * @param buffer буфер байтов.
+	 * @param start индекс первой цифры.
+	 * @param end индекс символа, следующего за последней цифрой.
+	 * @return число.
+	 */
+	@NotNull
+	private static BigDecimal parseNumber(@NotNull final ByteBuffer buffer, final int start, final int end)
+	{
+		final char[] chars = new char[end - start];
+
+		for (int index = start; index < end; index++) {
+			chars[index - start] = (char) buffer.get(index);
+		}
+
+		return new BigDecimal(chars);
+	}
+
+	/**
+	 * Проверяет, заканчивается ли слово обозначения меры измерения в заданной позиции.
+	 * <p>Точка после обозначения считается концом предложения, если за ней не следует часть слова.</p>
+	 *
+	 * @param buffer буфер байтов.
+	 * @param position индекс байта, следующего за обозначением.
+	 * @param limit предел буфера.
+	 * @return {@code true}, если в позиции {@code position} слово заканчивается, иначе {@code false}.
+	 */
+	private static boolean isUnitEnd(@NotNull final ByteBuffer buffer, final int position, final int limit)
+	{
+		if (position == limit) {
+			return true;
+		}
+
+		final int value = buffer.get(position) & 0xFF;
+
+		if (value == '.') {
+			return position + 1 == limit || !QuantityScanner.isWord(buffer.get(position + 1) & 0xFF);
+		}
+
+		return !QuantityScanner.isWord(value);
+	}
+
+	/**
+	 * Проверяет, является ли байт цифрой.
+	 *
+	 * @param value байт.
+	 * @return {@code true}, если байт является цифрой ASCII, иначе {@code false}.
+	 */
+	private static boolean isDigit(final int value)
+	{
+		return value >= '0' && value <= '9';
+	}
+
+	/**
+	 * Проверяет, является ли байт латинской буквой.
+	 *
+	 * @param value байт.
+	 * @return {@code true}, если байт является латинской буквой ASCII, иначе {@code false}.
+	 */
+	private static boolean isLetter(final int value)
+	{
+		return (value >= 'a' && value <= 'z') || (value >= 'A' && value <= 'Z');
+	}
+
+	/**
+	 * Проверяет, является ли байт частью слова.
+	 * <p>Число, перед которым стоит часть слова, не считается началом величины.</p>
+	 *
+	 * @param value байт.
+	 * @return {@code true}, если байт является буквой, цифрой, точкой, подчёркиванием
+	 * или байтом за пределами ASCII, иначе {@code false}.
+	 */
+	private static boolean isWord(final int value)
+	{
+		return QuantityScanner.isLetter(value) || QuantityScanner.isDigit(value)
+			|| value == '.' || value == '_' || value >= 0x80;
+	}
+
+	/**
+	 * Проверяет, является ли байт пробелом.
+	 *
+	 * @param value байт.
+	 * @return {@code true}, если байт является пробелом или табуляцией, иначе {@code false}.
+	 */
+	private static boolean isSpace(final int value)
+	{
+		return value == ' ' || value == '\t';
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+/**
+ * Класс сортировки величин по ключам примитивных типов.
+ * <p>
+ * Ключом сортировки является величина в минимальных единицах меры измерения.
+ * Ключи вычисляются один раз для каждой величины, после чего сравнение величин
+ * сводится к сравнению чисел типа {@code long} или {@code double}.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class QuantitySorts
+{
+	/**
+	 * Наибольшее количество цифр, при котором целое число гарантированно помещается в {@code long}.
+	 */
+	private static final int LONG_DIGITS = 18;
+
+	/**
+	 * Конструктор для {@code QuantitySorts}.
+	 */
+	private QuantitySorts()
+	{
+	}
+
+	/**
+	 * Возвращает ключ сортировки величины типа {@code double}.
+	 * <p>
+	 * Порядок ключей не противоречит порядку величин: из {@code a < b} следует
+	 * {@code toSortKey(a) <= toSortKey(b)}. Различные величины могут иметь равные ключи.
+	 * </p>
+	 *
+	 * @param quantity величина.
+	 * @return величину в минимальных единицах с точностью {@code double}.
+	 * @throws NullPointerException если в качестве {@code quantity} передан {@code null}.
+	 */
+	public static double toSortKey(@NotNull final Quantitative<?> quantity)
+	{
+		Objects.requireNonNull(quantity);
+
+		return quantity.getQuantityInMinUnit().doubleValue();
+	}
+
+	/**
+	 * Возвращает точный ключ сортировки величины типа {@code long}.
+	 *
+	 * @param quantity величина.
+	 * @return величину в минимальных единицах или пустое значение, если величина
+	 * в минимальных единицах дробная или не помещается в {@code long}.
+	 * @throws NullPointerException если в качестве {@code quantity} передан {@code null}.
+	 */
+	@NotNull
+	public static OptionalLong toExactSortKey(@NotNull final Quantitative<?> quantity)
+	{
+		Objects.requireNonNull(quantity);
+
+		final BigDecimal quantityInMinUnit = quantity.getQuantityInMinUnit();
+
+		if (!QuantitySorts.isExact(quantityInMinUnit)) {
+			return OptionalLong.empty();
+		}
+
+		return OptionalLong.of(quantityInMinUnit.longValue());
+	}
+
+	/**
+	 * Сортирует величины по возрастанию с помощью {@link Arrays#parallelSort(Comparable[])}.
+	 * <p>
+	 * Величины сравниваются по точным ключам типа {@code long}, если они есть у обеих величин,
+	 * иначе по ключам типа {@code double}. Только при равенстве ключей типа {@code double}
+	 * величины сравниваются методом {@link AbstractQuantity#compareTo(Quantitative)}.
+	 * Сортировка устойчива.
+	 * </p>
+	 *
+	 * @param quantities величины.
+	 * @param <Q> тип величины.
+	 * @param <M> тип меры измерения величины.
+	 * @throws NullPointerException если в качестве {@code quantities} передан {@code null}.
+	 * @throws NullPointerException если среди {@code quantities} есть {@code null}.
+	 * @throws UnsupportedOperationException если список не поддерживает замену элементов.
+	 */
+	public static <Q extends AbstractQuantity<Q, M>, M extends Enum<M> & Measurable> void parallelSort(
+		@NotNull final List<Q> quantities)
+	{
+		Objects.requireNonNull(quantities);
+
+		@SuppressWarnings("unchecked")
+		final Key<Q, M>[] keys = (Key<Q, M>[]) new Key<?, ?>[quantities.size()];
+		int index = 0;
+
+		for (Q quantity : quantities) {
+			keys[index++] = new Key<>(Objects.requireNonNull(quantity));
+		}
+
+		Arrays.parallelSort(keys);
+
+		final ListIterator<Q> iterator = quantities.listIterator();
+
+		for (Key<Q, M> key : keys) {
+			iterator.next();
+			iterator.set(key.quantity);
+		}
+	}
+
+	/**
+	 * Проверяет, помещается ли величина в {@code long} без потери точности.
+	 *
+	 * @param quantity величина.
+	 * @return {@code true}, если величина целая и помещается в {@code long}, иначе {@code false}.
+	 */
+	private static boolean isExact(@NotNull final BigDecimal quantity)
+	{
+		return quantity.scale() == 0 && quantity.precision() <= LONG_DIGITS;
+	}
+
+	/**
+	 * Класс величины с вычисленными ключами сортировки.
+	 *
+	 * @param <Q> тип величины.
+	 * @param <M> тип меры измерения величины.
+	 */
+	private static final class Key<Q extends AbstractQuantity<Q, M>, M extends Enum<M> & Measurable>
+		implements Comparable<Key<Q, M>>
+	{
+		/**
+		 * Величина.
+		 */
+		@NotNull
+		private final Q quantity;
+
+		/**
+		 * Признак наличия точного ключа.
+		 */
+		private final boolean exact;
+
+		/**
+		 * Точный ключ.
+		 */
+		private final long exactKey;
+
+		/**
+		 * Ключ типа {@code double}.
+		 */
+		private final double key;
+
+		/**
+		 * Конструктор для {@code Key}.
+		 *
+		 * @param quantity величина.
+		 */
+		private Key(@NotNull final Q quantity)
+		{
+			final BigDecimal quantityInMinUnit = quantity.getQuantityInMinUnit();
+
+			this.quantity = quantity;
+			this.exact = QuantitySorts.isExact(quantityInMinUnit);
+			this.exactKey = this.exact ? quantityInMinUnit.longValue() : 0;
+			this.key = quantityInMinUnit.doubleValue();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @param other {@inheritDoc}
+		 * @return {@inheritDoc}
+		 */
+		@Override
+		public int compareTo(@NotNull final Key<Q, M> other)
+		{
+			if (this.exact && other.exact) {
+				return Long.compare(this.exactKey, other.exactKey);
+			}
+
+			final int result = Double.compare(this.key, other.key);
+
+			if (result != 0) {
+				return result;
+			}
+
+			return this.quantity.compareTo(other.quantity);
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Класс счётчика суммы неотрицательных чисел, разделённого на полосы.
+ * <p>
+ * Как и {@link java.util.concurrent.atomic.LongAdder}, распределяет слагаемые по ячейкам,
+ * чтобы потоки не конкурировали за одну ячейку. В отличие от него, не теряет точность при переполнении:
+ * ячейка, которая переполнилась бы, переносится в сумму типа {@link BigInteger}.
+ * Перенос и получение суммы выполняются под блокировкой, поэтому сумма не учитывает ячейку дважды.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+final class StripedAdder
+{
+	/**
+	 * Количество элементов массива на одну ячейку.
+	 * <p>Ячейки разнесены на 64 байта, чтобы не попадать в одну строку кеша процессора.</p>
+	 */
+	private static final int PADDING = 8;
+
+	/**
+	 * Количество ячеек.
+	 */
+	private static final int STRIPES =
+		Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1));
+
+	/**
+	 * Ячейки.
+	 */
+	@NotNull
+	private final AtomicLongArray cells;
+
+	/**
+	 * Сумма ячеек, перенесённых при переполнении.
+	 */
+	@NotNull
+	private BigInteger overflow;
+
+	/**
+	 * Конструктор для {@code StripedAdder}.
+	 */
+	StripedAdder()
+	{
+		this.cells = new AtomicLongArray(STRIPES * PADDING);
+		this.overflow = BigInteger.ZERO;
+	}
+
+	/**
+	 * Добавляет число к сумме.
+	 *
+	 * @param value число, не меньше 0.
+	 */
+	void add(final long value)
+	{
+		int stripe = StripedAdder.probe();
+
+		for (int attempt = 0; attempt < STRIPES; attempt++) {
+			final int index = stripe * PADDING;
+			final long current = this.cells.get(index);
+			final long sum = current + value;
+
+			if (sum < 0) {
+				this.spill(index, value);
+
+				return;
+			}
+
+			if (this.cells.compareAndSet(index, current, sum)) {
+				return;
+			}
+
+			stripe = (stripe + 1) & (STRIPES - 1);
+		}
+
+		this.spill(stripe * PADDING, value);
+	}
+
+	/**
+	 * Возвращает сумму.
+	 * <p>Слагаемые, добавляемые одновременно с вызовом, могут быть не учтены.</p>
+	 *
+	 * @return сумму.
+	 */
+	@NotNull
+	synchronized BigInteger sum()
+	{
+		BigInteger sum = this.overflow;
+		long cellsSum = 0;
+
+		for (int index = 0; index < this.cells.length(); index += PADDING) {
+			final long value = this.cells.get(index);
+
+			if (cellsSum + value < 0) {
+				sum = sum.add(BigInteger.valueOf(cellsSum));
+				cellsSum = 0;
+			}
+
+			cellsSum += value;
+		}
+
+		return sum.add(BigInteger.valueOf(cellsSum));
+	}
+
+	/**
+	 * Добавляет число к ячейке под блокировкой, перенося ячейку в сумму при переполнении.
+	 * <p>Также используется, если все попытки добавить число без блокировки не удались.</p>
+	 *
+	 * @param index индекс ячейки.
+	 * @param value число, не меньше 0.
+	 */
+	private synchronized void spill(final int index, final long value)
+	{
+		while (true) {
+			final long current = this.cells.get(index);
+			final long sum = current + value;
+
+			if (sum >= 0) {
+				if (this.cells.compareAndSet(index, current, sum)) {
+					return;
+				}
+			} else if (this.cells.compareAndSet(index, current, 0)) {
+				this.overflow = this.overflow.add(BigInteger.valueOf(current)).add(BigInteger.valueOf(value));
+
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Возвращает номер ячейки для текущего потока.
+	 *
+	 * @return номер ячейки.
+	 */
+	private static int probe()
+	{
+		final int hash = (int) Thread.currentThread().getId() * 0x9E3779B9;
+
+		return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+	}
+}
@@ -38,6 +38,19 @@ import java.util.Objects;
  */
 public final class TimeQuantity extends AbstractQuantity<TimeQuantity, TimeMeasure>
 {
+	/**
+	 * Версия класса для сериализации.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Кеш часто используемых величин.
+	 */
+	@NotNull
+	private static final QuantityCache<TimeQuantity, TimeMeasure> CACHE = new QuantityCache<>(
+		TimeMeasure.class, TimeQuantity::new
+	);
+
 	/**
 	 * Конструктор для {@code TimeQuantity}.
 	 *
@@ -144,6 +157,42 @@ public final class TimeQuantity extends AbstractQuantity<TimeQuantity, TimeMeasu
 		super(Objects.requireNonNull(quantity), Objects.requireNonNull(measure));
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param quantity {@inheritDoc}
+	 * @param measure {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalArgumentException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	protected TimeQuantity create(@NotNull final BigDecimal quantity, @NotNull final TimeMeasure measure)
+	{
+		return new TimeQuantity(quantity, measure);
+	}
+
+	/**
+	 * Возвращает величину времени.
+	 * <p>
+	 * Величины от 0 до 1024 каждой меры измерения кешируются, поэтому повторные вызовы
+	 * с одинаковыми аргументами возвращают один и тот же объект.
+	 * </p>
+	 *
+	 * @param quantity величина.
+	 * @param measure мера измерения величины времени.
+	 * @return величину времени.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 * @throws IllegalArgumentException если {@code quantity} меньше 0.
+	 */
+	@NotNull
+	public static TimeQuantity valueOf(final long quantity, @NotNull final TimeMeasure measure)
+	{
+		Objects.requireNonNull(measure);
+
+		return CACHE.get(quantity, measure);
+	}
+
 	/**
 	 * Сравнивает объекты.
 	 *
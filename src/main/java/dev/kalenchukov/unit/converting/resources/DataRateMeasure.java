@@ -0,0 +1,582 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.resources;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.Objects;
+
+/**
+ * Перечисление мер измерения скорости передачи данных.
+ * <p>Наименьшей мерой является бит в секунду {@link DataRateMeasure#BIT_PER_SECOND}.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+public enum DataRateMeasure implements Measurable
+{
+	/**
+	 * Бит в секунду.
+	 * <p>2<sup>0</sup> бит/с = 1.</p>
+	 *
+	 * Наименьшая мера измерения скорости передачи данных.
+	 */
+	BIT_PER_SECOND(
+		Set.of(Standard.IEC, Standard.SI),
+		new BigDecimal(1),
+		"bit/s"
+	),
+
+	/**
+	 * Кибибит в секунду.
+	 * <p>2<sup>10</sup> бит/с = 1 024.</p>
+	 */
+	KIBIBIT_PER_SECOND(
+		Set.of(Standard.IEC),
+		new BigDecimal(2).pow(10),
+		"Kibit/s"
+	),
+
+	/**
+	 * Мебибит в секунду.
+	 * <p>2<sup>20</sup> бит/с = 1 048 576.</p>
+	 */
+	MEBIBIT_PER_SECOND(
+		Set.of(Standard.IEC),
+		new BigDecimal(2).pow(20),
+		"Mibit/s"
+	),
+
+	/**
+	 * Гибибит в секунду.
+	 * <p>2<sup>30</sup> бит/с = 1 073 741 824.</p>
+	 */
+	GIBIBIT_PER_SECOND(
+		Set.of(Standard.IEC),
+		new BigDecimal(2).pow(30),
+		"Gibit/s"
+	),
+
+	/**
+	 * Тебибит в секунду.
+	 * <p>2<sup>40</sup> бит/с = 1 099 511 627 776.</p>
+	 */
+	TEBIBIT_PER_SECOND(
+		Set.of(Standard.IEC),
+		new BigDecimal(2).pow(40),
+		"Tibit/s"
+	),
+
+	/**
+	 * Пебибит в секунду.
+	 * <p>2<sup>50</sup> бит/с = 1 125 899 906 842 624.</p>
+	 */
+	PEBIBIT_PER_SECOND(
+		Set.of(Standard.IEC),
+		new BigDecimal(2).pow(50),
+		"Pibit/s"
+	),
+
+	/**
+	 * Эксбибит в секунду.
+	 * <p>2<sup>60</sup> бит/с = 1 152 921 504 606 846 976.</p>
+	 */
+	EXBIBIT_PER_SECOND(
+		Set.of(Standard.IEC),
+		new BigDecimal(2).pow(60),
+		"Eibit/s"
+	),
+
+	/**
+	 * Зебибит в секунду.
+	 * <p>2<sup>70</sup> бит/с = 1 180 591 620 717 411 303 424.</p>
+	 */
+	ZEBIBIT_PER_SECOND(
+		Set.of(Standard.IEC),
+		new BigDecimal(2).pow(70),
+		"Zibit/s"
+	),
+
+	/**
+	 * Йобибит в секунду.
+	 * <p>2<sup>80</sup> бит/с = 1 208 925 819 614 629 174 706 176.</p>
+	 */
+	YOBIBIT_PER_SECOND(
+		Set.of(Standard.IEC),
+		new BigDecimal(2).pow(80),
+		"Yibit/s"
+	),
+
+	/**
+	 * Килобит в секунду.
+	 * <p>10<sup>3</sup> бит/с = 1 000.</p>
+	 */
+	KILOBIT_PER_SECOND(
+		Set.of(Standard.SI),
+		new BigDecimal(10).pow(3),
+		"kbit/s"
+	),
+
+	/**
+	 * Мегабит в секунду.
+	 * <p>10<sup>6</sup> бит/с = 1 000 000.</p>
+	 */
+	MEGABIT_PER_SECOND(
+		Set.of(Standard.SI),
+		new BigDecimal(10).pow(6),
+		"Mbit/s"
+	),
+
+	/**
+	 * Гигабит в секунду.
+	 * <p>10<sup>9</sup> бит/с = 1 000 000 000.</p>
+	 */
+	GIGABIT_PER_SECOND(
+		Set.of(Standard.SI),
+		new BigDecimal(10).pow(9),
+		"Gbit/s"
+	),
+
+	/**
+	 * Терабит в секунду.
+	 * <p>10<sup>12</sup> бит/с = 1 000 000 000 000.</p>
+	 */
+	TERABIT_PER_SECOND(
+		Set.of(Standard.SI),
+		new BigDecimal(10).pow(12),
+		"Tbit/s"
+	),
+
+	/**
+	 * Петабит в секунду.
+	 * <p>10<sup>15</sup> бит/с = 1 000 000 000 000 000.</p>
+	 */
+	PETABIT_PER_SECOND(
+		Set.of(Standard.SI),
+		new BigDecimal(10).pow(15),
+		"Pbit/s"
+	),
+
+	/**
+	 * Эксабит в секунду.
+	 * <p>10<sup>18</sup> бит/с = 1 000 000 000 000 000 000.</p>
+	 */
+	EXABIT_PER_SECOND(
+		Set.of(Standard.SI),
+		new BigDecimal(10).pow(18),
+		"Ebit/s"
+	),
+
+	/**
+	 * Зеттабит в секунду.
+	 * <p>10<sup>21</sup> бит/с = 1 000 000 000 000 000 000 000.</p>
+	 */
+	ZETTABIT_PER_SECOND(
+		Set.of(Standard.SI),
+		new BigDecimal(10).pow(21),
+		"Zbit/s"
+	),
+
+	/**
+	 * Йоттабит в секунду.
+	 * <p>10<sup>24</sup> бит/с = 1 000 000 000 000 000 000 000 000.</p>
+	 */
+	YOTTABIT_PER_SECOND(
+		Set.of(Standard.SI),
+		new BigDecimal(10).pow(24),
+		"Ybit/s"
+	),
+
+	/**
+	 * Байт в секунду.
+	 * <p>2<sup>0</sup> байт/с = 1.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	BYTE_PER_SECOND(
+		Set.of(Standard.IEC, Standard.SI),
+		new BigDecimal(1).multiply(BigDecimal.valueOf(8)),
+		"B/s"
+	),
+
+	/**
+	 * Кибибайт в секунду.
+	 * <p>2<sup>10</sup> байт/с = 1 024.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	KIBIBYTE_PER_SECOND(
+		Set.of(Standard.IEC),
+		new BigDecimal(2).pow(10).multiply(BigDecimal.valueOf(8)),
+		"KiB/s"
+	),
+
+	/**
+	 * Мебибайт в секунду.
+	 * <p>2<sup>20</sup> байт/с = 1 048 576.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	MEBIBYTE_PER_SECOND(
+		Set.of(Standard.IEC),
+		new BigDecimal(2).pow(20).multiply(BigDecimal.valueOf(8)),
+		"MiB/s"
+	),
+
+	/**
+	 * Гибибайт в секунду.
+	 * <p>2<sup>30</sup> байт/с = 1 073 741 824.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	GIBIBYTE_PER_SECOND(
+		Set.of(Standard.IEC),
+		new BigDecimal(2).pow(30).multiply(BigDecimal.valueOf(8)),
+		"GiB/s"
+	),
+
+	/**
+	 * Тебибайт в секунду.
+	 * <p>2<sup>40</sup> байт/с = 1 099 511 627 776.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	TEBIBYTE_PER_SECOND(
+		Set.of(Standard.IEC),
+		new BigDecimal(2).pow(40).multiply(BigDecimal.valueOf(8)),
+		"TiB/s"
+	),
+
+	/**
+	 * Пебибайт в секунду.
+	 * <p>2<sup>50</sup> байт/с = 1 125 899 906 842 624.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	PEBIBYTE_PER_SECOND(
+		Set.of(Standard.IEC),
+		new BigDecimal(2).pow(50).multiply(BigDecimal.valueOf(8)),
+		"PiB/s"
+	),
+
+	/**
+	 * Эксбибайт в секунду.
+	 * <p>2<sup>60</sup> байт/с = 1 152 921 504 606 846 976.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	EXBIBYTE_PER_SECOND(
+		Set.of(Standard.IEC),
+		new BigDecimal(2).pow(60).multiply(BigDecimal.valueOf(8)),
+		"EiB/s"
+	),
+
+	/**
+	 * Зебибайт в секунду.
+	 * <p>2<sup>70</sup> байт/с = 1 180 591 620 717 411 303 424.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	ZEBIBYTE_PER_SECOND(
+		Set.of(Standard.IEC),
+		new BigDecimal(2).pow(70).multiply(BigDecimal.valueOf(8)),
+		"ZiB/s"
+	),
+
+	/**
+	 * Йобибайт в секунду.
+	 * <p>2<sup>80</sup> байт/с = 1 208 925 819 614 629 174 706 176.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	YOBIBYTE_PER_SECOND(
+		Set.of(Standard.IEC),
+		new BigDecimal(2).pow(80).multiply(BigDecimal.valueOf(8)),
+		"YiB/s"
+	),
+
+	/**
+	 * Килобайт в секунду.
+	 * <p>10<sup>3</sup> байт/с = 1 000.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	KILOBYTE_PER_SECOND(
+		Set.of(Standard.SI),
+		new BigDecimal(10).pow(3).multiply(BigDecimal.valueOf(8)),
+		"kB/s"
+	),
+
+	/**
+	 * Мегабайт в секунду.
+	 * <p>10<sup>6</sup> байт/с = 1 000 000.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	MEGABYTE_PER_SECOND(
+		Set.of(Standard.SI),
+		new BigDecimal(10).pow(6).multiply(BigDecimal.valueOf(8)),
+		"MB/s"
+	),
+
+	/**
+	 * Гигабайт в секунду.
+	 * <p>10<sup>9</sup> байт/с = 1 000 000 000.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	GIGABYTE_PER_SECOND(
+		Set.of(Standard.SI),
+		new BigDecimal(10).pow(9).multiply(BigDecimal.valueOf(8)),
+		"GB/s"
+	),
+
+	/**
+	 * Терабайт в секунду.
+	 * <p>10<sup>12</sup> байт/с = 1 000 000 000 000.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	TERABYTE_PER_SECOND(
+		Set.of(Standard.SI),
+		new BigDecimal(10).pow(12).multiply(BigDecimal.valueOf(8)),
+		"TB/s"
+	),
+
+	/**
+	 * Петабайт в секунду.
+	 * <p>10<sup>15</sup> байт/с = 1 000 000 000 000 000.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	PETABYTE_PER_SECOND(
+		Set.of(Standard.SI),
+		new BigDecimal(10).pow(15).multiply(BigDecimal.valueOf(8)),
+		"PB/s"
+	),
+
+	/**
+	 * Эксабайт в секунду.
+	 * <p>10<sup>18</sup> байт/с = 1 000 000 000 000 000 000.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	EXABYTE_PER_SECOND(
+		Set.of(Standard.SI),
+		new BigDecimal(10).pow(18).multiply(BigDecimal.valueOf(8)),
+		"EB/s"
+	),
+
+	/**
+	 * Зеттабайт в секунду.
+	 * <p>10<sup>21</sup> байт/с = 1 000 000 000 000 000 000 000.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	ZETTABYTE_PER_SECOND(
+		Set.of(Standard.SI),
+		new BigDecimal(10).pow(21).multiply(BigDecimal.valueOf(8)),
+		"ZB/s"
+	),
+
+	/**
+	 * Йоттабайт в секунду.
+	 * <p>10<sup>24</sup> байт/с = 1 000 000 000 000 000 000 000 000.</p>
+	 *
+	 * Данное значение умножается на 8 для конвертирования в наименьшую величину {@link DataRateMeasure#BIT_PER_SECOND}.
+	 */
+	YOTTABYTE_PER_SECOND(
+		Set.of(Standard.SI),
+		new BigDecimal(10).pow(24).multiply(BigDecimal.valueOf(8)),
+		"YB/s"
+	);
+
+	/**
+	 * Индекс обозначений и названий мер.
+	 */
+	@NotNull
+	private static final MeasureIndex<DataRateMeasure> INDEX = new MeasureIndex<>(DataRateMeasure.values());
+
+	/**
+	 * Меры измерения скорости по порядковым номерам мер измерения информации.
+	 */
+	@NotNull
+	private static final DataRateMeasure @NotNull [] BY_INFORMATION = DataRateMeasure.byInformation();
+
+	/**
+	 * Список стандартов меры измерения.
+	 */
+	@Unmodifiable
+	@NotNull
+	private final Set<@NotNull Standard> standard;
+
+	/**
+	 * Количество минимальных единиц меры.
+	 */
+	@NotNull
+	private final BigDecimal countMinUnit;
+
+	/**
+	 * Обозначение меры.
+	 */
+	@NotNull
+	private final String symbol;
+
+	/**
+	 * Конструктор для {@code DataRateMeasure}.
+	 *
+	 * @param standard список стандартов меры измерения.
+	 * @param countMinUnit количество минимальных единиц меры.
+	 * @param symbol обозначение меры.
+	 * @throws NullPointerException если в качестве {@code standard} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code countMinUnit} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code symbol} передан {@code null}.
+	 */
+	DataRateMeasure(@NotNull final Set<@NotNull Standard> standard,
+	                @NotNull final BigDecimal countMinUnit,
+	                @NotNull final String symbol)
+	{
+		Objects.requireNonNull(standard);
+		Objects.requireNonNull(countMinUnit);
+		Objects.requireNonNull(symbol);
+
+		this.standard = standard;
+		this.countMinUnit = countMinUnit;
+		this.symbol = symbol;
+	}
+
+	/**
+	 * Возвращает меру измерения по обозначению или названию.
+	 * <p>
+	 * Обозначения сравниваются с учётом регистра ({@code MB/s} и {@code Mbit/s} - разные меры).
+	 * Названия сравниваются без учёта регистра, например {@code gigabit_per_second}.
+	 * Поиск не создаёт объектов и не выбрасывает исключений при отсутствии меры.
+	 * </p>
+	 *
+	 * @param text обозначение или название меры.
+	 * @return меру измерения или {@code null}, если мера не найдена.
+	 * @throws NullPointerException если в качестве {@code text} передан {@code null}.
+	 */
+	@Nullable
+	public static DataRateMeasure lookup(@NotNull final CharSequence text)
+	{
+		Objects.requireNonNull(text);
+
+		return INDEX.find(text, 0, text.length());
+	}
+
+	/**
+	 * Возвращает меру измерения по обозначению или названию, записанному в участке последовательности символов.
+	 *
+	 * @param text последовательность символов.
+	 * @param start индекс первого символа участка.
+	 * @param end индекс символа, следующего за последним символом участка.
+	 * @return меру измерения или {@code null}, если мера не найдена.
+	 * @throws NullPointerException если в качестве {@code text} передан {@code null}.
+	 * @throws IndexOutOfBoundsException если участок выходит за пределы {@code text}.
+	 * @see #lookup(CharSequence)
+	 */
+	@Nullable
+	public static DataRateMeasure lookup(@NotNull final CharSequence text, final int start, final int end)
+	{
+		Objects.requireNonNull(text);
+		Objects.checkFromToIndex(start, end, text.length());
+
+		return INDEX.find(text, start, end);
+	}
+
+	/**
+	 * Возвращает меру измерения скорости, соответствующую мере измерения информации.
+	 *
+	 * @param measure мера измерения информации.
+	 * @return меру измерения скорости, например {@link #GIBIBYTE_PER_SECOND} для {@link InformationMeasure#GIBIBYTE}.
+	 * @throws NullPointerException если в качестве {@code measure} передан {@code null}.
+	 */
+	@NotNull
+	public static DataRateMeasure of(@NotNull final InformationMeasure measure)
+	{
+		Objects.requireNonNull(measure);
+
+		return BY_INFORMATION[measure.ordinal()];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Unmodifiable
+	@NotNull
+	@Override
+	public Set<@NotNull Standard> getStandard()
+	{
+		return this.standard;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public BigDecimal getCountMinUnit()
+	{
+		return this.countMinUnit;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public String getSymbol()
+	{
+		return this.symbol;
+	}
+
+	/**
+	 * Сопоставляет меры измерения информации мерам измерения скорости по названию.
+	 *
+	 * @return меры измерения скорости по порядковым номерам мер измерения информации.
+	 */
+	@NotNull
+	private static DataRateMeasure @NotNull [] byInformation()
+	{
+		final InformationMeasure[] measures = InformationMeasure.values();
+		final DataRateMeasure[] result = new DataRateMeasure[measures.length];
+
+		for (InformationMeasure measure : measures) {
+			result[measure.ordinal()] = DataRateMeasure.valueOf(measure.name() + "_PER_SECOND");
+		}
+
+		return result;
+	}
+}
@@ -25,6 +25,7 @@
 package dev.kalenchukov.unit.converting.resources;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.math.BigDecimal;
@@ -46,7 +47,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	BIT(
 		Set.of(Standard.IEC, Standard.SI),
-		new BigDecimal(1)
+		new BigDecimal(1),
+		"bit"
 	),
 
 	/**
@@ -55,7 +57,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	KIBIBIT(
 		Set.of(Standard.IEC),
-		new BigDecimal(2).pow(10)
+		new BigDecimal(2).pow(10),
+		"Kibit"
 	),
 
 	/**
@@ -64,7 +67,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	MEBIBIT(
 		Set.of(Standard.IEC),
-		new BigDecimal(2).pow(20)
+		new BigDecimal(2).pow(20),
+		"Mibit"
 	),
 
 	/**
@@ -73,7 +77,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	GIBIBIT(
 		Set.of(Standard.IEC),
-		new BigDecimal(2).pow(30)
+		new BigDecimal(2).pow(30),
+		"Gibit"
 	),
 
 	/**
@@ -82,7 +87,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	TEBIBIT(
 		Set.of(Standard.IEC),
-		new BigDecimal(2).pow(40)
+		new BigDecimal(2).pow(40),
+		"Tibit"
 	),
 
 	/**
@@ -91,7 +97,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	PEBIBIT(
 		Set.of(Standard.IEC),
-		new BigDecimal(2).pow(50)
+		new BigDecimal(2).pow(50),
+		"Pibit"
 	),
 
 	/**
@@ -100,7 +107,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	EXBIBIT(
 		Set.of(Standard.IEC),
-		new BigDecimal(2).pow(60)
+		new BigDecimal(2).pow(60),
+		"Eibit"
 	),
 
 	/**
@@ -109,7 +117,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	ZEBIBIT(
 		Set.of(Standard.IEC),
-		new BigDecimal(2).pow(70)
+		new BigDecimal(2).pow(70),
+		"Zibit"
 	),
 
 	/**
@@ -118,7 +127,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	YOBIBIT(
 		Set.of(Standard.IEC),
-		new BigDecimal(2).pow(80)
+		new BigDecimal(2).pow(80),
+		"Yibit"
 	),
 
 	/**
@@ -127,7 +137,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	KILOBIT(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(3)
+		new BigDecimal(10).pow(3),
+		"kbit"
 	),
 
 	/**
@@ -136,7 +147,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	MEGABIT(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(6)
+		new BigDecimal(10).pow(6),
+		"Mbit"
 	),
 
 	/**
@@ -145,7 +157,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	GIGABIT(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(9)
+		new BigDecimal(10).pow(9),
+		"Gbit"
 	),
 
 	/**
@@ -154,7 +167,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	TERABIT(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(12)
+		new BigDecimal(10).pow(12),
+		"Tbit"
 	),
 
 	/**
@@ -163,7 +177,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	PETABIT(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(15)
+		new BigDecimal(10).pow(15),
+		"Pbit"
 	),
 
 	/**
@@ -172,7 +187,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	EXABIT(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(18)
+		new BigDecimal(10).pow(18),
+		"Ebit"
 	),
 
 	/**
@@ -181,7 +197,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	ZETTABIT(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(21)
+		new BigDecimal(10).pow(21),
+		"Zbit"
 	),
 
 	/**
@@ -190,7 +207,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	YOTTABIT(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(24)
+		new BigDecimal(10).pow(24),
+		"Ybit"
 	),
 
 	/**
@@ -201,7 +219,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	BYTE(
 		Set.of(Standard.IEC, Standard.SI),
-		new BigDecimal(1).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(1).multiply(BigDecimal.valueOf(8)),
+		"B"
 	),
 
 	/**
@@ -212,7 +231,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	KIBIBYTE(
 		Set.of(Standard.IEC),
-		new BigDecimal(2).pow(10).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(2).pow(10).multiply(BigDecimal.valueOf(8)),
+		"KiB"
 	),
 
 	/**
@@ -223,7 +243,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	MEBIBYTE(
 		Set.of(Standard.IEC),
-		new BigDecimal(2).pow(20).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(2).pow(20).multiply(BigDecimal.valueOf(8)),
+		"MiB"
 	),
 
 	/**
@@ -234,7 +255,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	GIBIBYTE(
 		Set.of(Standard.IEC),
-		new BigDecimal(2).pow(30).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(2).pow(30).multiply(BigDecimal.valueOf(8)),
+		"GiB"
 	),
 
 	/**
@@ -245,7 +267,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	TEBIBYTE(
 		Set.of(Standard.IEC),
-		new BigDecimal(2).pow(40).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(2).pow(40).multiply(BigDecimal.valueOf(8)),
+		"TiB"
 	),
 
 	/**
@@ -256,7 +279,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	PEBIBYTE(
 		Set.of(Standard.IEC),
-		new BigDecimal(2).pow(50).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(2).pow(50).multiply(BigDecimal.valueOf(8)),
+		"PiB"
 	),
 
 	/**
@@ -267,7 +291,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	EXBIBYTE(
 		Set.of(Standard.IEC),
-		new BigDecimal(2).pow(60).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(2).pow(60).multiply(BigDecimal.valueOf(8)),
+		"EiB"
 	),
 
 	/**
@@ -278,7 +303,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	ZEBIBYTE(
 		Set.of(Standard.IEC),
-		new BigDecimal(2).pow(70).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(2).pow(70).multiply(BigDecimal.valueOf(8)),
+		"ZiB"
 	),
 
 	/**
@@ -289,7 +315,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	YOBIBYTE(
 		Set.of(Standard.IEC),
-		new BigDecimal(2).pow(80).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(2).pow(80).multiply(BigDecimal.valueOf(8)),
+		"YiB"
 	),
 
 	/**
@@ -300,7 +327,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	KILOBYTE(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(3).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(10).pow(3).multiply(BigDecimal.valueOf(8)),
+		"kB"
 	),
 
 	/**
@@ -311,7 +339,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	MEGABYTE(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(6).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(10).pow(6).multiply(BigDecimal.valueOf(8)),
+		"MB"
 	),
 
 	/**
@@ -322,7 +351,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	GIGABYTE(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(9).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(10).pow(9).multiply(BigDecimal.valueOf(8)),
+		"GB"
 	),
 
 	/**
@@ -333,7 +363,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	TERABYTE(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(12).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(10).pow(12).multiply(BigDecimal.valueOf(8)),
+		"TB"
 	),
 
 	/**
@@ -344,7 +375,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	PETABYTE(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(15).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(10).pow(15).multiply(BigDecimal.valueOf(8)),
+		"PB"
 	),
 
 	/**
@@ -355,7 +387,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	EXABYTE(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(18).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(10).pow(18).multiply(BigDecimal.valueOf(8)),
+		"EB"
 	),
 
 	/**
@@ -366,7 +399,8 @@ public enum InformationMeasure implements Measurable
 	 */
 	ZETTABYTE(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(21).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(10).pow(21).multiply(BigDecimal.valueOf(8)),
+		"ZB"
 	),
 
 	/**
@@ -377,9 +411,16 @@ public enum InformationMeasure implements Measurable
 	 */
 	YOTTABYTE(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(24).multiply(BigDecimal.valueOf(8))
+		new BigDecimal(10).pow(24).multiply(BigDecimal.valueOf(8)),
+		"YB"
 	);
 
+	/**
+	 * Индекс обозначений и названий мер.
+	 */
+	@NotNull
+	private static final MeasureIndex<InformationMeasure> INDEX = new MeasureIndex<>(InformationMeasure.values());
+
 	/**
 	 * Список стандартов меры измерения.
 	 */
@@ -393,21 +434,74 @@ public enum InformationMeasure implements Measurable
 	@NotNull
 	private final BigDecimal countMinUnit;
 
+	/**
+	 * Обозначение меры.
+	 */
+	@NotNull
+	private final String symbol;
+
 	/**
 	 * Конструктор для {@code InformationMeasure}.
 	 *
 	 * @param standard список стандартов меры измерения.
 	 * @param countMinUnit количество минимальных единиц меры.
+	 * @param symbol обозначение меры.
 	 * @throws NullPointerException если в качестве {@code standard} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code countMinUnit} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code symbol} передан {@code null}.
 	 */
-	InformationMeasure(@NotNull final Set<@NotNull Standard> standard, @NotNull final BigDecimal countMinUnit)
+	InformationMeasure(@NotNull final Set<@NotNull Standard> standard,
+	                   @NotNull final BigDecimal countMinUnit,
+	                   @NotNull final String symbol)
 	{
 		Objects.requireNonNull(standard);
 		Objects.requireNonNull(countMinUnit);
+		Objects.requireNonNull(symbol);
 
 		this.standard = standard;
 		this.countMinUnit = countMinUnit;
+		this.symbol = symbol;
+	}
+
+	/**
+	 * Возвращает меру измерения по обозначению или названию.
+	 * <p>
+	 * Обозначения сравниваются с учётом регистра ({@code ms} и {@code Ms} - разные меры),
+	 * допускается {@code u} вместо {@code µ}. Названия в единственном и множественном числе
+	 * сравниваются без учёта регистра, например {@code gibibytes} или {@code Milliseconds}.
+	 * Поиск не создаёт объектов и не выбрасывает исключений при отсутствии меры.
+	 * </p>
+	 *
+	 * @param text обозначение или название меры.
+	 * @return меру измерения или {@code null}, если мера не найдена.
+	 * @throws NullPointerException если в качестве {@code text} передан {@code null}.
+	 */
+	@Nullable
+	public static InformationMeasure lookup(@NotNull final CharSequence text)
+	{
+		Objects.requireNonNull(text);
+
+		return INDEX.find(text, 0, text.length());
+	}
+
+	/**
+	 * Возвращает меру измерения по обозначению или названию, записанному в участке последовательности символов.
+	 *
+	 * @param text последовательность символов.
+	 * @param start индекс первого символа участка.
+	 * @param end индекс символа, следующего за последним символом участка.
+	 * @return меру измерения или {@code null}, если мера не найдена.
+	 * @throws NullPointerException если в качестве {@code text} передан {@code null}.
+	 * @throws IndexOutOfBoundsException если участок выходит за пределы {@code text}.
+	 * @see #lookup(CharSequence)
+	 */
+	@Nullable
+	public static InformationMeasure lookup(@NotNull final CharSequence text, final int start, final int end)
+	{
+		Objects.requireNonNull(text);
+		Objects.checkFromToIndex(start, end, text.length());
+
+		return INDEX.find(text, start, end);
 	}
 
 	/**
@@ -434,4 +528,16 @@ public enum InformationMeasure implements Measurable
 	{
 		return this.countMinUnit;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public String getSymbol()
+	{
+		return this.symbol;
+	}
 }
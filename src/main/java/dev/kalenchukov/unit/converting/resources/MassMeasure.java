@@ -25,6 +25,7 @@
 package dev.kalenchukov.unit.converting.resources;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.math.BigDecimal;
@@ -47,7 +48,8 @@ public enum MassMeasure implements Measurable
 	 */
 	YOCTOGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(-24, new MathContext(32))
+		new BigDecimal(10).pow(-24, new MathContext(32)),
+		"yg"
 	),
 
 	/**
@@ -56,7 +58,8 @@ public enum MassMeasure implements Measurable
 	 */
 	ZEPTOGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(-21, new MathContext(32))
+		new BigDecimal(10).pow(-21, new MathContext(32)),
+		"zg"
 	),
 
 	/**
@@ -65,7 +68,8 @@ public enum MassMeasure implements Measurable
 	 */
 	ATTOGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(-18, new MathContext(32))
+		new BigDecimal(10).pow(-18, new MathContext(32)),
+		"ag"
 	),
 
 	/**
@@ -74,7 +78,8 @@ public enum MassMeasure implements Measurable
 	 */
 	FEMTOGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(-15, new MathContext(32))
+		new BigDecimal(10).pow(-15, new MathContext(32)),
+		"fg"
 	),
 
 	/**
@@ -83,7 +88,8 @@ public enum MassMeasure implements Measurable
 	 */
 	PICOGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(-12, new MathContext(32))
+		new BigDecimal(10).pow(-12, new MathContext(32)),
+		"pg"
 	),
 
 	/**
@@ -92,7 +98,8 @@ public enum MassMeasure implements Measurable
 	 */
 	NANOGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(-9, new MathContext(32))
+		new BigDecimal(10).pow(-9, new MathContext(32)),
+		"ng"
 	),
 
 	/**
@@ -101,7 +108,8 @@ public enum MassMeasure implements Measurable
 	 */
 	MICROGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(-6, new MathContext(32))
+		new BigDecimal(10).pow(-6, new MathContext(32)),
+		"µg"
 	),
 
 	/**
@@ -110,7 +118,8 @@ public enum MassMeasure implements Measurable
 	 */
 	MILLIGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(-3, new MathContext(32))
+		new BigDecimal(10).pow(-3, new MathContext(32)),
+		"mg"
 	),
 
 	/**
@@ -119,7 +128,8 @@ public enum MassMeasure implements Measurable
 	 */
 	CENTIGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(-2, new MathContext(32))
+		new BigDecimal(10).pow(-2, new MathContext(32)),
+		"cg"
 	),
 
 	/**
@@ -128,7 +138,8 @@ public enum MassMeasure implements Measurable
 	 */
 	DECIGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(-1, new MathContext(32))
+		new BigDecimal(10).pow(-1, new MathContext(32)),
+		"dg"
 	),
 
 	/**
@@ -137,7 +148,8 @@ public enum MassMeasure implements Measurable
 	 */
 	GRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(0)
+		new BigDecimal(10).pow(0),
+		"g"
 	),
 
 	/**
@@ -146,7 +158,8 @@ public enum MassMeasure implements Measurable
 	 */
 	DECAGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(1)
+		new BigDecimal(10).pow(1),
+		"dag"
 	),
 
 	/**
@@ -155,7 +168,8 @@ public enum MassMeasure implements Measurable
 	 */
 	HECTOGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(2)
+		new BigDecimal(10).pow(2),
+		"hg"
 	),
 
 	/**
@@ -164,7 +178,8 @@ public enum MassMeasure implements Measurable
 	 */
 	KILOGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(3)
+		new BigDecimal(10).pow(3),
+		"kg"
 	),
 
 	/**
@@ -173,7 +188,8 @@ public enum MassMeasure implements Measurable
 	 */
 	MEGAGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(6)
+		new BigDecimal(10).pow(6),
+		"Mg"
 	),
 
 	/**
@@ -182,7 +198,8 @@ public enum MassMeasure implements Measurable
 	 */
 	GIGAGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(9)
+		new BigDecimal(10).pow(9),
+		"Gg"
 	),
 
 	/**
@@ -191,7 +208,8 @@ public enum MassMeasure implements Measurable
 	 */
 	TERAGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(12)
+		new BigDecimal(10).pow(12),
+		"Tg"
 	),
 
 	/**
@@ -200,7 +218,8 @@ public enum MassMeasure implements Measurable
 	 */
 	PETAGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(15)
+		new BigDecimal(10).pow(15),
+		"Pg"
 	),
 
 	/**
@@ -209,7 +228,8 @@ public enum MassMeasure implements Measurable
 	 */
 	EXAGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(18)
+		new BigDecimal(10).pow(18),
+		"Eg"
 	),
 
 	/**
@@ -218,7 +238,8 @@ public enum MassMeasure implements Measurable
 	 */
 	ZETTAGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(21)
+		new BigDecimal(10).pow(21),
+		"Zg"
 	),
 
 	/**
@@ -227,9 +248,16 @@ public enum MassMeasure implements Measurable
 	 */
 	YOTTAGRAM(
 		Set.of(Standard.SI),
-		new BigDecimal(10).pow(24)
+		new BigDecimal(10).pow(24),
+		"Yg"
 	);
 
+	/**
+	 * Индекс обозначений и названий мер.
+	 */
+	@NotNull
+	private static final MeasureIndex<MassMeasure> INDEX = new MeasureIndex<>(MassMeasure.values());
+
 	/**
 	 * Список стандартов меры измерения.
 	 */
@@ -243,21 +271,74 @@ public enum MassMeasure implements Measurable
 	@NotNull
 	private final BigDecimal countMinUnit;
 
+	/**
+	 * Обозначение меры.
+	 */
+	@NotNull
+	private final String symbol;
+
 	/**
 	 * Конструктор для {@code MassMeasure}.
 	 *
 	 * @param standard список стандартов меры измерения.
 	 * @param countMinUnit количество минимальных единиц меры.
+	 * @param symbol обозначение меры.
 	 * @throws NullPointerException если в качестве {@code standard} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code countMinUnit} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code symbol} передан {@code null}.
 	 */
-	MassMeasure(@NotNull final Set<@NotNull Standard> standard, @NotNull final BigDecimal countMinUnit)
+	MassMeasure(@NotNull final Set<@NotNull Standard> standard,
+	            @NotNull final BigDecimal countMinUnit,
+	            @NotNull final String symbol)
 	{
 		Objects.requireNonNull(standard);
 		Objects.requireNonNull(countMinUnit);
+		Objects.requireNonNull(symbol);
 
 		this.standard = standard;
 		this.countMinUnit = countMinUnit;
+		this.symbol = symbol;
+	}
+
+	/**
+	 * Возвращает меру измерения по обозначению или названию.
+	 * <p>
+	 * Обозначения сравниваются с учётом регистра ({@code ms} и {@code Ms} - разные меры),
+	 * допускается {@code u} вместо {@code µ}. Названия в единственном и множественном числе
+	 * сравниваются без учёта регистра, например {@code gibibytes} или {@code Milliseconds}.
+	 * Поиск не создаёт объектов и не выбрасывает исключений при отсутствии меры.
+	 * </p>
+	 *
+	 * @param text обозначение или название меры.
+	 * @return меру измерения или {@code null}, если мера не найдена.
+	 * @throws NullPointerException если в качестве {@code text} передан {@code null}.
+	 */
+	@Nullable
+	public static MassMeasure lookup(@NotNull final CharSequence text)
+	{
+		Objects.requireNonNull(text);
+
+		return INDEX.find(text, 0, text.length());
+	}
+
+	/**
+	 * Возвращает меру измерения по обозначению или названию, записанному в участке последовательности символов.
+	 *
+	 * @param text последовательность символов.
+	 * @param start индекс первого символа участка.
+	 * @param end индекс символа, следующего за последним символом участка.
+	 * @return меру измерения или {@code null}, если мера не найдена.
+	 * @throws NullPointerException если в качестве {@code text} передан {@code null}.
+	 * @throws IndexOutOfBoundsException если участок выходит за пределы {@code text}.
+	 * @see #lookup(CharSequence)
+	 */
+	@Nullable
+	public static MassMeasure lookup(@NotNull final CharSequence text, final int start, final int end)
+	{
+		Objects.requireNonNull(text);
+		Objects.checkFromToIndex(start, end, text.length());
+
+		return INDEX.find(text, start, end);
 	}
 
 	/**
@@ -284,4 +365,16 @@ public enum MassMeasure implements Measurable
 	{
 		return this.countMinUnit;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public String getSymbol()
+	{
+		return this.symbol;
+	}
 }
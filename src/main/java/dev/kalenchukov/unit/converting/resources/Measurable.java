@@ -51,4 +51,16 @@ public interface Measurable
 	 */
 	@NotNull
 	BigDecimal getCountMinUnit();
+
+	/**
+	 * Возвращает обозначение меры.
+	 * <p>Реализация по умолчанию возвращает строковое представление меры.</p>
+	 *
+	 * @return обозначение меры, например {@code KiB}, {@code kg} или {@code ms}.
+	 */
+	@NotNull
+	default String getSymbol()
+	{
+		return this.toString();
+	}
 }
@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.resources;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Класс индекса обозначений и названий мер измерения.
+ * <p>
+ * Обозначения мер (а также обозначения с {@code u} вместо {@code µ}) сравниваются с учётом регистра,
+ * поскольку регистр различает меры: {@code ms} и {@code Ms}, {@code kB} и {@code kb}.
+ * Названия мер в единственном и множественном числе сравниваются без учёта регистра.
+ * </p>
+ * <p>
+ * Ключи хранятся в двух хеш-таблицах с открытой адресацией, построенных один раз.
+ * Поиск вычисляет хеш-код участка последовательности символов и сравнивает символы
+ * без создания строк и без исключений.
+ * </p>
+ *
+ * @param <M> тип меры измерения.
+ * @author Алексей Каленчуков
+ */
+final class MeasureIndex<M extends Enum<M> & Measurable>
+{
+	/**
+	 * Обозначения мер.
+	 */
+	@Nullable
+	private final String @NotNull [] symbols;
+
+	/**
+	 * Меры измерения в порядке обозначений {@link #symbols}.
+	 */
+	@Nullable
+	private final M @NotNull [] symbolMeasures;
+
+	/**
+	 * Названия мер в нижнем регистре.
+	 */
+	@Nullable
+	private final String @NotNull [] names;
+
+	/**
+	 * Меры измерения в порядке названий {@link #names}.
+	 */
+	@Nullable
+	private final M @NotNull [] nameMeasures;
+
+	/**
+	 * Маска индекса в хеш-таблицах.
+	 */
+	private final int mask;
+
+	/**
+	 * Конструктор для {@code MeasureIndex}.
+	 *
+	 * @param measures меры измерения.
+	 * @throws IllegalArgumentException если ключ связан с несколькими мерами измерения.
+	 */
+	@SuppressWarnings("unchecked")
+	MeasureIndex(@NotNull final M @NotNull [] measures)
+	{
+		final int capacity = Integer.highestOneBit(Math.max(1, measures.length) * 8 - 1) << 1;
+
+		this.symbols = new String[capacity];
+		this.symbolMeasures = (M[]) new Enum<?>[capacity];
+		this.names = new String[capacity];
+		this.nameMeasures = (M[]) new Enum<?>[capacity];
+		this.mask = capacity - 1;
+
+		for (M measure : measures) {
+			final String name = measure.name().toLowerCase(Locale.ROOT);
+
+			this.put(this.symbols, this.symbolMeasures, measure.getSymbol(), measure);
+			this.put(this.symbols, this.symbolMeasures, measure.getSymbol().replace('µ', 'u'), measure);
+			this.put(this.names, this.nameMeasures, name, measure);
+			this.put(this.names, this.nameMeasures, name + "s", measure);
+		}
+	}
+
+	/**
+	 * Возвращает меру измерения по обозначению или названию.
+	 *
+	 * @param text последовательность символов.
+	 * @param start индекс первого символа участка.
+	 * @param end индекс символа, следующего за последним символом участка.
+	 * @return меру измерения или {@code null}, если участок не является обозначением или названием меры.
+	 */
+	@Nullable
+	M find(@NotNull final CharSequence text, final int start, final int end)
+	{
+		int hash = 0;
+		int foldedHash = 0;
+
+		for (int index = start; index < end; index++) {
+			final char symbol = text.charAt(index);
+
+			hash = 31 * hash + symbol;
+			foldedHash = 31 * foldedHash + MeasureIndex.toLowerCase(symbol);
+		}
+
+		for (int slot = MeasureIndex.spread(hash) & this.mask; ; slot = (slot + 1) & this.mask) {
+			final String key = this.symbols[slot];
+
+			if (key == null) {
+				break;
+			}
+
+			if (MeasureIndex.matches(key, text, start, end, false)) {
+				return this.symbolMeasures[slot];
+			}
+		}
+
+		for (int slot = MeasureIndex.spread(foldedHash) & this.mask; ; slot = (slot + 1) & this.mask) {
+			final String key = this.names[slot];
+
+			if (key == null) {
+				return null;
+			}
+
+			if (MeasureIndex.matches(key, text, start, end, true)) {
+				return this.nameMeasures[slot];
+			}
+		}
+	}
+
+	/**
+	 * Добавляет ключ в хеш-таблицу.
+	 *
+	 * @param keys ключи хеш-таблицы.
+	 * @param measures меры измерения хеш-таблицы.
+	 * @param key ключ.
+	 * @param measure мера измерения.
+	 * @throws IllegalArgumentException если ключ уже связан с другой мерой измерения.
+	 */
+	private void put(@Nullable final String @NotNull [] keys,
+					 @Nullable final M @NotNull [] measures,
+					 @NotNull final String key,
+					 @NotNull final M measure)
+	{
+		int slot = MeasureIndex.spread(key.hashCode()) & this.mask;
+
+		while (keys[slot] != null) {
+			if (keys[slot].equals(key)) {
+				if (measures[slot] != measure) {
+					throw new IllegalArgumentException("Ключ «" + key + "» уже связан с другой мерой измерения.");
+				}
+
+				return;
+			}
+
+			slot = (slot + 1) & this.mask;
+		}
+
+		keys[slot] = key;
+		measures[slot] = measure;
+	}
+
+	/**
+	 * Проверяет совпадение ключа с участком последовательности символов.
+	 *
+	 * @param key ключ.
+	 * @param text последовательность символов.
+	 * @param start индекс первого символа участка.
+	 * @param end индекс символа, следующего за последним символом участка.
+	 * @param ignoreCase {@code true}, если регистр символов участка не учитывается.
+	 * @return {@code true}, если ключ совпадает с участком, иначе {@code false}.
+	 */
+	private static boolean matches(@NotNull final String key,
+								   @NotNull final CharSequence text,
+								   final int start,
+								   final int end,
+								   final boolean ignoreCase)
+	{
+		if (key.length() != end - start) {
+			return false;
+		}
+
+		for (int index = 0; index < key.length(); index++) {
+			final char symbol = text.charAt(start + index);
+
+			if (key.charAt(index) != (ignoreCase ? MeasureIndex.toLowerCase(symbol) : symbol)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Переводит символ в нижний регистр.
+	 *
+	 * @param symbol символ.
+	 * @return символ в нижнем регистре.
+	 */
+	private static char toLowerCase(final char symbol)
+	{
+		if (symbol >= 'A' && symbol <= 'Z') {
+			return (char) (symbol + ('a' - 'A'));
+		}
+
+		return symbol < 128 ? symbol : Character.toLowerCase(symbol);
+	}
+
+	/**
+	 * Перемешивает биты хеш-кода.
+	 *
+	 * @param hash хеш-код.
+	 * @return хеш-код с перемешанными битами.
+	 */
+	private static int spread(final int hash)
+	{
+		return hash ^ (hash >>> 16);
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.resources;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.MathContext;
+import java.util.Objects;
+
+/**
+ * Перечисление точностей конвертирования величин.
+ * <p>Меньшая точность быстрее в вычислениях, но округляет результат до меньшего количества цифр.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+public enum Precision
+{
+	/**
+	 * 7 значащих цифр, как у {@link MathContext#DECIMAL32}.
+	 */
+	DECIMAL32(MathContext.DECIMAL32),
+
+	/**
+	 * 16 значащих цифр, как у {@link MathContext#DECIMAL64}.
+	 * <p>Соответствует точности чисел типа {@code double}.</p>
+	 */
+	DECIMAL64(MathContext.DECIMAL64),
+
+	/**
+	 * 32 значащие цифры.
+	 * <p>Точность конвертирования по умолчанию.</p>
+	 */
+	DEFAULT(new MathContext(32)),
+
+	/**
+	 * 34 значащие цифры, как у {@link MathContext#DECIMAL128}.
+	 */
+	DECIMAL128(MathContext.DECIMAL128),
+
+	/**
+	 * Без округления.
+	 * <p>
+	 * Коэффициенты конвертирования между встроенными мерами являются конечными десятичными дробями,
+	 * поэтому конвертирование, сложение, вычитание и умножение выполняются точно.
+	 * Коэффициент между мерами, отношение количеств минимальных единиц которых не выражается
+	 * конечной десятичной дробью (например, у пользовательских мер), округляется до 64 значащих цифр,
+	 * и результат конвертирования через него не точный.
+	 * </p>
+	 * <p>
+	 * Частное может быть бесконечной дробью, поэтому деление величин, деление информации на время
+	 * и вычисление среднего при этой точности по умолчанию округляются до {@link #DEFAULT}.
+	 * </p>
+	 */
+	UNLIMITED(MathContext.UNLIMITED);
+
+	/**
+	 * Точность вычисления.
+	 */
+	@NotNull
+	private final MathContext mathContext;
+
+	/**
+	 * Конструктор для {@code Precision}.
+	 *
+	 * @param mathContext точность вычисления.
+	 * @throws NullPointerException если в качестве {@code mathContext} передан {@code null}.
+	 */
+	Precision(@NotNull final MathContext mathContext)
+	{
+		Objects.requireNonNull(mathContext);
+
+		this.mathContext = mathContext;
+	}
+
+	/**
+	 * Возвращает точность вычисления.
+	 *
+	 * @return точность вычисления.
+	 */
+	@NotNull
+	public MathContext getMathContext()
+	{
+		return this.mathContext;
+	}
+}
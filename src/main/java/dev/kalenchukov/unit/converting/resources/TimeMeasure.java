@@ -25,6 +25,7 @@
 package dev.kalenchukov.unit.converting.resources;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.math.BigDecimal;
@@ -45,7 +46,8 @@ public enum TimeMeasure implements Measurable
      */
     QUECTOSECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(-30, new MathContext(32))
+        new BigDecimal(10).pow(-30, new MathContext(32)),
+        "qs"
     ),
 
     /**
@@ -54,7 +56,8 @@ public enum TimeMeasure implements Measurable
      */
     RONTOSECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(-27, new MathContext(32))
+        new BigDecimal(10).pow(-27, new MathContext(32)),
+        "rs"
     ),
 
     /**
@@ -63,7 +66,8 @@ public enum TimeMeasure implements Measurable
      */
     YOCTOSECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(-24, new MathContext(32))
+        new BigDecimal(10).pow(-24, new MathContext(32)),
+        "ys"
     ),
 
     /**
@@ -72,7 +76,8 @@ public enum TimeMeasure implements Measurable
      */
     ZEPTOSECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(-21, new MathContext(32))
+        new BigDecimal(10).pow(-21, new MathContext(32)),
+        "zs"
     ),
 
     /**
@@ -81,7 +86,8 @@ public enum TimeMeasure implements Measurable
      */
     ATTOSECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(-18, new MathContext(32))
+        new BigDecimal(10).pow(-18, new MathContext(32)),
+        "as"
     ),
 
     /**
@@ -90,7 +96,8 @@ public enum TimeMeasure implements Measurable
      */
     FEMTOSECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(-15, new MathContext(32))
+        new BigDecimal(10).pow(-15, new MathContext(32)),
+        "fs"
     ),
 
     /**
@@ -99,7 +106,8 @@ public enum TimeMeasure implements Measurable
      */
     PICOSECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(-12, new MathContext(32))
+        new BigDecimal(10).pow(-12, new MathContext(32)),
+        "ps"
     ),
 
     /**
@@ -108,7 +116,8 @@ public enum TimeMeasure implements Measurable
      */
     NANOSECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(-9, new MathContext(32))
+        new BigDecimal(10).pow(-9, new MathContext(32)),
+        "ns"
     ),
 
     /**
@@ -117,7 +126,8 @@ public enum TimeMeasure implements Measurable
      */
     MICROSECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(-6, new MathContext(32))
+        new BigDecimal(10).pow(-6, new MathContext(32)),
+        "µs"
     ),
 
     /**
@@ -126,7 +136,8 @@ public enum TimeMeasure implements Measurable
      */
     MILLISECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(-3, new MathContext(32))
+        new BigDecimal(10).pow(-3, new MathContext(32)),
+        "ms"
     ),
 
     /**
@@ -135,7 +146,8 @@ public enum TimeMeasure implements Measurable
      */
     CENTISECOND (
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(-2, new MathContext(32))
+        new BigDecimal(10).pow(-2, new MathContext(32)),
+        "cs"
     ),
 
     /**
@@ -144,7 +156,8 @@ public enum TimeMeasure implements Measurable
      */
     DECISECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(-1, new MathContext(32))
+        new BigDecimal(10).pow(-1, new MathContext(32)),
+        "ds"
     ),
 
     /**
@@ -153,7 +166,8 @@ public enum TimeMeasure implements Measurable
      */
     SECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(0)
+        new BigDecimal(10).pow(0),
+        "s"
     ),
 
     /**
@@ -162,7 +176,8 @@ public enum TimeMeasure implements Measurable
      */
     DECASECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(1)
+        new BigDecimal(10).pow(1),
+        "das"
     ),
 
     /**
@@ -171,7 +186,8 @@ public enum TimeMeasure implements Measurable
      */
     HECTOSECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(2)
+        new BigDecimal(10).pow(2),
+        "hs"
     ),
 
     /**
@@ -180,7 +196,8 @@ public enum TimeMeasure implements Measurable
      */
     KILOSECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(3)
+        new BigDecimal(10).pow(3),
+        "ks"
     ),
 
     /**
@@ -189,7 +206,8 @@ public enum TimeMeasure implements Measurable
      */
     MEGASECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(6)
+        new BigDecimal(10).pow(6),
+        "Ms"
     ),
 
     /**
@@ -198,7 +216,8 @@ public enum TimeMeasure implements Measurable
      */
     GIGASECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(9)
+        new BigDecimal(10).pow(9),
+        "Gs"
     ),
 
     /**
@@ -207,7 +226,8 @@ public enum TimeMeasure implements Measurable
      */
     TERASECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(12)
+        new BigDecimal(10).pow(12),
+        "Ts"
     ),
 
     /**
@@ -216,7 +236,8 @@ public enum TimeMeasure implements Measurable
      */
     PETASECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(15)
+        new BigDecimal(10).pow(15),
+        "Ps"
     ),
 
     /**
@@ -225,7 +246,8 @@ public enum TimeMeasure implements Measurable
      */
     EXASECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(18)
+        new BigDecimal(10).pow(18),
+        "Es"
     ),
 
     /**
@@ -234,7 +256,8 @@ public enum TimeMeasure implements Measurable
      */
     ZETTASECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(21)
+        new BigDecimal(10).pow(21),
+        "Zs"
     ),
 
     /**
@@ -243,7 +266,8 @@ public enum TimeMeasure implements Measurable
      */
     YOTTASECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(24)
+        new BigDecimal(10).pow(24),
+        "Ys"
     ),
 
     /**
@@ -252,7 +276,8 @@ public enum TimeMeasure implements Measurable
      */
     RONNASECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(27)
+        new BigDecimal(10).pow(27),
+        "Rs"
     ),
 
     /**
@@ -261,9 +286,16 @@ public enum TimeMeasure implements Measurable
      */
     QUETTASECOND(
         Set.of(Standard.SI),
-        new BigDecimal(10).pow(30)
+        new BigDecimal(10).pow(30),
+        "Qs"
     );
 
+    /**
+     * Индекс обозначений и названий мер.
+     */
+    @NotNull
+    private static final MeasureIndex<TimeMeasure> INDEX = new MeasureIndex<>(TimeMeasure.values());
+
     /**
      * Список стандартов меры измерения.
      */
@@ -277,21 +309,74 @@ public enum TimeMeasure implements Measurable
     @NotNull
     private final BigDecimal countMinUnit;
 
+    /**
+     * Обозначение меры.
+     */
+    @NotNull
+    private final String symbol;
+
     /**
      * Конструктор для {@code TimeMeasure}.
      *
      * @param standard список стандартов меры измерения.
      * @param countMinUnit количество минимальных единиц времени.
+     * @param symbol обозначение меры.
      * @throws NullPointerException если в качестве {@code standard} передан {@code null}.
      * @throws NullPointerException если в качестве {@code countMinUnit} передан {@code null}.
+     * @throws NullPointerException если в качестве {@code symbol} передан {@code null}.
      */
-    TimeMeasure(@NotNull final Set<@NotNull Standard> standard, @NotNull final BigDecimal countMinUnit)
+    TimeMeasure(@NotNull final Set<@NotNull Standard> standard,
+                @NotNull final BigDecimal countMinUnit,
+                @NotNull final String symbol)
     {
         Objects.requireNonNull(standard);
         Objects.requireNonNull(countMinUnit);
+        Objects.requireNonNull(symbol);
 
         this.standard = standard;
         this.countMinUnit = countMinUnit;
+        this.symbol = symbol;
+    }
+
+    /**
+     * Возвращает меру измерения по обозначению или названию.
+     * <p>
+     * Обозначения сравниваются с учётом регистра ({@code ms} и {@code Ms} - разные меры),
+     * допускается {@code u} вместо {@code µ}. Названия в единственном и множественном числе
+     * сравниваются без учёта регистра, например {@code gibibytes} или {@code Milliseconds}.
+     * Поиск не создаёт объектов и не выбрасывает исключений при отсутствии меры.
+     * </p>
+     *
+     * @param text обозначение или название меры.
+     * @return меру измерения или {@code null}, если мера не найдена.
+     * @throws NullPointerException если в качестве {@code text} передан {@code null}.
+     */
+    @Nullable
+    public static TimeMeasure lookup(@NotNull final CharSequence text)
+    {
+        Objects.requireNonNull(text);
+
+        return INDEX.find(text, 0, text.length());
+    }
+
+    /**
+     * Возвращает меру измерения по обозначению или названию, записанному в участке последовательности символов.
+     *
+     * @param text последовательность символов.
+     * @param start индекс первого символа участка.
+     * @param end индекс символа, следующего за последним символом участка.
+     * @return меру измерения или {@code null}, если мера не найдена.
+     * @throws NullPointerException если в качестве {@code text} передан {@code null}.
+     * @throws IndexOutOfBoundsException если участок выходит за пределы {@code text}.
+     * @see #lookup(CharSequence)
+     */
+    @Nullable
+    public static TimeMeasure lookup(@NotNull final CharSequence text, final int start, final int end)
+    {
+        Objects.requireNonNull(text);
+        Objects.checkFromToIndex(start, end, text.length());
+
+        return INDEX.find(text, start, end);
     }
 
     /**
@@ -318,4 +403,16 @@ public enum TimeMeasure implements Measurable
     {
         return this.countMinUnit;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @NotNull
+    @Override
+    public String getSymbol()
+    {
+        return this.symbol;
+    }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link AbstractAccumulator}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class AbstractAccumulatorTest
+{
+	/**
+	 * Класс проверки метода {@link AbstractAccumulator#add(long, Enum)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Add
+	{
+		/**
+		 * Проверка метода {@link AbstractAccumulator#add(long, Enum)} с отрицательной величиной.
+		 */
+		@Test
+		public void addNegative()
+		{
+			InformationAccumulator accumulator = new InformationAccumulator();
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				accumulator.add(-1, InformationMeasure.BYTE);
+			});
+		}
+
+		/**
+		 * Проверка метода {@link AbstractAccumulator#add(long, Enum)} с {@code null}.
+		 */
+		@Test
+		public void addNull()
+		{
+			InformationAccumulator accumulator = new InformationAccumulator();
+
+			assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> {
+				accumulator.add(1, null);
+			});
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractAccumulator#snapshot()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Snapshot
+	{
+		/**
+		 * Проверка метода {@link AbstractAccumulator#snapshot()} без величин.
+		 */
+		@Test
+		public void snapshotEmpty()
+		{
+			TimeAccumulator accumulator = new TimeAccumulator();
+
+			TimeQuantity actualQuantity = accumulator.snapshot();
+
+			assertThat(actualQuantity.getQuantity()).isEqualByComparingTo(BigDecimal.ZERO);
+			assertThat(actualQuantity.getMeasure()).isEqualTo(TimeMeasure.SECOND);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractAccumulator#snapshot()} с разными мерами измерения.
+		 */
+		@Test
+		public void snapshotDifferentMeasures()
+		{
+			InformationAccumulator accumulator = new InformationAccumulator();
+			accumulator.add(1, InformationMeasure.BYTE);
+			accumulator.add(4, InformationMeasure.BIT);
+
+			InformationQuantity actualQuantity = accumulator.snapshot();
+
+			assertThat(actualQuantity).isEqualTo(new InformationQuantity(12, InformationMeasure.BIT));
+		}
+
+		/**
+		 * Проверка метода {@link AbstractAccumulator#snapshot()} с переполнением {@code long}.
+		 */
+		@Test
+		public void snapshotOverflow()
+		{
+			InformationAccumulator accumulator = new InformationAccumulator();
+			accumulator.add(Long.MAX_VALUE, InformationMeasure.EXBIBYTE);
+			accumulator.add(Long.MAX_VALUE, InformationMeasure.EXBIBYTE);
+
+			InformationQuantity actualQuantity = accumulator.snapshot(InformationMeasure.EXBIBYTE);
+
+			assertThat(actualQuantity.getQuantity())
+				.isEqualByComparingTo(BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2)));
+		}
+	}
+
+	/**
+	 * Проверка метода {@link AbstractAccumulator#snapshot(Enum)}.
+	 */
+	@Test
+	public void snapshotMeasure()
+	{
+		TimeAccumulator accumulator = new TimeAccumulator();
+		accumulator.add(1500, TimeMeasure.MICROSECOND);
+		accumulator.add(3, TimeMeasure.MILLISECOND);
+
+		TimeQuantity actualQuantity = accumulator.snapshot(TimeMeasure.MICROSECOND);
+
+		assertThat(actualQuantity.getQuantity()).isEqualByComparingTo(BigDecimal.valueOf(4500));
+		assertThat(actualQuantity.getMeasure()).isEqualTo(TimeMeasure.MICROSECOND);
+	}
+}
@@ -24,16 +24,30 @@
 
 package dev.kalenchukov.unit.converting;
 
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
 import dev.kalenchukov.unit.converting.resources.MassMeasure;
 import dev.kalenchukov.unit.converting.resources.Measurable;
+import dev.kalenchukov.unit.converting.resources.Precision;
+import dev.kalenchukov.unit.converting.resources.Standard;
 import dev.kalenchukov.unit.converting.resources.TimeMeasure;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringWriter;
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.within;
 
 /**
  * Класс проверки методов класса {@link AbstractQuantity}.
@@ -79,6 +93,46 @@ public class AbstractQuantityTest
 		assertThat(actualMeasure).isEqualTo(MassMeasure.GRAM);
 	}
 
+	/**
+	 * Проверка метода {@link AbstractQuantity#getQuantityInMinUnit()}.
+	 */
+	@Test
+	public void getQuantityInMinUnit()
+	{
+		Quantitative<InformationMeasure> quantity = new InformationQuantity(1, InformationMeasure.KIBIBYTE);
+
+		BigDecimal actualQuantity = quantity.getQuantityInMinUnit();
+
+		assertThat(actualQuantity).isEqualTo(new BigDecimal(8192));
+	}
+
+	/**
+	 * Проверка метода {@link AbstractQuantity#getQuantityInMinUnit()} с дробным количеством минимальных единиц.
+	 */
+	@Test
+	public void getQuantityInMinUnitFraction()
+	{
+		Quantitative<TimeMeasure> quantity = new TimeQuantity(1500, TimeMeasure.MILLISECOND);
+
+		BigDecimal actualQuantity = quantity.getQuantityInMinUnit();
+
+		assertThat(actualQuantity).isEqualByComparingTo(new BigDecimal("1.5"));
+	}
+
+	/**
+	 * Проверка метода {@link AbstractQuantity#getQuantityInMinUnit()} с повторным вызовом.
+	 */
+	@Test
+	public void getQuantityInMinUnitCached()
+	{
+		Quantitative<MassMeasure> quantity = new MassQuantity(3, MassMeasure.KILOGRAM);
+
+		BigDecimal expectedQuantity = quantity.getQuantityInMinUnit();
+		BigDecimal actualQuantity = quantity.getQuantityInMinUnit();
+
+		assertThat(actualQuantity).isSameAs(expectedQuantity);
+	}
+
 	/**
 	 * Проверка метода {@link AbstractQuantity#toString()}.
 	 */
@@ -127,6 +181,629 @@ public class AbstractQuantityTest
 		}
 	}
 
+	/**
+	 * Класс проверки метода {@link AbstractQuantity#convert(Measurable, MathContext)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class ConvertMathContext
+	{
+		/**
+		 * Проверка метода {@link AbstractQuantity#convert(Measurable, MathContext)} с округлением.
+		 */
+		@Test
+		public void convertRounded()
+		{
+			Quantitative<InformationMeasure> quantity = new InformationQuantity(1, InformationMeasure.KILOBIT);
+
+			BigDecimal actualQuantity = quantity.convert(
+				InformationMeasure.MEBIBYTE, Precision.DECIMAL32.getMathContext()
+			);
+
+			assertThat(actualQuantity).isEqualTo(new BigDecimal("0.0001192093"));
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#convert(Measurable, MathContext)} без округления.
+		 */
+		@Test
+		public void convertUnlimited()
+		{
+			Quantitative<InformationMeasure> quantity = new InformationQuantity(1, InformationMeasure.KILOBIT);
+
+			BigDecimal actualQuantity = quantity.convert(
+				InformationMeasure.MEBIBYTE, Precision.UNLIMITED.getMathContext()
+			);
+
+			assertThat(actualQuantity).isEqualTo(new BigDecimal("0.00011920928955078125"));
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#convert(Measurable, MathContext)} с целым результатом,
+		 * превышающим точность.
+		 */
+		@Test
+		public void convertIntegerRounded()
+		{
+			Quantitative<InformationMeasure> quantity = new InformationQuantity(123456789, InformationMeasure.BYTE);
+
+			BigDecimal actualQuantity = quantity.convert(
+				InformationMeasure.BIT, Precision.DECIMAL32.getMathContext()
+			);
+
+			assertThat(actualQuantity).isEqualTo(new BigDecimal("9.876543E+8"));
+		}
+	}
+
+	/**
+	 * Класс проверки методов {@link AbstractQuantity#getDefaultMathContext()} и
+	 * {@link AbstractQuantity#setDefaultMathContext(MathContext)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class DefaultMathContext
+	{
+		/**
+		 * Проверка метода {@link AbstractQuantity#getDefaultMathContext()}.
+		 */
+		@Test
+		public void getDefaultMathContext()
+		{
+			MathContext actualMathContext = AbstractQuantity.getDefaultMathContext();
+
+			assertThat(actualMathContext).isEqualTo(Precision.DEFAULT.getMathContext());
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#setDefaultMathContext(MathContext)}.
+		 */
+		@Test
+		public void setDefaultMathContext()
+		{
+			Quantitative<InformationMeasure> quantity = new InformationQuantity(1, InformationMeasure.KILOBIT);
+
+			AbstractQuantity.setDefaultMathContext(Precision.DECIMAL32.getMathContext());
+
+			try {
+				BigDecimal actualQuantity = quantity.convert(InformationMeasure.MEBIBYTE);
+
+				assertThat(actualQuantity).isEqualTo(new BigDecimal("0.0001192093"));
+			} finally {
+				AbstractQuantity.setDefaultMathContext(Precision.DEFAULT.getMathContext());
+			}
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractQuantity#convertToDouble(Measurable)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class ConvertToDouble
+	{
+		/**
+		 * Проверка метода {@link AbstractQuantity#convertToDouble(Measurable)}.
+		 */
+		@Test
+		public void convertToDouble()
+		{
+			Quantitative<InformationMeasure> quantity = new InformationQuantity(3, InformationMeasure.MEBIBYTE);
+
+			double actualQuantity = quantity.convertToDouble(InformationMeasure.KIBIBYTE);
+
+			assertThat(actualQuantity).isEqualTo(3072.0);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#convertToDouble(Measurable)} с дробным результатом.
+		 */
+		@Test
+		public void convertToDoubleFraction()
+		{
+			Quantitative<TimeMeasure> quantity = new TimeQuantity(1500, TimeMeasure.NANOSECOND);
+
+			double actualQuantity = quantity.convertToDouble(TimeMeasure.MILLISECOND);
+
+			assertThat(actualQuantity).isCloseTo(0.0015, within(1e-18));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractQuantity#convert(double, Enum, Enum)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class ConvertDouble
+	{
+		/**
+		 * Проверка метода {@link AbstractQuantity#convert(double, Enum, Enum)}.
+		 */
+		@Test
+		public void convert()
+		{
+			double actualQuantity = AbstractQuantity.convert(
+				1_048_576.0, InformationMeasure.BYTE, InformationMeasure.MEBIBYTE
+			);
+
+			assertThat(actualQuantity).isEqualTo(1.0);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#convert(double, Enum, Enum)} с одинаковыми мерами.
+		 */
+		@Test
+		public void convertSameMeasure()
+		{
+			double actualQuantity = AbstractQuantity.convert(2.5, MassMeasure.KILOGRAM, MassMeasure.KILOGRAM);
+
+			assertThat(actualQuantity).isEqualTo(2.5);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractQuantity#convertExact(long, Enum, Enum)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class ConvertExact
+	{
+		/**
+		 * Проверка метода {@link AbstractQuantity#convertExact(long, Enum, Enum)}.
+		 */
+		@Test
+		public void convertExact()
+		{
+			OptionalLong actualQuantity = AbstractQuantity.convertExact(
+				5, InformationMeasure.GIBIBYTE, InformationMeasure.MEBIBYTE
+			);
+
+			assertThat(actualQuantity).hasValue(5120);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#convertExact(long, Enum, Enum)} с дробным результатом.
+		 */
+		@Test
+		public void convertExactFraction()
+		{
+			OptionalLong actualQuantity = AbstractQuantity.convertExact(
+				1, InformationMeasure.BYTE, InformationMeasure.KIBIBYTE
+			);
+
+			assertThat(actualQuantity).isEmpty();
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#convertExact(long, Enum, Enum)} с отрицательной величиной.
+		 */
+		@Test
+		public void convertExactNegative()
+		{
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				AbstractQuantity.convertExact(-1, InformationMeasure.BYTE, InformationMeasure.BIT);
+			});
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractQuantity#plus(AbstractQuantity)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Plus
+	{
+		/**
+		 * Проверка метода {@link AbstractQuantity#plus(AbstractQuantity)} с одинаковыми мерами измерения.
+		 */
+		@Test
+		public void plusSameMeasure()
+		{
+			MassQuantity quantity = new MassQuantity(1.5, MassMeasure.KILOGRAM);
+
+			MassQuantity actualQuantity = quantity.plus(new MassQuantity(2, MassMeasure.KILOGRAM));
+
+			assertThat(actualQuantity).isEqualTo(new MassQuantity(new BigDecimal("3.5"), MassMeasure.KILOGRAM));
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#plus(AbstractQuantity)} с разными мерами измерения.
+		 */
+		@Test
+		public void plusDifferentMeasure()
+		{
+			InformationQuantity quantity = new InformationQuantity(1, InformationMeasure.KIBIBYTE);
+
+			InformationQuantity actualQuantity = quantity.plus(new InformationQuantity(512, InformationMeasure.BYTE));
+
+			assertThat(actualQuantity).isEqualTo(
+				new InformationQuantity(new BigDecimal("1.5"), InformationMeasure.KIBIBYTE)
+			);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#plus(AbstractQuantity, Enum)} с указанной мерой измерения.
+		 */
+		@Test
+		public void plusWithMeasure()
+		{
+			TimeQuantity quantity = new TimeQuantity(1, TimeMeasure.SECOND);
+
+			TimeQuantity actualQuantity = quantity.plus(
+				new TimeQuantity(500, TimeMeasure.MILLISECOND), TimeMeasure.MILLISECOND
+			);
+
+			assertThat(actualQuantity.getMeasure()).isEqualTo(TimeMeasure.MILLISECOND);
+			assertThat(actualQuantity.getQuantity()).isEqualByComparingTo("1500");
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#plus(AbstractQuantity)} с {@code null}.
+		 */
+		@Test
+		public void plusNull()
+		{
+			MassQuantity quantity = new MassQuantity(1, MassMeasure.GRAM);
+
+			assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> {
+				quantity.plus(null);
+			});
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractQuantity#minus(AbstractQuantity)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Minus
+	{
+		/**
+		 * Проверка метода {@link AbstractQuantity#minus(AbstractQuantity)} с одинаковыми мерами измерения.
+		 */
+		@Test
+		public void minusSameMeasure()
+		{
+			MassQuantity quantity = new MassQuantity(3, MassMeasure.GRAM);
+
+			MassQuantity actualQuantity = quantity.minus(new MassQuantity(1, MassMeasure.GRAM));
+
+			assertThat(actualQuantity).isEqualTo(new MassQuantity(2, MassMeasure.GRAM));
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#minus(AbstractQuantity)} с разными мерами измерения.
+		 */
+		@Test
+		public void minusDifferentMeasure()
+		{
+			MassQuantity quantity = new MassQuantity(1, MassMeasure.KILOGRAM);
+
+			MassQuantity actualQuantity = quantity.minus(new MassQuantity(250, MassMeasure.GRAM));
+
+			assertThat(actualQuantity.getMeasure()).isEqualTo(MassMeasure.KILOGRAM);
+			assertThat(actualQuantity.getQuantity()).isEqualByComparingTo("0.75");
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#minus(AbstractQuantity, Enum)} с указанной мерой измерения.
+		 */
+		@Test
+		public void minusWithMeasure()
+		{
+			InformationQuantity quantity = new InformationQuantity(1, InformationMeasure.BYTE);
+
+			InformationQuantity actualQuantity = quantity.minus(
+				new InformationQuantity(1, InformationMeasure.BIT), InformationMeasure.BIT
+			);
+
+			assertThat(actualQuantity).isEqualTo(new InformationQuantity(7, InformationMeasure.BIT));
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#minus(AbstractQuantity)} с отрицательным результатом.
+		 */
+		@Test
+		public void minusNegative()
+		{
+			MassQuantity quantity = new MassQuantity(1, MassMeasure.GRAM);
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				quantity.minus(new MassQuantity(1, MassMeasure.KILOGRAM));
+			});
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractQuantity#multiply(BigDecimal)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Multiply
+	{
+		/**
+		 * Проверка метода {@link AbstractQuantity#multiply(BigDecimal)}.
+		 */
+		@Test
+		public void multiply()
+		{
+			TimeQuantity quantity = new TimeQuantity(1.5, TimeMeasure.SECOND);
+
+			TimeQuantity actualQuantity = quantity.multiply(BigDecimal.valueOf(4));
+
+			assertThat(actualQuantity.getMeasure()).isEqualTo(TimeMeasure.SECOND);
+			assertThat(actualQuantity.getQuantity()).isEqualByComparingTo("6");
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#multiply(BigDecimal)} с отрицательным множителем.
+		 */
+		@Test
+		public void multiplyNegative()
+		{
+			TimeQuantity quantity = new TimeQuantity(1, TimeMeasure.SECOND);
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				quantity.multiply(BigDecimal.valueOf(-1));
+			});
+		}
+	}
+
+	/**
+	 * Класс проверки методов {@link AbstractQuantity#divide(BigDecimal)} и
+	 * {@link AbstractQuantity#divide(AbstractQuantity)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Divide
+	{
+		/**
+		 * Проверка метода {@link AbstractQuantity#divide(BigDecimal)}.
+		 */
+		@Test
+		public void divideByNumber()
+		{
+			MassQuantity quantity = new MassQuantity(1, MassMeasure.KILOGRAM);
+
+			MassQuantity actualQuantity = quantity.divide(BigDecimal.valueOf(3));
+
+			assertThat(actualQuantity.getMeasure()).isEqualTo(MassMeasure.KILOGRAM);
+			assertThat(actualQuantity.getQuantity()).isEqualByComparingTo("0.33333333333333333333333333333333");
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#divide(BigDecimal)} с нулём.
+		 */
+		@Test
+		public void divideByZero()
+		{
+			MassQuantity quantity = new MassQuantity(1, MassMeasure.KILOGRAM);
+
+			assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> {
+				quantity.divide(BigDecimal.ZERO);
+			});
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#divide(AbstractQuantity)}.
+		 */
+		@Test
+		public void divideByQuantity()
+		{
+			InformationQuantity quantity = new InformationQuantity(1, InformationMeasure.MEBIBYTE);
+
+			BigDecimal actualRatio = quantity.divide(new InformationQuantity(256, InformationMeasure.KIBIBYTE));
+
+			assertThat(actualRatio).isEqualByComparingTo("4");
+		}
+
+		/**
+		 * Проверка методов {@link AbstractQuantity#divide(BigDecimal)} и {@link AbstractQuantity#divide(AbstractQuantity)}
+		 * с бесконечной дробью и неограниченной точностью по умолчанию.
+		 */
+		@Test
+		public void divideUnlimited()
+		{
+			InformationQuantity quantity = new InformationQuantity(1, InformationMeasure.BYTE);
+			BigDecimal expected = BigDecimal.ONE.divide(BigDecimal.valueOf(3), Precision.DEFAULT.getMathContext());
+
+			AbstractQuantity.setDefaultMathContext(Precision.UNLIMITED.getMathContext());
+
+			try {
+				InformationQuantity actualQuantity = quantity.divide(BigDecimal.valueOf(3));
+				BigDecimal actualRatio = quantity.divide(new InformationQuantity(3, InformationMeasure.BYTE));
+
+				assertThat(actualQuantity.getQuantity()).isEqualTo(expected);
+				assertThat(actualRatio).isEqualTo(expected);
+			} finally {
+				AbstractQuantity.setDefaultMathContext(Precision.DEFAULT.getMathContext());
+			}
+		}
+	}
+
+	/**
+	 * Класс проверки методов {@link AbstractQuantity#toBestMeasure()} и
+	 * {@link AbstractQuantity#toBestMeasure(Standard)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class ToBestMeasure
+	{
+		/**
+		 * Проверка метода {@link AbstractQuantity#toBestMeasure()}.
+		 */
+		@Test
+		public void toBestMeasure()
+		{
+			TimeQuantity quantity = new TimeQuantity(1500, TimeMeasure.MILLISECOND);
+
+			TimeQuantity actualQuantity = quantity.toBestMeasure();
+
+			assertThat(actualQuantity.getMeasure()).isEqualTo(TimeMeasure.SECOND);
+			assertThat(actualQuantity.getQuantity()).isEqualByComparingTo("1.5");
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#toBestMeasure()} с величиной, равной единице меры.
+		 */
+		@Test
+		public void toBestMeasureBoundary()
+		{
+			MassQuantity quantity = new MassQuantity(1000, MassMeasure.GRAM);
+
+			MassQuantity actualQuantity = quantity.toBestMeasure();
+
+			assertThat(actualQuantity.getMeasure()).isEqualTo(MassMeasure.KILOGRAM);
+			assertThat(actualQuantity.getQuantity()).isEqualByComparingTo("1");
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#toBestMeasure()} с величиной, уже выраженной в подобранной мере.
+		 */
+		@Test
+		public void toBestMeasureSame()
+		{
+			MassQuantity quantity = new MassQuantity(5, MassMeasure.KILOGRAM);
+
+			assertThat(quantity.toBestMeasure()).isSameAs(quantity);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#toBestMeasure()} с величиной, равной 0.
+		 */
+		@Test
+		public void toBestMeasureZero()
+		{
+			MassQuantity quantity = new MassQuantity(0, MassMeasure.KILOGRAM);
+
+			assertThat(quantity.toBestMeasure()).isSameAs(quantity);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#toBestMeasure()} с величиной меньше наименьшей меры.
+		 */
+		@Test
+		public void toBestMeasureLessThanMin()
+		{
+			InformationQuantity quantity = new InformationQuantity(0.5, InformationMeasure.BIT);
+
+			assertThat(quantity.toBestMeasure()).isSameAs(quantity);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#toBestMeasure(Standard)} по стандарту IEC.
+		 */
+		@Test
+		public void toBestMeasureIec()
+		{
+			InformationQuantity quantity = new InformationQuantity(1536, InformationMeasure.KILOBYTE);
+
+			InformationQuantity actualQuantity = quantity.toBestMeasure(Standard.IEC);
+
+			assertThat(actualQuantity.getMeasure()).isEqualTo(InformationMeasure.MEBIBYTE);
+			assertThat(actualQuantity.getQuantity()).isEqualByComparingTo("1.46484375");
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#toBestMeasure(Standard)} по стандарту SI.
+		 */
+		@Test
+		public void toBestMeasureSi()
+		{
+			InformationQuantity quantity = new InformationQuantity(1536, InformationMeasure.KIBIBYTE);
+
+			InformationQuantity actualQuantity = quantity.toBestMeasure(Standard.SI);
+
+			assertThat(actualQuantity.getMeasure()).isEqualTo(InformationMeasure.MEGABYTE);
+			assertThat(actualQuantity.getQuantity()).isEqualByComparingTo("1.572864");
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#toBestMeasure(Standard)} со стандартом без мер измерения.
+		 */
+		@Test
+		public void toBestMeasureStandardWithoutMeasures()
+		{
+			MassQuantity quantity = new MassQuantity(1000, MassMeasure.GRAM);
+
+			assertThat(quantity.toBestMeasure(Standard.IEC)).isSameAs(quantity);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#toBestMeasure(Standard)} с {@code null}.
+		 */
+		@Test
+		public void toBestMeasureNull()
+		{
+			MassQuantity quantity = new MassQuantity(1, MassMeasure.GRAM);
+
+			assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> {
+				quantity.toBestMeasure(null);
+			});
+		}
+	}
+
+	/**
+	 * Класс проверки методов {@link AbstractQuantity#formatTo(StringBuilder)} и
+	 * {@link AbstractQuantity#formatTo(Appendable)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class FormatTo
+	{
+		/**
+		 * Проверка метода {@link AbstractQuantity#formatTo(StringBuilder)}.
+		 */
+		@Test
+		public void formatToStringBuilder()
+		{
+			InformationQuantity quantity = new InformationQuantity(1.5, InformationMeasure.KIBIBYTE);
+			StringBuilder out = new StringBuilder("size: ");
+
+			StringBuilder actualOut = quantity.formatTo(out);
+
+			assertThat(actualOut).isSameAs(out);
+			assertThat(actualOut.toString()).isEqualTo("size: 1.5 KiB");
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#formatTo(Appendable)}.
+		 */
+		@Test
+		public void formatToAppendable() throws IOException
+		{
+			TimeQuantity quantity = new TimeQuantity(new BigDecimal("1E+3"), TimeMeasure.MILLISECOND);
+			StringWriter out = new StringWriter();
+
+			quantity.formatTo((Appendable) out);
+
+			assertThat(out.toString()).isEqualTo("1000 ms");
+		}
+
+		/**
+		 * Проверка метода {@link AbstractQuantity#formatTo(StringBuilder)} с {@code null}.
+		 */
+		@Test
+		public void formatToNull()
+		{
+			MassQuantity quantity = new MassQuantity(1, MassMeasure.KILOGRAM);
+
+			assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> {
+				quantity.formatTo((StringBuilder) null);
+			});
+		}
+	}
+
 	/**
 	 * Класс проверки метода {@link AbstractQuantity#compareTo(Quantitative)}.
 	 *
@@ -313,4 +990,150 @@ public class AbstractQuantityTest
 			assertThat(actualHashCode).isNotEqualTo(expectedHashCode);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Сериализует и десериализует объект.
+	 *
+	 * @param object объект.
+	 * @return десериализованный объект.
+	 */
+	private static Object serialize(final Object object) throws IOException, ClassNotFoundException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(object);
+		}
+
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			return in.readObject();
+		}
+	}
+
+	/**
+	 * Класс проверки сериализации величин.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Serialization
+	{
+		/**
+		 * Проверка сериализации величин разных видов.
+		 */
+		@Test
+		public void serialize() throws IOException, ClassNotFoundException
+		{
+			List<Quantitative<?>> quantities = List.of(
+				new InformationQuantity(1536, InformationMeasure.KIBIBYTE),
+				new MassQuantity(new BigDecimal("1.25"), MassMeasure.KILOGRAM),
+				new TimeQuantity(new BigDecimal("123456789012345678901234567890.5"), TimeMeasure.NANOSECOND)
+			);
+
+			for (Quantitative<?> quantity : quantities) {
+				Object actualQuantity = AbstractQuantityTest.serialize(quantity);
+
+				assertThat(actualQuantity).isEqualTo(quantity);
+				assertThat(actualQuantity).isExactlyInstanceOf(quantity.getClass());
+			}
+		}
+
+		/**
+		 * Проверка сериализации кешируемой величины.
+		 */
+		@Test
+		public void serializeCached() throws IOException, ClassNotFoundException
+		{
+			Object actualQuantity = AbstractQuantityTest.serialize(new TimeQuantity(1, TimeMeasure.SECOND));
+
+			assertThat(actualQuantity).isSameAs(TimeQuantity.valueOf(1, TimeMeasure.SECOND));
+		}
+
+		/**
+		 * Проверка сериализации величины в составе другого объекта.
+		 */
+		@Test
+		public void serializeNested() throws IOException, ClassNotFoundException
+		{
+			InformationQuantity quantity = new InformationQuantity(1, InformationMeasure.BYTE);
+			List<InformationQuantity> expectedQuantities = new ArrayList<>(List.of(quantity, quantity));
+
+			Object actualQuantities = AbstractQuantityTest.serialize(expectedQuantities);
+
+			assertThat(actualQuantities).isEqualTo(expectedQuantities);
+		}
+	}
+
+	/**
+	 * Класс проверки методов пользовательского подкласса {@link AbstractQuantity}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Subclass
+	{
+		/**
+		 * Проверка методов, не создающих величины.
+		 */
+		@Test
+		public void convert()
+		{
+			CustomQuantity quantity = new CustomQuantity(BigDecimal.valueOf(1500), TimeMeasure.MILLISECOND);
+
+			assertThat(quantity.convert(TimeMeasure.SECOND)).isEqualTo("1.500");
+			assertThat(quantity.compareTo(new CustomQuantity(BigDecimal.ONE, TimeMeasure.SECOND))).isEqualTo(1);
+		}
+
+		/**
+		 * Проверка методов, создающих величины.
+		 */
+		@Test
+		public void plus()
+		{
+			CustomQuantity quantity = new CustomQuantity(BigDecimal.ONE, TimeMeasure.SECOND);
+
+			CustomQuantity actualQuantity = quantity.plus(new CustomQuantity(BigDecimal.valueOf(500), TimeMeasure.MILLISECOND));
+
+			assertThat(actualQuantity).isInstanceOf(CustomQuantity.class);
+			assertThat(actualQuantity.getQuantity()).isEqualByComparingTo("1.5");
+			assertThat(actualQuantity.getMeasure()).isEqualTo(TimeMeasure.SECOND);
+		}
+	}
+
+	/**
+	 * Класс пользовательской величины времени.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	private static final class CustomQuantity extends AbstractQuantity<CustomQuantity, TimeMeasure>
+	{
+		/**
+		 * Версия класса для сериализации.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Конструктор для {@code CustomQuantity}.
+		 *
+		 * @param quantity величина.
+		 * @param measure мера измерения величины времени.
+		 */
+		private CustomQuantity(final BigDecimal quantity, final TimeMeasure measure)
+		{
+			super(quantity, measure);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @param quantity {@inheritDoc}
+		 * @param measure {@inheritDoc}
+		 * @return {@inheritDoc}
+		 */
+		@Override
+		protected CustomQuantity create(final BigDecimal quantity, final TimeMeasure measure)
+		{
+			return new CustomQuantity(quantity, measure);
+		}
+	}
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link CompactInformationQuantity}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class CompactInformationQuantityTest
+{
+	/**
+	 * Проверка метода {@link CompactInformationQuantity#ofBytes(long)} с отрицательной величиной.
+	 */
+	@Test
+	public void ofBytesNegative()
+	{
+		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+			CompactInformationQuantity.ofBytes(-1);
+		});
+	}
+
+	/**
+	 * Проверка метода {@link CompactInformationQuantity#getMeasure()}.
+	 */
+	@Test
+	public void getMeasure()
+	{
+		Quantitative<InformationMeasure> quantity = CompactInformationQuantity.ofBytes(1);
+
+		InformationMeasure actualMeasure = quantity.getMeasure();
+
+		assertThat(actualMeasure).isEqualTo(InformationMeasure.BYTE);
+	}
+
+	/**
+	 * Проверка метода {@link CompactInformationQuantity#getQuantityInMinUnit()} с переполнением {@code long}.
+	 */
+	@Test
+	public void getQuantityInMinUnitOverflow()
+	{
+		Quantitative<InformationMeasure> quantity = CompactInformationQuantity.ofBytes(Long.MAX_VALUE);
+
+		BigDecimal actualQuantity = quantity.getQuantityInMinUnit();
+
+		assertThat(actualQuantity).isEqualTo(BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(8)));
+	}
+
+	/**
+	 * Проверка метода {@link CompactInformationQuantity#convert(InformationMeasure)}.
+	 */
+	@Test
+	public void convert()
+	{
+		Quantitative<InformationMeasure> quantity = CompactInformationQuantity.ofBytes(3 * 1024 * 1024);
+
+		BigDecimal actualQuantity = quantity.convert(InformationMeasure.MEBIBYTE);
+
+		assertThat(actualQuantity).isEqualTo(BigDecimal.valueOf(3));
+	}
+
+	/**
+	 * Проверка метода {@link CompactInformationQuantity#convertToDouble(InformationMeasure)}.
+	 */
+	@Test
+	public void convertToDouble()
+	{
+		Quantitative<InformationMeasure> quantity = CompactInformationQuantity.ofBits(4);
+
+		double actualQuantity = quantity.convertToDouble(InformationMeasure.BYTE);
+
+		assertThat(actualQuantity).isEqualTo(0.5);
+	}
+
+	/**
+	 * Проверка метода {@link CompactInformationQuantity#toInformationQuantity()}.
+	 */
+	@Test
+	public void toInformationQuantity()
+	{
+		CompactInformationQuantity quantity = CompactInformationQuantity.ofBytes(5);
+
+		InformationQuantity actualQuantity = quantity.toInformationQuantity();
+
+		assertThat(actualQuantity).isEqualTo(new InformationQuantity(5, InformationMeasure.BYTE));
+	}
+
+	/**
+	 * Проверка метода {@link CompactInformationQuantity#toString()}.
+	 */
+	@Test
+	public void testToString()
+	{
+		Quantitative<InformationMeasure> quantity = CompactInformationQuantity.ofBits(12);
+
+		String actualString = quantity.toString();
+
+		assertThat(actualString).isEqualTo("12 BIT");
+	}
+
+	/**
+	 * Класс проверки метода {@link CompactInformationQuantity#of(long, InformationMeasure)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Of
+	{
+		/**
+		 * Проверка метода {@link CompactInformationQuantity#of(long, InformationMeasure)} с байтами.
+		 */
+		@Test
+		public void ofBytes()
+		{
+			Quantitative<InformationMeasure> actualQuantity = CompactInformationQuantity.of(
+				3, InformationMeasure.BYTE
+			);
+
+			assertThat(actualQuantity).isEqualTo(CompactInformationQuantity.ofBytes(3));
+		}
+
+		/**
+		 * Проверка метода {@link CompactInformationQuantity#of(long, InformationMeasure)} с битами.
+		 */
+		@Test
+		public void ofBits()
+		{
+			Quantitative<InformationMeasure> actualQuantity = CompactInformationQuantity.of(
+				16, InformationMeasure.BIT
+			);
+
+			assertThat(actualQuantity).isEqualTo(CompactInformationQuantity.ofBits(16));
+			assertThat(actualQuantity.getMeasure()).isEqualTo(InformationMeasure.BIT);
+			assertThat(actualQuantity).isEqualTo(new InformationQuantity(16, InformationMeasure.BIT));
+		}
+
+		/**
+		 * Проверка метода {@link CompactInformationQuantity#of(long, InformationMeasure)} с другой мерой измерения.
+		 */
+		@Test
+		public void ofOtherMeasure()
+		{
+			Quantitative<InformationMeasure> actualQuantity = CompactInformationQuantity.of(
+				2, InformationMeasure.KIBIBYTE
+			);
+
+			assertThat(actualQuantity.getMeasure()).isEqualTo(InformationMeasure.KIBIBYTE);
+			assertThat(actualQuantity).isEqualTo(new InformationQuantity(2, InformationMeasure.KIBIBYTE));
+		}
+
+		/**
+		 * Проверка метода {@link CompactInformationQuantity#of(long, InformationMeasure)} с переполнением.
+		 */
+		@Test
+		public void ofOverflow()
+		{
+			Quantitative<InformationMeasure> actualQuantity = CompactInformationQuantity.of(
+				1, InformationMeasure.YOBIBYTE
+			);
+
+			assertThat(actualQuantity).isInstanceOf(InformationQuantity.class);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link CompactInformationQuantity#formatTo(StringBuilder)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class FormatTo
+	{
+		/**
+		 * Проверка метода {@link CompactInformationQuantity#formatTo(StringBuilder)}.
+		 */
+		@Test
+		public void formatTo()
+		{
+			CompactInformationQuantity quantity = CompactInformationQuantity.ofBytes(Long.MAX_VALUE);
+
+			StringBuilder actualOut = quantity.formatTo(new StringBuilder());
+
+			assertThat(actualOut.toString()).isEqualTo(Long.MAX_VALUE + " B");
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link CompactInformationQuantity#compareTo(CompactInformationQuantity)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class CompareTo
+	{
+		/**
+		 * Проверка метода {@link CompactInformationQuantity#compareTo(CompactInformationQuantity)} со
+		 * сравнением равных значений в разных мерах.
+		 */
+		@Test
+		public void compareToEqually()
+		{
+			CompactInformationQuantity quantity1 = CompactInformationQuantity.ofBytes(2);
+			CompactInformationQuantity quantity2 = CompactInformationQuantity.ofBits(16);
+
+			int actualCompare = quantity1.compareTo(quantity2);
+
+			assertThat(actualCompare).isEqualTo(0);
+		}
+
+		/**
+		 * Проверка метода {@link CompactInformationQuantity#compareTo(CompactInformationQuantity)} со
+		 * сравнением меньшего значения с большим.
+		 */
+		@Test
+		public void compareToLess()
+		{
+			CompactInformationQuantity quantity1 = CompactInformationQuantity.ofBits(Long.MAX_VALUE);
+			CompactInformationQuantity quantity2 = CompactInformationQuantity.ofBytes(Long.MAX_VALUE);
+
+			int actualCompare = quantity1.compareTo(quantity2);
+
+			assertThat(actualCompare).isEqualTo(-1);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link CompactInformationQuantity#equals(Object)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Equals
+	{
+		/**
+		 * Проверка метода {@link CompactInformationQuantity#equals(Object)} с {@link InformationQuantity}.
+		 */
+		@Test
+		public void testEqualsInformationQuantity()
+		{
+			Quantitative<InformationMeasure> quantity1 = CompactInformationQuantity.ofBytes(1);
+			Quantitative<InformationMeasure> quantity2 = new InformationQuantity(1, InformationMeasure.BYTE);
+
+			assertThat(quantity1.equals(quantity2)).isTrue();
+			assertThat(quantity2.equals(quantity1)).isTrue();
+			assertThat(quantity1.hashCode()).isEqualTo(quantity2.hashCode());
+		}
+
+		/**
+		 * Проверка совпадения метода {@link CompactInformationQuantity#hashCode()} с {@link InformationQuantity}.
+		 */
+		@Test
+		public void testHashCode()
+		{
+			long[] values = {0, 1, 255, Integer.MAX_VALUE, 1L << 32, (1L << 32) + 5, 123_456_789_012_345L, Long.MAX_VALUE};
+
+			for (long value : values) {
+				assertThat(CompactInformationQuantity.ofBits(value).hashCode())
+					.isEqualTo(new InformationQuantity(value, InformationMeasure.BIT).hashCode());
+				assertThat(CompactInformationQuantity.ofBytes(value).hashCode())
+					.isEqualTo(new InformationQuantity(value, InformationMeasure.BYTE).hashCode());
+			}
+		}
+
+		/**
+		 * Проверка метода {@link CompactInformationQuantity#equals(Object)} с разными мерами измерения.
+		 */
+		@Test
+		public void testEqualsDifferentMeasure()
+		{
+			Quantitative<InformationMeasure> quantity1 = CompactInformationQuantity.ofBytes(1);
+			Quantitative<InformationMeasure> quantity2 = CompactInformationQuantity.ofBits(1);
+
+			boolean actual = quantity1.equals(quantity2);
+
+			assertThat(actual).isFalse();
+		}
+	}
+}
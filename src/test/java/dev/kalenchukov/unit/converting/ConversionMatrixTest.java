@@ -0,0 +1,284 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.MassMeasure;
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link ConversionMatrix}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ConversionMatrixTest
+{
+	/**
+	 * Величины для проверки конвертирования.
+	 */
+	private static final List<BigDecimal> QUANTITIES = List.of(
+		BigDecimal.ZERO,
+		new BigDecimal("0.000"),
+		BigDecimal.ONE,
+		new BigDecimal("1.0"),
+		new BigDecimal(3),
+		new BigDecimal(1000),
+		new BigDecimal(1024),
+		new BigDecimal("1.5"),
+		new BigDecimal("0.001"),
+		new BigDecimal("1E+3"),
+		new BigDecimal("7.25E-10"),
+		new BigDecimal("123456789.123456789"),
+		new BigDecimal("99999999999999999999999999999999999"),
+		new BigDecimal(Long.MAX_VALUE)
+	);
+
+	/**
+	 * Конвертирует величину через количество минимальных единиц, как до появления матрицы.
+	 *
+	 * @param quantity величина.
+	 * @param from исходная мера измерения.
+	 * @param to целевая мера измерения.
+	 * @return величину.
+	 */
+	private static BigDecimal convertDirectly(BigDecimal quantity, Measurable from, Measurable to)
+	{
+		return quantity.multiply(from.getCountMinUnit()).divide(to.getCountMinUnit(), new MathContext(32));
+	}
+
+	/**
+	 * Проверяет совпадение результатов для всех пар мер измерения.
+	 *
+	 * @param measures меры измерения.
+	 * @param <M> тип меры измерения величины.
+	 */
+	private static <M extends Enum<M> & Measurable> void assertSameAsDirect(M[] measures)
+	{
+		ConversionMatrix<M> matrix = ConversionMatrix.of(measures[0]);
+
+		for (BigDecimal quantity : QUANTITIES) {
+			for (M from : measures) {
+				for (M to : measures) {
+					BigDecimal expectedQuantity = convertDirectly(quantity, from, to);
+
+					BigDecimal actualQuantity = matrix.convert(quantity, from, to, new MathContext(32));
+
+					assertThat(actualQuantity)
+						.as("%s %s -> %s", quantity, from, to)
+						.isEqualTo(expectedQuantity);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Проверка метода {@link ConversionMatrix#of(Enum)}.
+	 */
+	@Test
+	public void of()
+	{
+		ConversionMatrix<InformationMeasure> expectedMatrix = ConversionMatrix.of(InformationMeasure.BIT);
+
+		ConversionMatrix<InformationMeasure> actualMatrix = ConversionMatrix.of(InformationMeasure.YOBIBYTE);
+
+		assertThat(actualMatrix).isSameAs(expectedMatrix);
+	}
+
+	/**
+	 * Проверка метода {@link ConversionMatrix#getFactor(Enum, Enum)}.
+	 */
+	@Test
+	public void getFactor()
+	{
+		ConversionMatrix<InformationMeasure> matrix = ConversionMatrix.of(InformationMeasure.BIT);
+
+		BigDecimal actualFactor = matrix.getFactor(InformationMeasure.KIBIBYTE, InformationMeasure.KILOBIT);
+
+		assertThat(actualFactor).isEqualByComparingTo(new BigDecimal("8.192"));
+	}
+
+	/**
+	 * Проверка метода {@link ConversionMatrix#getDoubleFactor(Enum, Enum)}.
+	 */
+	@Test
+	public void getDoubleFactor()
+	{
+		ConversionMatrix<TimeMeasure> matrix = ConversionMatrix.of(TimeMeasure.SECOND);
+
+		double actualFactor = matrix.getDoubleFactor(TimeMeasure.NANOSECOND, TimeMeasure.MILLISECOND);
+
+		assertThat(actualFactor).isEqualTo(1e-6);
+	}
+
+	/**
+	 * Класс проверки метода {@link ConversionMatrix#convert(BigDecimal, Enum, Enum, MathContext)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Convert
+	{
+		/**
+		 * Проверка метода {@link ConversionMatrix#convert(BigDecimal, Enum, Enum, MathContext)}
+		 * для всех мер измерения информации.
+		 */
+		@Test
+		public void convertInformation()
+		{
+			assertSameAsDirect(InformationMeasure.values());
+		}
+
+		/**
+		 * Проверка метода {@link ConversionMatrix#convert(BigDecimal, Enum, Enum, MathContext)}
+		 * для всех мер измерения массы.
+		 */
+		@Test
+		public void convertMass()
+		{
+			assertSameAsDirect(MassMeasure.values());
+		}
+
+		/**
+		 * Проверка метода {@link ConversionMatrix#convert(BigDecimal, Enum, Enum, MathContext)}
+		 * для всех мер измерения времени.
+		 */
+		@Test
+		public void convertTime()
+		{
+			assertSameAsDirect(TimeMeasure.values());
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link ConversionMatrix#convertExact(long, Enum, Enum)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class ConvertExact
+	{
+		/**
+		 * Проверка метода {@link ConversionMatrix#convertExact(long, Enum, Enum)} с коэффициентом 2<sup>n</sup>.
+		 */
+		@Test
+		public void convertExactPowerOfTwo()
+		{
+			ConversionMatrix<InformationMeasure> matrix = ConversionMatrix.of(InformationMeasure.BIT);
+
+			long actualQuantity = matrix.convertExact(3, InformationMeasure.KIBIBYTE, InformationMeasure.BYTE);
+
+			assertThat(actualQuantity).isEqualTo(3072);
+		}
+
+		/**
+		 * Проверка метода {@link ConversionMatrix#convertExact(long, Enum, Enum)} с делением на 2<sup>n</sup>.
+		 */
+		@Test
+		public void convertExactDivisionByPowerOfTwo()
+		{
+			ConversionMatrix<InformationMeasure> matrix = ConversionMatrix.of(InformationMeasure.BIT);
+
+			long actualQuantity = matrix.convertExact(16, InformationMeasure.BIT, InformationMeasure.BYTE);
+
+			assertThat(actualQuantity).isEqualTo(2);
+		}
+
+		/**
+		 * Проверка метода {@link ConversionMatrix#convertExact(long, Enum, Enum)} с коэффициентом,
+		 * не являющимся степенью двойки.
+		 */
+		@Test
+		public void convertExactDecimal()
+		{
+			ConversionMatrix<InformationMeasure> matrix = ConversionMatrix.of(InformationMeasure.BIT);
+
+			long actualQuantity = matrix.convertExact(1024, InformationMeasure.KILOBYTE, InformationMeasure.KIBIBYTE);
+
+			assertThat(actualQuantity).isEqualTo(1000);
+		}
+
+		/**
+		 * Проверка метода {@link ConversionMatrix#convertExact(long, Enum, Enum)} с дробным результатом.
+		 */
+		@Test
+		public void convertExactFraction()
+		{
+			ConversionMatrix<InformationMeasure> matrix = ConversionMatrix.of(InformationMeasure.BIT);
+
+			long actualQuantity = matrix.convertExact(12, InformationMeasure.BIT, InformationMeasure.BYTE);
+
+			assertThat(actualQuantity).isEqualTo(ConversionMatrix.NOT_EXACT);
+		}
+
+		/**
+		 * Проверка метода {@link ConversionMatrix#convertExact(long, Enum, Enum)} с переполнением.
+		 */
+		@Test
+		public void convertExactOverflow()
+		{
+			ConversionMatrix<InformationMeasure> matrix = ConversionMatrix.of(InformationMeasure.BIT);
+
+			long actualQuantity = matrix.convertExact(16, InformationMeasure.EXBIBYTE, InformationMeasure.BIT);
+
+			assertThat(actualQuantity).isEqualTo(ConversionMatrix.NOT_EXACT);
+		}
+
+		/**
+		 * Проверка метода {@link ConversionMatrix#convertExact(long, Enum, Enum)} с коэффициентом,
+		 * не помещающимся в {@code long}.
+		 */
+		@Test
+		public void convertExactHugeFactor()
+		{
+			ConversionMatrix<InformationMeasure> matrix = ConversionMatrix.of(InformationMeasure.BIT);
+
+			long actualQuantity = matrix.convertExact(1, InformationMeasure.YOTTABYTE, InformationMeasure.BIT);
+
+			assertThat(actualQuantity).isEqualTo(ConversionMatrix.NOT_EXACT);
+		}
+
+		/**
+		 * Проверка метода {@link ConversionMatrix#convertExact(long, Enum, Enum)} с дробными коэффициентами мер.
+		 */
+		@Test
+		public void convertExactTime()
+		{
+			ConversionMatrix<TimeMeasure> matrix = ConversionMatrix.of(TimeMeasure.SECOND);
+
+			long actualQuantity = matrix.convertExact(3000, TimeMeasure.MILLISECOND, TimeMeasure.SECOND);
+
+			assertThat(actualQuantity).isEqualTo(3);
+		}
+	}
+}
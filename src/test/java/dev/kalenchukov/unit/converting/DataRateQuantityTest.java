@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.DataRateMeasure;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Класс проверки методов класса {@link DataRateQuantity}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class DataRateQuantityTest
+{
+	/**
+	 * Класс проверки статических методов.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Static
+	{
+		/**
+		 * Класс проверки метода {@link DataRateQuantity#compare(DataRateQuantity, DataRateQuantity)}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class Compare
+		{
+			/**
+			 * Проверка метода {@link DataRateQuantity#compare(DataRateQuantity, DataRateQuantity)} со
+			 * сравнением большего значения с меньшим.
+			 */
+			@Test
+			public void compareMore()
+			{
+				DataRateQuantity rateQuantity1 = new DataRateQuantity(1, DataRateMeasure.YOTTABYTE_PER_SECOND);
+				DataRateQuantity rateQuantity2 = new DataRateQuantity(1, DataRateMeasure.ZETTABYTE_PER_SECOND);
+
+				int actualCompare = DataRateQuantity.compare(rateQuantity1, rateQuantity2);
+
+				assertThat(actualCompare).isEqualTo(1);
+			}
+
+			/**
+			 * Проверка метода {@link DataRateQuantity#compare(DataRateQuantity, DataRateQuantity)} со
+			 * сравнением равных значений.
+			 */
+			@Test
+			public void compareEqually()
+			{
+				DataRateQuantity rateQuantity1 = new DataRateQuantity(1, DataRateMeasure.KILOBIT_PER_SECOND);
+				DataRateQuantity rateQuantity2 = new DataRateQuantity(1, DataRateMeasure.KILOBIT_PER_SECOND);
+
+				int actualCompare = DataRateQuantity.compare(rateQuantity1, rateQuantity2);
+
+				assertThat(actualCompare).isEqualTo(0);
+			}
+
+			/**
+			 * Проверка метода {@link DataRateQuantity#compare(DataRateQuantity, DataRateQuantity)} со
+			 * сравнением меньшего значения с большим.
+			 */
+			@Test
+			public void compareLess()
+			{
+				DataRateQuantity rateQuantity1 = new DataRateQuantity(1, DataRateMeasure.ZETTABYTE_PER_SECOND);
+				DataRateQuantity rateQuantity2 = new DataRateQuantity(1, DataRateMeasure.YOTTABYTE_PER_SECOND);
+
+				int actualCompare = DataRateQuantity.compare(rateQuantity1, rateQuantity2);
+
+				assertThat(actualCompare).isEqualTo(-1);
+			}
+		}
+	
+
+		/**
+		 * Класс проверки метода {@link DataRateQuantity#valueOf(long, DataRateMeasure)}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class ValueOf
+		{
+			/**
+			 * Проверка метода {@link DataRateQuantity#valueOf(long, DataRateMeasure)} с кешируемой величиной.
+			 */
+			@Test
+			public void valueOfCached()
+			{
+				DataRateQuantity rateQuantity1 = DataRateQuantity.valueOf(1, DataRateMeasure.KILOBIT_PER_SECOND);
+				DataRateQuantity rateQuantity2 = DataRateQuantity.valueOf(1, DataRateMeasure.KILOBIT_PER_SECOND);
+
+				assertThat(rateQuantity2).isSameAs(rateQuantity1);
+			}
+
+			/**
+			 * Проверка метода {@link DataRateQuantity#valueOf(long, DataRateMeasure)} с некешируемой величиной.
+			 */
+			@Test
+			public void valueOfNotCached()
+			{
+				DataRateQuantity rateQuantity1 = DataRateQuantity.valueOf(1025, DataRateMeasure.KILOBIT_PER_SECOND);
+				DataRateQuantity rateQuantity2 = DataRateQuantity.valueOf(1025, DataRateMeasure.KILOBIT_PER_SECOND);
+
+				assertThat(rateQuantity2).isNotSameAs(rateQuantity1);
+				assertThat(rateQuantity2).isEqualTo(rateQuantity1);
+			}
+
+			/**
+			 * Проверка метода {@link DataRateQuantity#valueOf(long, DataRateMeasure)} с разными мерами измерения.
+			 */
+			@Test
+			public void valueOfDifferentMeasure()
+			{
+				DataRateQuantity actualDataRateQuantity = DataRateQuantity.valueOf(1, DataRateMeasure.BIT_PER_SECOND);
+
+				assertThat(actualDataRateQuantity).isEqualTo(new DataRateQuantity(1, DataRateMeasure.BIT_PER_SECOND));
+			}
+
+			/**
+			 * Проверка метода {@link DataRateQuantity#valueOf(long, DataRateMeasure)} с отрицательной величиной.
+			 */
+			@Test
+			public void valueOfNegative()
+			{
+				assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+					DataRateQuantity.valueOf(-1, DataRateMeasure.KILOBIT_PER_SECOND);
+				});
+			}
+		}
+
+		/**
+		 * Класс проверки метода {@link DataRateQuantity#rate(long, long, DataRateMeasure)}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class Rate
+		{
+			/**
+			 * Проверка метода {@link DataRateQuantity#rate(long, long, DataRateMeasure)}.
+			 */
+			@Test
+			public void rate()
+			{
+				assertThat(DataRateQuantity.rate(1_000, 1_000_000, DataRateMeasure.MEGABYTE_PER_SECOND)).isEqualTo(1.0);
+				assertThat(DataRateQuantity.rate(1_000, 1_000_000, DataRateMeasure.MEGABIT_PER_SECOND)).isEqualTo(8.0);
+				assertThat(DataRateQuantity.rate(3L << 30, 2_000_000_000, DataRateMeasure.GIBIBYTE_PER_SECOND)).isEqualTo(1.5);
+				assertThat(DataRateQuantity.rate(0, 1, DataRateMeasure.BYTE_PER_SECOND)).isEqualTo(0.0);
+			}
+
+			/**
+			 * Проверка метода {@link DataRateQuantity#rate(long, long, DataRateMeasure)} с некорректными аргументами.
+			 */
+			@Test
+			public void rateInvalid()
+			{
+				assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+					DataRateQuantity.rate(-1, 1, DataRateMeasure.BYTE_PER_SECOND);
+				});
+				assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+					DataRateQuantity.rate(1, 0, DataRateMeasure.BYTE_PER_SECOND);
+				});
+			}
+
+			/**
+			 * Проверка совпадения метода {@link DataRateQuantity#rate(long, long, DataRateMeasure)}
+			 * с делением величины информации на время.
+			 */
+			@Test
+			public void rateMatchesDivide()
+			{
+				DataRateQuantity rateQuantity = new InformationQuantity(123_456_789, InformationMeasure.BYTE)
+					.divide(new TimeQuantity(987_654, TimeMeasure.MICROSECOND), DataRateMeasure.MEGABIT_PER_SECOND);
+
+				double actualRate = DataRateQuantity.rate(123_456_789, 987_654_000, DataRateMeasure.MEGABIT_PER_SECOND);
+
+				assertThat(actualRate).isCloseTo(rateQuantity.getQuantity().doubleValue(), within(1e-9));
+			}
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link InformationAccumulator}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class InformationAccumulatorTest
+{
+	/**
+	 * Проверка метода {@link InformationAccumulator#snapshot(InformationMeasure)}.
+	 */
+	@Test
+	public void snapshot()
+	{
+		InformationAccumulator accumulator = new InformationAccumulator();
+		accumulator.add(1, InformationMeasure.KIBIBYTE);
+		accumulator.add(1, InformationMeasure.KIBIBYTE);
+
+		InformationQuantity actualQuantity = accumulator.snapshot(InformationMeasure.BYTE);
+
+		assertThat(actualQuantity.getQuantity()).isEqualByComparingTo(BigDecimal.valueOf(2048));
+	}
+
+	/**
+	 * Проверка метода {@link InformationAccumulator#add(long, InformationMeasure)} из нескольких потоков.
+	 */
+	@Test
+	public void addConcurrently()
+	{
+		InformationAccumulator accumulator = new InformationAccumulator();
+
+		IntStream.range(0, 100_000).parallel().forEach(index -> accumulator.add(1, InformationMeasure.KIBIBYTE));
+
+		InformationQuantity actualQuantity = accumulator.snapshot(InformationMeasure.KIBIBYTE);
+
+		assertThat(actualQuantity.getQuantity()).isEqualByComparingTo(BigDecimal.valueOf(100_000));
+	}
+}
@@ -24,11 +24,17 @@
 
 package dev.kalenchukov.unit.converting;
 
+import dev.kalenchukov.unit.converting.resources.DataRateMeasure;
 import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.Precision;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Класс проверки методов класса {@link InformationQuantity}.
@@ -98,5 +104,151 @@ public class InformationQuantityTest
 				assertThat(actualCompare).isEqualTo(-1);
 			}
 		}
+	
+
+		/**
+		 * Класс проверки метода {@link InformationQuantity#valueOf(long, InformationMeasure)}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class ValueOf
+		{
+			/**
+			 * Проверка метода {@link InformationQuantity#valueOf(long, InformationMeasure)} с кешируемой величиной.
+			 */
+			@Test
+			public void valueOfCached()
+			{
+				InformationQuantity informationQuantity1 = InformationQuantity.valueOf(1, InformationMeasure.KIBIBYTE);
+				InformationQuantity informationQuantity2 = InformationQuantity.valueOf(1, InformationMeasure.KIBIBYTE);
+
+				assertThat(informationQuantity2).isSameAs(informationQuantity1);
+			}
+
+			/**
+			 * Проверка метода {@link InformationQuantity#valueOf(long, InformationMeasure)} с некешируемой величиной.
+			 */
+			@Test
+			public void valueOfNotCached()
+			{
+				InformationQuantity informationQuantity1 = InformationQuantity.valueOf(1025, InformationMeasure.KIBIBYTE);
+				InformationQuantity informationQuantity2 = InformationQuantity.valueOf(1025, InformationMeasure.KIBIBYTE);
+
+				assertThat(informationQuantity2).isNotSameAs(informationQuantity1);
+				assertThat(informationQuantity2).isEqualTo(informationQuantity1);
+			}
+
+			/**
+			 * Проверка метода {@link InformationQuantity#valueOf(long, InformationMeasure)} с разными мерами измерения.
+			 */
+			@Test
+			public void valueOfDifferentMeasure()
+			{
+				InformationQuantity actualInformationQuantity = InformationQuantity.valueOf(1, InformationMeasure.MEBIBYTE);
+
+				assertThat(actualInformationQuantity).isEqualTo(new InformationQuantity(1, InformationMeasure.MEBIBYTE));
+			}
+
+			/**
+			 * Проверка метода {@link InformationQuantity#valueOf(long, InformationMeasure)} с отрицательной величиной.
+			 */
+			@Test
+			public void valueOfNegative()
+			{
+				assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+					InformationQuantity.valueOf(-1, InformationMeasure.KIBIBYTE);
+				});
+			}
+		}
+	}
+	/**
+	 * Класс проверки метода {@link InformationQuantity#divide(TimeQuantity)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class DivideTime
+	{
+		/**
+		 * Проверка метода {@link InformationQuantity#divide(TimeQuantity)}.
+		 */
+		@Test
+		public void divide()
+		{
+			InformationQuantity informationQuantity = new InformationQuantity(3, InformationMeasure.GIBIBYTE);
+
+			DataRateQuantity actualRateQuantity = informationQuantity.divide(new TimeQuantity(2, TimeMeasure.SECOND));
+
+			assertThat(actualRateQuantity.getMeasure()).isEqualTo(DataRateMeasure.GIBIBYTE_PER_SECOND);
+			assertThat(actualRateQuantity.getQuantity()).isEqualByComparingTo("1.5");
+		}
+
+		/**
+		 * Проверка метода {@link InformationQuantity#divide(TimeQuantity, DataRateMeasure)}.
+		 */
+		@Test
+		public void divideToMeasure()
+		{
+			InformationQuantity informationQuantity = new InformationQuantity(125, InformationMeasure.MEGABYTE);
+
+			DataRateQuantity actualRateQuantity = informationQuantity.divide(
+				new TimeQuantity(250, TimeMeasure.MILLISECOND), DataRateMeasure.GIGABIT_PER_SECOND
+			);
+
+			assertThat(actualRateQuantity.getQuantity()).isEqualByComparingTo("4");
+		}
+
+		/**
+		 * Проверка метода {@link InformationQuantity#divide(TimeQuantity, DataRateMeasure)} с бесконечной дробью.
+		 */
+		@Test
+		public void divideRounded()
+		{
+			InformationQuantity informationQuantity = new InformationQuantity(1, InformationMeasure.BYTE);
+
+			DataRateQuantity actualRateQuantity = informationQuantity.divide(
+				new TimeQuantity(3, TimeMeasure.SECOND), DataRateMeasure.BYTE_PER_SECOND
+			);
+
+			assertThat(actualRateQuantity.getQuantity())
+				.isEqualTo(BigDecimal.ONE.divide(BigDecimal.valueOf(3), AbstractQuantity.getDefaultMathContext()));
+		}
+
+		/**
+		 * Проверка метода {@link InformationQuantity#divide(TimeQuantity, DataRateMeasure)} с бесконечной дробью
+		 * и неограниченной точностью по умолчанию.
+		 */
+		@Test
+		public void divideRoundedUnlimited()
+		{
+			InformationQuantity informationQuantity = new InformationQuantity(1, InformationMeasure.BYTE);
+
+			AbstractQuantity.setDefaultMathContext(Precision.UNLIMITED.getMathContext());
+
+			try {
+				DataRateQuantity actualRateQuantity = informationQuantity.divide(
+					new TimeQuantity(3, TimeMeasure.SECOND), DataRateMeasure.BYTE_PER_SECOND
+				);
+
+				assertThat(actualRateQuantity.getQuantity())
+					.isEqualTo(BigDecimal.ONE.divide(BigDecimal.valueOf(3), Precision.DEFAULT.getMathContext()));
+			} finally {
+				AbstractQuantity.setDefaultMathContext(Precision.DEFAULT.getMathContext());
+			}
+		}
+
+		/**
+		 * Проверка метода {@link InformationQuantity#divide(TimeQuantity)} с нулевым временем.
+		 */
+		@Test
+		public void divideByZero()
+		{
+			InformationQuantity informationQuantity = new InformationQuantity(1, InformationMeasure.BYTE);
+
+			assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> {
+				informationQuantity.divide(new TimeQuantity(0, TimeMeasure.SECOND));
+			});
+		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Класс проверки методов класса {@link MappedQuantityColumn}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class MappedQuantityColumnTest
+{
+	/**
+	 * Временный каталог.
+	 */
+	@TempDir
+	Path directory;
+
+	/**
+	 * Столбец величин, отображённый в память.
+	 */
+	MappedQuantityColumn<TimeMeasure> column;
+
+	/**
+	 * Записывает столбец величин в файл и отображает его в память.
+	 */
+	@BeforeEach
+	public void setUp() throws IOException
+	{
+		Path file = this.directory.resolve("durations.qcol");
+		QuantityColumn<TimeMeasure> column = new QuantityColumn<>(TimeMeasure.class);
+		column.add(1.5, TimeMeasure.SECOND);
+		column.add(250, TimeMeasure.MILLISECOND);
+		column.add(500_000, TimeMeasure.MICROSECOND);
+		QuantityFiles.write(file, column);
+
+		this.column = QuantityFiles.map(file, TimeMeasure.class);
+	}
+
+	/**
+	 * Класс проверки метода {@link MappedQuantityColumn#sum(Enum)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Sum
+	{
+		/**
+		 * Проверка метода {@link MappedQuantityColumn#sum(Enum)}.
+		 */
+		@Test
+		public void sum()
+		{
+			double actualSum = MappedQuantityColumnTest.this.column.sum(TimeMeasure.MILLISECOND);
+
+			assertThat(actualSum).isCloseTo(2250, within(1e-9));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link MappedQuantityColumn#toColumn()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class ToColumn
+	{
+		/**
+		 * Проверка метода {@link MappedQuantityColumn#toColumn()}.
+		 */
+		@Test
+		public void toColumn()
+		{
+			QuantityColumn<TimeMeasure> actualColumn = MappedQuantityColumnTest.this.column.toColumn();
+
+			assertThat(actualColumn.size()).isEqualTo(3);
+			assertThat(actualColumn.getQuantity(2)).isEqualTo(500_000);
+			assertThat(actualColumn.getMeasure(2)).isEqualTo(TimeMeasure.MICROSECOND);
+		}
+	}
+
+	/**
+	 * Класс проверки методов получения величин.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Get
+	{
+		/**
+		 * Проверка метода {@link MappedQuantityColumn#getQuantity(int)} с индексом за пределами столбца.
+		 */
+		@Test
+		public void getQuantityOutOfBounds()
+		{
+			assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> {
+				MappedQuantityColumnTest.this.column.getQuantity(3);
+			});
+		}
+	}
+}
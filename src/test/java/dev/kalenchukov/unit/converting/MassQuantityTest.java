@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Класс проверки методов класса {@link MassQuantity}.
@@ -98,5 +99,62 @@ public class MassQuantityTest
 				assertThat(actualCompare).isEqualTo(-1);
 			}
 		}
+	
+
+		/**
+		 * Класс проверки метода {@link MassQuantity#valueOf(long, MassMeasure)}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class ValueOf
+		{
+			/**
+			 * Проверка метода {@link MassQuantity#valueOf(long, MassMeasure)} с кешируемой величиной.
+			 */
+			@Test
+			public void valueOfCached()
+			{
+				MassQuantity massQuantity1 = MassQuantity.valueOf(1, MassMeasure.KILOGRAM);
+				MassQuantity massQuantity2 = MassQuantity.valueOf(1, MassMeasure.KILOGRAM);
+
+				assertThat(massQuantity2).isSameAs(massQuantity1);
+			}
+
+			/**
+			 * Проверка метода {@link MassQuantity#valueOf(long, MassMeasure)} с некешируемой величиной.
+			 */
+			@Test
+			public void valueOfNotCached()
+			{
+				MassQuantity massQuantity1 = MassQuantity.valueOf(1025, MassMeasure.KILOGRAM);
+				MassQuantity massQuantity2 = MassQuantity.valueOf(1025, MassMeasure.KILOGRAM);
+
+				assertThat(massQuantity2).isNotSameAs(massQuantity1);
+				assertThat(massQuantity2).isEqualTo(massQuantity1);
+			}
+
+			/**
+			 * Проверка метода {@link MassQuantity#valueOf(long, MassMeasure)} с разными мерами измерения.
+			 */
+			@Test
+			public void valueOfDifferentMeasure()
+			{
+				MassQuantity actualMassQuantity = MassQuantity.valueOf(1, MassMeasure.GRAM);
+
+				assertThat(actualMassQuantity).isEqualTo(new MassQuantity(1, MassMeasure.GRAM));
+			}
+
+			/**
+			 * Проверка метода {@link MassQuantity#valueOf(long, MassMeasure)} с отрицательной величиной.
+			 */
+			@Test
+			public void valueOfNegative()
+			{
+				assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+					MassQuantity.valueOf(-1, MassMeasure.KILOGRAM);
+				});
+			}
+		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.MassMeasure;
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link MeasureRegistry}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class MeasureRegistryTest
+{
+	/**
+	 * Класс проверки метода {@link MeasureRegistry#of(Class)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Of
+	{
+		/**
+		 * Проверка метода {@link MeasureRegistry#of(Class)}.
+		 */
+		@Test
+		public void of()
+		{
+			MeasureRegistry<TimeMeasure> registry = MeasureRegistry.of(TimeMeasure.class);
+
+			assertThat(registry).isSameAs(MeasureRegistry.of(TimeMeasure.class));
+			assertThat(registry.getMeasureType()).isEqualTo(TimeMeasure.class);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link MeasureRegistry#register(String, String, BigDecimal, Measurable)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Register
+	{
+		/**
+		 * Проверка метода {@link MeasureRegistry#register(String, String, BigDecimal, Measurable)}.
+		 */
+		@Test
+		public void register()
+		{
+			MeasureRegistry<InformationMeasure> registry = new MeasureRegistry<>(InformationMeasure.class);
+
+			CustomMeasure sector = registry.register("SECTOR", "sec", BigDecimal.valueOf(512), InformationMeasure.BYTE);
+
+			assertThat(sector.getName()).isEqualTo("SECTOR");
+			assertThat(sector.getSymbol()).isEqualTo("sec");
+			assertThat(sector.getCountMinUnit()).isEqualByComparingTo(BigDecimal.valueOf(4096));
+			assertThat(registry.getMeasures()).hasSize(InformationMeasure.values().length + 1).endsWith(sector);
+		}
+
+		/**
+		 * Проверка метода {@link MeasureRegistry#register(String, String, BigDecimal, Measurable)}
+		 * через пользовательскую меру.
+		 */
+		@Test
+		public void registerFromCustom()
+		{
+			MeasureRegistry<InformationMeasure> registry = new MeasureRegistry<>(InformationMeasure.class);
+			CustomMeasure sector = registry.register("SECTOR", "sec", BigDecimal.valueOf(512), InformationMeasure.BYTE);
+
+			CustomMeasure page = registry.register("PAGE", "pg", BigDecimal.valueOf(8), sector);
+
+			assertThat(registry.convert(BigDecimal.ONE, page, InformationMeasure.KIBIBYTE)).isEqualTo("4");
+		}
+
+		/**
+		 * Проверка метода {@link MeasureRegistry#register(String, String, BigDecimal, Measurable)}
+		 * с существующим обозначением.
+		 */
+		@Test
+		public void registerDuplicate()
+		{
+			MeasureRegistry<InformationMeasure> registry = new MeasureRegistry<>(InformationMeasure.class);
+			registry.register("SECTOR", "sec", BigDecimal.valueOf(512), InformationMeasure.BYTE);
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				registry.register("BLOCK", "KiB", BigDecimal.ONE, InformationMeasure.KIBIBYTE);
+			});
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				registry.register("BLOCK", "sec", BigDecimal.ONE, InformationMeasure.KIBIBYTE);
+			});
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				registry.register("Sector", "blk", BigDecimal.ONE, InformationMeasure.KIBIBYTE);
+			});
+		}
+
+		/**
+		 * Проверка метода {@link MeasureRegistry#register(String, String, BigDecimal, Measurable)}
+		 * с некорректными параметрами.
+		 */
+		@Test
+		public void registerInvalid()
+		{
+			MeasureRegistry<InformationMeasure> registry = new MeasureRegistry<>(InformationMeasure.class);
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				registry.register(" ", "blk", BigDecimal.ONE, InformationMeasure.BYTE);
+			});
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				registry.register("BLOCK", "", BigDecimal.ONE, InformationMeasure.BYTE);
+			});
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				registry.register("BLOCK", "blk", BigDecimal.ZERO, InformationMeasure.BYTE);
+			});
+		}
+
+		/**
+		 * Проверка метода {@link MeasureRegistry#register(String, String, BigDecimal, Measurable)}
+		 * с мерой другого реестра.
+		 */
+		@Test
+		public void registerForeignMeasure()
+		{
+			MeasureRegistry<InformationMeasure> registry = new MeasureRegistry<>(InformationMeasure.class);
+			MeasureRegistry<InformationMeasure> anotherRegistry = new MeasureRegistry<>(InformationMeasure.class);
+			CustomMeasure sector = anotherRegistry.register("SECTOR", "sec", BigDecimal.valueOf(512), InformationMeasure.BYTE);
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				registry.register("BLOCK", "blk", BigDecimal.ONE, MassMeasure.GRAM);
+			});
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				registry.register("BLOCK", "blk", BigDecimal.ONE, sector);
+			});
+		}
+
+		/**
+		 * Проверка метода {@link MeasureRegistry#register(String, String, BigDecimal, Measurable)}
+		 * при одновременной регистрации и конвертировании в нескольких потоках.
+		 */
+		@Test
+		public void registerConcurrent() throws Exception
+		{
+			MeasureRegistry<TimeMeasure> registry = new MeasureRegistry<>(TimeMeasure.class);
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			List<Future<Double>> futures = new ArrayList<>();
+
+			try {
+				for (int thread = 0; thread < 4; thread++) {
+					final int offset = thread * 25;
+
+					futures.add(executor.submit(() -> {
+						double sum = 0;
+
+						for (int index = offset; index < offset + 25; index++) {
+							CustomMeasure measure = registry.register(
+								"UNIT" + index, "u" + index, BigDecimal.valueOf(index + 1), TimeMeasure.SECOND
+							);
+							sum += registry.convert(1, measure, TimeMeasure.SECOND);
+						}
+
+						return sum;
+					}));
+				}
+
+				double sum = 0;
+
+				for (Future<Double> future : futures) {
+					sum += future.get();
+				}
+
+				assertThat(sum).isEqualTo(5050);
+				assertThat(registry.getMeasures()).hasSize(TimeMeasure.values().length + 100);
+			} finally {
+				executor.shutdown();
+			}
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link MeasureRegistry#lookup(CharSequence)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Lookup
+	{
+		/**
+		 * Проверка метода {@link MeasureRegistry#lookup(CharSequence)}.
+		 */
+		@Test
+		public void lookup()
+		{
+			MeasureRegistry<TimeMeasure> registry = new MeasureRegistry<>(TimeMeasure.class);
+			CustomMeasure shift = registry.register("SHIFT", "shift", BigDecimal.valueOf(28800), TimeMeasure.SECOND);
+
+			assertThat(registry.lookup("ms")).isEqualTo(TimeMeasure.MILLISECOND);
+			assertThat(registry.lookup("shift")).isSameAs(shift);
+			assertThat(registry.lookup("Shifts")).isSameAs(shift);
+			assertThat(registry.lookup("week")).isNull();
+		}
+	}
+
+	/**
+	 * Класс проверки методов конвертирования.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Convert
+	{
+		/**
+		 * Проверка метода {@link MeasureRegistry#convert(BigDecimal, Measurable, Measurable, MathContext)}.
+		 */
+		@Test
+		public void convert()
+		{
+			MeasureRegistry<InformationMeasure> registry = new MeasureRegistry<>(InformationMeasure.class);
+			CustomMeasure sector = registry.register("SECTOR", "sec", BigDecimal.valueOf(512), InformationMeasure.BYTE);
+
+			assertThat(registry.convert(BigDecimal.valueOf(3), sector, InformationMeasure.BYTE, MathContext.UNLIMITED))
+				.isEqualTo("1536");
+			assertThat(registry.convert(BigDecimal.valueOf(1), InformationMeasure.KIBIBYTE, sector, MathContext.UNLIMITED))
+				.isEqualTo("2");
+			assertThat(registry.convert(BigDecimal.valueOf(100), InformationMeasure.BYTE, sector, new MathContext(3)))
+				.isEqualTo("0.195");
+		}
+
+		/**
+		 * Проверка метода {@link MeasureRegistry#convert(BigDecimal, Measurable, Measurable)}
+		 * со встроенными мерами.
+		 */
+		@Test
+		public void convertBuiltIn()
+		{
+			MeasureRegistry<InformationMeasure> registry = new MeasureRegistry<>(InformationMeasure.class);
+			InformationQuantity quantity = new InformationQuantity(new BigDecimal("1.5"), InformationMeasure.KIBIBYTE);
+
+			assertThat(registry.convert(quantity.getQuantity(), InformationMeasure.KIBIBYTE, InformationMeasure.BYTE))
+				.isEqualTo(quantity.convert(InformationMeasure.BYTE));
+		}
+
+		/**
+		 * Проверка метода {@link MeasureRegistry#convert(Quantitative, Measurable)}.
+		 */
+		@Test
+		public void convertQuantity()
+		{
+			MeasureRegistry<TimeMeasure> registry = new MeasureRegistry<>(TimeMeasure.class);
+			CustomMeasure shift = registry.register("SHIFT", "shift", BigDecimal.valueOf(28800), TimeMeasure.SECOND);
+
+			assertThat(registry.convert(new TimeQuantity(86400, TimeMeasure.SECOND), shift)).isEqualByComparingTo("3");
+		}
+
+		/**
+		 * Проверка метода {@link MeasureRegistry#convert(double, Measurable, Measurable)}.
+		 */
+		@Test
+		public void convertDouble()
+		{
+			MeasureRegistry<InformationMeasure> registry = new MeasureRegistry<>(InformationMeasure.class);
+			CustomMeasure sector = registry.register("SECTOR", "sec", BigDecimal.valueOf(512), InformationMeasure.BYTE);
+
+			assertThat(registry.convert(2.0, sector, InformationMeasure.KIBIBYTE)).isEqualTo(1.0);
+			assertThat(registry.convert(1.0, InformationMeasure.KIBIBYTE, InformationMeasure.BYTE)).isEqualTo(1024.0);
+		}
+
+		/**
+		 * Проверка метода {@link MeasureRegistry#convert(double, Measurable, Measurable)}
+		 * с мерой другого реестра.
+		 */
+		@Test
+		public void convertForeignMeasure()
+		{
+			MeasureRegistry<InformationMeasure> registry = new MeasureRegistry<>(InformationMeasure.class);
+			CustomMeasure sector = new MeasureRegistry<>(InformationMeasure.class)
+				.register("SECTOR", "sec", BigDecimal.valueOf(512), InformationMeasure.BYTE);
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				registry.convert(1.0, sector, InformationMeasure.BYTE);
+			});
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				registry.convert(1.0, TimeMeasure.SECOND, InformationMeasure.BYTE);
+			});
+		}
+	}
+}
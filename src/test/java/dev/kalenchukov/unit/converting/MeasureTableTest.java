@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.MassMeasure;
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import dev.kalenchukov.unit.converting.resources.Standard;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link MeasureTable}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class MeasureTableTest
+{
+	/**
+	 * Величины для проверки подбора меры.
+	 */
+	private static final List<BigDecimal> QUANTITIES = List.of(
+		new BigDecimal("0.5"),
+		BigDecimal.ONE,
+		new BigDecimal("0.999"),
+		new BigDecimal("1.001"),
+		new BigDecimal(7),
+		new BigDecimal(999),
+		new BigDecimal(1000),
+		new BigDecimal(1023),
+		new BigDecimal(1024),
+		new BigDecimal("123456789.123")
+	);
+
+	/**
+	 * Класс проверки метода {@link MeasureTable#findBest(BigDecimal)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class FindBest
+	{
+		/**
+		 * Проверка метода {@link MeasureTable#findBest(BigDecimal)} с мерами информации.
+		 */
+		@Test
+		public void findBestInformation()
+		{
+			assertFindBest(InformationMeasure.values(), null);
+		}
+
+		/**
+		 * Проверка метода {@link MeasureTable#findBest(BigDecimal)} с мерами массы.
+		 */
+		@Test
+		public void findBestMass()
+		{
+			assertFindBest(MassMeasure.values(), null);
+		}
+
+		/**
+		 * Проверка метода {@link MeasureTable#findBest(BigDecimal)} с мерами времени.
+		 */
+		@Test
+		public void findBestTime()
+		{
+			assertFindBest(TimeMeasure.values(), null);
+		}
+
+		/**
+		 * Проверка метода {@link MeasureTable#findBest(BigDecimal, Standard)} с мерами информации.
+		 */
+		@Test
+		public void findBestInformationStandard()
+		{
+			assertFindBest(InformationMeasure.values(), Standard.SI);
+			assertFindBest(InformationMeasure.values(), Standard.IEC);
+		}
+
+		/**
+		 * Проверка метода {@link MeasureTable#findBest(BigDecimal, Standard)} со стандартом без мер измерения.
+		 */
+		@Test
+		public void findBestStandardWithoutMeasures()
+		{
+			MeasureTable<MassMeasure> table = MeasureTable.of(MassMeasure.GRAM);
+
+			assertThat(table.findBest(BigDecimal.TEN, Standard.IEC)).isNull();
+		}
+	}
+
+	/**
+	 * Проверяет, что подобранная мера совпадает с мерой, найденной линейным перебором,
+	 * для каждой величины в каждой мере измерения.
+	 *
+	 * @param measures меры измерения.
+	 * @param standard стандарт или {@code null} для всех мер.
+	 * @param <M> тип меры измерения величины.
+	 */
+	private static <M extends Enum<M> & Measurable> void assertFindBest(@NotNull final M @NotNull [] measures,
+																		@Nullable final Standard standard)
+	{
+		MeasureTable<M> table = MeasureTable.of(measures[0]);
+		M[] candidates = Arrays.stream(measures)
+			.filter(measure -> standard == null || measure.getStandard().contains(standard))
+			.sorted(Comparator.comparing(Measurable::getCountMinUnit))
+			.toArray(length -> Arrays.copyOf(measures, length));
+
+		for (M measure : measures) {
+			for (BigDecimal quantity : QUANTITIES) {
+				BigDecimal quantityInMinUnit = quantity.multiply(measure.getCountMinUnit());
+
+				M expectedMeasure = candidates[0];
+
+				for (M candidate : candidates) {
+					if (candidate.getCountMinUnit().compareTo(quantityInMinUnit) <= 0) {
+						expectedMeasure = candidate;
+					}
+				}
+
+				M actualMeasure = standard == null
+					? table.findBest(quantityInMinUnit)
+					: table.findBest(quantityInMinUnit, standard);
+
+				assertThat(actualMeasure).as("%s %s", quantity, measure).isEqualTo(expectedMeasure);
+			}
+		}
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link MeasureTotals}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class MeasureTotalsTest
+{
+	/**
+	 * Класс проверки методов {@code add}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Add
+	{
+		/**
+		 * Проверка метода {@link MeasureTotals#add(int, long, int)} с разными масштабами.
+		 */
+		@Test
+		public void addScales()
+		{
+			MeasureTotals totals = new MeasureTotals(2);
+
+			totals.add(0, 15, 1);
+			totals.add(0, 2, 0);
+			totals.add(0, 125, 3);
+			totals.add(0, 1, -3);
+			totals.add(1, 7, 0);
+
+			assertThat(totals.getSum(0)).isEqualByComparingTo("1003.625");
+			assertThat(totals.getCount(0)).isEqualTo(4);
+			assertThat(totals.getSum(1)).isEqualByComparingTo("7");
+			assertThat(totals.getCount()).isEqualTo(5);
+		}
+
+		/**
+		 * Проверка метода {@link MeasureTotals#add(int, long, int)} с переполнением {@code long}.
+		 */
+		@Test
+		public void addOverflow()
+		{
+			MeasureTotals totals = new MeasureTotals(1);
+
+			totals.add(0, Long.MAX_VALUE, 0);
+			totals.add(0, Long.MAX_VALUE, 0);
+			totals.add(0, 1, 30);
+
+			BigDecimal expectedSum = BigDecimal.valueOf(Long.MAX_VALUE)
+				.multiply(BigDecimal.valueOf(2))
+				.add(new BigDecimal("1E-30"));
+
+			assertThat(totals.getSum(0)).isEqualByComparingTo(expectedSum);
+		}
+
+		/**
+		 * Проверка метода {@link MeasureTotals#add(int, BigDecimal)}.
+		 */
+		@Test
+		public void addBigDecimal()
+		{
+			MeasureTotals totals = new MeasureTotals(1);
+			List<BigDecimal> quantities = List.of(
+				new BigDecimal("1.5"),
+				new BigDecimal("12345678901234567890.5"),
+				new BigDecimal("0.001"),
+				new BigDecimal("1E+5")
+			);
+			BigDecimal expectedSum = BigDecimal.ZERO;
+
+			for (BigDecimal quantity : quantities) {
+				totals.add(0, quantity);
+				expectedSum = expectedSum.add(quantity);
+			}
+
+			assertThat(totals.getSum(0)).isEqualByComparingTo(expectedSum);
+			assertThat(totals.getCount(0)).isEqualTo(4);
+		}
+
+		/**
+		 * Проверка метода {@link MeasureTotals#getSum(int)} без величин.
+		 */
+		@Test
+		public void getSumEmpty()
+		{
+			MeasureTotals totals = new MeasureTotals(1);
+
+			assertThat(totals.getSum(0)).isEqualByComparingTo("0");
+			assertThat(totals.getCount(0)).isZero();
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link MeasureTotals#merge(MeasureTotals)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Merge
+	{
+		/**
+		 * Проверка метода {@link MeasureTotals#merge(MeasureTotals)}.
+		 */
+		@Test
+		public void merge()
+		{
+			MeasureTotals totals1 = new MeasureTotals(2);
+			totals1.add(0, 5, 0);
+			totals1.add(1, Long.MAX_VALUE, 0);
+			totals1.add(1, 1, 0);
+
+			MeasureTotals totals2 = new MeasureTotals(2);
+			totals2.add(0, 25, 1);
+			totals2.add(1, Long.MAX_VALUE, 0);
+
+			totals1.merge(totals2);
+
+			assertThat(totals1.getSum(0)).isEqualByComparingTo("7.5");
+			assertThat(totals1.getCount(0)).isEqualTo(2);
+			assertThat(totals1.getSum(1)).isEqualByComparingTo(
+				BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2)).add(BigDecimal.ONE)
+			);
+			assertThat(totals1.getCount(1)).isEqualTo(3);
+		}
+
+		/**
+		 * Проверка метода {@link MeasureTotals#merge(MeasureTotals)} с разным количеством мер измерения.
+		 */
+		@Test
+		public void mergeDifferentSize()
+		{
+			MeasureTotals totals = new MeasureTotals(2);
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				totals.merge(new MeasureTotals(3));
+			});
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link MeasureTotals#getTotal(Enum[], Enum)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class GetTotal
+	{
+		/**
+		 * Проверка метода {@link MeasureTotals#getTotal(Enum[], Enum)}.
+		 */
+		@Test
+		public void getTotal()
+		{
+			MeasureTotals totals = new MeasureTotals(TimeMeasure.values().length);
+			totals.add(TimeMeasure.SECOND.ordinal(), 15, 1);
+			totals.add(TimeMeasure.MILLISECOND.ordinal(), 250, 0);
+
+			BigDecimal actualTotal = totals.getTotal(TimeMeasure.values(), TimeMeasure.MILLISECOND);
+
+			assertThat(actualTotal).isEqualTo(new BigDecimal("1750"));
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов по умолчанию интерфейса {@link Quantitative}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class QuantitativeTest
+{
+	/**
+	 * Проверка метода {@link Quantitative#convertToDouble(Enum)}.
+	 */
+	@Test
+	public void convertToDouble()
+	{
+		Quantitative<TimeMeasure> quantity = new PlainQuantity(new BigDecimal("1500"), TimeMeasure.MILLISECOND);
+
+		assertThat(quantity.convertToDouble(TimeMeasure.SECOND)).isEqualTo(1.5);
+	}
+
+	/**
+	 * Проверка метода {@link Quantitative#convert(Enum, MathContext)}.
+	 */
+	@Test
+	public void convertMathContext()
+	{
+		Quantitative<TimeMeasure> quantity = new PlainQuantity(new BigDecimal("2"), TimeMeasure.SECOND);
+
+		assertThat(quantity.convert(TimeMeasure.KILOSECOND, new MathContext(1))).isEqualTo("0.002");
+		assertThat(quantity.convert(TimeMeasure.MILLISECOND, MathContext.UNLIMITED))
+			.isEqualTo(new TimeQuantity(2, TimeMeasure.SECOND).convert(TimeMeasure.MILLISECOND, MathContext.UNLIMITED));
+	}
+
+	/**
+	 * Проверка метода {@link Quantitative#getQuantityInMinUnit()}.
+	 */
+	@Test
+	public void getQuantityInMinUnit()
+	{
+		Quantitative<TimeMeasure> quantity = new PlainQuantity(new BigDecimal("2"), TimeMeasure.SECOND);
+
+		assertThat(quantity.getQuantityInMinUnit())
+			.isEqualTo(new TimeQuantity(2, TimeMeasure.SECOND).getQuantityInMinUnit());
+	}
+
+	/**
+	 * Класс величины, реализующей только обязательные методы интерфейса {@link Quantitative}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	private static final class PlainQuantity implements Quantitative<TimeMeasure>
+	{
+		/**
+		 * Величина.
+		 */
+		@NotNull
+		private final BigDecimal quantity;
+
+		/**
+		 * Мера измерения величины.
+		 */
+		@NotNull
+		private final TimeMeasure measure;
+
+		/**
+		 * Конструктор для {@code PlainQuantity}.
+		 *
+		 * @param quantity величина.
+		 * @param measure мера измерения величины.
+		 */
+		private PlainQuantity(@NotNull final BigDecimal quantity, @NotNull final TimeMeasure measure)
+		{
+			this.quantity = quantity;
+			this.measure = measure;
+		}
+
+		@NotNull
+		@Override
+		public BigDecimal getQuantity()
+		{
+			return this.quantity;
+		}
+
+		@NotNull
+		@Override
+		public TimeMeasure getMeasure()
+		{
+			return this.measure;
+		}
+
+		@NotNull
+		@Override
+		public BigDecimal convert(@NotNull final TimeMeasure measure)
+		{
+			return this.getQuantityInMinUnit().divide(measure.getCountMinUnit(), MathContext.DECIMAL128);
+		}
+	}
+}
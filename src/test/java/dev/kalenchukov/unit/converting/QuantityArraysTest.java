@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Класс проверки методов класса {@link QuantityArrays}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class QuantityArraysTest
+{
+	/**
+	 * Класс проверки метода {@link QuantityArrays#convert(double[], Enum, Enum, double[])}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class ConvertDouble
+	{
+		/**
+		 * Проверка метода {@link QuantityArrays#convert(double[], Enum, Enum, double[])}.
+		 */
+		@Test
+		public void convert()
+		{
+			double[] source = {1_500_000, 250_000, 0};
+			double[] target = new double[source.length];
+
+			QuantityArrays.convert(source, TimeMeasure.NANOSECOND, TimeMeasure.MILLISECOND, target);
+
+			assertThat(target).containsExactly(new double[] {1.5, 0.25, 0.0}, within(1e-12));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityArrays#convert(double[], Enum, Enum, double[])} на месте.
+		 */
+		@Test
+		public void convertInPlace()
+		{
+			double[] quantities = {1, 2};
+
+			QuantityArrays.convert(quantities, InformationMeasure.KIBIBYTE, InformationMeasure.BYTE, quantities);
+
+			assertThat(quantities).containsExactly(1024, 2048);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityArrays#convert(double[], Enum, Enum, double[])} с коротким
+		 * массивом для результата.
+		 */
+		@Test
+		public void convertShortTarget()
+		{
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityArrays.convert(
+					new double[2], InformationMeasure.BYTE, InformationMeasure.BIT, new double[1]
+				);
+			});
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link QuantityArrays#convert(long[], Enum, Enum, long[])}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class ConvertLong
+	{
+		/**
+		 * Проверка метода {@link QuantityArrays#convert(long[], Enum, Enum, long[])} со сдвигом влево.
+		 */
+		@Test
+		public void convertShiftLeft()
+		{
+			long[] source = {1, 3, 0};
+			long[] target = new long[source.length];
+
+			QuantityArrays.convert(source, InformationMeasure.MEBIBYTE, InformationMeasure.KIBIBYTE, target);
+
+			assertThat(target).containsExactly(1024, 3072, 0);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityArrays#convert(long[], Enum, Enum, long[])} со сдвигом вправо.
+		 */
+		@Test
+		public void convertShiftRight()
+		{
+			long[] source = {8, 16, 1024};
+			long[] target = new long[source.length];
+
+			QuantityArrays.convert(source, InformationMeasure.BIT, InformationMeasure.BYTE, target);
+
+			assertThat(target).containsExactly(1, 2, 128);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityArrays#convert(long[], Enum, Enum, long[])} с десятичным коэффициентом.
+		 */
+		@Test
+		public void convertDecimal()
+		{
+			long[] source = {3_000_000, 1_000};
+			long[] target = new long[source.length];
+
+			QuantityArrays.convert(source, TimeMeasure.NANOSECOND, TimeMeasure.MICROSECOND, target);
+
+			assertThat(target).containsExactly(3_000, 1);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityArrays#convert(long[], Enum, Enum, long[])} с дробным результатом.
+		 */
+		@Test
+		public void convertFraction()
+		{
+			assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> {
+				QuantityArrays.convert(
+					new long[] {8, 12}, InformationMeasure.BIT, InformationMeasure.BYTE, new long[2]
+				);
+			});
+		}
+
+		/**
+		 * Проверка метода {@link QuantityArrays#convert(long[], Enum, Enum, long[])} с переполнением.
+		 */
+		@Test
+		public void convertOverflow()
+		{
+			assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> {
+				QuantityArrays.convert(
+					new long[] {1, Long.MAX_VALUE / 2}, InformationMeasure.BYTE, InformationMeasure.BIT, new long[2]
+				);
+			});
+		}
+
+		/**
+		 * Проверка метода {@link QuantityArrays#convert(long[], Enum, Enum, long[])} с отрицательной величиной.
+		 */
+		@Test
+		public void convertNegative()
+		{
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityArrays.convert(
+					new long[] {1, -1}, InformationMeasure.BYTE, InformationMeasure.BIT, new long[2]
+				);
+			});
+		}
+	}
+}
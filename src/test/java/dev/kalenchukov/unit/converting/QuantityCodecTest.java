@@ -0,0 +1,218 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.DataRateMeasure;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.MassMeasure;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link QuantityCodec}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class QuantityCodecTest
+{
+	/**
+	 * Записывает величину в буфер и читает её обратно.
+	 *
+	 * @param quantity величина.
+	 * @return прочитанную величину.
+	 */
+	private static Quantitative<?> roundTrip(final Quantitative<?> quantity)
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(64);
+		QuantityCodec.write(buffer, quantity);
+
+		assertThat(buffer.position()).isEqualTo(QuantityCodec.size(quantity));
+
+		buffer.flip();
+		Quantitative<?> actualQuantity = QuantityCodec.read(buffer);
+
+		assertThat(buffer.hasRemaining()).isFalse();
+
+		return actualQuantity;
+	}
+
+	/**
+	 * Класс проверки методов записи и чтения величин.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class WriteRead
+	{
+		/**
+		 * Проверка записи и чтения величин разных видов и масштабов.
+		 */
+		@Test
+		public void roundTrip()
+		{
+			List<Quantitative<?>> quantities = List.of(
+				new InformationQuantity(0, InformationMeasure.BIT),
+				new InformationQuantity(Long.MAX_VALUE, InformationMeasure.YOBIBYTE),
+				new MassQuantity(new BigDecimal("1.25"), MassMeasure.KILOGRAM),
+				new MassQuantity(new BigDecimal("1E+3"), MassMeasure.GRAM),
+				new TimeQuantity(new BigDecimal("123456789012345678901234567890.5"), TimeMeasure.NANOSECOND),
+				new TimeQuantity(new BigDecimal("0.000000000000000000000000000001"), TimeMeasure.QUETTASECOND),
+				new DataRateQuantity(new BigDecimal("2.5"), DataRateMeasure.GIGABIT_PER_SECOND)
+			);
+
+			for (Quantitative<?> quantity : quantities) {
+				assertThat(QuantityCodecTest.roundTrip(quantity)).isEqualTo(quantity);
+			}
+		}
+
+		/**
+		 * Проверка чтения кешируемой величины.
+		 */
+		@Test
+		public void readCached()
+		{
+			Quantitative<?> actualQuantity = QuantityCodecTest.roundTrip(
+				new TimeQuantity(1, TimeMeasure.SECOND)
+			);
+
+			assertThat(actualQuantity).isSameAs(TimeQuantity.valueOf(1, TimeMeasure.SECOND));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityCodec#write(ByteBuffer, long, dev.kalenchukov.unit.converting.resources.Measurable)}.
+		 */
+		@Test
+		public void writeLong()
+		{
+			ByteBuffer buffer = ByteBuffer.allocate(16);
+			QuantityCodec.write(buffer, 100, InformationMeasure.BYTE);
+
+			assertThat(buffer.position()).isEqualTo(4);
+
+			buffer.flip();
+
+			assertThat(QuantityCodec.read(buffer)).isEqualTo(new InformationQuantity(100, InformationMeasure.BYTE));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityCodec#write(ByteBuffer, long, dev.kalenchukov.unit.converting.resources.Measurable)}
+		 * с отрицательной величиной.
+		 */
+		@Test
+		public void writeLongNegative()
+		{
+			ByteBuffer buffer = ByteBuffer.allocate(16);
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityCodec.write(buffer, -1, InformationMeasure.BYTE);
+			});
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link QuantityCodec#read(ByteBuffer)} с некорректной записью.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class ReadInvalid
+	{
+		/**
+		 * Проверка метода {@link QuantityCodec#read(ByteBuffer)} с неизвестным видом величины.
+		 */
+		@Test
+		public void readUnknownKind()
+		{
+			ByteBuffer buffer = ByteBuffer.wrap(new byte[] {0x7F, 0, 0, 0});
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityCodec.read(buffer);
+			});
+		}
+
+		/**
+		 * Проверка метода {@link QuantityCodec#read(ByteBuffer)} с неизвестной мерой измерения.
+		 */
+		@Test
+		public void readUnknownMeasure()
+		{
+			ByteBuffer buffer = ByteBuffer.wrap(new byte[] {0, 0x7F, 0, 0});
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityCodec.read(buffer);
+			});
+		}
+
+		/**
+		 * Проверка метода {@link QuantityCodec#read(ByteBuffer)} с отрицательным порядковым номером меры.
+		 */
+		@Test
+		public void readNegativeMeasure()
+		{
+			ByteBuffer buffer = ByteBuffer.wrap(new byte[] {
+				0, -1, -1, -1, -1, -1, -1, -1, -1, -1, 0x01, 0, 1
+			});
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityCodec.read(buffer);
+			});
+		}
+
+		/**
+		 * Проверка метода {@link QuantityCodec#read(ByteBuffer)} с масштабом за пределами {@code int}.
+		 */
+		@Test
+		public void readScaleOutOfRange()
+		{
+			ByteBuffer buffer = ByteBuffer.wrap(new byte[] {0, 0, -1, -1, -1, -1, 0x7F, 1});
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityCodec.read(buffer);
+			});
+		}
+
+		/**
+		 * Проверка метода {@link QuantityCodec#read(ByteBuffer)} с оборванной записью.
+		 */
+		@Test
+		public void readTruncated()
+		{
+			ByteBuffer buffer = ByteBuffer.wrap(new byte[] {0, 0, 0, (byte) 0x80});
+
+			assertThatExceptionOfType(BufferUnderflowException.class).isThrownBy(() -> {
+				QuantityCodec.read(buffer);
+			});
+		}
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.DataRateMeasure;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.MassMeasure;
+import dev.kalenchukov.unit.converting.resources.Precision;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link QuantityCollectors}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class QuantityCollectorsTest
+{
+	/**
+	 * Класс проверки методов {@code summing}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Summing
+	{
+		/**
+		 * Проверка метода {@link QuantityCollectors#summing(InformationMeasure)}.
+		 */
+		@Test
+		public void summingInformation()
+		{
+			InformationQuantity actualQuantity = Stream.of(
+				new InformationQuantity(1, InformationMeasure.KIBIBYTE),
+				new InformationQuantity(512, InformationMeasure.BYTE),
+				new InformationQuantity(8, InformationMeasure.BIT)
+			).collect(QuantityCollectors.summing(InformationMeasure.BYTE));
+
+			assertThat(actualQuantity).isEqualTo(new InformationQuantity(1537, InformationMeasure.BYTE));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityCollectors#summing(MassMeasure)}.
+		 */
+		@Test
+		public void summingMass()
+		{
+			MassQuantity actualQuantity = Stream.of(
+				new MassQuantity(1.5, MassMeasure.KILOGRAM),
+				new MassQuantity(250, MassMeasure.GRAM)
+			).collect(QuantityCollectors.summing(MassMeasure.KILOGRAM));
+
+			assertThat(actualQuantity).isEqualTo(new MassQuantity(1.75, MassMeasure.KILOGRAM));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityCollectors#summing(TimeMeasure)} с параллельным потоком.
+		 */
+		@Test
+		public void summingTimeParallel()
+		{
+			TimeQuantity actualQuantity = LongStream.rangeClosed(1, 10_000).parallel()
+				.mapToObj(value -> new TimeQuantity(value, TimeMeasure.MILLISECOND))
+				.collect(QuantityCollectors.summing(TimeMeasure.SECOND));
+
+			assertThat(actualQuantity.getQuantity()).isEqualByComparingTo("50005");
+			assertThat(actualQuantity.getMeasure()).isEqualTo(TimeMeasure.SECOND);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityCollectors#summing(InformationMeasure)} с переполнением {@code long}.
+		 */
+		@Test
+		public void summingOverflow()
+		{
+			InformationQuantity actualQuantity = Stream.of(
+				new InformationQuantity(Long.MAX_VALUE, InformationMeasure.BYTE),
+				new InformationQuantity(Long.MAX_VALUE, InformationMeasure.BYTE)
+			).collect(QuantityCollectors.summing(InformationMeasure.BYTE));
+
+			assertThat(actualQuantity.getQuantity()).isEqualTo(
+				BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2))
+			);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityCollectors#summing(TimeMeasure)} с пустым потоком.
+		 */
+		@Test
+		public void summingEmpty()
+		{
+			TimeQuantity actualQuantity = Stream.<TimeQuantity>empty()
+				.collect(QuantityCollectors.summing(TimeMeasure.SECOND));
+
+			assertThat(actualQuantity.getQuantity()).isEqualByComparingTo("0");
+		}
+	}
+
+	/**
+	 * Класс проверки методов {@code averaging}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Averaging
+	{
+		/**
+		 * Проверка метода {@link QuantityCollectors#averaging(TimeMeasure)}.
+		 */
+		@Test
+		public void averagingTime()
+		{
+			TimeQuantity actualQuantity = Stream.of(
+				new TimeQuantity(1, TimeMeasure.SECOND),
+				new TimeQuantity(500, TimeMeasure.MILLISECOND)
+			).collect(QuantityCollectors.averaging(TimeMeasure.MILLISECOND));
+
+			assertThat(actualQuantity).isEqualTo(new TimeQuantity(750, TimeMeasure.MILLISECOND));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityCollectors#averaging(DataRateMeasure)}.
+		 */
+		@Test
+		public void averagingDataRate()
+		{
+			DataRateQuantity actualQuantity = Stream.of(
+				new DataRateQuantity(1, DataRateMeasure.GIGABIT_PER_SECOND),
+				new DataRateQuantity(500, DataRateMeasure.MEGABIT_PER_SECOND)
+			).collect(QuantityCollectors.averaging(DataRateMeasure.MEGABIT_PER_SECOND));
+
+			assertThat(actualQuantity).isEqualTo(new DataRateQuantity(750, DataRateMeasure.MEGABIT_PER_SECOND));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityCollectors#averaging(MassMeasure)} с пустым потоком.
+		 */
+		@Test
+		public void averagingEmpty()
+		{
+			MassQuantity actualQuantity = Stream.<MassQuantity>empty()
+				.collect(QuantityCollectors.averaging(MassMeasure.GRAM));
+
+			assertThat(actualQuantity).isEqualTo(new MassQuantity(0, MassMeasure.GRAM));
+		}
+		/**
+		 * Проверка метода {@link QuantityCollectors#averaging(InformationMeasure)} с бесконечной дробью
+		 * и неограниченной точностью по умолчанию.
+		 */
+		@Test
+		public void averagingUnlimited()
+		{
+			AbstractQuantity.setDefaultMathContext(Precision.UNLIMITED.getMathContext());
+
+			try {
+				InformationQuantity actualQuantity = Stream.of(
+					new InformationQuantity(1, InformationMeasure.BYTE),
+					new InformationQuantity(0, InformationMeasure.BYTE),
+					new InformationQuantity(0, InformationMeasure.BYTE)
+				).collect(QuantityCollectors.averaging(InformationMeasure.BYTE));
+
+				assertThat(actualQuantity.getQuantity())
+					.isEqualTo(BigDecimal.ONE.divide(BigDecimal.valueOf(3), Precision.DEFAULT.getMathContext()));
+			} finally {
+				AbstractQuantity.setDefaultMathContext(Precision.DEFAULT.getMathContext());
+			}
+		}
+	}
+
+	/**
+	 * Класс проверки методов {@link QuantityCollectors#min()} и {@link QuantityCollectors#max()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class MinMax
+	{
+		/**
+		 * Проверка методов {@link QuantityCollectors#min()} и {@link QuantityCollectors#max()}.
+		 */
+		@Test
+		public void minMax()
+		{
+			List<InformationQuantity> quantities = List.of(
+				new InformationQuantity(1, InformationMeasure.KIBIBYTE),
+				new InformationQuantity(1000, InformationMeasure.BYTE),
+				new InformationQuantity(1, InformationMeasure.KILOBYTE)
+			);
+
+			Optional<InformationQuantity> actualMin = quantities.stream().collect(QuantityCollectors.min());
+			Optional<InformationQuantity> actualMax = quantities.stream().collect(QuantityCollectors.max());
+
+			assertThat(actualMin).contains(new InformationQuantity(1000, InformationMeasure.BYTE));
+			assertThat(actualMax).contains(new InformationQuantity(1, InformationMeasure.KIBIBYTE));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityCollectors#min()} с пустым потоком.
+		 */
+		@Test
+		public void minEmpty()
+		{
+			Optional<TimeQuantity> actualMin = Stream.<TimeQuantity>empty().collect(QuantityCollectors.min());
+
+			assertThat(actualMin).isEmpty();
+		}
+	}
+}
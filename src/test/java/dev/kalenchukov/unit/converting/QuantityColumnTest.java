@@ -0,0 +1,261 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalDouble;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Класс проверки методов класса {@link QuantityColumn}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class QuantityColumnTest
+{
+	/**
+	 * Создаёт столбец величин времени.
+	 *
+	 * @return столбец величин.
+	 */
+	private static QuantityColumn<TimeMeasure> createColumn()
+	{
+		QuantityColumn<TimeMeasure> column = new QuantityColumn<>(TimeMeasure.class, 1);
+		column.add(1.5, TimeMeasure.SECOND);
+		column.add(250, TimeMeasure.MILLISECOND);
+		column.add(new TimeQuantity(3, TimeMeasure.SECOND));
+		column.add(500_000, TimeMeasure.MICROSECOND);
+
+		return column;
+	}
+
+	/**
+	 * Класс проверки методов добавления и получения величин.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Add
+	{
+		/**
+		 * Проверка методов {@link QuantityColumn#add(double, Enum)} и {@link QuantityColumn#add(Quantitative)}.
+		 */
+		@Test
+		public void add()
+		{
+			QuantityColumn<TimeMeasure> column = createColumn();
+
+			assertThat(column.size()).isEqualTo(4);
+			assertThat(column.getQuantity(1)).isEqualTo(250);
+			assertThat(column.getMeasure(1)).isEqualTo(TimeMeasure.MILLISECOND);
+			assertThat(column.getQuantity(2)).isEqualTo(3);
+			assertThat(column.getMeasure(2)).isEqualTo(TimeMeasure.SECOND);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityColumn#add(double, Enum)} с отрицательной величиной.
+		 */
+		@Test
+		public void addNegative()
+		{
+			QuantityColumn<TimeMeasure> column = new QuantityColumn<>(TimeMeasure.class);
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				column.add(-1, TimeMeasure.SECOND);
+			});
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				column.add(Double.NaN, TimeMeasure.SECOND);
+			});
+		}
+
+		/**
+		 * Проверка метода {@link QuantityColumn#add(double, Enum)} с бесконечной величиной.
+		 */
+		@Test
+		public void addInfinite()
+		{
+			QuantityColumn<TimeMeasure> column = new QuantityColumn<>(TimeMeasure.class);
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				column.add(Double.POSITIVE_INFINITY, TimeMeasure.SECOND);
+			});
+			assertThat(column.size()).isZero();
+		}
+
+		/**
+		 * Проверка метода {@link QuantityColumn#getQuantity(int)} с индексом за пределами столбца.
+		 */
+		@Test
+		public void getQuantityOutOfBounds()
+		{
+			QuantityColumn<TimeMeasure> column = new QuantityColumn<>(TimeMeasure.class, 16);
+
+			assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> {
+				column.getQuantity(0);
+			});
+		}
+	}
+
+	/**
+	 * Класс проверки конструктора из массивов.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class FromArrays
+	{
+		/**
+		 * Проверка конструктора из массивов.
+		 */
+		@Test
+		public void fromArrays()
+		{
+			QuantityColumn<TimeMeasure> column = new QuantityColumn<>(
+				TimeMeasure.class, new double[] {1, 2}, new byte[] {0, 1}
+			);
+
+			assertThat(column.size()).isEqualTo(2);
+			assertThat(column.getMeasureType()).isEqualTo(TimeMeasure.class);
+			assertThat(column.getMeasure(1)).isEqualTo(TimeMeasure.values()[1]);
+		}
+
+		/**
+		 * Проверка конструктора из массивов с несуществующей мерой измерения.
+		 */
+		@Test
+		public void fromArraysUnknownMeasure()
+		{
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				new QuantityColumn<>(TimeMeasure.class, new double[] {1}, new byte[] {Byte.MAX_VALUE});
+			});
+		}
+
+		/**
+		 * Проверка конструктора из массивов с бесконечной величиной.
+		 */
+		@Test
+		public void fromArraysInfinite()
+		{
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				new QuantityColumn<>(TimeMeasure.class, new double[] {Double.POSITIVE_INFINITY}, new byte[] {0});
+			});
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link QuantityColumn#convertTo(Enum)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class ConvertTo
+	{
+		/**
+		 * Проверка метода {@link QuantityColumn#convertTo(Enum)}.
+		 */
+		@Test
+		public void convertTo()
+		{
+			double[] actualValues = createColumn().convertTo(TimeMeasure.MILLISECOND);
+
+			assertThat(actualValues).containsExactly(new double[] {1500, 250, 3000, 500}, within(1e-9));
+		}
+	}
+
+	/**
+	 * Класс проверки методов агрегирования.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Aggregate
+	{
+		/**
+		 * Проверка метода {@link QuantityColumn#sum(Enum)}.
+		 */
+		@Test
+		public void sum()
+		{
+			assertThat(createColumn().sum(TimeMeasure.SECOND)).isCloseTo(5.25, within(1e-12));
+		}
+
+		/**
+		 * Проверка методов {@link QuantityColumn#min(Enum)} и {@link QuantityColumn#max(Enum)}.
+		 */
+		@Test
+		public void minMax()
+		{
+			QuantityColumn<TimeMeasure> column = createColumn();
+
+			assertThat(column.min(TimeMeasure.MILLISECOND).getAsDouble()).isCloseTo(250, within(1e-9));
+			assertThat(column.max(TimeMeasure.MILLISECOND).getAsDouble()).isCloseTo(3000, within(1e-9));
+		}
+
+		/**
+		 * Проверка методов агрегирования с пустым столбцом.
+		 */
+		@Test
+		public void aggregateEmpty()
+		{
+			QuantityColumn<InformationMeasure> column = new QuantityColumn<>(InformationMeasure.class);
+
+			assertThat(column.sum(InformationMeasure.BYTE)).isZero();
+			assertThat(column.min(InformationMeasure.BYTE)).isEqualTo(OptionalDouble.empty());
+			assertThat(column.max(InformationMeasure.BYTE)).isEqualTo(OptionalDouble.empty());
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link QuantityColumn#filter(Enum, java.util.function.DoublePredicate)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Filter
+	{
+		/**
+		 * Проверка метода {@link QuantityColumn#filter(Enum, java.util.function.DoublePredicate)}.
+		 */
+		@Test
+		public void filter()
+		{
+			QuantityColumn<TimeMeasure> actualColumn = createColumn().filter(
+				TimeMeasure.MILLISECOND, value -> value >= 1000
+			);
+
+			assertThat(actualColumn.size()).isEqualTo(2);
+			assertThat(actualColumn.getQuantity(0)).isEqualTo(1.5);
+			assertThat(actualColumn.getMeasure(0)).isEqualTo(TimeMeasure.SECOND);
+			assertThat(actualColumn.getQuantity(1)).isEqualTo(3);
+		}
+	}
+}
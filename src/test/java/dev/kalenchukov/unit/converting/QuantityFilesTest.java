@@ -0,0 +1,245 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link QuantityFiles}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class QuantityFilesTest
+{
+	/**
+	 * Временный каталог.
+	 */
+	@TempDir
+	Path directory;
+
+	/**
+	 * Класс проверки методов {@link QuantityFiles#write(Path, QuantityColumn)} и {@link QuantityFiles#read(Path, Class)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class WriteRead
+	{
+		/**
+		 * Проверка записи и чтения столбца величин.
+		 */
+		@Test
+		public void writeRead() throws IOException
+		{
+			Path file = QuantityFilesTest.this.directory.resolve("sizes.qcol");
+			QuantityColumn<InformationMeasure> column = new QuantityColumn<>(InformationMeasure.class);
+
+			for (int index = 0; index < 300_000; index++) {
+				column.add(index, InformationMeasure.values()[index % InformationMeasure.values().length]);
+			}
+
+			QuantityFiles.write(file, column);
+
+			assertThat(Files.size(file)).isEqualTo(QuantityFiles.HEADER_SIZE + 300_000L * 9);
+
+			QuantityColumn<InformationMeasure> actualColumn = QuantityFiles.read(file, InformationMeasure.class);
+
+			assertThat(actualColumn.size()).isEqualTo(column.size());
+
+			for (int index = 0; index < column.size(); index++) {
+				assertThat(actualColumn.getQuantity(index)).isEqualTo(column.getQuantity(index));
+				assertThat(actualColumn.getMeasure(index)).isEqualTo(column.getMeasure(index));
+			}
+		}
+
+		/**
+		 * Проверка записи и чтения пустого столбца величин.
+		 */
+		@Test
+		public void writeReadEmpty() throws IOException
+		{
+			Path file = QuantityFilesTest.this.directory.resolve("empty.qcol");
+			QuantityFiles.write(file, new QuantityColumn<>(TimeMeasure.class));
+
+			assertThat(QuantityFiles.read(file, TimeMeasure.class).size()).isZero();
+		}
+
+		/**
+		 * Проверка чтения файла с величинами другого вида.
+		 */
+		@Test
+		public void readOtherKind() throws IOException
+		{
+			Path file = QuantityFilesTest.this.directory.resolve("time.qcol");
+			QuantityFiles.write(file, new QuantityColumn<>(TimeMeasure.class));
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityFiles.read(file, InformationMeasure.class);
+			});
+		}
+
+		/**
+		 * Проверка чтения файла некорректного формата.
+		 */
+		@Test
+		public void readInvalid() throws IOException
+		{
+			Path file = QuantityFilesTest.this.directory.resolve("invalid.qcol");
+			Files.writeString(file, "1 KiB\n2 KiB\n3 KiB\n");
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityFiles.read(file, InformationMeasure.class);
+			});
+		}
+
+		/**
+		 * Проверка чтения обрезанного файла.
+		 */
+		@Test
+		public void readTruncated() throws IOException
+		{
+			Path file = QuantityFilesTest.this.directory.resolve("truncated.qcol");
+			QuantityColumn<TimeMeasure> column = new QuantityColumn<>(TimeMeasure.class);
+			column.add(1, TimeMeasure.SECOND);
+			QuantityFiles.write(file, column);
+
+			byte[] bytes = Files.readAllBytes(file);
+			Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityFiles.read(file, TimeMeasure.class);
+			});
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link QuantityFiles#map(Path, Class)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Map
+	{
+		/**
+		 * Проверка метода {@link QuantityFiles#map(Path, Class)}.
+		 */
+		@Test
+		public void map() throws IOException
+		{
+			Path file = QuantityFilesTest.this.directory.resolve("durations.qcol");
+			QuantityColumn<TimeMeasure> column = new QuantityColumn<>(TimeMeasure.class);
+			column.add(1.5, TimeMeasure.SECOND);
+			column.add(250, TimeMeasure.MILLISECOND);
+			QuantityFiles.write(file, column);
+
+			MappedQuantityColumn<TimeMeasure> actualColumn = QuantityFiles.map(file, TimeMeasure.class);
+
+			assertThat(actualColumn.size()).isEqualTo(2);
+			assertThat(actualColumn.getMeasureType()).isEqualTo(TimeMeasure.class);
+			assertThat(actualColumn.getQuantity(1)).isEqualTo(250);
+			assertThat(actualColumn.getMeasure(1)).isEqualTo(TimeMeasure.MILLISECOND);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityFiles#map(Path, Class)} с отрицательным значением в файле.
+		 */
+		@Test
+		public void mapNegativeValue() throws IOException
+		{
+			Path file = QuantityFilesTest.this.directory.resolve("negative.qcol");
+			QuantityFilesTest.this.writeTampered(file, QuantityFiles.HEADER_SIZE, ByteBuffer.allocate(Double.BYTES)
+				.order(ByteOrder.LITTLE_ENDIAN).putDouble(0, -1));
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityFiles.map(file, TimeMeasure.class);
+			});
+		}
+
+		/**
+		 * Проверка метода {@link QuantityFiles#map(Path, Class)} с не числовым значением в файле.
+		 */
+		@Test
+		public void mapNaNValue() throws IOException
+		{
+			Path file = QuantityFilesTest.this.directory.resolve("nan.qcol");
+			QuantityFilesTest.this.writeTampered(file, QuantityFiles.HEADER_SIZE, ByteBuffer.allocate(Double.BYTES)
+				.order(ByteOrder.LITTLE_ENDIAN).putDouble(0, Double.NaN));
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityFiles.map(file, TimeMeasure.class);
+			});
+		}
+
+		/**
+		 * Проверка метода {@link QuantityFiles#map(Path, Class)} с несуществующей мерой в файле.
+		 */
+		@Test
+		public void mapInvalidMeasure() throws IOException
+		{
+			Path file = QuantityFilesTest.this.directory.resolve("measure.qcol");
+			QuantityFilesTest.this.writeTampered(file, QuantityFiles.HEADER_SIZE + 2 * Double.BYTES + 1,
+				ByteBuffer.wrap(new byte[] {(byte) 0x7F}));
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityFiles.map(file, TimeMeasure.class);
+			});
+		}
+	}
+
+	/**
+	 * Записывает столбец из двух величин в файл и заменяет часть его байтов.
+	 *
+	 * @param file файл.
+	 * @param position позиция заменяемых байтов.
+	 * @param bytes новые байты.
+	 */
+	private void writeTampered(Path file, long position, ByteBuffer bytes) throws IOException
+	{
+		QuantityColumn<TimeMeasure> column = new QuantityColumn<>(TimeMeasure.class);
+		column.add(1.5, TimeMeasure.SECOND);
+		column.add(250, TimeMeasure.MILLISECOND);
+		QuantityFiles.write(file, column);
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+			channel.write(bytes, position);
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link QuantityFormat}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class QuantityFormatTest
+{
+	/**
+	 * Величины для проверки записи.
+	 */
+	private static final List<BigDecimal> QUANTITIES = List.of(
+		BigDecimal.ZERO,
+		new BigDecimal("0.000"),
+		new BigDecimal("0E-30"),
+		new BigDecimal("0E+3"),
+		BigDecimal.ONE,
+		new BigDecimal("1.0"),
+		new BigDecimal("1.5"),
+		new BigDecimal("0.001"),
+		new BigDecimal("0.0105"),
+		new BigDecimal("1E+3"),
+		new BigDecimal("1.2E+5"),
+		new BigDecimal("1E-30"),
+		new BigDecimal("123456789.987654321"),
+		new BigDecimal("999999999999999999"),
+		new BigDecimal("0.999999999999999999"),
+		new BigDecimal("1000000000000000000"),
+		new BigDecimal(Long.MAX_VALUE),
+		new BigDecimal("12345678901234567890.0987654321"),
+		new BigDecimal("1E+40")
+	);
+
+	/**
+	 * Класс проверки метода {@link QuantityFormat#appendQuantity(Appendable, BigDecimal)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class AppendQuantity
+	{
+		/**
+		 * Проверка метода {@link QuantityFormat#appendQuantity(Appendable, BigDecimal)}
+		 * с {@link StringBuilder}.
+		 */
+		@Test
+		public void appendQuantityStringBuilder() throws IOException
+		{
+			for (BigDecimal quantity : QUANTITIES) {
+				StringBuilder actualOut = new StringBuilder();
+
+				QuantityFormat.appendQuantity(actualOut, quantity);
+
+				assertThat(actualOut.toString()).as("%s", quantity).isEqualTo(quantity.toPlainString());
+			}
+		}
+
+		/**
+		 * Проверка метода {@link QuantityFormat#appendQuantity(Appendable, BigDecimal)}
+		 * с произвольным {@link Appendable}.
+		 */
+		@Test
+		public void appendQuantityAppendable() throws IOException
+		{
+			for (BigDecimal quantity : QUANTITIES) {
+				StringWriter actualOut = new StringWriter();
+
+				QuantityFormat.appendQuantity(actualOut, quantity);
+
+				assertThat(actualOut.toString()).as("%s", quantity).isEqualTo(quantity.toPlainString());
+			}
+		}
+	}
+
+	/**
+	 * Класс проверки методов {@code format}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Format
+	{
+		/**
+		 * Проверка метода {@link QuantityFormat#format(Appendable, BigDecimal, Measurable)}.
+		 */
+		@Test
+		public void formatBigDecimal() throws IOException
+		{
+			StringBuilder actualOut = new StringBuilder();
+
+			QuantityFormat.format(actualOut, new BigDecimal("1.5"), InformationMeasure.KIBIBYTE);
+
+			assertThat(actualOut.toString()).isEqualTo("1.5 KiB");
+		}
+
+		/**
+		 * Проверка метода {@link QuantityFormat#format(Appendable, long, Measurable)}.
+		 */
+		@Test
+		public void formatLong() throws IOException
+		{
+			StringWriter actualOut = new StringWriter();
+
+			QuantityFormat.format(actualOut, Long.MAX_VALUE, TimeMeasure.MICROSECOND);
+
+			assertThat(actualOut.toString()).isEqualTo(Long.MAX_VALUE + " µs");
+		}
+	}
+}
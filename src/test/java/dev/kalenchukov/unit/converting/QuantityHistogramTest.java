@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link QuantityHistogram}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class QuantityHistogramTest
+{
+	/**
+	 * Проверка методов {@link QuantityHistogram#getCount()} и {@link QuantityHistogram#getCount(Enum)}.
+	 */
+	@Test
+	public void getCount()
+	{
+		MeasureTotals totals = new MeasureTotals(InformationMeasure.values().length);
+		totals.add(InformationMeasure.BYTE.ordinal(), 3, 0);
+		totals.add(InformationMeasure.BYTE.ordinal(), 4, 0);
+		totals.add(InformationMeasure.KIBIBYTE.ordinal(), 1, 0);
+
+		QuantityHistogram<InformationMeasure> histogram = new QuantityHistogram<>(InformationMeasure.class, totals);
+
+		assertThat(histogram.getCount()).isEqualTo(3);
+		assertThat(histogram.getCount(InformationMeasure.BYTE)).isEqualTo(2);
+		assertThat(histogram.getCount(InformationMeasure.BIT)).isZero();
+	}
+
+	/**
+	 * Проверка метода {@link QuantityHistogram#getSum(Enum)}.
+	 */
+	@Test
+	public void getSum()
+	{
+		MeasureTotals totals = new MeasureTotals(TimeMeasure.values().length);
+		totals.add(TimeMeasure.MILLISECOND.ordinal(), 125, 1);
+		totals.add(TimeMeasure.MILLISECOND.ordinal(), 3, 0);
+
+		QuantityHistogram<TimeMeasure> histogram = new QuantityHistogram<>(TimeMeasure.class, totals);
+
+		assertThat(histogram.getSum(TimeMeasure.MILLISECOND)).isEqualByComparingTo("15.5");
+	}
+
+	/**
+	 * Проверка методов {@link QuantityHistogram#getTotal()} и {@link QuantityHistogram#getTotal(Enum)}.
+	 */
+	@Test
+	public void getTotal()
+	{
+		MeasureTotals totals = new MeasureTotals(InformationMeasure.values().length);
+		totals.add(InformationMeasure.BYTE.ordinal(), 512, 0);
+		totals.add(InformationMeasure.KIBIBYTE.ordinal(), 15, 1);
+
+		QuantityHistogram<InformationMeasure> histogram = new QuantityHistogram<>(InformationMeasure.class, totals);
+
+		assertThat(histogram.getTotal()).isEqualByComparingTo("16384");
+		assertThat(histogram.getTotal(InformationMeasure.KIBIBYTE)).isEqualByComparingTo("2");
+	}
+}
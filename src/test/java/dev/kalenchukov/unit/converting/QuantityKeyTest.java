@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.MassMeasure;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link QuantityKey}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class QuantityKeyTest
+{
+	/**
+	 * Класс проверки методов {@link QuantityKey#equals(Object)} и {@link QuantityKey#hashCode()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class EqualsHashCode
+	{
+		/**
+		 * Проверка равенства ключей величин в разных мерах измерения.
+		 */
+		@Test
+		public void equalsDifferentMeasure()
+		{
+			QuantityKey<InformationMeasure> key1 = QuantityKey.of(new InformationQuantity(1, InformationMeasure.BYTE));
+			QuantityKey<InformationMeasure> key2 = QuantityKey.of(new InformationQuantity(8, InformationMeasure.BIT));
+
+			assertThat(key1).isEqualTo(key2);
+			assertThat(key1.hashCode()).isEqualTo(key2.hashCode());
+		}
+
+		/**
+		 * Проверка равенства ключей величин с разным масштабом.
+		 */
+		@Test
+		public void equalsDifferentScale()
+		{
+			QuantityKey<TimeMeasure> key1 = QuantityKey.of(
+				new TimeQuantity(new BigDecimal("1.0"), TimeMeasure.SECOND)
+			);
+			QuantityKey<TimeMeasure> key2 = QuantityKey.of(new TimeQuantity(1000, TimeMeasure.MILLISECOND));
+
+			assertThat(key1).isEqualTo(key2);
+			assertThat(key1.hashCode()).isEqualTo(key2.hashCode());
+		}
+
+		/**
+		 * Проверка неравенства ключей разных величин.
+		 */
+		@Test
+		public void notEquals()
+		{
+			QuantityKey<InformationMeasure> key1 = QuantityKey.of(new InformationQuantity(1, InformationMeasure.BYTE));
+			QuantityKey<InformationMeasure> key2 = QuantityKey.of(new InformationQuantity(1, InformationMeasure.BIT));
+
+			assertThat(key1).isNotEqualTo(key2);
+		}
+
+		/**
+		 * Проверка неравенства ключей величин с разными типами мер измерения.
+		 */
+		@Test
+		public void notEqualsDifferentType()
+		{
+			QuantityKey<MassMeasure> key1 = QuantityKey.of(new MassQuantity(1, MassMeasure.GRAM));
+			QuantityKey<TimeMeasure> key2 = QuantityKey.of(new TimeQuantity(1, TimeMeasure.SECOND));
+
+			assertThat(key1).isNotEqualTo(key2);
+		}
+
+		/**
+		 * Проверка ключей величин в хеш-множестве.
+		 */
+		@Test
+		public void hashSet()
+		{
+			Set<QuantityKey<InformationMeasure>> keys = new HashSet<>();
+			keys.add(QuantityKey.of(new InformationQuantity(1, InformationMeasure.KIBIBYTE)));
+			keys.add(QuantityKey.of(new InformationQuantity(1024, InformationMeasure.BYTE)));
+			keys.add(QuantityKey.of(CompactInformationQuantity.ofBits(8192)));
+			keys.add(QuantityKey.of(new InformationQuantity(1, InformationMeasure.KILOBYTE)));
+
+			assertThat(keys).hasSize(2);
+		}
+	}
+
+	/**
+	 * Класс проверки методов получения значений ключа.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Getters
+	{
+		/**
+		 * Проверка методов {@link QuantityKey#getQuantityInMinUnit()} и {@link QuantityKey#getMeasureType()}.
+		 */
+		@Test
+		public void getters()
+		{
+			QuantityKey<InformationMeasure> key = QuantityKey.of(new InformationQuantity(2, InformationMeasure.KIBIBYTE));
+
+			assertThat(key.getQuantityInMinUnit()).isEqualTo(new BigDecimal("16384"));
+			assertThat(key.getMeasureType()).isEqualTo(InformationMeasure.class);
+			assertThat(key.toString()).isEqualTo("16384 InformationMeasure");
+		}
+	}
+}
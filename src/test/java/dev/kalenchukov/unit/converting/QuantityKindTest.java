@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.DataRateMeasure;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.MassMeasure;
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import dev.kalenchukov.unit.converting.resources.Standard;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки констант и методов перечисления {@link QuantityKind}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class QuantityKindTest
+{
+	/**
+	 * Класс проверки метода {@link QuantityKind#of(Measurable)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Of
+	{
+		/**
+		 * Проверка метода {@link QuantityKind#of(Measurable)}.
+		 */
+		@Test
+		public void of()
+		{
+			assertThat(QuantityKind.of(InformationMeasure.BYTE)).isEqualTo(QuantityKind.INFORMATION);
+			assertThat(QuantityKind.of(MassMeasure.GRAM)).isEqualTo(QuantityKind.MASS);
+			assertThat(QuantityKind.of(TimeMeasure.SECOND)).isEqualTo(QuantityKind.TIME);
+			assertThat(QuantityKind.of(DataRateMeasure.BYTE_PER_SECOND)).isEqualTo(QuantityKind.DATA_RATE);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityKind#of(Measurable)} с неизвестной мерой измерения.
+		 */
+		@Test
+		public void ofUnknown()
+		{
+			Measurable measure = new Measurable()
+			{
+				@NotNull
+				@Override
+				public Set<@NotNull Standard> getStandard()
+				{
+					return Set.of();
+				}
+
+				@NotNull
+				@Override
+				public BigDecimal getCountMinUnit()
+				{
+					return BigDecimal.ONE;
+				}
+
+				@NotNull
+				@Override
+				public String getSymbol()
+				{
+					return "?";
+				}
+			};
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityKind.of(measure);
+			});
+		}
+	}
+
+	/**
+	 * Класс проверки методов создания величин.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Create
+	{
+		/**
+		 * Проверка метода {@link QuantityKind#create(BigDecimal, Measurable)}.
+		 */
+		@Test
+		public void create()
+		{
+			Quantitative<?> actualQuantity = QuantityKind.MASS.create(new BigDecimal("1.5"), MassMeasure.GRAM);
+
+			assertThat(actualQuantity).isEqualTo(new MassQuantity(new BigDecimal("1.5"), MassMeasure.GRAM));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityKind#valueOf(long, Measurable)}.
+		 */
+		@Test
+		public void valueOf()
+		{
+			Quantitative<?> actualQuantity = QuantityKind.TIME.valueOf(1, TimeMeasure.SECOND);
+
+			assertThat(actualQuantity).isSameAs(TimeQuantity.valueOf(1, TimeMeasure.SECOND));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityKind#getMeasure(int)}.
+		 */
+		@Test
+		public void getMeasure()
+		{
+			for (QuantityKind kind : QuantityKind.values()) {
+				for (int ordinal = 0; ordinal < kind.getMeasureCount(); ordinal++) {
+					assertThat(kind.getMeasure(ordinal)).isInstanceOf(kind.getMeasureType());
+					assertThat(kind.getMeasure(ordinal)).isEqualTo(kind.getMeasureType().getEnumConstants()[ordinal]);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,373 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.DataRateMeasure;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.MassMeasure;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link QuantityParser}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class QuantityParserTest
+{
+	/**
+	 * Класс проверки метода {@link QuantityParser#parse(CharSequence)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Parse
+	{
+		/**
+		 * Проверка метода {@link QuantityParser#parse(CharSequence)} с обозначением меры через пробел.
+		 */
+		@Test
+		public void parseSymbol()
+		{
+			Quantitative<?> actualQuantity = QuantityParser.parse("1.5 GiB");
+
+			assertThat(actualQuantity).isEqualTo(
+				new InformationQuantity(new BigDecimal("1.5"), InformationMeasure.GIBIBYTE)
+			);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parse(CharSequence)} с обозначением меры без пробела.
+		 */
+		@Test
+		public void parseSymbolWithoutSpace()
+		{
+			Quantitative<?> actualQuantity = QuantityParser.parse("250ms");
+
+			assertThat(actualQuantity).isEqualTo(new TimeQuantity(250, TimeMeasure.MILLISECOND));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parse(CharSequence)} с обозначениями, отличающимися регистром.
+		 */
+		@Test
+		public void parseSymbolCaseSensitive()
+		{
+			assertThat(QuantityParser.parse("1 ms").getMeasure()).isEqualTo(TimeMeasure.MILLISECOND);
+			assertThat(QuantityParser.parse("1 Ms").getMeasure()).isEqualTo(TimeMeasure.MEGASECOND);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parse(CharSequence)} с названием меры.
+		 */
+		@Test
+		public void parseName()
+		{
+			assertThat(QuantityParser.parse("3 kilogram")).isEqualTo(new MassQuantity(3, MassMeasure.KILOGRAM));
+			assertThat(QuantityParser.parse("3 KILOGRAM")).isEqualTo(new MassQuantity(3, MassMeasure.KILOGRAM));
+			assertThat(QuantityParser.parse("3 Kilograms")).isEqualTo(new MassQuantity(3, MassMeasure.KILOGRAM));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parse(CharSequence)} с символом {@code µ} и его заменой.
+		 */
+		@Test
+		public void parseMicro()
+		{
+			assertThat(QuantityParser.parse("5 µs")).isEqualTo(new TimeQuantity(5, TimeMeasure.MICROSECOND));
+			assertThat(QuantityParser.parse("5 us")).isEqualTo(new TimeQuantity(5, TimeMeasure.MICROSECOND));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parse(CharSequence)} с экспонентой.
+		 */
+		@Test
+		public void parseExponent()
+		{
+			assertThat(QuantityParser.parse("1.5E3 B")).isEqualTo(
+				new InformationQuantity(new BigDecimal("1.5E3"), InformationMeasure.BYTE)
+			);
+			assertThat(QuantityParser.parse("25e-1s")).isEqualTo(
+				new TimeQuantity(new BigDecimal("25e-1"), TimeMeasure.SECOND)
+			);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parse(CharSequence)} с мерой, начинающейся с буквы экспоненты.
+		 */
+		@Test
+		public void parseExaMeasure()
+		{
+			assertThat(QuantityParser.parse("2EB")).isEqualTo(new InformationQuantity(2, InformationMeasure.EXABYTE));
+			assertThat(QuantityParser.parse("2 Es")).isEqualTo(new TimeQuantity(2, TimeMeasure.EXASECOND));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parse(CharSequence)} с масштабом числа, как у {@link BigDecimal}.
+		 */
+		@Test
+		public void parseScale()
+		{
+			List<String> numbers = List.of(
+				"0", "0.0", "1.50", "007", ".5", "1.", "123456789.987654321",
+				"12345678901234567890", "0.00000000000000000000000001", "1E+10"
+			);
+
+			for (String number : numbers) {
+				Quantitative<?> actualQuantity = QuantityParser.parse(number + " g");
+
+				assertThat(actualQuantity.getQuantity()).as(number).isEqualTo(new BigDecimal(number));
+			}
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parse(CharSequence)} с пробелами вокруг записи.
+		 */
+		@Test
+		public void parseSpaces()
+		{
+			Quantitative<?> actualQuantity = QuantityParser.parse("\t 1 kB \t");
+
+			assertThat(actualQuantity).isEqualTo(new InformationQuantity(1, InformationMeasure.KILOBYTE));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parse(CharSequence)} с целой величиной из кеша.
+		 */
+		@Test
+		public void parseCached()
+		{
+			Quantitative<?> actualQuantity = QuantityParser.parse("1 KiB");
+
+			assertThat(actualQuantity).isSameAs(InformationQuantity.valueOf(1, InformationMeasure.KIBIBYTE));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parse(CharSequence)} с некорректными записями.
+		 */
+		@Test
+		public void parseInvalid()
+		{
+			List<String> texts = List.of(
+				"", " ", "KiB", "1", "1 ", "-1 KiB", "1 kib", "1 KiBB", ". KiB", "1..5 KiB", "1 K iB",
+				"1E1234567890 B"
+			);
+
+			for (String text : texts) {
+				assertThatExceptionOfType(IllegalArgumentException.class).as(text).isThrownBy(() -> {
+					QuantityParser.parse(text);
+				});
+			}
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parse(CharSequence)} с {@code null}.
+		 */
+		@Test
+		public void parseNull()
+		{
+			assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> {
+				QuantityParser.parse(null);
+			});
+		}
+	}
+
+	/**
+	 * Класс проверки методов разбора величин определённого вида.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class ParseTyped
+	{
+		/**
+		 * Проверка метода {@link QuantityParser#parseInformation(CharSequence)}.
+		 */
+		@Test
+		public void parseInformation()
+		{
+			InformationQuantity actualQuantity = QuantityParser.parseInformation("8 bit");
+
+			assertThat(actualQuantity).isEqualTo(new InformationQuantity(8, InformationMeasure.BIT));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parseMass(CharSequence)}.
+		 */
+		@Test
+		public void parseMass()
+		{
+			MassQuantity actualQuantity = QuantityParser.parseMass("2.5 mg");
+
+			assertThat(actualQuantity).isEqualTo(new MassQuantity(new BigDecimal("2.5"), MassMeasure.MILLIGRAM));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parseTime(CharSequence)}.
+		 */
+		@Test
+		public void parseTime()
+		{
+			TimeQuantity actualQuantity = QuantityParser.parseTime("60 s");
+
+			assertThat(actualQuantity).isEqualTo(new TimeQuantity(60, TimeMeasure.SECOND));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parseTime(CharSequence)} с величиной другого вида.
+		 */
+		@Test
+		public void parseTimeOtherKind()
+		{
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityParser.parseTime("60 kg");
+			});
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parseDataRate(CharSequence)}.
+		 */
+		@Test
+		public void parseDataRate()
+		{
+			DataRateQuantity actualQuantity = QuantityParser.parseDataRate("10 Gbit/s");
+
+			assertThat(actualQuantity).isEqualTo(new DataRateQuantity(10, DataRateMeasure.GIGABIT_PER_SECOND));
+			assertThat(QuantityParser.parse("1.5MiB/s"))
+				.isEqualTo(new DataRateQuantity(new BigDecimal("1.5"), DataRateMeasure.MEBIBYTE_PER_SECOND));
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parseDataRate(CharSequence)} с величиной другого вида.
+		 */
+		@Test
+		public void parseDataRateOtherKind()
+		{
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityParser.parseDataRate("10 Gbit");
+			});
+		}
+	}
+
+	/**
+	 * Класс проверки методов {@code parseAll}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class ParseAll
+	{
+		/**
+		 * Записи величин.
+		 */
+		private static final String TEXT = "1.5 GiB\n250ms,\r\n\n 3 kg , 7 µs\n";
+
+		/**
+		 * Ожидаемые величины.
+		 */
+		private static final List<Quantitative<?>> EXPECTED = List.of(
+			new InformationQuantity(new BigDecimal("1.5"), InformationMeasure.GIBIBYTE),
+			new TimeQuantity(250, TimeMeasure.MILLISECOND),
+			new MassQuantity(3, MassMeasure.KILOGRAM),
+			new TimeQuantity(7, TimeMeasure.MICROSECOND)
+		);
+
+		/**
+		 * Проверка метода {@link QuantityParser#parseAll(CharBuffer, java.util.function.Consumer)}.
+		 */
+		@Test
+		public void parseAllCharBuffer()
+		{
+			CharBuffer input = CharBuffer.wrap("skip" + TEXT);
+			input.position(4);
+			List<Quantitative<?>> actualQuantities = new ArrayList<>();
+
+			int actualCount = QuantityParser.parseAll(input, actualQuantities::add);
+
+			assertThat(actualCount).isEqualTo(4);
+			assertThat(actualQuantities).isEqualTo(EXPECTED);
+			assertThat(input.hasRemaining()).isFalse();
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parseAll(ByteBuffer, java.util.function.Consumer)}.
+		 */
+		@Test
+		public void parseAllByteBuffer()
+		{
+			ByteBuffer input = ByteBuffer.wrap(TEXT.getBytes(StandardCharsets.UTF_8));
+			List<Quantitative<?>> actualQuantities = new ArrayList<>();
+
+			int actualCount = QuantityParser.parseAll(input, actualQuantities::add);
+
+			assertThat(actualCount).isEqualTo(4);
+			assertThat(actualQuantities).isEqualTo(EXPECTED);
+			assertThat(input.hasRemaining()).isFalse();
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parseAll(ByteBuffer, java.util.function.Consumer)}
+		 * с длинной записью величины.
+		 */
+		@Test
+		public void parseAllByteBufferLongToken()
+		{
+			String number = "1" + "0".repeat(100);
+			ByteBuffer input = ByteBuffer.wrap((number + " B").getBytes(StandardCharsets.US_ASCII));
+			List<Quantitative<?>> actualQuantities = new ArrayList<>();
+
+			QuantityParser.parseAll(input, actualQuantities::add);
+
+			assertThat(actualQuantities).containsExactly(
+				new InformationQuantity(new BigDecimal(number), InformationMeasure.BYTE)
+			);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityParser#parseAll(CharBuffer, java.util.function.Consumer)}
+		 * с некорректной записью.
+		 */
+		@Test
+		public void parseAllInvalid()
+		{
+			CharBuffer input = CharBuffer.wrap("1 KiB\n1 foo");
+
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityParser.parseAll(input, quantity -> {});
+			});
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link QuantityProxy}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class QuantityProxyTest
+{
+	/**
+	 * Класс проверки методов записи и чтения прокси.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Externalize
+	{
+		/**
+		 * Проверка размера сериализованной величины.
+		 */
+		@Test
+		public void writeExternalSize() throws IOException
+		{
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+			try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+				out.writeObject(new InformationQuantity(1536, InformationMeasure.KIBIBYTE));
+			}
+
+			assertThat(bytes.size()).isLessThan(100);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityProxy#readExternal(java.io.ObjectInput)} с некорректной записью.
+		 */
+		@Test
+		public void readExternalInvalid() throws IOException
+		{
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+			try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+				out.writeInt(4);
+				out.write(new byte[] {0x7F, 0, 0, 0});
+			}
+
+			QuantityProxy proxy = new QuantityProxy();
+
+			try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+				assertThatExceptionOfType(InvalidObjectException.class).isThrownBy(() -> {
+					proxy.readExternal(in);
+				});
+			}
+		}
+
+		/**
+		 * Проверка метода {@link QuantityProxy#readExternal(java.io.ObjectInput)} с отрицательным
+		 * порядковым номером меры.
+		 */
+		@Test
+		public void readExternalNegativeMeasure() throws IOException
+		{
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+			try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+				out.writeInt(13);
+				out.write(new byte[] {0, -1, -1, -1, -1, -1, -1, -1, -1, -1, 0x01, 0, 1});
+			}
+
+			QuantityProxy proxy = new QuantityProxy();
+
+			try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+				assertThatExceptionOfType(InvalidObjectException.class).isThrownBy(() -> {
+					proxy.readExternal(in);
+				});
+			}
+		}
+	}
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.Measurable;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link QuantityScanner}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class QuantityScannerTest
+{
+	/**
+	 * Строки журнала.
+	 */
+	private static final String LOG = """
+		GET /index.html 200 1532 B 12.5ms
+		GET /video.mp4 200 1.5 GiB 2 s
+		POST /api/v2 500 0 B 250 µs
+		GET /a1 404 17 bytes took 3ms, retry after 1 second
+		""";
+
+	/**
+	 * Класс проверки метода {@link QuantityScanner#scan(ByteBuffer, QuantityKind, MeasureTotals)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class ScanBuffer
+	{
+		/**
+		 * Проверка метода {@link QuantityScanner#scan(ByteBuffer, QuantityKind, MeasureTotals)} с мерами информации.
+		 */
+		@Test
+		public void scanInformation()
+		{
+			MeasureTotals totals = scan(LOG, InformationMeasure.values());
+
+			assertThat(totals.getCount(InformationMeasure.BYTE.ordinal())).isEqualTo(3);
+			assertThat(totals.getSum(InformationMeasure.BYTE.ordinal())).isEqualByComparingTo("1549");
+			assertThat(totals.getSum(InformationMeasure.GIBIBYTE.ordinal())).isEqualByComparingTo("1.5");
+			assertThat(totals.getCount()).isEqualTo(4);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityScanner#scan(ByteBuffer, QuantityKind, MeasureTotals)} с мерами времени.
+		 */
+		@Test
+		public void scanTime()
+		{
+			MeasureTotals totals = scan(LOG, TimeMeasure.values());
+
+			assertThat(totals.getSum(TimeMeasure.MILLISECOND.ordinal())).isEqualByComparingTo("15.5");
+			assertThat(totals.getSum(TimeMeasure.SECOND.ordinal())).isEqualByComparingTo("3");
+			assertThat(totals.getSum(TimeMeasure.MICROSECOND.ordinal())).isEqualByComparingTo("250");
+			assertThat(totals.getCount()).isEqualTo(5);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityScanner#scan(ByteBuffer, QuantityKind, MeasureTotals)} с числами,
+		 * которые являются частью слова или за которыми нет меры измерения.
+		 */
+		@Test
+		public void scanSkipsWords()
+		{
+			MeasureTotals totals = scan("v2s a1B 1.2.3 s 5 sec 7 s2 10 Kib 3 s", TimeMeasure.values());
+
+			assertThat(totals.getCount()).isEqualTo(1);
+			assertThat(totals.getSum(TimeMeasure.SECOND.ordinal())).isEqualByComparingTo("3");
+		}
+
+		/**
+		 * Проверка метода {@link QuantityScanner#scan(ByteBuffer, QuantityKind, MeasureTotals)} с обозначением,
+		 * за которым слово не заканчивается.
+		 */
+		@Test
+		public void scanSkipsUnfinishedWords()
+		{
+			MeasureTotals totals = scan("5 s_x 6 sé 7 s.3 8 ms. 9 s", TimeMeasure.values());
+
+			assertThat(totals.getCount()).isEqualTo(2);
+			assertThat(totals.getSum(TimeMeasure.MILLISECOND.ordinal())).isEqualByComparingTo("8");
+			assertThat(totals.getSum(TimeMeasure.SECOND.ordinal())).isEqualByComparingTo("9");
+		}
+
+		/**
+		 * Проверка метода {@link QuantityScanner#scan(ByteBuffer, QuantityKind, MeasureTotals)} с текстом,
+		 * в котором после чисел стоят английские слова, не являющиеся мерами измерения.
+		 */
+		@Test
+		public void scanSkipsCommonWords()
+		{
+			MeasureTotals totals = scan(
+				"I have 3 in total, 2 is enough, meet at 4 am or 6 to 7 of them and 8 seconds later.",
+				TimeMeasure.values()
+			);
+
+			assertThat(totals.getCount()).isEqualTo(1);
+			assertThat(totals.getSum(TimeMeasure.SECOND.ordinal())).isEqualByComparingTo("8");
+		}
+
+		/**
+		 * Проверка метода {@link QuantityScanner#scan(ByteBuffer, QuantityKind, MeasureTotals)} с обозначением
+		 * {@code us} вместо {@code µs}.
+		 */
+		@Test
+		public void scanMicrosecondAlias()
+		{
+			MeasureTotals totals = scan("250us\n250 µs\n250 us\n", TimeMeasure.values());
+
+			assertThat(totals.getCount(TimeMeasure.MICROSECOND.ordinal())).isEqualTo(3);
+			assertThat(totals.getSum(TimeMeasure.MICROSECOND.ordinal())).isEqualByComparingTo("750");
+		}
+
+		/**
+		 * Проверка метода {@link QuantityScanner#scan(ByteBuffer, QuantityKind, MeasureTotals)} с обозначением
+		 * аттосекунды.
+		 */
+		@Test
+		public void scanAttosecond()
+		{
+			MeasureTotals totals = scan("5as 3 as", TimeMeasure.values());
+
+			assertThat(totals.getCount()).isEqualTo(2);
+			assertThat(totals.getSum(TimeMeasure.ATTOSECOND.ordinal())).isEqualByComparingTo("8");
+		}
+
+		/**
+		 * Проверка метода {@link QuantityScanner#scan(ByteBuffer, QuantityKind, MeasureTotals)} с числом,
+		 * которое не помещается в {@code long}.
+		 */
+		@Test
+		public void scanBigNumber()
+		{
+			MeasureTotals totals = scan("123456789012345678901.5 B", InformationMeasure.values());
+
+			assertThat(totals.getSum(InformationMeasure.BYTE.ordinal()))
+				.isEqualByComparingTo(new BigDecimal("123456789012345678901.5"));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link QuantityScanner#scan(Path, Class, int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class ScanFile
+	{
+		/**
+		 * Проверка метода {@link QuantityScanner#scan(Path, Class)}.
+		 *
+		 * @param directory временный каталог.
+		 * @throws IOException если файл не удалось записать или прочитать.
+		 */
+		@Test
+		public void scan(@TempDir final Path directory) throws IOException
+		{
+			Path file = Files.writeString(directory.resolve("access.log"), LOG);
+
+			QuantityHistogram<InformationMeasure> histogram = QuantityScanner.scan(file, InformationMeasure.class);
+
+			assertThat(histogram.getCount()).isEqualTo(4);
+			assertThat(histogram.getTotal(InformationMeasure.BYTE)).isEqualByComparingTo(
+				new BigDecimal(1549).add(new BigDecimal("1.5").multiply(BigDecimal.valueOf(1L << 30)))
+			);
+		}
+
+		/**
+		 * Проверка метода {@link QuantityScanner#scan(Path, Class, int)} с делением файла на части.
+		 *
+		 * @param directory временный каталог.
+		 * @throws IOException если файл не удалось записать или прочитать.
+		 */
+		@Test
+		public void scanChunks(@TempDir final Path directory) throws IOException
+		{
+			Path file = Files.writeString(directory.resolve("access.log"), LOG.repeat(1000));
+
+			for (int chunkSize : new int[] {1, 7, 64, 4096, Integer.MAX_VALUE}) {
+				QuantityHistogram<TimeMeasure> histogram = QuantityScanner.scan(file, TimeMeasure.class, chunkSize);
+
+				assertThat(histogram.getCount()).as("%d", chunkSize).isEqualTo(5000);
+				assertThat(histogram.getTotal(TimeMeasure.MILLISECOND)).as("%d", chunkSize)
+					.isEqualByComparingTo("3015750");
+			}
+		}
+
+		/**
+		 * Проверка метода {@link QuantityScanner#scan(Path, Class)} с пустым файлом.
+		 *
+		 * @param directory временный каталог.
+		 * @throws IOException если файл не удалось записать или прочитать.
+		 */
+		@Test
+		public void scanEmpty(@TempDir final Path directory) throws IOException
+		{
+			Path file = Files.createFile(directory.resolve("empty.log"));
+
+			QuantityHistogram<TimeMeasure> histogram = QuantityScanner.scan(file, TimeMeasure.class);
+
+			assertThat(histogram.getCount()).isZero();
+			assertThat(histogram.getTotal()).isEqualByComparingTo("0");
+		}
+
+		/**
+		 * Проверка метода {@link QuantityScanner#scan(Path, Class, int)} с некорректным размером части.
+		 *
+		 * @param directory временный каталог.
+		 */
+		@Test
+		public void scanInvalidChunkSize(@TempDir final Path directory)
+		{
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+				QuantityScanner.scan(directory.resolve("access.log"), TimeMeasure.class, 0);
+			});
+		}
+
+		/**
+		 * Проверка метода {@link QuantityScanner#scan(Path, Class)} с отсутствующим файлом.
+		 *
+		 * @param directory временный каталог.
+		 */
+		@Test
+		public void scanMissingFile(@TempDir final Path directory)
+		{
+			assertThatExceptionOfType(IOException.class).isThrownBy(() -> {
+				QuantityScanner.scan(directory.resolve("missing.log"), TimeMeasure.class);
+			});
+		}
+	}
+
+	/**
+	 * Суммирует величины, найденные в тексте.
+	 *
+	 * @param text текст.
+	 * @param measures меры измерения одного вида.
+	 * @param <M> тип меры измерения величины.
+	 * @return суммы и количество величин.
+	 */
+	private static <M extends Enum<M> & Measurable> MeasureTotals scan(final String text, final M[] measures)
+	{
+		MeasureTotals totals = new MeasureTotals(measures.length);
+		QuantityScanner.scan(
+			ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)), QuantityKind.of(measures[0]), totals
+		);
+
+		return totals;
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link QuantitySorts}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class QuantitySortsTest
+{
+	/**
+	 * Класс проверки методов получения ключей сортировки.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class SortKey
+	{
+		/**
+		 * Проверка метода {@link QuantitySorts#toSortKey(Quantitative)}.
+		 */
+		@Test
+		public void toSortKey()
+		{
+			double actualKey = QuantitySorts.toSortKey(new TimeQuantity(250, TimeMeasure.MILLISECOND));
+
+			assertThat(actualKey).isEqualTo(0.25);
+		}
+
+		/**
+		 * Проверка метода {@link QuantitySorts#toExactSortKey(Quantitative)} с целой величиной.
+		 */
+		@Test
+		public void toExactSortKey()
+		{
+			OptionalLong actualKey = QuantitySorts.toExactSortKey(
+				new InformationQuantity(1, InformationMeasure.KIBIBYTE)
+			);
+
+			assertThat(actualKey).hasValue(8192);
+		}
+
+		/**
+		 * Проверка метода {@link QuantitySorts#toExactSortKey(Quantitative)} с дробной величиной.
+		 */
+		@Test
+		public void toExactSortKeyFraction()
+		{
+			OptionalLong actualKey = QuantitySorts.toExactSortKey(
+				new TimeQuantity(250, TimeMeasure.MILLISECOND)
+			);
+
+			assertThat(actualKey).isEmpty();
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link QuantitySorts#parallelSort(List)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class ParallelSort
+	{
+		/**
+		 * Проверка метода {@link QuantitySorts#parallelSort(List)} со случайными величинами.
+		 */
+		@Test
+		public void parallelSort()
+		{
+			final Random random = new Random(42);
+			final TimeMeasure[] measures = TimeMeasure.values();
+			List<TimeQuantity> quantities = new ArrayList<>();
+
+			for (int index = 0; index < 20_000; index++) {
+				quantities.add(new TimeQuantity(
+					random.nextInt(1000), measures[random.nextInt(measures.length)]
+				));
+			}
+
+			List<TimeQuantity> expectedQuantities = new ArrayList<>(quantities);
+			expectedQuantities.sort(Comparator.naturalOrder());
+
+			QuantitySorts.parallelSort(quantities);
+
+			assertThat(quantities).containsExactlyElementsOf(expectedQuantities);
+		}
+
+		/**
+		 * Проверка метода {@link QuantitySorts#parallelSort(List)} с величинами, равными в типе {@code double}.
+		 */
+		@Test
+		public void parallelSortDoubleTie()
+		{
+			TimeQuantity greater = new TimeQuantity(new BigDecimal("1.00000000000000000001"), TimeMeasure.SECOND);
+			TimeQuantity less = new TimeQuantity(1, TimeMeasure.SECOND);
+			List<TimeQuantity> quantities = new LinkedList<>(List.of(greater, less));
+
+			QuantitySorts.parallelSort(quantities);
+
+			assertThat(quantities).containsExactly(less, greater);
+		}
+
+		/**
+		 * Проверка устойчивости метода {@link QuantitySorts#parallelSort(List)}.
+		 */
+		@Test
+		public void parallelSortStable()
+		{
+			InformationQuantity kibibyte = new InformationQuantity(1, InformationMeasure.KIBIBYTE);
+			InformationQuantity bytes = new InformationQuantity(1024, InformationMeasure.BYTE);
+			InformationQuantity bit = new InformationQuantity(1, InformationMeasure.BIT);
+			List<InformationQuantity> quantities = new ArrayList<>(List.of(kibibyte, bytes, bit));
+
+			QuantitySorts.parallelSort(quantities);
+
+			assertThat(quantities.get(0)).isSameAs(bit);
+			assertThat(quantities.get(1)).isSameAs(kibibyte);
+			assertThat(quantities.get(2)).isSameAs(bytes);
+		}
+	}
+}
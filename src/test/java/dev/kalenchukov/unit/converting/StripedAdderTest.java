@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link StripedAdder}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class StripedAdderTest
+{
+	/**
+	 * Проверка метода {@link StripedAdder#sum()}.
+	 */
+	@Test
+	public void sum()
+	{
+		StripedAdder adder = new StripedAdder();
+		adder.add(1);
+		adder.add(2);
+
+		BigInteger actualSum = adder.sum();
+
+		assertThat(actualSum).isEqualTo(BigInteger.valueOf(3));
+	}
+
+	/**
+	 * Проверка метода {@link StripedAdder#add(long)} с переполнением {@code long}.
+	 */
+	@Test
+	public void addOverflow()
+	{
+		StripedAdder adder = new StripedAdder();
+		adder.add(Long.MAX_VALUE);
+		adder.add(Long.MAX_VALUE);
+		adder.add(2);
+
+		BigInteger actualSum = adder.sum();
+
+		assertThat(actualSum).isEqualTo(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1).add(BigInteger.TWO));
+	}
+
+	/**
+	 * Проверка метода {@link StripedAdder#add(long)} из нескольких потоков.
+	 *
+	 * @throws InterruptedException если поток прерван.
+	 */
+	@Test
+	public void addConcurrently() throws InterruptedException
+	{
+		StripedAdder adder = new StripedAdder();
+		List<Thread> threads = new ArrayList<>();
+
+		for (int thread = 0; thread < 8; thread++) {
+			threads.add(new Thread(() -> {
+				for (int index = 0; index < 100_000; index++) {
+					adder.add(Long.MAX_VALUE / 1_000);
+				}
+			}));
+		}
+
+		for (Thread thread : threads) {
+			thread.start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		BigInteger actualSum = adder.sum();
+
+		assertThat(actualSum).isEqualTo(BigInteger.valueOf(Long.MAX_VALUE / 1_000).multiply(BigInteger.valueOf(800_000)));
+	}
+}
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Класс проверки методов класса {@link TimeQuantity}.
@@ -98,5 +99,62 @@ public class TimeQuantityTest
 				assertThat(actualCompare).isEqualTo(-1);
 			}
 		}
+	
+
+		/**
+		 * Класс проверки метода {@link TimeQuantity#valueOf(long, TimeMeasure)}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class ValueOf
+		{
+			/**
+			 * Проверка метода {@link TimeQuantity#valueOf(long, TimeMeasure)} с кешируемой величиной.
+			 */
+			@Test
+			public void valueOfCached()
+			{
+				TimeQuantity timeQuantity1 = TimeQuantity.valueOf(1, TimeMeasure.MILLISECOND);
+				TimeQuantity timeQuantity2 = TimeQuantity.valueOf(1, TimeMeasure.MILLISECOND);
+
+				assertThat(timeQuantity2).isSameAs(timeQuantity1);
+			}
+
+			/**
+			 * Проверка метода {@link TimeQuantity#valueOf(long, TimeMeasure)} с некешируемой величиной.
+			 */
+			@Test
+			public void valueOfNotCached()
+			{
+				TimeQuantity timeQuantity1 = TimeQuantity.valueOf(1025, TimeMeasure.MILLISECOND);
+				TimeQuantity timeQuantity2 = TimeQuantity.valueOf(1025, TimeMeasure.MILLISECOND);
+
+				assertThat(timeQuantity2).isNotSameAs(timeQuantity1);
+				assertThat(timeQuantity2).isEqualTo(timeQuantity1);
+			}
+
+			/**
+			 * Проверка метода {@link TimeQuantity#valueOf(long, TimeMeasure)} с разными мерами измерения.
+			 */
+			@Test
+			public void valueOfDifferentMeasure()
+			{
+				TimeQuantity actualTimeQuantity = TimeQuantity.valueOf(1, TimeMeasure.SECOND);
+
+				assertThat(actualTimeQuantity).isEqualTo(new TimeQuantity(1, TimeMeasure.SECOND));
+			}
+
+			/**
+			 * Проверка метода {@link TimeQuantity#valueOf(long, TimeMeasure)} с отрицательной величиной.
+			 */
+			@Test
+			public void valueOfNegative()
+			{
+				assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> {
+					TimeQuantity.valueOf(-1, TimeMeasure.MILLISECOND);
+				});
+			}
+		}
 	}
-}
\ No newline at end of file
+}
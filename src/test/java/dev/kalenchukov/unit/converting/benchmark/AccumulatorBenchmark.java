@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.benchmark;
+
+import dev.kalenchukov.unit.converting.InformationAccumulator;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс измерения производительности накопления величин из нескольких потоков.
+ * <p>Сравнивает {@link InformationAccumulator} с суммированием {@link BigDecimal} под блокировкой.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class AccumulatorBenchmark
+{
+	/**
+	 * Накопитель суммы величин информации.
+	 */
+	private InformationAccumulator accumulator;
+
+	/**
+	 * Сумма в байтах, защищённая блокировкой.
+	 */
+	private BigDecimal lockedSum;
+
+	/**
+	 * Подготавливает накопители.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.accumulator = new InformationAccumulator();
+		this.lockedSum = BigDecimal.ZERO;
+	}
+
+	/**
+	 * Добавление величины в накопитель.
+	 */
+	@Benchmark
+	public void accumulator()
+	{
+		this.accumulator.add(1500, InformationMeasure.BYTE);
+	}
+
+	/**
+	 * Добавление величины к сумме под блокировкой.
+	 */
+	@Benchmark
+	public void locked()
+	{
+		synchronized (this) {
+			this.lockedSum = this.lockedSum.add(BigDecimal.valueOf(1500));
+		}
+	}
+}
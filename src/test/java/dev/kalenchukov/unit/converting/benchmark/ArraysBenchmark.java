@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.benchmark;
+
+import dev.kalenchukov.unit.converting.QuantityArrays;
+import dev.kalenchukov.unit.converting.TimeQuantity;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс измерения производительности конвертирования массивов величин.
+ * <p>Сравнивает {@link QuantityArrays} с созданием объекта величины для каждого элемента.</p>
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArraysBenchmark
+{
+	/**
+	 * Количество элементов в массиве.
+	 */
+	@Param({"1024", "65536"})
+	public int size;
+
+	/**
+	 * Длительности в наносекундах.
+	 */
+	private double[] durations;
+
+	/**
+	 * Размеры в байтах.
+	 */
+	private long[] sizes;
+
+	/**
+	 * Массив для длительностей в миллисекундах.
+	 */
+	private double[] durationsTarget;
+
+	/**
+	 * Массив для размеров в битах.
+	 */
+	private long[] sizesTarget;
+
+	/**
+	 * Подготавливает массивы.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.durations = new double[this.size];
+		this.sizes = new long[this.size];
+		this.durationsTarget = new double[this.size];
+		this.sizesTarget = new long[this.size];
+
+		for (int index = 0; index < this.size; index++) {
+			this.durations[index] = ThreadLocalRandom.current().nextInt(1, 1_000_000_000);
+			this.sizes[index] = ThreadLocalRandom.current().nextInt(0, Integer.MAX_VALUE);
+		}
+	}
+
+	/**
+	 * Конвертирование массива длительностей.
+	 *
+	 * @return массив длительностей в миллисекундах.
+	 */
+	@Benchmark
+	public double[] doubleArray()
+	{
+		QuantityArrays.convert(this.durations, TimeMeasure.NANOSECOND, TimeMeasure.MILLISECOND, this.durationsTarget);
+
+		return this.durationsTarget;
+	}
+
+	/**
+	 * Конвертирование массива размеров.
+	 *
+	 * @return массив размеров в битах.
+	 */
+	@Benchmark
+	public long[] longArray()
+	{
+		QuantityArrays.convert(this.sizes, InformationMeasure.BYTE, InformationMeasure.BIT, this.sizesTarget);
+
+		return this.sizesTarget;
+	}
+
+	/**
+	 * Конвертирование длительностей через объекты величин.
+	 *
+	 * @return массив длительностей в миллисекундах.
+	 */
+	@Benchmark
+	public double[] quantityPerElement()
+	{
+		for (int index = 0; index < this.size; index++) {
+			this.durationsTarget[index] = new TimeQuantity(this.durations[index], TimeMeasure.NANOSECOND)
+				.convert(TimeMeasure.MILLISECOND)
+				.doubleValue();
+		}
+
+		return this.durationsTarget;
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.benchmark;
+
+import dev.kalenchukov.unit.converting.InformationQuantity;
+import dev.kalenchukov.unit.converting.QuantityCodec;
+import dev.kalenchukov.unit.converting.QuantityParser;
+import dev.kalenchukov.unit.converting.Quantitative;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс сравнения двоичной записи величин с текстовой.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark
+{
+	/**
+	 * Величина.
+	 */
+	private final InformationQuantity quantity = new InformationQuantity(123_456_789L, InformationMeasure.BYTE);
+
+	/**
+	 * Буфер для записи.
+	 */
+	private final ByteBuffer buffer = ByteBuffer.allocate(64);
+
+	/**
+	 * Двоичная запись величины.
+	 *
+	 * @return буфер.
+	 */
+	@Benchmark
+	public ByteBuffer write()
+	{
+		this.buffer.clear();
+		QuantityCodec.write(this.buffer, this.quantity);
+
+		return this.buffer;
+	}
+
+	/**
+	 * Двоичная запись и чтение величины.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public Quantitative<?> writeRead()
+	{
+		this.buffer.clear();
+		QuantityCodec.write(this.buffer, this.quantity);
+		this.buffer.flip();
+
+		return QuantityCodec.read(this.buffer);
+	}
+
+	/**
+	 * Текстовая запись и разбор величины.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public Quantitative<?> toStringParse()
+	{
+		return QuantityParser.parse(this.quantity.formatTo(new StringBuilder()));
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.benchmark;
+
+import dev.kalenchukov.unit.converting.InformationQuantity;
+import dev.kalenchukov.unit.converting.QuantityCollectors;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс сравнения коллектора суммы величин со сложением величин.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectorBenchmark
+{
+	/**
+	 * Количество величин.
+	 */
+	@Param({"100000"})
+	public int size;
+
+	/**
+	 * Список величин.
+	 */
+	private List<InformationQuantity> list;
+
+	/**
+	 * Заполняет список величинами в разных мерах измерения.
+	 */
+	@Setup
+	public void setUp()
+	{
+		final InformationMeasure[] measures = {
+			InformationMeasure.BYTE, InformationMeasure.KIBIBYTE, InformationMeasure.MEBIBYTE
+		};
+
+		this.list = new ArrayList<>(this.size);
+
+		for (int index = 0; index < this.size; index++) {
+			this.list.add(new InformationQuantity(index, measures[index % measures.length]));
+		}
+	}
+
+	/**
+	 * Сумма величин коллектором.
+	 *
+	 * @return сумму в байтах.
+	 */
+	@Benchmark
+	public InformationQuantity summingCollector()
+	{
+		return this.list.stream().collect(QuantityCollectors.summing(InformationMeasure.BYTE));
+	}
+
+	/**
+	 * Сумма величин коллектором в параллельном потоке.
+	 *
+	 * @return сумму в байтах.
+	 */
+	@Benchmark
+	public InformationQuantity summingCollectorParallel()
+	{
+		return this.list.parallelStream().collect(QuantityCollectors.summing(InformationMeasure.BYTE));
+	}
+
+	/**
+	 * Сумма величин сложением.
+	 *
+	 * @return сумму в байтах.
+	 */
+	@Benchmark
+	public InformationQuantity summingPlus()
+	{
+		return this.list.stream().reduce(
+			new InformationQuantity(0, InformationMeasure.BYTE),
+			(left, right) -> left.plus(right, InformationMeasure.BYTE)
+		);
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.benchmark;
+
+import dev.kalenchukov.unit.converting.InformationQuantity;
+import dev.kalenchukov.unit.converting.QuantityColumn;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс сравнения столбца величин со списком объектов величин.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnBenchmark
+{
+	/**
+	 * Количество величин.
+	 */
+	@Param({"100000"})
+	public int size;
+
+	/**
+	 * Столбец величин.
+	 */
+	private QuantityColumn<InformationMeasure> column;
+
+	/**
+	 * Список величин.
+	 */
+	private List<InformationQuantity> list;
+
+	/**
+	 * Заполняет столбец и список одинаковыми величинами.
+	 */
+	@Setup
+	public void setUp()
+	{
+		final InformationMeasure[] measures = {
+			InformationMeasure.BYTE, InformationMeasure.KIBIBYTE, InformationMeasure.MEBIBYTE
+		};
+
+		this.column = new QuantityColumn<>(InformationMeasure.class, this.size);
+		this.list = new ArrayList<>(this.size);
+
+		for (int index = 0; index < this.size; index++) {
+			final InformationMeasure measure = measures[index % measures.length];
+
+			this.column.add(index, measure);
+			this.list.add(new InformationQuantity(index, measure));
+		}
+	}
+
+	/**
+	 * Сумма столбца величин.
+	 *
+	 * @return сумму в байтах.
+	 */
+	@Benchmark
+	public double sumColumn()
+	{
+		return this.column.sum(InformationMeasure.BYTE);
+	}
+
+	/**
+	 * Сумма списка величин через {@code convertToDouble}.
+	 *
+	 * @return сумму в байтах.
+	 */
+	@Benchmark
+	public double sumListDouble()
+	{
+		double sum = 0;
+
+		for (InformationQuantity quantity : this.list) {
+			sum += quantity.convertToDouble(InformationMeasure.BYTE);
+		}
+
+		return sum;
+	}
+
+	/**
+	 * Сумма списка величин через {@code convert}.
+	 *
+	 * @return сумму в байтах.
+	 */
+	@Benchmark
+	public BigDecimal sumListBigDecimal()
+	{
+		BigDecimal sum = BigDecimal.ZERO;
+
+		for (InformationQuantity quantity : this.list) {
+			sum = sum.add(quantity.convert(InformationMeasure.BYTE));
+		}
+
+		return sum;
+	}
+}
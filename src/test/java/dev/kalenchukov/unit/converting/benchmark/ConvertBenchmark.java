@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.benchmark;
+
+import dev.kalenchukov.unit.converting.InformationQuantity;
+import dev.kalenchukov.unit.converting.MassQuantity;
+import dev.kalenchukov.unit.converting.TimeQuantity;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.MassMeasure;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс измерения производительности конвертирования величин.
+ * <p>
+ * Сравнивает конвертирование через матрицу коэффициентов с прежним способом:
+ * умножением на количество минимальных единиц исходной меры и делением на количество
+ * минимальных единиц целевой меры.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvertBenchmark
+{
+	/**
+	 * Величина информации.
+	 */
+	private InformationQuantity information;
+
+	/**
+	 * Величина массы.
+	 */
+	private MassQuantity mass;
+
+	/**
+	 * Величина времени.
+	 */
+	private TimeQuantity time;
+
+	/**
+	 * Подготавливает величины.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.information = new InformationQuantity(1536, InformationMeasure.KIBIBYTE);
+		this.mass = new MassQuantity(new BigDecimal("2.5"), MassMeasure.KILOGRAM);
+		this.time = new TimeQuantity(250, TimeMeasure.MILLISECOND);
+	}
+
+	/**
+	 * Конвертирование величины информации через матрицу коэффициентов.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public BigDecimal informationMatrix()
+	{
+		return this.information.convert(InformationMeasure.MEBIBYTE);
+	}
+
+	/**
+	 * Конвертирование величины информации прежним способом.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public BigDecimal informationDirect()
+	{
+		return this.information.getQuantity()
+							   .multiply(this.information.getMeasure().getCountMinUnit())
+							   .divide(InformationMeasure.MEBIBYTE.getCountMinUnit(), new MathContext(32));
+	}
+
+	/**
+	 * Конвертирование величины массы через матрицу коэффициентов.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public BigDecimal massMatrix()
+	{
+		return this.mass.convert(MassMeasure.GRAM);
+	}
+
+	/**
+	 * Конвертирование величины массы прежним способом.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public BigDecimal massDirect()
+	{
+		return this.mass.getQuantity()
+						.multiply(this.mass.getMeasure().getCountMinUnit())
+						.divide(MassMeasure.GRAM.getCountMinUnit(), new MathContext(32));
+	}
+
+	/**
+	 * Конвертирование величины времени через матрицу коэффициентов.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public BigDecimal timeMatrix()
+	{
+		return this.time.convert(TimeMeasure.SECOND);
+	}
+
+	/**
+	 * Конвертирование величины времени прежним способом.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public BigDecimal timeDirect()
+	{
+		return this.time.getQuantity()
+						.multiply(this.time.getMeasure().getCountMinUnit())
+						.divide(TimeMeasure.SECOND.getCountMinUnit(), new MathContext(32));
+	}
+}
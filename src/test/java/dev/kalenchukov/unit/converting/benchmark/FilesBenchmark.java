@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.benchmark;
+
+import dev.kalenchukov.unit.converting.QuantityColumn;
+import dev.kalenchukov.unit.converting.QuantityFiles;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс тестов производительности записи и чтения столбцов величин в файлы.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilesBenchmark
+{
+	/**
+	 * Количество величин.
+	 */
+	@Param({"10000000"})
+	public int size;
+
+	/**
+	 * Столбец величин.
+	 */
+	private QuantityColumn<InformationMeasure> column;
+
+	/**
+	 * Файл.
+	 */
+	private Path file;
+
+	/**
+	 * Заполняет столбец величин и записывает его в файл.
+	 *
+	 * @throws IOException если файл не удалось записать.
+	 */
+	@Setup
+	public void setUp() throws IOException
+	{
+		this.column = new QuantityColumn<>(InformationMeasure.class, this.size);
+
+		for (int index = 0; index < this.size; index++) {
+			this.column.add(index, InformationMeasure.BYTE);
+		}
+
+		this.file = Files.createTempFile("quantities", ".qcol");
+		QuantityFiles.write(this.file, this.column);
+	}
+
+	/**
+	 * Удаляет файл.
+	 *
+	 * @throws IOException если файл не удалось удалить.
+	 */
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		Files.deleteIfExists(this.file);
+	}
+
+	/**
+	 * Запись столбца величин.
+	 *
+	 * @throws IOException если файл не удалось записать.
+	 */
+	@Benchmark
+	public void write() throws IOException
+	{
+		QuantityFiles.write(this.file, this.column);
+	}
+
+	/**
+	 * Чтение столбца величин.
+	 *
+	 * @return столбец величин.
+	 * @throws IOException если файл не удалось прочитать.
+	 */
+	@Benchmark
+	public QuantityColumn<InformationMeasure> read() throws IOException
+	{
+		return QuantityFiles.read(this.file, InformationMeasure.class);
+	}
+
+	/**
+	 * Сумма величин столбца, отображённого в память.
+	 *
+	 * @return сумму в байтах.
+	 * @throws IOException если файл не удалось прочитать.
+	 */
+	@Benchmark
+	public double mapSum() throws IOException
+	{
+		return QuantityFiles.map(this.file, InformationMeasure.class).sum(InformationMeasure.BYTE);
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.benchmark;
+
+import dev.kalenchukov.unit.converting.InformationQuantity;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс сравнения записи величины через {@code toString} и {@code formatTo}.
+ * <p>Запускается с профилировщиком выделения памяти ({@code -prof gc}).</p>
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatBenchmark
+{
+	/**
+	 * Вид величины.
+	 */
+	@Param({"1536", "1.5", "123456789.987654321"})
+	public String quantity;
+
+	/**
+	 * Величина информации.
+	 */
+	private InformationQuantity information;
+
+	/**
+	 * Переиспользуемый приёмник.
+	 */
+	private StringBuilder out;
+
+	/**
+	 * Подготавливает величину и приёмник.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.information = new InformationQuantity(new BigDecimal(this.quantity), InformationMeasure.KIBIBYTE);
+		this.out = new StringBuilder(64);
+	}
+
+	/**
+	 * Запись величины через {@code toString} в переиспользуемый приёмник.
+	 *
+	 * @return приёмник.
+	 */
+	@Benchmark
+	public StringBuilder toStringAppend()
+	{
+		this.out.setLength(0);
+
+		return this.out.append(this.information.toString());
+	}
+
+	/**
+	 * Запись величины через {@code formatTo} в переиспользуемый приёмник.
+	 *
+	 * @return приёмник.
+	 */
+	@Benchmark
+	public StringBuilder formatTo()
+	{
+		this.out.setLength(0);
+
+		return this.information.formatTo(this.out);
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.benchmark;
+
+import dev.kalenchukov.unit.converting.QuantityParser;
+import dev.kalenchukov.unit.converting.Quantitative;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс измерения производительности разбора величин.
+ * <p>Запускается с профилировщиком выделения памяти ({@code -prof gc}).</p>
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark
+{
+	/**
+	 * Запись величины.
+	 */
+	@Param({"250ms", "1.5 GiB", "123456789.987654321 kilogram"})
+	public String text;
+
+	/**
+	 * Буфер из тысячи записей величины.
+	 */
+	private ByteBuffer bytes;
+
+	/**
+	 * Подготавливает буфер.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.bytes = ByteBuffer.wrap((this.text + "\n").repeat(1000).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Разбор одной записи.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public Quantitative<?> parse()
+	{
+		return QuantityParser.parse(this.text);
+	}
+
+	/**
+	 * Разбор тысячи записей из буфера байтов.
+	 *
+	 * @param blackhole приёмник величин.
+	 * @return количество величин.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(1000)
+	public int parseAllBytes(Blackhole blackhole)
+	{
+		this.bytes.rewind();
+
+		return QuantityParser.parseAll(this.bytes, blackhole::consume);
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.benchmark;
+
+import dev.kalenchukov.unit.converting.InformationQuantity;
+import dev.kalenchukov.unit.converting.TimeQuantity;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.Precision;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс измерения зависимости стоимости конвертирования от точности вычисления.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrecisionBenchmark
+{
+	/**
+	 * Точность вычисления.
+	 */
+	@Param({"DECIMAL32", "DECIMAL64", "DEFAULT", "DECIMAL128", "UNLIMITED"})
+	public Precision precision;
+
+	/**
+	 * Точность вычисления.
+	 */
+	private MathContext mathContext;
+
+	/**
+	 * Величина информации с дробным результатом конвертирования.
+	 */
+	private InformationQuantity information;
+
+	/**
+	 * Величина времени с дробным результатом конвертирования.
+	 */
+	private TimeQuantity time;
+
+	/**
+	 * Подготавливает величины.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.mathContext = this.precision.getMathContext();
+		this.information = new InformationQuantity(new BigDecimal("123456789.987654321"), InformationMeasure.KILOBIT);
+		this.time = new TimeQuantity(new BigDecimal("987654321.123456789"), TimeMeasure.NANOSECOND);
+	}
+
+	/**
+	 * Конвертирование величины информации.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public BigDecimal information()
+	{
+		return this.information.convert(InformationMeasure.GIBIBYTE, this.mathContext);
+	}
+
+	/**
+	 * Конвертирование величины времени.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public BigDecimal time()
+	{
+		return this.time.convert(TimeMeasure.KILOSECOND, this.mathContext);
+	}
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.benchmark;
+
+import dev.kalenchukov.unit.converting.InformationQuantity;
+import dev.kalenchukov.unit.converting.MassQuantity;
+import dev.kalenchukov.unit.converting.TimeQuantity;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.MassMeasure;
+import dev.kalenchukov.unit.converting.resources.Standard;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс измерения производительности API величин.
+ * <p>
+ * Измеряет конструкторы, конвертирование, сравнение, {@code equals}, {@code hashCode}
+ * {@code toString} и подбор наибольшей меры для малых и огромных мер измерения.
+ * Запускается с профилировщиком выделения памяти ({@code -prof gc}).
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuantityBenchmark
+{
+	/**
+	 * Порядок мер измерения.
+	 */
+	public enum Scale
+	{
+		/**
+		 * Наименьшие меры и малые величины.
+		 */
+		SMALL(
+			1, InformationMeasure.BIT, InformationMeasure.BYTE,
+			MassMeasure.YOCTOGRAM, MassMeasure.GRAM,
+			TimeMeasure.QUECTOSECOND, TimeMeasure.SECOND
+		),
+
+		/**
+		 * Наибольшие меры и большие величины.
+		 */
+		HUGE(
+			Long.MAX_VALUE, InformationMeasure.YOBIBYTE, InformationMeasure.YOTTABIT,
+			MassMeasure.YOTTAGRAM, MassMeasure.KILOGRAM,
+			TimeMeasure.QUETTASECOND, TimeMeasure.MILLISECOND
+		);
+
+		/**
+		 * Величина.
+		 */
+		private final long quantity;
+
+		/**
+		 * Мера информации.
+		 */
+		private final InformationMeasure information;
+
+		/**
+		 * Мера информации, в которую выполняется конвертирование.
+		 */
+		private final InformationMeasure informationTarget;
+
+		/**
+		 * Мера массы.
+		 */
+		private final MassMeasure mass;
+
+		/**
+		 * Мера массы, в которую выполняется конвертирование.
+		 */
+		private final MassMeasure massTarget;
+
+		/**
+		 * Мера времени.
+		 */
+		private final TimeMeasure time;
+
+		/**
+		 * Мера времени, в которую выполняется конвертирование.
+		 */
+		private final TimeMeasure timeTarget;
+
+		/**
+		 * Конструктор для {@code Scale}.
+		 *
+		 * @param quantity величина.
+		 * @param information мера информации.
+		 * @param informationTarget мера информации, в которую выполняется конвертирование.
+		 * @param mass мера массы.
+		 * @param massTarget мера массы, в которую выполняется конвертирование.
+		 * @param time мера времени.
+		 * @param timeTarget мера времени, в которую выполняется конвертирование.
+		 */
+		Scale(long quantity,
+			  InformationMeasure information, InformationMeasure informationTarget,
+			  MassMeasure mass, MassMeasure massTarget,
+			  TimeMeasure time, TimeMeasure timeTarget)
+		{
+			this.quantity = quantity;
+			this.information = information;
+			this.informationTarget = informationTarget;
+			this.mass = mass;
+			this.massTarget = massTarget;
+			this.time = time;
+			this.timeTarget = timeTarget;
+		}
+	}
+
+	/**
+	 * Порядок мер измерения.
+	 */
+	@Param({"SMALL", "HUGE"})
+	public Scale scale;
+
+	/**
+	 * Величина в виде {@link BigDecimal}.
+	 */
+	private BigDecimal quantity;
+
+	/**
+	 * Величина информации.
+	 */
+	private InformationQuantity information;
+
+	/**
+	 * Равная величина информации.
+	 */
+	private InformationQuantity informationEqual;
+
+	/**
+	 * Величина информации в другой мере.
+	 */
+	private InformationQuantity informationOther;
+
+	/**
+	 * Величина массы.
+	 */
+	private MassQuantity mass;
+
+	/**
+	 * Величина времени.
+	 */
+	private TimeQuantity time;
+
+	/**
+	 * Подготавливает величины.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.quantity = BigDecimal.valueOf(this.scale.quantity);
+		this.information = new InformationQuantity(this.scale.quantity, this.scale.information);
+		this.informationEqual = new InformationQuantity(this.scale.quantity, this.scale.information);
+		this.informationOther = new InformationQuantity(this.scale.quantity, this.scale.informationTarget);
+		this.mass = new MassQuantity(this.scale.quantity, this.scale.mass);
+		this.time = new TimeQuantity(this.scale.quantity, this.scale.time);
+	}
+
+	/**
+	 * Создание величины информации из {@code long}.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public InformationQuantity constructInformation()
+	{
+		return new InformationQuantity(this.scale.quantity, this.scale.information);
+	}
+
+	/**
+	 * Создание величины информации из {@link BigDecimal}.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public InformationQuantity constructInformationBigDecimal()
+	{
+		return new InformationQuantity(this.quantity, this.scale.information);
+	}
+
+	/**
+	 * Создание величины массы из {@code long}.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public MassQuantity constructMass()
+	{
+		return new MassQuantity(this.scale.quantity, this.scale.mass);
+	}
+
+	/**
+	 * Создание величины времени из {@code long}.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public TimeQuantity constructTime()
+	{
+		return new TimeQuantity(this.scale.quantity, this.scale.time);
+	}
+
+	/**
+	 * Конвертирование величины информации.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public BigDecimal convertInformation()
+	{
+		return this.information.convert(this.scale.informationTarget);
+	}
+
+	/**
+	 * Конвертирование величины массы.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public BigDecimal convertMass()
+	{
+		return this.mass.convert(this.scale.massTarget);
+	}
+
+	/**
+	 * Конвертирование величины времени.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public BigDecimal convertTime()
+	{
+		return this.time.convert(this.scale.timeTarget);
+	}
+
+	/**
+	 * Сравнение величин информации в разных мерах.
+	 *
+	 * @return результат сравнения.
+	 */
+	@Benchmark
+	public int compareTo()
+	{
+		return this.information.compareTo(this.informationOther);
+	}
+
+	/**
+	 * Сравнение величин информации в разных мерах статическим методом.
+	 *
+	 * @return результат сравнения.
+	 */
+	@Benchmark
+	public int compare()
+	{
+		return InformationQuantity.compare(this.information, this.informationOther);
+	}
+
+	/**
+	 * Проверка равенства величин информации.
+	 *
+	 * @return результат проверки.
+	 */
+	@Benchmark
+	public boolean equals()
+	{
+		return this.information.equals(this.informationEqual);
+	}
+
+	/**
+	 * Вычисление хеш-кода величины информации.
+	 *
+	 * @return хеш-код.
+	 */
+	@Benchmark
+	public int hashCodeInformation()
+	{
+		return this.information.hashCode();
+	}
+
+	/**
+	 * Преобразование величины информации в строку.
+	 *
+	 * @return строку.
+	 */
+	@Benchmark
+	public String toStringInformation()
+	{
+		return this.information.toString();
+	}
+
+	/**
+	 * Подбор наибольшей меры величины информации по стандарту IEC.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public InformationQuantity toBestMeasureInformation()
+	{
+		return this.information.toBestMeasure(Standard.IEC);
+	}
+
+	/**
+	 * Подбор наибольшей меры величины времени.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public TimeQuantity toBestMeasureTime()
+	{
+		return this.time.toBestMeasure();
+	}
+}
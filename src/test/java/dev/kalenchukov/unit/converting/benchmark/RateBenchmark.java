@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.benchmark;
+
+import dev.kalenchukov.unit.converting.AbstractQuantity;
+import dev.kalenchukov.unit.converting.DataRateQuantity;
+import dev.kalenchukov.unit.converting.InformationQuantity;
+import dev.kalenchukov.unit.converting.TimeQuantity;
+import dev.kalenchukov.unit.converting.resources.DataRateMeasure;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс измерения производительности вычисления скорости передачи данных.
+ * <p>
+ * Сравнивает деление величины информации на время, ручное деление величин {@link BigDecimal}
+ * и вычисление с плавающей точкой по количеству байт и наносекунд.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateBenchmark
+{
+	/**
+	 * Количество байт.
+	 */
+	private long bytes;
+
+	/**
+	 * Время в наносекундах.
+	 */
+	private long nanos;
+
+	/**
+	 * Величина информации.
+	 */
+	private InformationQuantity information;
+
+	/**
+	 * Величина времени.
+	 */
+	private TimeQuantity time;
+
+	/**
+	 * Подготавливает величины.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.bytes = 123_456_789;
+		this.nanos = 987_654_321;
+		this.information = new InformationQuantity(this.bytes, InformationMeasure.BYTE);
+		this.time = new TimeQuantity(this.nanos, TimeMeasure.NANOSECOND);
+	}
+
+	/**
+	 * Деление величины информации на время.
+	 *
+	 * @return скорость передачи данных.
+	 */
+	@Benchmark
+	public DataRateQuantity divide()
+	{
+		return this.information.divide(this.time, DataRateMeasure.MEGABIT_PER_SECOND);
+	}
+
+	/**
+	 * Ручное деление величин {@link BigDecimal}.
+	 *
+	 * @return скорость передачи данных в мегабитах в секунду.
+	 */
+	@Benchmark
+	public BigDecimal manual()
+	{
+		return this.information.convert(InformationMeasure.MEGABIT)
+							   .divide(this.time.convert(TimeMeasure.SECOND), AbstractQuantity.getDefaultMathContext());
+	}
+
+	/**
+	 * Вычисление с плавающей точкой по количеству байт и наносекунд.
+	 *
+	 * @return скорость передачи данных в мегабитах в секунду.
+	 */
+	@Benchmark
+	public double primitive()
+	{
+		return DataRateQuantity.rate(this.bytes, this.nanos, DataRateMeasure.MEGABIT_PER_SECOND);
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.benchmark;
+
+import dev.kalenchukov.unit.converting.AbstractQuantity;
+import dev.kalenchukov.unit.converting.CustomMeasure;
+import dev.kalenchukov.unit.converting.InformationQuantity;
+import dev.kalenchukov.unit.converting.MeasureRegistry;
+import dev.kalenchukov.unit.converting.resources.InformationMeasure;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс измерения производительности конвертирования через реестр пользовательских мер.
+ * <p>
+ * Сравнивает конвертирование пользовательских мер через реестр
+ * с конвертированием встроенных мер через матрицу коэффициентов перечисления.
+ * </p>
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegistryBenchmark
+{
+	/**
+	 * Реестр мер измерения информации.
+	 */
+	private MeasureRegistry<InformationMeasure> registry;
+
+	/**
+	 * Пользовательская мера.
+	 */
+	private CustomMeasure sector;
+
+	/**
+	 * Величина информации.
+	 */
+	private InformationQuantity information;
+
+	/**
+	 * Величина с плавающей точкой.
+	 */
+	private double value;
+
+	/**
+	 * Подготавливает реестр и величины.
+	 */
+	@Setup
+	public void setUp()
+	{
+		this.registry = MeasureRegistry.of(InformationMeasure.class);
+		this.sector = (CustomMeasure) this.registry.lookup("sec");
+
+		if (this.sector == null) {
+			this.sector = this.registry.register("SECTOR", "sec", BigDecimal.valueOf(512), InformationMeasure.BYTE);
+		}
+
+		this.information = new InformationQuantity(1536, InformationMeasure.KIBIBYTE);
+		this.value = 1536;
+	}
+
+	/**
+	 * Конвертирование встроенной меры через перечисление.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public BigDecimal builtIn()
+	{
+		return this.information.convert(InformationMeasure.BYTE);
+	}
+
+	/**
+	 * Конвертирование встроенной меры в пользовательскую через реестр.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public BigDecimal registry()
+	{
+		return this.registry.convert(this.information, this.sector);
+	}
+
+	/**
+	 * Конвертирование встроенной меры с плавающей точкой через перечисление.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public double builtInDouble()
+	{
+		return AbstractQuantity.convert(this.value, InformationMeasure.KIBIBYTE, InformationMeasure.BYTE);
+	}
+
+	/**
+	 * Конвертирование пользовательской меры с плавающей точкой через реестр.
+	 *
+	 * @return величину.
+	 */
+	@Benchmark
+	public double registryDouble()
+	{
+		return this.registry.convert(this.value, InformationMeasure.KIBIBYTE, this.sector);
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.benchmark;
+
+import dev.kalenchukov.unit.converting.QuantityHistogram;
+import dev.kalenchukov.unit.converting.QuantityScanner;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс измерения производительности поиска величин в файле.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScannerBenchmark
+{
+	/**
+	 * Строка журнала.
+	 */
+	private static final String LINE = "GET /index.html 200 1532 B 12.5ms upstream 3 ms\n";
+
+	/**
+	 * Количество строк журнала.
+	 */
+	private static final int LINES = 500_000;
+
+	/**
+	 * Файл журнала.
+	 */
+	private Path file;
+
+	/**
+	 * Создаёт файл журнала.
+	 *
+	 * @throws IOException если файл не удалось записать.
+	 */
+	@Setup
+	public void setUp() throws IOException
+	{
+		this.file = Files.createTempFile("access", ".log");
+
+		Files.writeString(this.file, LINE.repeat(LINES));
+	}
+
+	/**
+	 * Удаляет файл журнала.
+	 *
+	 * @throws IOException если файл не удалось удалить.
+	 */
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		Files.deleteIfExists(this.file);
+	}
+
+	/**
+	 * Поиск величин времени по частям файла в несколько потоков.
+	 *
+	 * @return распределение величин.
+	 * @throws IOException если файл не удалось прочитать.
+	 */
+	@Benchmark
+	public QuantityHistogram<TimeMeasure> scanParallel() throws IOException
+	{
+		return QuantityScanner.scan(this.file, TimeMeasure.class, 1024 * 1024);
+	}
+
+	/**
+	 * Поиск величин времени одной частью файла.
+	 *
+	 * @return распределение величин.
+	 * @throws IOException если файл не удалось прочитать.
+	 */
+	@Benchmark
+	public QuantityHistogram<TimeMeasure> scanSingleChunk() throws IOException
+	{
+		return QuantityScanner.scan(this.file, TimeMeasure.class, Integer.MAX_VALUE);
+	}
+}
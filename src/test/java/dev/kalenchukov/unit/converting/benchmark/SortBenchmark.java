@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.benchmark;
+
+import dev.kalenchukov.unit.converting.QuantitySorts;
+import dev.kalenchukov.unit.converting.TimeQuantity;
+import dev.kalenchukov.unit.converting.resources.TimeMeasure;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс сравнения сортировки величин по ключам с сортировкой методом {@code compareTo}.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark
+{
+	/**
+	 * Количество величин.
+	 */
+	@Param({"1000000"})
+	public int size;
+
+	/**
+	 * Несортированные величины.
+	 */
+	private List<TimeQuantity> source;
+
+	/**
+	 * Сортируемые величины.
+	 */
+	private List<TimeQuantity> quantities;
+
+	/**
+	 * Заполняет список случайными величинами в разных мерах измерения.
+	 */
+	@Setup
+	public void setUp()
+	{
+		final Random random = new Random(42);
+		final TimeMeasure[] measures = {TimeMeasure.NANOSECOND, TimeMeasure.MILLISECOND, TimeMeasure.SECOND};
+
+		this.source = new ArrayList<>(this.size);
+
+		for (int index = 0; index < this.size; index++) {
+			this.source.add(new TimeQuantity(random.nextInt(1_000_000), measures[index % measures.length]));
+		}
+	}
+
+	/**
+	 * Копирует несортированные величины перед каждым вызовом.
+	 */
+	@Setup(Level.Invocation)
+	public void copy()
+	{
+		this.quantities = new ArrayList<>(this.source);
+	}
+
+	/**
+	 * Сортировка методом {@code compareTo}.
+	 *
+	 * @return отсортированные величины.
+	 */
+	@Benchmark
+	public List<TimeQuantity> sortCompareTo()
+	{
+		this.quantities.sort(Comparator.naturalOrder());
+
+		return this.quantities;
+	}
+
+	/**
+	 * Сортировка по ключам.
+	 *
+	 * @return отсортированные величины.
+	 */
+	@Benchmark
+	public List<TimeQuantity> parallelSort()
+	{
+		QuantitySorts.parallelSort(this.quantities);
+
+		return this.quantities;
+	}
+}
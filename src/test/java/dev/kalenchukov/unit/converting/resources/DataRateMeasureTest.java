@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.resources;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки констант и методов перечисления {@link DataRateMeasure}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class DataRateMeasureTest
+{
+	/**
+	 * Проверка метода {@link DataRateMeasure#getStandard()}.
+	 */
+	@Test
+	public void getStandard()
+	{
+		Measurable measure = DataRateMeasure.BYTE_PER_SECOND;
+		Set<Standard> expectedSet = Set.of(Standard.IEC, Standard.SI);
+
+		Set<Standard> actualSet = measure.getStandard();
+
+		assertThat(actualSet).containsSequence(expectedSet);
+	}
+
+	/**
+	 * Проверка метода {@link DataRateMeasure#getCountMinUnit()}.
+	 */
+	@Test
+	public void getCountMinUnit()
+	{
+		Measurable measure = DataRateMeasure.BYTE_PER_SECOND;
+
+		BigDecimal actualCountMinUnit = measure.getCountMinUnit();
+
+		assertThat(actualCountMinUnit).isEqualTo(BigDecimal.valueOf(8));
+	}
+
+	/**
+	 * Проверка метода {@link DataRateMeasure#getSymbol()}.
+	 */
+	@Test
+	public void getSymbol()
+	{
+		Measurable measure = DataRateMeasure.GIGABIT_PER_SECOND;
+
+		String actualSymbol = measure.getSymbol();
+
+		assertThat(actualSymbol).isEqualTo("Gbit/s");
+	}
+
+	/**
+	 * Проверка уникальности обозначений мер {@link DataRateMeasure#getSymbol()}.
+	 */
+	@Test
+	public void getSymbolUnique()
+	{
+		assertThat(Arrays.stream(DataRateMeasure.values()).map(DataRateMeasure::getSymbol)).doesNotHaveDuplicates();
+	}
+
+	/**
+	 * Проверка метода {@link DataRateMeasure#of(InformationMeasure)}.
+	 */
+	@Test
+	public void of()
+	{
+		assertThat(DataRateMeasure.of(InformationMeasure.BIT)).isEqualTo(DataRateMeasure.BIT_PER_SECOND);
+		assertThat(DataRateMeasure.of(InformationMeasure.GIBIBYTE)).isEqualTo(DataRateMeasure.GIBIBYTE_PER_SECOND);
+
+		for (InformationMeasure measure : InformationMeasure.values()) {
+			assertThat(DataRateMeasure.of(measure).getCountMinUnit()).isEqualTo(measure.getCountMinUnit());
+		}
+	}
+
+	/**
+	 * Проверка метода {@link DataRateMeasure#lookup(CharSequence)}.
+	 */
+	@Test
+	public void lookup()
+	{
+		assertThat(DataRateMeasure.lookup("Gbit/s")).isEqualTo(DataRateMeasure.GIGABIT_PER_SECOND);
+		assertThat(DataRateMeasure.lookup("MB/s")).isEqualTo(DataRateMeasure.MEGABYTE_PER_SECOND);
+		assertThat(DataRateMeasure.lookup("MiB/s")).isEqualTo(DataRateMeasure.MEBIBYTE_PER_SECOND);
+		assertThat(DataRateMeasure.lookup("GIGABIT_PER_SECOND")).isEqualTo(DataRateMeasure.GIGABIT_PER_SECOND);
+	}
+
+	/**
+	 * Проверка метода {@link DataRateMeasure#lookup(CharSequence)} с неизвестной мерой.
+	 */
+	@Test
+	public void lookupMissing()
+	{
+		assertThat(DataRateMeasure.lookup("GB")).isNull();
+		assertThat(DataRateMeasure.lookup("gbit/s")).isNull();
+		assertThat(DataRateMeasure.lookup("")).isNull();
+	}
+
+	/**
+	 * Проверка метода {@link DataRateMeasure#lookup(CharSequence, int, int)} со всеми обозначениями и названиями мер.
+	 */
+	@Test
+	public void lookupAll()
+	{
+		for (DataRateMeasure measure : DataRateMeasure.values()) {
+			String text = "[" + measure.getSymbol() + "|" + measure.name().toLowerCase() + "s]";
+			int separator = text.indexOf('|');
+
+			assertThat(DataRateMeasure.lookup(text, 1, separator)).isEqualTo(measure);
+			assertThat(DataRateMeasure.lookup(text, separator + 1, text.length() - 1)).isEqualTo(measure);
+		}
+	}
+}
@@ -27,6 +27,7 @@ package dev.kalenchukov.unit.converting.resources;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -64,4 +65,65 @@ public class InformationMeasureTest
 
 		assertThat(actualCountMinUnit).isEqualTo(BigDecimal.valueOf(8));
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка метода {@link InformationMeasure#getSymbol()}.
+	 */
+	@Test
+	public void getSymbol()
+	{
+		Measurable measure = InformationMeasure.KIBIBYTE;
+
+		String actualSymbol = measure.getSymbol();
+
+		assertThat(actualSymbol).isEqualTo("KiB");
+	}
+
+	/**
+	 * Проверка уникальности обозначений мер {@link InformationMeasure#getSymbol()}.
+	 */
+	@Test
+	public void getSymbolUnique()
+	{
+		assertThat(Arrays.stream(InformationMeasure.values()).map(InformationMeasure::getSymbol)).doesNotHaveDuplicates();
+	}
+
+	/**
+	 * Проверка метода {@link InformationMeasure#lookup(CharSequence)}.
+	 */
+	@Test
+	public void lookup()
+	{
+		assertThat(InformationMeasure.lookup("GiB")).isEqualTo(InformationMeasure.GIBIBYTE);
+		assertThat(InformationMeasure.lookup("gibibytes")).isEqualTo(InformationMeasure.GIBIBYTE);
+		assertThat(InformationMeasure.lookup("Kibit")).isEqualTo(InformationMeasure.KIBIBIT);
+		assertThat(InformationMeasure.lookup("kB")).isEqualTo(InformationMeasure.KILOBYTE);
+		assertThat(InformationMeasure.lookup("Bits")).isEqualTo(InformationMeasure.BIT);
+	}
+
+	/**
+	 * Проверка метода {@link InformationMeasure#lookup(CharSequence)} с неизвестной мерой.
+	 */
+	@Test
+	public void lookupMissing()
+	{
+		assertThat(InformationMeasure.lookup("gib")).isNull();
+		assertThat(InformationMeasure.lookup("bytess")).isNull();
+		assertThat(InformationMeasure.lookup("")).isNull();
+	}
+
+	/**
+	 * Проверка метода {@link InformationMeasure#lookup(CharSequence, int, int)} со всеми обозначениями и названиями мер.
+	 */
+	@Test
+	public void lookupAll()
+	{
+		for (InformationMeasure measure : InformationMeasure.values()) {
+			String text = "[" + measure.getSymbol() + "|" + measure.name().toLowerCase() + "s]";
+			int separator = text.indexOf('|');
+
+			assertThat(InformationMeasure.lookup(text, 1, separator)).isEqualTo(measure);
+			assertThat(InformationMeasure.lookup(text, separator + 1, text.length() - 1)).isEqualTo(measure);
+		}
+	}
+}
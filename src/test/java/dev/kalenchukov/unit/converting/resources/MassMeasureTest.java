@@ -27,6 +27,7 @@ package dev.kalenchukov.unit.converting.resources;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -64,4 +65,65 @@ public class MassMeasureTest
 
 		assertThat(actualCountMinUnit).isEqualTo(BigDecimal.valueOf(1000));
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка метода {@link MassMeasure#getSymbol()}.
+	 */
+	@Test
+	public void getSymbol()
+	{
+		Measurable measure = MassMeasure.MICROGRAM;
+
+		String actualSymbol = measure.getSymbol();
+
+		assertThat(actualSymbol).isEqualTo("µg");
+	}
+
+	/**
+	 * Проверка уникальности обозначений мер {@link MassMeasure#getSymbol()}.
+	 */
+	@Test
+	public void getSymbolUnique()
+	{
+		assertThat(Arrays.stream(MassMeasure.values()).map(MassMeasure::getSymbol)).doesNotHaveDuplicates();
+	}
+
+	/**
+	 * Проверка метода {@link MassMeasure#lookup(CharSequence)}.
+	 */
+	@Test
+	public void lookup()
+	{
+		assertThat(MassMeasure.lookup("kg")).isEqualTo(MassMeasure.KILOGRAM);
+		assertThat(MassMeasure.lookup("µg")).isEqualTo(MassMeasure.MICROGRAM);
+		assertThat(MassMeasure.lookup("ug")).isEqualTo(MassMeasure.MICROGRAM);
+		assertThat(MassMeasure.lookup("Kilograms")).isEqualTo(MassMeasure.KILOGRAM);
+		assertThat(MassMeasure.lookup("gram")).isEqualTo(MassMeasure.GRAM);
+	}
+
+	/**
+	 * Проверка метода {@link MassMeasure#lookup(CharSequence)} с неизвестной мерой.
+	 */
+	@Test
+	public void lookupMissing()
+	{
+		assertThat(MassMeasure.lookup("KG")).isNull();
+		assertThat(MassMeasure.lookup("grammes")).isNull();
+		assertThat(MassMeasure.lookup("")).isNull();
+	}
+
+	/**
+	 * Проверка метода {@link MassMeasure#lookup(CharSequence, int, int)} со всеми обозначениями и названиями мер.
+	 */
+	@Test
+	public void lookupAll()
+	{
+		for (MassMeasure measure : MassMeasure.values()) {
+			String text = "[" + measure.getSymbol() + "|" + measure.name().toLowerCase() + "s]";
+			int separator = text.indexOf('|');
+
+			assertThat(MassMeasure.lookup(text, 1, separator)).isEqualTo(measure);
+			assertThat(MassMeasure.lookup(text, separator + 1, text.length() - 1)).isEqualTo(measure);
+		}
+	}
+}
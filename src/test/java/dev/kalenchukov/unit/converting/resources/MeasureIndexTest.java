@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.unit.converting.resources;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link MeasureIndex}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class MeasureIndexTest
+{
+	/**
+	 * Проверка метода {@link MeasureIndex#find(CharSequence, int, int)} с обозначениями,
+	 * различающимися регистром.
+	 */
+	@Test
+	public void findSymbolCase()
+	{
+		MeasureIndex<TimeMeasure> index = new MeasureIndex<>(TimeMeasure.values());
+
+		assertThat(index.find("ms", 0, 2)).isEqualTo(TimeMeasure.MILLISECOND);
+		assertThat(index.find("Ms", 0, 2)).isEqualTo(TimeMeasure.MEGASECOND);
+		assertThat(index.find("mS", 0, 2)).isNull();
+	}
+
+	/**
+	 * Проверка метода {@link MeasureIndex#find(CharSequence, int, int)} с названиями в разном регистре.
+	 */
+	@Test
+	public void findNameCase()
+	{
+		MeasureIndex<InformationMeasure> index = new MeasureIndex<>(InformationMeasure.values());
+
+		assertThat(index.find("GiBiByTeS", 0, 9)).isEqualTo(InformationMeasure.GIBIBYTE);
+		assertThat(index.find("BYTES", 0, 5)).isEqualTo(InformationMeasure.BYTE);
+		assertThat(index.find("BYTES", 0, 4)).isEqualTo(InformationMeasure.BYTE);
+		assertThat(index.find("BYTES", 1, 5)).isNull();
+	}
+
+	/**
+	 * Проверка метода {@link MeasureIndex#find(CharSequence, int, int)} с пустым участком.
+	 */
+	@Test
+	public void findEmpty()
+	{
+		MeasureIndex<MassMeasure> index = new MeasureIndex<>(MassMeasure.values());
+
+		assertThat(index.find("kg", 1, 1)).isNull();
+	}
+}
@@ -27,6 +27,7 @@ package dev.kalenchukov.unit.converting.resources;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -64,4 +65,65 @@ public class TimeMeasureTest
 
 		assertThat(actualCountMinUnit).isEqualTo(BigDecimal.valueOf(1000));
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка метода {@link TimeMeasure#getSymbol()}.
+	 */
+	@Test
+	public void getSymbol()
+	{
+		Measurable measure = TimeMeasure.MILLISECOND;
+
+		String actualSymbol = measure.getSymbol();
+
+		assertThat(actualSymbol).isEqualTo("ms");
+	}
+
+	/**
+	 * Проверка уникальности обозначений мер {@link TimeMeasure#getSymbol()}.
+	 */
+	@Test
+	public void getSymbolUnique()
+	{
+		assertThat(Arrays.stream(TimeMeasure.values()).map(TimeMeasure::getSymbol)).doesNotHaveDuplicates();
+	}
+
+	/**
+	 * Проверка метода {@link TimeMeasure#lookup(CharSequence)}.
+	 */
+	@Test
+	public void lookup()
+	{
+		assertThat(TimeMeasure.lookup("ms")).isEqualTo(TimeMeasure.MILLISECOND);
+		assertThat(TimeMeasure.lookup("Ms")).isEqualTo(TimeMeasure.MEGASECOND);
+		assertThat(TimeMeasure.lookup("us")).isEqualTo(TimeMeasure.MICROSECOND);
+		assertThat(TimeMeasure.lookup("Milliseconds")).isEqualTo(TimeMeasure.MILLISECOND);
+		assertThat(TimeMeasure.lookup("SECOND")).isEqualTo(TimeMeasure.SECOND);
+	}
+
+	/**
+	 * Проверка метода {@link TimeMeasure#lookup(CharSequence)} с неизвестной мерой.
+	 */
+	@Test
+	public void lookupMissing()
+	{
+		assertThat(TimeMeasure.lookup("MS")).isNull();
+		assertThat(TimeMeasure.lookup("sec")).isNull();
+		assertThat(TimeMeasure.lookup("")).isNull();
+	}
+
+	/**
+	 * Проверка метода {@link TimeMeasure#lookup(CharSequence, int, int)} со всеми обозначениями и названиями мер.
+	 */
+	@Test
+	public void lookupAll()
+	{
+		for (TimeMeasure measure : TimeMeasure.values()) {
+			String text = "[" + measure.getSymbol() + "|" + measure.name().toLowerCase() + "s]";
+			int separator = text.indexOf('|');
+
+			assertThat(TimeMeasure.lookup(text, 1, separator)).isEqualTo(measure);
+			assertThat(TimeMeasure.lookup(text, separator + 1, text.length() - 1)).isEqualTo(measure);
+		}
+	}
+}